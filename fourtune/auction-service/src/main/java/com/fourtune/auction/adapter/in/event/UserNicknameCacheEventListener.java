@@ -0,0 +1,39 @@
+package com.fourtune.auction.adapter.in.event;
+
+import com.fourtune.auction.adapter.out.api.CachedUserAccountAdapter;
+import com.fourtune.core.config.EventPublishingConfig;
+import com.fourtune.shared.user.event.UserDeletedEvent;
+import com.fourtune.shared.user.event.UserModifiedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * User Spring 이벤트 → 닉네임 캐시 갱신 (user 이벤트 Kafka 비활성 시)
+ * Kafka 활성 시에는 UserNicknameCacheKafkaListener에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class UserNicknameCacheEventListener {
+
+    private final CachedUserAccountAdapter cachedUserAccountAdapter;
+    private final EventPublishingConfig eventPublishingConfig;
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handle(UserModifiedEvent event) {
+        if (eventPublishingConfig.isUserEventsKafkaEnabled()) {
+            return;
+        }
+        cachedUserAccountAdapter.refresh(event.getUser().id(), event.getUser().nickname());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handle(UserDeletedEvent event) {
+        if (eventPublishingConfig.isUserEventsKafkaEnabled()) {
+            return;
+        }
+        cachedUserAccountAdapter.evict(event.getUser().id());
+    }
+}
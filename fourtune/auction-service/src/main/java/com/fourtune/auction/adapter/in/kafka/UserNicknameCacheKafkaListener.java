@@ -0,0 +1,57 @@
+package com.fourtune.auction.adapter.in.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.adapter.out.api.CachedUserAccountAdapter;
+import com.fourtune.kafka.KafkaTopicConfig;
+import com.fourtune.shared.user.dto.UserResponse;
+import com.fourtune.shared.user.event.UserEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * user-account-events 소비 → 닉네임 캐시 갱신
+ * - 로컬 캐시는 인스턴스마다 있으므로 인스턴스별 컨슈머 그룹으로 모든 이벤트를 받음
+ * - 캐시 갱신만 하므로 재기동 시 과거 이벤트는 읽지 않음 (latest)
+ * - 잘못된 레코드는 로그만 남기고 건너뜀 (재시도해도 실패하고, 놓친 갱신은 캐시 TTL로 만료)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "feature.kafka.user-events.enabled", havingValue = "true", matchIfMissing = false)
+public class UserNicknameCacheKafkaListener {
+
+    private final CachedUserAccountAdapter cachedUserAccountAdapter;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = KafkaTopicConfig.USER_EVENTS_TOPIC,
+            groupId = "auction-user-nickname-cache-${api.user.nickname-cache.instance-id:auction-service}",
+            containerFactory = "userEventKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleUserEvent(String payload,
+                                @Header(value = "X-Event-Type", required = false) String eventType,
+                                Acknowledgment ack) {
+        if (eventType == null) {
+            ack.acknowledge();
+            return;
+        }
+        try {
+            UserResponse user = objectMapper.readValue(payload, UserResponse.class);
+            switch (UserEventType.valueOf(eventType)) {
+                case USER_MODIFIED -> cachedUserAccountAdapter.refresh(user.id(), user.nickname());
+                case USER_DELETED -> cachedUserAccountAdapter.evict(user.id());
+                case USER_JOINED -> { }
+            }
+            log.debug("[USER-CACHE] User 이벤트 반영: type={}, userId={}", eventType, user.id());
+        } catch (Exception e) {
+            log.warn("[USER-CACHE] User 이벤트 처리 실패, 건너뜀: type={}, error={}", eventType, e.getMessage());
+        }
+        ack.acknowledge();
+    }
+}
@@ -0,0 +1,265 @@
+package com.fourtune.auction.adapter.out.api;
+
+import com.fourtune.auction.port.out.UserPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닉네임 캐시 UserPort (UserAccountAdapter 데코레이터)
+ * - L1: 인스턴스 로컬 Caffeine, L2: Redis (user:nickname:{userId}), 둘 다 없을 때만 Feign 호출
+ * - L2/Feign 조회는 요청의 미스 ID를 모아 1회(MGET / 목록 API)로 처리
+ * - 같은 ID를 동시에 조회하는 요청은 먼저 로딩을 시작한 요청의 결과를 기다림 (중복 Feign 호출 방지)
+ * - user 이벤트(UserModifiedEvent / user-account-events)로 갱신, 이벤트 유실 시에도 TTL로 만료
+ * - Redis 장애 시 L2를 건너뛰고 Feign으로 조회
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class CachedUserAccountAdapter implements UserPort {
+
+    static final String KEY_PREFIX = "user:nickname:";
+
+    private final UserAccountAdapter delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${api.user.nickname-cache.local-ttl-seconds:300}")
+    private long localTtlSeconds;
+
+    @Value("${api.user.nickname-cache.local-max-size:100000}")
+    private long localMaxSize;
+
+    @Value("${api.user.nickname-cache.redis-ttl-seconds:3600}")
+    private long redisTtlSeconds;
+
+    private Cache<Long, String> localCache;
+    private final Map<Long, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private Counter localHitCounter;
+    private Counter localMissCounter;
+    private Counter redisHitCounter;
+    private Counter redisMissCounter;
+    private Counter coalescedCounter;
+    private Timer loadTimer;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .maximumSize(localMaxSize)
+                .build();
+
+        localHitCounter = cacheCounter("local", "hit");
+        localMissCounter = cacheCounter("local", "miss");
+        redisHitCounter = cacheCounter("redis", "hit");
+        redisMissCounter = cacheCounter("redis", "miss");
+        coalescedCounter = Counter.builder("user.nickname.cache.coalesced")
+                .description("다른 요청의 로딩 결과를 기다린 닉네임 조회 수")
+                .register(meterRegistry);
+        loadTimer = Timer.builder("user.nickname.cache.load.duration")
+                .description("닉네임 캐시 미스 시 user API 일괄 조회 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("user.nickname.cache.size", localCache, Cache::estimatedSize)
+                .description("닉네임 로컬 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Map<Long, String> getNicknamesByIds(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, String> result = new HashMap<>(localCache.getAllPresent(ids));
+        localHitCounter.increment(result.size());
+        if (result.size() == ids.size()) {
+            return result;
+        }
+
+        Set<Long> missed = new HashSet<>(ids);
+        missed.removeAll(result.keySet());
+        localMissCounter.increment(missed.size());
+
+        // 이미 다른 요청이 로딩 중인 ID는 기다리고, 나머지는 이 요청이 로딩
+        Map<Long, CompletableFuture<String>> waiting = new HashMap<>();
+        Map<Long, CompletableFuture<String>> owned = new HashMap<>();
+        for (Long id : missed) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            CompletableFuture<String> existing = inFlight.putIfAbsent(id, future);
+            if (existing != null) {
+                waiting.put(id, existing);
+            } else {
+                owned.put(id, future);
+            }
+        }
+        coalescedCounter.increment(waiting.size());
+
+        if (!owned.isEmpty()) {
+            try {
+                Map<Long, String> loaded = load(owned.keySet());
+                owned.forEach((id, future) -> future.complete(loaded.get(id)));
+                result.putAll(loaded);
+            } catch (RuntimeException e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(inFlight::remove);
+            }
+        }
+
+        waiting.forEach((id, future) -> {
+            String nickname = await(future);
+            if (nickname != null) {
+                result.put(id, nickname);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 닉네임 변경 반영 (user 이벤트 수신 시)
+     * 진행 중인 로딩이 이전 값을 덮어쓰지 않도록 로딩 결과는 비어 있을 때만 저장하고, 이벤트 값은 항상 덮어씀
+     */
+    public void refresh(Long userId, String nickname) {
+        if (userId == null) {
+            return;
+        }
+        if (nickname == null) {
+            evict(userId);
+            return;
+        }
+        localCache.put(userId, nickname);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, nickname, Duration.ofSeconds(redisTtlSeconds));
+        } catch (DataAccessException e) {
+            log.warn("[USER-CACHE] Redis 닉네임 갱신 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 닉네임 캐시 제거 (탈퇴 등)
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        localCache.invalidate(userId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("[USER-CACHE] Redis 닉네임 삭제 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * L2(Redis) → user API 순서로 일괄 조회 후 L1/L2에 저장
+     */
+    private Map<Long, String> load(Set<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        Map<Long, String> loaded = new HashMap<>();
+
+        List<Long> remaining = idList;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(idList.stream().map(id -> KEY_PREFIX + id).toList());
+            remaining = new ArrayList<>();
+            for (int i = 0; i < idList.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                if (value != null) {
+                    loaded.put(idList.get(i), value);
+                } else {
+                    remaining.add(idList.get(i));
+                }
+            }
+            redisHitCounter.increment(loaded.size());
+            redisMissCounter.increment(remaining.size());
+        } catch (DataAccessException e) {
+            log.warn("[USER-CACHE] Redis 닉네임 조회 실패, user API로 조회: error={}", e.getMessage());
+        }
+
+        loaded.forEach(localCache.asMap()::putIfAbsent);
+        if (remaining.isEmpty()) {
+            return loaded;
+        }
+
+        long startedAt = System.nanoTime();
+        Map<Long, String> fetched;
+        try {
+            fetched = delegate.getNicknamesByIds(new HashSet<>(remaining));
+        } finally {
+            loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        fetched.forEach(localCache.asMap()::putIfAbsent);
+        storeInRedis(fetched);
+        loaded.putAll(fetched);
+        return loaded;
+    }
+
+    private void storeInRedis(Map<Long, String> nicknames) {
+        if (nicknames.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                nicknames.forEach((id, nickname) ->
+                        stringConnection.set(KEY_PREFIX + id, nickname,
+                                Expiration.seconds(redisTtlSeconds),
+                                SetOption.SET_IF_ABSENT));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[USER-CACHE] Redis 닉네임 저장 실패: count={}, error={}", nicknames.size(), e.getMessage());
+        }
+    }
+
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter cacheCounter(String level, String result) {
+        return Counter.builder("user.nickname.cache")
+                .description("닉네임 캐시 조회 결과")
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
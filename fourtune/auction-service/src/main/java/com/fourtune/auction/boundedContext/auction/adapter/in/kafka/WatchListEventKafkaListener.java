@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
 import com.fourtune.kafka.KafkaTopicConfig;
+import com.fourtune.outbox.service.OutboxService;
+import com.fourtune.shared.auction.event.AuctionItemCountersChangedEvent;
+import com.fourtune.shared.kafka.auction.AuctionEventType;
 import com.fourtune.shared.watchList.event.WatchListToggleEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,8 +16,13 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
 /**
  * watchlist-events 소비 → AuctionItem.watchlistCount 업데이트
+ * - 바뀐 관심 수는 카운터 부분 업데이트 이벤트로 검색 인덱스에 전달 (같은 트랜잭션의 Outbox)
  */
 @Slf4j
 @Component
@@ -22,7 +30,11 @@ import org.springframework.transaction.annotation.Transactional;
 @ConditionalOnProperty(name = "feature.kafka.auction-events.enabled", havingValue = "true", matchIfMissing = false)
 public class WatchListEventKafkaListener {
 
+    private static final String AGGREGATE_TYPE_AUCTION = "Auction";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private final AuctionSupport auctionSupport;
+    private final OutboxService outboxService;
     private final ObjectMapper objectMapper;
 
     @Transactional
@@ -58,6 +70,12 @@ public class WatchListEventKafkaListener {
             }
 
             auctionSupport.save(item);
+
+            AuctionItemCountersChangedEvent countersChangedEvent = new AuctionItemCountersChangedEvent(
+                    auctionItemId, null, item.getWatchlistCount(), LocalDateTime.now(KST));
+            outboxService.append(AGGREGATE_TYPE_AUCTION, auctionItemId, AuctionEventType.AUCTION_ITEM_COUNTERS_CHANGED.name(),
+                    Map.of("eventType", AuctionEventType.AUCTION_ITEM_COUNTERS_CHANGED.name(), "aggregateId", auctionItemId,
+                            "data", countersChangedEvent));
         } catch (Exception e) {
             log.error("[WatchList] watchlistCount 업데이트 실패: eventType={}, error={}", eventType, e.getMessage(), e);
             throw new RuntimeException(e);
@@ -3,6 +3,7 @@ package com.fourtune.auction.boundedContext.auction.adapter.in.scheduler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fourtune.auction.boundedContext.auction.application.service.AuctionFacade;
 import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.lifecycle.AuctionLifecycleProperties;
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
 import com.fourtune.core.eventPublisher.EventPublisher;
 import com.fourtune.shared.auction.event.AuctionEndingSoonEvent;
@@ -22,6 +23,8 @@ import java.util.List;
  * 경매 스케줄러
  * - 종료 시간이 지난 경매 자동 종료
  * - 시작 시간이 된 경매 자동 시작
+ * - auction.lifecycle.mode=timer 이면 정각 처리는 AuctionLifecycleTimerWorker가 담당하고,
+ *   종료/시작 스캔은 누락 보정용 안전망으로만 sweep-cron 주기(기본 10분)로 실행 (5분 전 알림은 타이머만 발행)
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -33,12 +36,13 @@ public class AuctionScheduler {
     private final EventPublisher eventPublisher;
     private final AuctionKafkaProducer auctionKafkaProducer;
     private final ObjectMapper objectMapper;
+    private final AuctionLifecycleProperties lifecycleProperties;
 
     /**
      * 만료된 경매 종료 처리
-     * 매 분마다 실행
+     * 매 분마다 실행 (timer 모드에서는 sweep-cron 주기의 안전망)
      */
-    @Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "#{@auctionLifecycleProperties.sweepCron}", zone = "Asia/Seoul")
     public void closeExpiredAuctions() {
         log.info("만료된 경매 종료 작업 시작");
 
@@ -52,9 +56,9 @@ public class AuctionScheduler {
 
     /**
      * 예정된 경매 시작 처리
-     * 매 분 0초에 실행 (시작 시각과 맞춰 DB에서 ACTIVE로 전환)
+     * 매 분 0초에 실행 (시작 시각과 맞춰 DB에서 ACTIVE로 전환, timer 모드에서는 sweep-cron 주기의 안전망)
      */
-    @Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
+    @Scheduled(cron = "#{@auctionLifecycleProperties.sweepCron}", zone = "Asia/Seoul")
     public void startScheduledAuctions() {
         log.info("예정된 경매 시작 작업 시작");
 
@@ -86,6 +90,9 @@ public class AuctionScheduler {
      */
     @Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
     public void sendStartingSoonAlerts() {
+        if (lifecycleProperties.isTimerMode()) {
+            return;
+        }
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         List<AuctionItem> auctions = auctionSupport.findAuctionsStartingInFiveMinutes(now);
 
@@ -112,6 +119,9 @@ public class AuctionScheduler {
      */
     @Scheduled(cron = "30 * * * * *", zone = "Asia/Seoul")
     public void sendEndingSoonAlerts() {
+        if (lifecycleProperties.isTimerMode()) {
+            return;
+        }
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         List<AuctionItem> auctions = auctionSupport.findAuctionsEndingInFiveMinutes(now);
 
@@ -0,0 +1,181 @@
+package com.fourtune.auction.boundedContext.auction.adapter.in.web;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionClosePipeline;
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidSupport;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.constant.Category;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.auction.boundedContext.auction.domain.entity.Bid;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 경매 일괄 종료 부하 테스트 컨트롤러
+ *
+ * 테스트 목적:
+ * - 프로모션 종료처럼 같은 시각에 대량(기본 10,000건)의 경매가 끝날 때 종료 backlog 처리 시간 측정
+ * - concurrency=1 (기존 순차 처리와 동일) 과 병렬 처리의 처리량/경매당 종료 지연 비교
+ *
+ * 사용 순서:
+ * 1. POST /seed?count=10000 : 이미 종료 시간이 지난 ACTIVE 경매 생성 (bidRatio 비율만큼 낙찰 입찰 포함)
+ * 2. POST /run?concurrency=8 : 만료 경매 전체 종료 (시드 외 만료 경매도 함께 종료됨)
+ * 3. 비교할 concurrency마다 1~2 반복
+ *
+ * 프로필 제한:
+ * - local, dev: 수동 성능 테스트용으로 활성화
+ * - test, prod: 비활성화
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/test/auction/performance/close")
+@Profile({"local", "dev"})
+public class AuctionClosePerformanceController {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long SYNTHETIC_SELLER_ID = 8_999_999_999L;
+    private static final long SYNTHETIC_BIDDER_ID_BASE = 9_100_000_000L;
+    private static final int SEED_CHUNK_SIZE = 500;
+    private static final int MAX_SEED_COUNT = 100_000;
+    private static final int MAX_CONCURRENCY = 64;
+
+    private final AuctionSupport auctionSupport;
+    private final BidSupport bidSupport;
+    private final AuctionClosePipeline auctionClosePipeline;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Map<String, Object>> lastResults = new ConcurrentHashMap<>();
+
+    public AuctionClosePerformanceController(
+            AuctionSupport auctionSupport,
+            BidSupport bidSupport,
+            AuctionClosePipeline auctionClosePipeline,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager) {
+        this.auctionSupport = auctionSupport;
+        this.bidSupport = bidSupport;
+        this.auctionClosePipeline = auctionClosePipeline;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 종료 시간이 지난 ACTIVE 경매 생성
+     *
+     * @param count    생성할 경매 수
+     * @param bidRatio 입찰(낙찰 → 주문 생성 경로)을 포함할 경매 비율 (0.0 ~ 1.0)
+     */
+    @PostMapping("/seed")
+    public ResponseEntity<Map<String, Object>> seed(
+            @RequestParam(defaultValue = "10000") int count,
+            @RequestParam(defaultValue = "0.5") double bidRatio) {
+
+        int total = Math.max(1, Math.min(count, MAX_SEED_COUNT));
+        double ratio = Math.max(0, Math.min(bidRatio, 1));
+        long startedAt = System.nanoTime();
+
+        int created = 0;
+        while (created < total) {
+            int chunkSize = Math.min(SEED_CHUNK_SIZE, total - created);
+            int offset = created;
+            transactionTemplate.executeWithoutResult(status -> seedChunk(offset, chunkSize, ratio));
+            created += chunkSize;
+        }
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("[AUCTION-CLOSE-PERF] 만료 경매 생성 완료: count={}, bidRatio={}, elapsedMs={}", created, ratio, elapsedMs);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("created", created);
+        result.put("bidRatio", ratio);
+        result.put("elapsedMs", elapsedMs);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 만료 경매 일괄 종료 실행
+     *
+     * @param concurrency 동시 종료 처리 수 (1 = 순차 처리)
+     */
+    @PostMapping("/run")
+    public ResponseEntity<Map<String, Object>> run(@RequestParam(defaultValue = "8") int concurrency) {
+        int workers = Math.max(1, Math.min(concurrency, MAX_CONCURRENCY));
+        Timer closeTimer = meterRegistry.find("auction.close.duration").timer();
+        long countBefore = closeTimer != null ? closeTimer.count() : 0;
+        double totalMsBefore = closeTimer != null ? closeTimer.totalTime(TimeUnit.MILLISECONDS) : 0;
+
+        AuctionClosePipeline.CloseSummary summary = auctionClosePipeline.closeExpired(workers);
+
+        long closeCount = closeTimer != null ? closeTimer.count() - countBefore : 0;
+        double closeTotalMs = closeTimer != null ? closeTimer.totalTime(TimeUnit.MILLISECONDS) - totalMsBefore : 0;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("concurrency", workers);
+        result.put("closed", summary.closed());
+        result.put("skipped", summary.skipped());
+        result.put("failed", summary.failed());
+        result.put("elapsedMs", summary.elapsedMs());
+        result.put("throughputPerSec", summary.elapsedMs() > 0 ? summary.total() * 1000.0 / summary.elapsedMs() : 0);
+        result.put("avgCloseMs", closeCount > 0 ? closeTotalMs / closeCount : 0);
+        result.put("maxCloseMs", closeTimer != null ? closeTimer.max(TimeUnit.MILLISECONDS) : 0);
+        lastResults.put("concurrency-" + workers, result);
+        log.info("[AUCTION-CLOSE-PERF] 만료 경매 일괄 종료 결과: {}", result);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 성능 테스트 요약 정보
+     * concurrency별 마지막 실행 결과를 반환
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getPerformanceSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("description", "동시 만료 경매 일괄 종료 처리량 비교 (순차 vs 병렬 파이프라인)");
+        summary.put("usage", Map.of(
+                "seed", "POST /api/test/auction/performance/close/seed?count=10000&bidRatio=0.5",
+                "run", "POST /api/test/auction/performance/close/run?concurrency=8"
+        ));
+        summary.put("lastResults", lastResults);
+        return ResponseEntity.ok(summary);
+    }
+
+    private void seedChunk(int offset, int chunkSize, double bidRatio) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        for (int i = 0; i < chunkSize; i++) {
+            int index = offset + i;
+            AuctionItem auctionItem = auctionSupport.save(AuctionItem.builder()
+                    .sellerId(SYNTHETIC_SELLER_ID)
+                    .title("[CLOSE-PERF] 만료 경매 " + index)
+                    .category(Category.ETC)
+                    .startPrice(BigDecimal.valueOf(10_000))
+                    .currentPrice(BigDecimal.valueOf(10_000))
+                    .auctionStartTime(now.minusHours(1))
+                    .auctionEndTime(now.minusSeconds(1))
+                    .status(AuctionStatus.ACTIVE)
+                    .build());
+
+            if (index % 100 < bidRatio * 100) {
+                Bid bid = bidSupport.save(Bid.create(auctionItem.getId(), SYNTHETIC_BIDDER_ID_BASE + index,
+                        BigDecimal.valueOf(11_000), auctionItem.getCurrentPrice(), auctionItem.getBidUnit(), false));
+                auctionItem.updateCurrentPrice(bid.getBidAmount());
+                auctionItem.updateHighestBid(bid.getId(), bid.getBidderId());
+                auctionItem.increaseBidCount();
+            }
+        }
+    }
+}
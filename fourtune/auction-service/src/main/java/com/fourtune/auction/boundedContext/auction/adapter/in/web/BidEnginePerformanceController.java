@@ -0,0 +1,204 @@
+package com.fourtune.auction.boundedContext.auction.adapter.in.web;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidPlaceUseCase;
+import com.fourtune.auction.boundedContext.auction.application.service.engine.BidAcceptor;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 입찰 처리 방식별 부하 테스트용 컨트롤러
+ *
+ * 테스트 목적:
+ * 1. LOCK - 기존 BidPlaceUseCase (경매 row Pessimistic Lock, 입찰 1건당 트랜잭션 1회)
+ * 2. ENGINE - 활성화된 입찰 엔진 (auction.bid-engine.mode)
+ *    - memory: 레인별 단일 시퀀서에서 메모리 검증, DB는 배치 write-behind
+ *    - redis: Lua 스크립트로 원자적 검증, Redis Stream 경유 DB 배치 write-behind
+ *
+ * 단일 경매에 동시 입찰을 몰아 처리량(bids/sec)과 수락 지연 p50/p99를 비교한다.
+ * 입찰자 ID는 시도마다 다른 가상 ID를 사용하고, 입찰가는 입찰단위씩 증가시킨다.
+ *
+ * 프로필 제한:
+ * - local, dev: 수동 성능 테스트용으로 활성화
+ * - test, prod: 비활성화
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/test/bid/performance")
+@RequiredArgsConstructor
+@Profile({"local", "dev"})
+public class BidEnginePerformanceController {
+
+    private static final long SYNTHETIC_BIDDER_ID_BASE = 9_000_000_000L;
+    private static final int MAX_THREADS = 500;
+    private static final int MAX_TOTAL_BIDS = 200_000;
+
+    private final AuctionSupport auctionSupport;
+    private final BidPlaceUseCase bidPlaceUseCase;
+    private final ObjectProvider<BidAcceptor> bidAcceptorProvider;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Map<String, Object>> lastResults = new ConcurrentHashMap<>();
+
+    /**
+     * 동시 입찰 부하 테스트
+     *
+     * @param mode          LOCK | ENGINE
+     * @param threads       동시 입찰 쓰레드 수
+     * @param bidsPerThread 쓰레드당 입찰 시도 수
+     */
+    @PostMapping("/{auctionId}")
+    public ResponseEntity<Map<String, Object>> runLoadTest(
+            @PathVariable Long auctionId,
+            @RequestParam(defaultValue = "ENGINE") String mode,
+            @RequestParam(defaultValue = "50") int threads,
+            @RequestParam(defaultValue = "100") int bidsPerThread) throws InterruptedException {
+
+        boolean engineMode = "ENGINE".equalsIgnoreCase(mode);
+        BidAcceptor bidAcceptor = bidAcceptorProvider.getIfAvailable();
+        if (engineMode && bidAcceptor == null) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "입찰 엔진이 비활성화 상태입니다. auction.bid-engine.mode=memory|redis 로 실행하세요."));
+        }
+        int threadCount = Math.max(1, Math.min(threads, MAX_THREADS));
+        int totalBids = Math.min(threadCount * Math.max(1, bidsPerThread), MAX_TOTAL_BIDS);
+        int perThread = totalBids / threadCount;
+
+        AuctionItem auctionItem = auctionSupport.findByIdOrThrow(auctionId);
+        long bidUnit = auctionItem.getBidUnit() != null && auctionItem.getBidUnit() > 0 ? auctionItem.getBidUnit() : 1000L;
+        BigDecimal basePrice = auctionItem.getCurrentPrice() != null ? auctionItem.getCurrentPrice() : auctionItem.getStartPrice();
+        AtomicLong nextAmount = new AtomicLong(basePrice.longValue());
+        AtomicLong nextBidderId = new AtomicLong(SYNTHETIC_BIDDER_ID_BASE);
+        Long sellerId = auctionItem.getSellerId();
+
+        String modeTag = engineMode ? bidAcceptor.getClass().getSimpleName() : "lock";
+        Timer timer = Timer.builder("bid.performance.place.duration")
+                .description("입찰 부하 테스트 1건 처리 시간")
+                .tag("mode", modeTag)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        long[] latencies = new long[perThread * threadCount];
+        AtomicInteger latencyIndex = new AtomicInteger();
+        AtomicInteger accepted = new AtomicInteger();
+        Map<String, AtomicInteger> rejectedByCode = new ConcurrentHashMap<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+
+        for (int t = 0; t < threadCount; t++) {
+            executor.execute(() -> {
+                try {
+                    startGate.await();
+                    for (int i = 0; i < perThread; i++) {
+                        long bidderId = nextBidderId.getAndIncrement();
+                        if (sellerId.equals(bidderId)) {
+                            bidderId = nextBidderId.getAndIncrement();
+                        }
+                        BigDecimal amount = BigDecimal.valueOf(nextAmount.addAndGet(bidUnit));
+                        long startedAt = System.nanoTime();
+                        try {
+                            if (engineMode) {
+                                bidAcceptor.placeBid(auctionId, bidderId, amount);
+                            } else {
+                                bidPlaceUseCase.placeBid(auctionId, bidderId, amount);
+                            }
+                            accepted.incrementAndGet();
+                        } catch (BusinessException e) {
+                            rejectedByCode.computeIfAbsent(e.getErrorCode().name(), k -> new AtomicInteger()).incrementAndGet();
+                        } catch (Exception e) {
+                            rejectedByCode.computeIfAbsent(e.getClass().getSimpleName(), k -> new AtomicInteger()).incrementAndGet();
+                        } finally {
+                            long elapsed = System.nanoTime() - startedAt;
+                            timer.record(elapsed, TimeUnit.NANOSECONDS);
+                            latencies[latencyIndex.getAndIncrement()] = elapsed;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        log.info("[BID-PERF] 부하 테스트 시작: mode={}, auctionId={}, threads={}, bids={}",
+                modeTag, auctionId, threadCount, perThread * threadCount);
+        long startedAt = System.nanoTime();
+        startGate.countDown();
+        doneLatch.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        int attempts = latencyIndex.get();
+        long[] sorted = Arrays.copyOf(latencies, attempts);
+        Arrays.sort(sorted);
+        double elapsedMs = elapsedNanos / 1_000_000.0;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", modeTag);
+        result.put("auctionId", auctionId);
+        result.put("threads", threadCount);
+        result.put("attempts", attempts);
+        result.put("accepted", accepted.get());
+        result.put("rejected", rejectedByCode.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get())));
+        result.put("elapsedMs", Math.round(elapsedMs));
+        result.put("bidsPerSec", elapsedMs > 0 ? Math.round(attempts * 1000.0 / elapsedMs) : 0);
+        result.put("p50Ms", percentileMs(sorted, 0.50));
+        result.put("p99Ms", percentileMs(sorted, 0.99));
+        result.put("maxMs", attempts > 0 ? sorted[attempts - 1] / 1_000_000.0 : 0);
+        lastResults.put(modeTag, result);
+
+        log.info("[BID-PERF] 부하 테스트 완료: {}", result);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 성능 비교 요약 정보
+     * 방식별 마지막 실행 결과를 반환
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getPerformanceSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("description", "입찰 처리 방식별 처리량/지연 비교");
+        BidAcceptor bidAcceptor = bidAcceptorProvider.getIfAvailable();
+        summary.put("engine", bidAcceptor != null ? bidAcceptor.getClass().getSimpleName() : "none");
+        summary.put("usage", Map.of(
+                "lock", "POST /api/test/bid/performance/{auctionId}?mode=LOCK&threads=50&bidsPerThread=100",
+                "engine", "POST /api/test/bid/performance/{auctionId}?mode=ENGINE&threads=50&bidsPerThread=100"
+        ));
+        summary.put("lastResults", lastResults);
+        return ResponseEntity.ok(summary);
+    }
+
+    private double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+}
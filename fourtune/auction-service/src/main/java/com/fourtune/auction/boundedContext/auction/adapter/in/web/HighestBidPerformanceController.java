@@ -0,0 +1,219 @@
+package com.fourtune.auction.boundedContext.auction.adapter.in.web;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidSupport;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.auction.boundedContext.auction.domain.entity.Bid;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최고 입찰 조회 방식별 성능 비교 컨트롤러
+ *
+ * 테스트 목적:
+ * 1. LEGACY - 입찰 1건마다 findTopByAuctionIdAndStatusOrderByBidAmountDesc 2회
+ *    (검증 단계 최고 입찰자 확인 + 이전 최고 입찰 isWinning 해제)
+ * 2. DENORMALIZED - AuctionItem.highestBidId / highestBidderId 사용
+ *    (최고 입찰자 확인은 조회 없음, 이전 최고 입찰은 PK 조회 1회)
+ *
+ * 입찰이 많이 쌓인 경매(기본 10,000건)에서 1회당 SQL 실행 수와 지연 p50/p99를 비교한다.
+ * SQL 실행 수는 Hibernate Statistics의 prepareStatementCount 증가분으로 측정한다.
+ *
+ * 프로필 제한:
+ * - local, dev: 수동 성능 테스트용으로 활성화
+ * - test, prod: 비활성화
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/test/bid/performance/highest-bid")
+@Profile({"local", "dev"})
+public class HighestBidPerformanceController {
+
+    private static final long SYNTHETIC_BIDDER_ID_BASE = 9_000_000_000L;
+    private static final int SEED_CHUNK_SIZE = 1000;
+    private static final int MAX_SEED_COUNT = 100_000;
+    private static final int MAX_ITERATIONS = 10_000;
+
+    private final AuctionSupport auctionSupport;
+    private final BidSupport bidSupport;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Statistics statistics;
+
+    private final Map<String, Map<String, Object>> lastResults = new ConcurrentHashMap<>();
+
+    public HighestBidPerformanceController(
+            AuctionSupport auctionSupport,
+            BidSupport bidSupport,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory) {
+        this.auctionSupport = auctionSupport;
+        this.bidSupport = bidSupport;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 테스트용 입찰 데이터 생성
+     * 입찰단위씩 증가하는 입찰을 청크 단위로 저장하고, 경매의 현재가/입찰 수/최고 입찰 정보를 마지막 입찰로 맞춘다.
+     *
+     * @param count 생성할 입찰 수
+     */
+    @PostMapping("/{auctionId}/seed")
+    public ResponseEntity<Map<String, Object>> seedBids(
+            @PathVariable Long auctionId,
+            @RequestParam(defaultValue = "10000") int count) {
+
+        int total = Math.max(1, Math.min(count, MAX_SEED_COUNT));
+        long startedAt = System.nanoTime();
+
+        int created = 0;
+        while (created < total) {
+            int chunkSize = Math.min(SEED_CHUNK_SIZE, total - created);
+            int offset = created;
+            transactionTemplate.executeWithoutResult(status -> seedChunk(auctionId, offset, chunkSize));
+            created += chunkSize;
+        }
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("[BID-PERF] 최고 입찰 비교용 입찰 생성 완료: auctionId={}, count={}, elapsedMs={}",
+                auctionId, created, elapsedMs);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("auctionId", auctionId);
+        result.put("created", created);
+        result.put("elapsedMs", elapsedMs);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 최고 입찰 조회 방식 비교
+     *
+     * @param iterations 방식별 반복 횟수
+     */
+    @GetMapping("/{auctionId}/compare")
+    public ResponseEntity<Map<String, Object>> compare(
+            @PathVariable Long auctionId,
+            @RequestParam(defaultValue = "1000") int iterations) {
+
+        int count = Math.max(1, Math.min(iterations, MAX_ITERATIONS));
+        boolean statisticsWasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        try {
+            // 워밍업 (커넥션/쿼리 플랜 캐시)
+            measure(auctionId, "LEGACY", Math.min(count, 50));
+            measure(auctionId, "DENORMALIZED", Math.min(count, 50));
+
+            Map<String, Object> legacy = measure(auctionId, "LEGACY", count);
+            Map<String, Object> denormalized = measure(auctionId, "DENORMALIZED", count);
+            lastResults.put("LEGACY", legacy);
+            lastResults.put("DENORMALIZED", denormalized);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("auctionId", auctionId);
+            result.put("iterations", count);
+            result.put("legacy", legacy);
+            result.put("denormalized", denormalized);
+            log.info("[BID-PERF] 최고 입찰 조회 비교 완료: {}", result);
+            return ResponseEntity.ok(result);
+        } finally {
+            statistics.setStatisticsEnabled(statisticsWasEnabled);
+        }
+    }
+
+    /**
+     * 성능 비교 요약 정보
+     * 방식별 마지막 실행 결과를 반환
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getPerformanceSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("description", "최고 입찰 조회 방식별 SQL 수/지연 비교 (ORDER BY 조회 vs 비정규화 필드)");
+        summary.put("usage", Map.of(
+                "seed", "POST /api/test/bid/performance/highest-bid/{auctionId}/seed?count=10000",
+                "compare", "GET /api/test/bid/performance/highest-bid/{auctionId}/compare?iterations=1000"
+        ));
+        summary.put("lastResults", lastResults);
+        return ResponseEntity.ok(summary);
+    }
+
+    private void seedChunk(Long auctionId, int offset, int chunkSize) {
+        AuctionItem auctionItem = auctionSupport.findByIdOrThrow(auctionId);
+        int bidUnit = auctionItem.getBidUnit() != null && auctionItem.getBidUnit() > 0 ? auctionItem.getBidUnit() : 1000;
+        BigDecimal price = auctionItem.getCurrentPrice() != null ? auctionItem.getCurrentPrice() : auctionItem.getStartPrice();
+
+        List<Bid> bids = new ArrayList<>(chunkSize);
+        for (int i = 0; i < chunkSize; i++) {
+            BigDecimal amount = price.add(BigDecimal.valueOf(bidUnit));
+            long bidderId = SYNTHETIC_BIDDER_ID_BASE + offset + i;
+            bids.add(Bid.create(auctionId, bidderId, amount, price, bidUnit, false));
+            price = amount;
+        }
+        List<Bid> saved = bidSupport.saveAll(bids);
+
+        Bid last = saved.get(saved.size() - 1);
+        auctionItem.updateCurrentPrice(last.getBidAmount());
+        auctionItem.updateHighestBid(last.getId(), last.getBidderId());
+        for (int i = 0; i < saved.size(); i++) {
+            auctionItem.increaseBidCount();
+        }
+    }
+
+    private Map<String, Object> measure(Long auctionId, String mode, int iterations) {
+        long[] latencies = new long[iterations];
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < iterations; i++) {
+            long startedAt = System.nanoTime();
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                AuctionItem auctionItem = auctionSupport.findByIdOrThrow(auctionId);
+                if ("LEGACY".equals(mode)) {
+                    bidSupport.findHighestBid(auctionId);
+                    bidSupport.findHighestBid(auctionId);
+                } else {
+                    bidSupport.findHighestBidderId(auctionItem);
+                    bidSupport.findHighestBid(auctionItem);
+                }
+            });
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+
+        long statements = statistics.getPrepareStatementCount() - statementsBefore;
+        Arrays.sort(latencies);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", mode);
+        result.put("iterations", iterations);
+        // 경매 조회 1회 포함
+        result.put("statementsPerIteration", (double) statements / iterations);
+        result.put("p50Ms", percentileMs(latencies, 0.50));
+        result.put("p99Ms", percentileMs(latencies, 0.99));
+        result.put("maxMs", latencies[iterations - 1] / 1_000_000.0);
+        return result;
+    }
+
+    private double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+}
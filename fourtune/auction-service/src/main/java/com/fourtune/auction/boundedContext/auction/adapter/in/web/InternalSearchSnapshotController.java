@@ -0,0 +1,43 @@
+package com.fourtune.auction.boundedContext.auction.adapter.in.web;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSearchSnapshotUseCase;
+import com.fourtune.shared.auction.dto.AuctionSearchSnapshotPageResponse;
+import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 내부 전용 API. fourtune-api 검색 재색인 작업에서 Feign으로 호출.
+ * - 전체 경매를 id 오름차순 keyset 페이지로 검색 스냅샷 형태로 반환
+ * - 경매 1건 스냅샷 조회 (없으면 404)
+ */
+@RestController
+@RequestMapping("/internal/search")
+@RequiredArgsConstructor
+public class InternalSearchSnapshotController {
+
+    private final AuctionSearchSnapshotUseCase auctionSearchSnapshotUseCase;
+
+    /**
+     * lastId 이후 경매 스냅샷 조회 (첫 페이지는 lastId=0)
+     */
+    @GetMapping("/auction-items")
+    public ResponseEntity<AuctionSearchSnapshotPageResponse> getSnapshots(
+            @RequestParam(defaultValue = "0") Long lastId,
+            @RequestParam(defaultValue = "1000") int size) {
+        return ResponseEntity.ok(auctionSearchSnapshotUseCase.getSnapshots(lastId, size));
+    }
+
+    /**
+     * 경매 1건 스냅샷 조회
+     */
+    @GetMapping("/auction-items/{auctionItemId}")
+    public ResponseEntity<AuctionItemCreatedEvent> getSnapshot(@PathVariable Long auctionItemId) {
+        return ResponseEntity.of(auctionSearchSnapshotUseCase.getSnapshot(auctionItemId));
+    }
+}
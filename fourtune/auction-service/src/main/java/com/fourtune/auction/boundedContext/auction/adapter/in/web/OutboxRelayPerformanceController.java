@@ -0,0 +1,156 @@
+package com.fourtune.auction.boundedContext.auction.adapter.in.web;
+
+import com.fourtune.auction.infrastructure.kafka.OutboxBenchmarkEventHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 릴레이 처리량 부하 테스트 컨트롤러
+ *
+ * 테스트 목적:
+ * - 대량(기본 1,000,000건) PENDING backlog를 OutboxPublisher가 비우는 데 걸리는 시간/초당 발행 수 측정
+ * - batch-size, shard-count, 인스턴스 수 등 설정별 처리량 비교
+ *
+ * 사용 순서:
+ * 1. POST /seed?count=1000000 : outbox-benchmark 토픽으로 발행될 PENDING 이벤트 적재
+ * 2. POST /drain?timeoutSeconds=1800 : backlog가 모두 발행될 때까지 대기하며 처리량 측정
+ *    (발행은 백그라운드 OutboxPublisher가 수행, 여러 인스턴스를 띄우면 함께 소진)
+ *
+ * 프로필 제한:
+ * - local, dev: 수동 성능 테스트용으로 활성화 (feature.kafka.enabled=true 필요)
+ * - test, prod: 비활성화
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/test/outbox/performance")
+@Profile({"local", "dev"})
+public class OutboxRelayPerformanceController {
+
+    private static final int SEED_CHUNK_SIZE = 100_000;
+    private static final int MAX_SEED_COUNT = 5_000_000;
+    private static final int AGGREGATE_ID_RANGE = 10_000;
+    private static final long DRAIN_POLL_INTERVAL_MS = 500;
+
+    private static final String SEED_SQL = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, status, retry_count)
+            SELECT ?, g % ?, 'BENCHMARK',
+                   '{"eventType":"BENCHMARK","aggregateId":' || (g % ?) || ',"data":{"seq":' || g || '}}',
+                   ?, 'PENDING', 0
+            FROM generate_series(?, ?) AS g
+            """;
+
+    private static final String COUNT_PENDING_SQL =
+            "SELECT COUNT(*) FROM outbox_events WHERE aggregate_type = ? AND status = 'PENDING'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Map<String, Object>> lastResults = new ConcurrentHashMap<>();
+
+    public OutboxRelayPerformanceController(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 벤치마크용 PENDING 이벤트 적재
+     *
+     * @param count 적재할 이벤트 수
+     */
+    @PostMapping("/seed")
+    public ResponseEntity<Map<String, Object>> seed(@RequestParam(defaultValue = "1000000") int count) {
+        int total = Math.max(1, Math.min(count, MAX_SEED_COUNT));
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        long startedAt = System.nanoTime();
+
+        int inserted = 0;
+        while (inserted < total) {
+            int chunkSize = Math.min(SEED_CHUNK_SIZE, total - inserted);
+            inserted += jdbcTemplate.update(SEED_SQL,
+                    OutboxBenchmarkEventHandler.AGGREGATE_TYPE, AGGREGATE_ID_RANGE, AGGREGATE_ID_RANGE,
+                    createdAt, inserted + 1, inserted + chunkSize);
+        }
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("[OUTBOX-PERF] 벤치마크 이벤트 적재 완료: count={}, elapsedMs={}", inserted, elapsedMs);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("inserted", inserted);
+        result.put("elapsedMs", elapsedMs);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 벤치마크 backlog가 모두 발행될 때까지 대기하며 처리량 측정
+     *
+     * @param timeoutSeconds 최대 대기 시간
+     */
+    @PostMapping("/drain")
+    public ResponseEntity<Map<String, Object>> drain(@RequestParam(defaultValue = "1800") long timeoutSeconds)
+            throws InterruptedException {
+        long initial = countPending();
+        Timer batchTimer = meterRegistry.find("outbox.relay.batch.duration").timer();
+        long batchesBefore = batchTimer != null ? batchTimer.count() : 0;
+        double batchMsBefore = batchTimer != null ? batchTimer.totalTime(TimeUnit.MILLISECONDS) : 0;
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        long remaining = initial;
+        while (remaining > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(DRAIN_POLL_INTERVAL_MS);
+            remaining = countPending();
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        long drained = initial - remaining;
+
+        long batches = batchTimer != null ? batchTimer.count() - batchesBefore : 0;
+        double batchMs = batchTimer != null ? batchTimer.totalTime(TimeUnit.MILLISECONDS) - batchMsBefore : 0;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("initialPending", initial);
+        result.put("drained", drained);
+        result.put("remaining", remaining);
+        result.put("completed", remaining == 0);
+        result.put("elapsedMs", elapsedMs);
+        result.put("eventsPerSec", elapsedMs > 0 ? drained * 1000.0 / elapsedMs : 0);
+        result.put("localBatches", batches);
+        result.put("avgBatchMs", batches > 0 ? batchMs / batches : 0);
+        lastResults.put("drain-" + initial, result);
+        log.info("[OUTBOX-PERF] 벤치마크 backlog 소진 결과: {}", result);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 성능 테스트 요약 정보
+     * backlog 크기별 마지막 소진 결과를 반환
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getPerformanceSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("description", "Outbox backlog 소진 처리량 (SKIP LOCKED 배치 선점 + 비동기 배치 전송)");
+        summary.put("usage", Map.of(
+                "seed", "POST /api/test/outbox/performance/seed?count=1000000",
+                "drain", "POST /api/test/outbox/performance/drain?timeoutSeconds=1800"
+        ));
+        summary.put("pending", countPending());
+        summary.put("lastResults", lastResults);
+        return ResponseEntity.ok(summary);
+    }
+
+    private long countPending() {
+        Long count = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Long.class, OutboxBenchmarkEventHandler.AGGREGATE_TYPE);
+        return count != null ? count : 0;
+    }
+}
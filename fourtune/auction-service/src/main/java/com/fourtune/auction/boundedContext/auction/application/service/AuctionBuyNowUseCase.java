@@ -1,5 +1,6 @@
 package com.fourtune.auction.boundedContext.auction.application.service;
 
+import com.fourtune.auction.boundedContext.auction.application.service.engine.BidAcceptor;
 import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionPolicy;
 import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
@@ -15,6 +16,7 @@ import com.fourtune.core.config.EventPublishingConfig;
 import com.fourtune.shared.kafka.auction.AuctionEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +47,7 @@ public class AuctionBuyNowUseCase {
     private final UserPort userPort;
     private final EventPublishingConfig eventPublishingConfig;
     private final OutboxService outboxService;
+    private final ObjectProvider<BidAcceptor> bidAcceptorProvider;
 
     /**
      * 즉시구매 처리
@@ -52,6 +55,9 @@ public class AuctionBuyNowUseCase {
      */
     @Transactional
     public String executeBuyNow(Long auctionId, Long buyerId) {
+        // 0. 입찰 엔진 사용 시 해당 경매 상태 제거 및 미반영 입찰 flush (Lock 획득 전, 트랜잭션 완료 후 입찰 재개)
+        bidAcceptorProvider.ifAvailable(bidAcceptor -> bidAcceptor.evict(auctionId));
+
         // 1. 경매 조회 (Pessimistic Lock 적용)
         AuctionItem auctionItem = auctionSupport.findByIdWithLockOrThrow(auctionId);
         
@@ -0,0 +1,272 @@
+package com.fourtune.auction.boundedContext.auction.application.service;
+
+import com.fourtune.auction.boundedContext.auction.application.service.engine.BidAcceptor;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 만료 경매 종료 파이프라인
+ * - 만료 경매 ID만 keyset 페이지(id > lastId)로 읽어 엔티티 전체를 한 번에 올리지 않음
+ * - 경매별 종료(REQUIRES_NEW)를 가상 쓰레드로 병렬 실행, 동시 실행 수는 concurrency로 제한
+ *   (DB 커넥션 풀보다 작게 설정. 풀이 모자라면 종료 트랜잭션끼리 커넥션을 기다림)
+ * - 페이지 조회 쪽은 동시 실행 슬롯이 빌 때까지 대기하므로 대기열은 최대 1페이지
+ * - 같은 경매를 인스턴스 내에서 동시에 종료하지 않도록 진행 중 ID를 기록,
+ *   다른 인스턴스/타이머와의 중복은 AuctionCloseUseCase의 Pessimistic Lock + ACTIVE 검증으로 skipped 처리
+ * - 타이머 워커의 정각 종료(submit)도 같은 가상 쓰레드 실행기에서 concurrency개까지 병렬 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionClosePipeline {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AuctionSupport auctionSupport;
+    private final AuctionCloseUseCase auctionCloseUseCase;
+    private final ObjectProvider<BidAcceptor> bidAcceptorProvider;
+    private final MeterRegistry meterRegistry;
+
+    // 동시에 종료 처리할 최대 경매 수
+    @Value("${auction.close-pipeline.concurrency:8}")
+    private int concurrency;
+
+    // 만료 경매 ID 조회 페이지 크기
+    @Value("${auction.close-pipeline.page-size:500}")
+    private int pageSize;
+
+    private final Set<Long> closing = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private ExecutorService executor;
+    private Semaphore submitSlots;
+
+    private Timer closeTimer;
+    private Counter closedCounter;
+    private Counter skippedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        submitSlots = new Semaphore(Math.max(1, concurrency));
+        closeTimer = Timer.builder("auction.close.duration")
+                .description("경매 1건 종료 처리 시간 (낙찰/주문 생성/입찰 실패 처리 포함)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        closedCounter = closeCounter("closed");
+        skippedCounter = closeCounter("skipped");
+        failedCounter = closeCounter("failed");
+        Gauge.builder("auction.close.queue.depth", queued, AtomicInteger::get)
+                .description("조회했지만 아직 종료를 시작하지 않은 만료 경매 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.close.in.flight", inFlight, AtomicInteger::get)
+                .description("종료 처리 중인 경매 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 현재 시각 기준 만료 경매 전체 종료 (설정된 동시 실행 수)
+     * 이전 실행이 아직 진행 중이면 건너뜀
+     */
+    public CloseSummary closeExpired() {
+        return closeExpired(concurrency);
+    }
+
+    /**
+     * 만료 경매 전체 종료
+     *
+     * @param maxConcurrency 동시 종료 처리 수 (1이면 기존과 같은 순차 처리)
+     */
+    public CloseSummary closeExpired(int maxConcurrency) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[AUCTION-CLOSE] 이전 종료 작업 진행 중이라 건너뜀");
+            return CloseSummary.EMPTY;
+        }
+        int permits = Math.max(1, maxConcurrency);
+        Semaphore slots = new Semaphore(permits);
+        LongAdder closed = new LongAdder();
+        LongAdder skipped = new LongAdder();
+        LongAdder failed = new LongAdder();
+        LocalDateTime now = LocalDateTime.now(KST);
+        long startedAt = System.nanoTime();
+
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<Long> ids = auctionSupport.findExpiredAuctionIds(now, lastId, pageSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+                queued.addAndGet(ids.size());
+                for (Long auctionId : ids) {
+                    slots.acquire();
+                    queued.decrementAndGet();
+                    if (!closing.add(auctionId)) {
+                        skipped.increment();
+                        skippedCounter.increment();
+                        slots.release();
+                        continue;
+                    }
+                    inFlight.incrementAndGet();
+                    executor.execute(() -> {
+                        try {
+                            closeOne(auctionId, closed, skipped, failed);
+                        } finally {
+                            closing.remove(auctionId);
+                            inFlight.decrementAndGet();
+                            slots.release();
+                        }
+                    });
+                }
+                if (ids.size() < pageSize) {
+                    break;
+                }
+            }
+            // 남은 종료 처리 완료 대기
+            slots.acquire(permits);
+            slots.release(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[AUCTION-CLOSE] 종료 작업 중단됨");
+        } finally {
+            queued.set(0);
+            running.set(false);
+        }
+
+        CloseSummary summary = new CloseSummary(closed.sum(), skipped.sum(), failed.sum(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        if (summary.total() > 0) {
+            log.info("[AUCTION-CLOSE] 만료 경매 종료 완료: concurrency={}, closed={}, skipped={}, failed={}, elapsedMs={}",
+                    permits, summary.closed(), summary.skipped(), summary.failed(), summary.elapsedMs());
+        }
+        return summary;
+    }
+
+    /**
+     * 경매 1건 종료를 비동기로 실행 (타이머 워커의 정각 종료용)
+     * 동시 실행 슬롯이 모두 차 있으면 빌 때까지 대기하고, 인스턴스 내에서 이미 종료 중인 경매는 바로 완료
+     *
+     * @return 종료 결과 (BusinessException 등 실패 원인으로 예외 완료)
+     */
+    public CompletableFuture<Void> submit(Long auctionId) throws InterruptedException {
+        submitSlots.acquire();
+        if (!closing.add(auctionId)) {
+            submitSlots.release();
+            skippedCounter.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+        inFlight.incrementAndGet();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                close(auctionId);
+                result.complete(null);
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            } finally {
+                closing.remove(auctionId);
+                inFlight.decrementAndGet();
+                submitSlots.release();
+            }
+        });
+        return result;
+    }
+
+    private void closeOne(Long auctionId, LongAdder closed, LongAdder skipped, LongAdder failed) {
+        try {
+            close(auctionId);
+            closed.increment();
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.AUCTION_NOT_ACTIVE) {
+                skipped.increment();
+            } else {
+                failed.increment();
+                log.error("경매 종료 실패: auctionId={}, error={}", auctionId, e.getMessage());
+            }
+        } catch (Exception e) {
+            failed.increment();
+            log.error("경매 종료 실패: auctionId={}", auctionId, e);
+        }
+    }
+
+    /**
+     * 경매 1건 종료 후 결과별 메트릭 기록 (실패는 그대로 던짐)
+     */
+    private void close(Long auctionId) {
+        long startedAt = System.nanoTime();
+        try {
+            // 입찰 엔진 사용 시 미반영 입찰을 먼저 flush 해야 낙찰자가 정확함 (종료 커밋 전까지 입찰 거절)
+            bidAcceptorProvider.ifAvailable(bidAcceptor -> bidAcceptor.evict(auctionId));
+            try {
+                auctionCloseUseCase.closeAuction(auctionId);
+            } finally {
+                bidAcceptorProvider.ifAvailable(bidAcceptor -> bidAcceptor.release(auctionId));
+            }
+            closedCounter.increment();
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.AUCTION_NOT_ACTIVE) {
+                // 다른 인스턴스/타이머가 먼저 종료함
+                skippedCounter.increment();
+            } else {
+                failedCounter.increment();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            throw e;
+        } finally {
+            closeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Counter closeCounter(String result) {
+        return Counter.builder("auction.close.processed")
+                .description("만료 경매 종료 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료 작업 1회 결과
+     */
+    public record CloseSummary(long closed, long skipped, long failed, long elapsedMs) {
+
+        static final CloseSummary EMPTY = new CloseSummary(0, 0, 0, 0);
+
+        public long total() {
+            return closed + skipped + failed;
+        }
+    }
+}
@@ -55,8 +55,8 @@ public class AuctionCloseUseCase {
         // 2. 종료 가능 여부 확인
         validateCloseable(auctionItem);
 
-        // 3. 최고가 입찰 조회
-        java.util.Optional<Bid> highestBidOpt = bidSupport.findHighestBid(auctionId);
+        // 3. 최고가 입찰 조회 (AuctionItem.highestBidId로 PK 조회)
+        java.util.Optional<Bid> highestBidOpt = bidSupport.findHighestBid(auctionItem);
 
         if (highestBidOpt.isPresent()) {
             // 4-1. 낙찰자가 있는 경우
@@ -1,5 +1,6 @@
 package com.fourtune.auction.boundedContext.auction.application.service;
 
+import com.fourtune.auction.boundedContext.auction.application.service.lifecycle.AuctionLifecycleTimers;
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
 import com.fourtune.auction.boundedContext.auction.domain.entity.ItemImage;
 import com.fourtune.auction.port.out.UserPort;
@@ -11,6 +12,7 @@ import com.fourtune.shared.auction.event.AuctionCreatedEvent;
 import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
 import com.fourtune.shared.kafka.auction.AuctionEventType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.util.List;
 import java.util.Map;
@@ -35,6 +37,7 @@ public class AuctionCreateUseCase {
         private final UserPort userPort;
         private final EventPublishingConfig eventPublishingConfig;
         private final OutboxService outboxService;
+        private final ObjectProvider<AuctionLifecycleTimers> lifecycleTimersProvider;
         // private final S3Service s3Service; // TODO: 나중에 추가
 
         /**
@@ -65,6 +68,7 @@ public class AuctionCreateUseCase {
                 // 3. DB 저장
                 AuctionItem savedAuction = auctionSupport.save(auctionItem);
                 Long aggregateId = savedAuction.getId();
+                lifecycleTimersProvider.ifAvailable(timers -> timers.schedule(savedAuction));
 
                 // 3. 이벤트 발행 (Kafka 사용 시 Outbox, 아니면 Spring Event)
                 AuctionCreatedEvent createdEvent = new AuctionCreatedEvent(
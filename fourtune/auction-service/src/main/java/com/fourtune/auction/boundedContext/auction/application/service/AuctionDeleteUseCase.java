@@ -1,5 +1,6 @@
 package com.fourtune.auction.boundedContext.auction.application.service;
 
+import com.fourtune.auction.boundedContext.auction.application.service.lifecycle.AuctionLifecycleTimers;
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
 import com.fourtune.auction.boundedContext.auction.domain.entity.ItemImage;
 import com.fourtune.auction.boundedContext.auction.port.out.AuctionItemRepository;
@@ -12,6 +13,7 @@ import com.fourtune.core.config.EventPublishingConfig;
 import com.fourtune.outbox.service.OutboxService;
 import com.fourtune.shared.kafka.auction.AuctionEventType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +37,7 @@ public class AuctionDeleteUseCase {
     private final UserPort userPort;
     private final EventPublishingConfig eventPublishingConfig;
     private final OutboxService outboxService;
+    private final ObjectProvider<AuctionLifecycleTimers> lifecycleTimersProvider;
 
     /**
      * 경매 삭제
@@ -59,6 +62,7 @@ public class AuctionDeleteUseCase {
         
         // 5. 삭제 처리 (hard delete)
         auctionItemRepository.delete(auctionItem);
+        lifecycleTimersProvider.ifAvailable(timers -> timers.cancel(deletedAuctionId));
         
         // 6. 이벤트 발행
         AuctionDeletedEvent deletedEvent = new AuctionDeletedEvent(deletedAuctionId, sellerId, title, category.toString());
@@ -97,6 +101,7 @@ public class AuctionDeleteUseCase {
         
         // 4. 상태 변경 (CANCELLED)
         auctionItem.cancel();
+        lifecycleTimersProvider.ifAvailable(timers -> timers.cancel(auctionItem.getId()));
         
         // 5. Search 인덱싱 전용 이벤트 발행 (스냅샷 형태)
         Long aggregateId = auctionItem.getId();
@@ -1,25 +1,24 @@
 package com.fourtune.auction.boundedContext.auction.application.service;
 
+import com.fourtune.auction.boundedContext.auction.application.service.lifecycle.AuctionLifecycleTimers;
 import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionPolicy;
 import com.fourtune.auction.boundedContext.auction.domain.constant.BidPolicy;
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
-import com.fourtune.auction.boundedContext.auction.domain.entity.ItemImage;
-import com.fourtune.auction.port.out.UserPort;
 import com.fourtune.core.error.ErrorCode;
 import com.fourtune.core.error.exception.BusinessException;
 import com.fourtune.core.eventPublisher.EventPublisher;
 import com.fourtune.shared.auction.event.AuctionExtendedEvent;
-import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
 import com.fourtune.core.config.EventPublishingConfig;
 import com.fourtune.outbox.service.OutboxService;
 import com.fourtune.shared.kafka.auction.AuctionEventType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * 경매 자동 연장 UseCase
@@ -35,9 +34,9 @@ public class AuctionExtendUseCase {
     private final AuctionSupport auctionSupport;
     private final EventPublisher eventPublisher;
     private final BidPolicy bidPolicy;
-    private final UserPort userPort;
     private final EventPublishingConfig eventPublishingConfig;
     private final OutboxService outboxService;
+    private final ObjectProvider<AuctionLifecycleTimers> lifecycleTimersProvider;
 
     /**
      * [진입점] 경매 자동 연장
@@ -50,12 +49,26 @@ public class AuctionExtendUseCase {
         
         // 2. 내부 메서드로 위임
         extendAuctionInternal(auctionItem);
+
+        // 3. Search 인덱싱용 델타 발행 (입찰 경로는 입찰 델타에 새 종료 시간이 포함되므로 여기서만)
+        AuctionBidDeltaEvent bidDeltaEvent = new AuctionBidDeltaEvent(
+                auctionId,
+                auctionItem.getCurrentPrice(),
+                auctionItem.getBidCount(),
+                auctionItem.getAuctionEndTime()
+        );
+        if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
+            outboxService.append(AGGREGATE_TYPE_AUCTION, auctionId, AuctionEventType.AUCTION_BID_DELTA.name(), Map.of("eventType", AuctionEventType.AUCTION_BID_DELTA.name(), "aggregateId", auctionId, "data", bidDeltaEvent));
+        } else {
+            eventPublisher.publish(bidDeltaEvent);
+        }
     }
 
     /**
      * [진입점] 경매 자동 연장 (엔티티 직접 전달)
      * 이미 Lock이 획득된 엔티티를 사용하여 중복 Lock 방지
-     * 외부 UseCase에서 이미 Lock을 획득한 경우 사용
+     * 외부 UseCase에서 이미 Lock을 획득한 경우 사용 (입찰 경로)
+     * Search 인덱스의 종료 시간은 호출 측이 발행하는 입찰 델타(AuctionBidDeltaEvent)로 반영
      */
     @Transactional
     public void extendAuction(AuctionItem auctionItem) {
@@ -66,6 +79,7 @@ public class AuctionExtendUseCase {
      * [내부 로직] 경매 자동 연장 (엔티티 직접 전달)
      * - private 선언: 외부 호출 방지
      * - @Transactional 제거: 부모 트랜잭션을 그대로 따라감
+     * - Lock 보유 중 실행되므로 스냅샷 생성/닉네임 조회(userPort) 없이 연장 이벤트만 발행
      */
     private void extendAuctionInternal(AuctionItem auctionItem) {
         // 1. 연장 가능 여부 확인
@@ -75,6 +89,9 @@ public class AuctionExtendUseCase {
         auctionItem.extend(AuctionPolicy.AUTO_EXTEND_MINUTES);
         
         // 3. DB 저장 (dirty checking)
+
+        // 3-1. 종료/종료 임박 타이머를 새 종료 시간으로 재등록 (커밋 후)
+        lifecycleTimersProvider.ifAvailable(timers -> timers.schedule(auctionItem));
         
         // 4. 이벤트 발행
         Long aggregateId = auctionItem.getId();
@@ -87,50 +104,6 @@ public class AuctionExtendUseCase {
         } else {
             eventPublisher.publish(extendedEvent);
         }
-
-        // 5. Search 인덱싱 전용 이벤트 발행 (스냅샷 형태)
-        String thumbnailUrl = extractThumbnailUrl(auctionItem);
-        String sellerName = userPort.getNicknamesByIds(Set.of(auctionItem.getSellerId())).getOrDefault(auctionItem.getSellerId(), null);
-        AuctionItemUpdatedEvent itemUpdatedEvent = new AuctionItemUpdatedEvent(
-                auctionItem.getId(),
-                auctionItem.getSellerId(),
-                sellerName,
-                auctionItem.getTitle(),
-                auctionItem.getDescription(),
-                auctionItem.getCategory().toString(),
-                auctionItem.getStatus().toString(),
-                auctionItem.getStartPrice(),
-                auctionItem.getCurrentPrice(),
-                auctionItem.getBuyNowPrice(),
-                auctionItem.getBuyNowEnabled(),
-                auctionItem.getAuctionStartTime(),
-                auctionItem.getAuctionEndTime(),
-                thumbnailUrl,
-                auctionItem.getCreatedAt(),
-                auctionItem.getUpdatedAt(),
-                auctionItem.getViewCount(),
-                auctionItem.getBidCount(),
-                auctionItem.getWatchlistCount()
-        );
-        if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
-            outboxService.append(AGGREGATE_TYPE_AUCTION, aggregateId, AuctionEventType.AUCTION_ITEM_UPDATED.name(), Map.of("eventType", AuctionEventType.AUCTION_ITEM_UPDATED.name(), "aggregateId", aggregateId, "data", itemUpdatedEvent));
-        } else {
-            eventPublisher.publish(itemUpdatedEvent);
-        }
-    }
-
-    /**
-     * 썸네일 URL 추출
-     */
-    private String extractThumbnailUrl(AuctionItem auctionItem) {
-        if (auctionItem.getImages() == null || auctionItem.getImages().isEmpty()) {
-            return null;
-        }
-        return auctionItem.getImages().stream()
-                .filter(ItemImage::getIsThumbnail)
-                .findFirst()
-                .map(ItemImage::getImageUrl)
-                .orElseGet(() -> auctionItem.getImages().get(0).getImageUrl()); // 썸네일이 없으면 첫 번째 이미지
     }
 
     /**
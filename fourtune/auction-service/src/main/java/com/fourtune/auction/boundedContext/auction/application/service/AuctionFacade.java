@@ -1,5 +1,6 @@
 package com.fourtune.auction.boundedContext.auction.application.service;
 
+import com.fourtune.auction.boundedContext.auction.application.service.engine.BidAcceptor;
 import com.fourtune.s3.service.S3Service;
 import com.fourtune.shared.auction.dto.AuctionItemCreateRequest;
 import com.fourtune.shared.auction.dto.AuctionItemDetailResponse;
@@ -7,6 +8,7 @@ import com.fourtune.shared.auction.dto.AuctionItemResponse;
 import com.fourtune.shared.auction.dto.AuctionItemUpdateRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -42,6 +44,8 @@ public class AuctionFacade {
     private final AuctionStartUseCase auctionStartUseCase;
     private final RedisViewCountService redisViewCountService;
     private final S3Service s3Service;
+    private final ObjectProvider<BidAcceptor> bidAcceptorProvider;
+    private final AuctionClosePipeline auctionClosePipeline;
 
     @Value("${app.view-count.use-redis:true}")
     private boolean viewCountUseRedis;
@@ -67,10 +71,17 @@ public class AuctionFacade {
         // 1. 이미지 S3/MinIO 업로드 (이미지가 있을 때만)
         List<String> imageUrls = uploadImages(images);
 
-        // 2. AuctionUpdateUseCase 호출 (이미지 URL 포함)
-        auctionUpdateUseCase.updateAuction(auctionId, userId, request, imageUrls);
+        // 2. 입찰 엔진 사용 시 캐시된 경매 상태 제거 (수정 내용이 다음 입찰부터 반영되도록, 커밋 전까지 입찰 거절)
+        bidAcceptorProvider.ifAvailable(bidAcceptor -> bidAcceptor.evict(auctionId));
 
-        // 3. 수정된 경매 조회 및 DTO 변환 (readOnly 트랜잭션으로 분리)
+        // 3. AuctionUpdateUseCase 호출 (이미지 URL 포함)
+        try {
+            auctionUpdateUseCase.updateAuction(auctionId, userId, request, imageUrls);
+        } finally {
+            bidAcceptorProvider.ifAvailable(bidAcceptor -> bidAcceptor.release(auctionId));
+        }
+
+        // 4. 수정된 경매 조회 및 DTO 변환 (readOnly 트랜잭션으로 분리)
         return getAuctionByIdInReadOnlyTransaction(auctionId);
     }
 
@@ -105,19 +116,10 @@ public class AuctionFacade {
 
     /**
      * 경매 종료 처리 (스케줄러에서 호출)
+     * 만료 경매 ID를 페이지 단위로 읽어 경매별 독립 트랜잭션으로 병렬 종료 (AuctionClosePipeline)
      */
-    public void closeExpiredAuctions() {
-        // 1. 종료 시간이 지난 경매 목록 조회 (readOnly 트랜잭션으로 분리)
-        List<com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem> expiredAuctions = findExpiredAuctionsInReadOnlyTransaction();
-
-        // 2. 각 경매마다 독립 트랜잭션으로 종료 처리
-        for (com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem auction : expiredAuctions) {
-            try {
-                closeAuctionInNewTransaction(auction.getId());
-            } catch (Exception e) {
-                log.error("경매 종료 실패: auctionId={}", auction.getId(), e);
-            }
-        }
+    public AuctionClosePipeline.CloseSummary closeExpiredAuctions() {
+        return auctionClosePipeline.closeExpired();
     }
 
     /**
@@ -133,7 +135,14 @@ public class AuctionFacade {
      * 각 경매마다 독립적인 트랜잭션으로 처리하여 하나 실패 시 다른 것들에 영향 없도록 함
      */
     public void closeAuctionInNewTransaction(Long auctionId) {
-        auctionCloseUseCase.closeAuction(auctionId);
+        // 입찰 엔진 사용 시 미반영 입찰을 먼저 flush 해야 낙찰자가 정확함
+        // 종료 트랜잭션이 커밋될 때까지 입찰 엔진은 해당 경매 입찰을 거절
+        bidAcceptorProvider.ifAvailable(bidAcceptor -> bidAcceptor.evict(auctionId));
+        try {
+            auctionCloseUseCase.closeAuction(auctionId);
+        } finally {
+            bidAcceptorProvider.ifAvailable(bidAcceptor -> bidAcceptor.release(auctionId));
+        }
     }
 
     /**
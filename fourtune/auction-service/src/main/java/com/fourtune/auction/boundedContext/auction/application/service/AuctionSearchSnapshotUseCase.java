@@ -0,0 +1,89 @@
+package com.fourtune.auction.boundedContext.auction.application.service;
+
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.auction.boundedContext.auction.port.out.ItemImageRepository;
+import com.fourtune.auction.port.out.UserPort;
+import com.fourtune.shared.auction.dto.AuctionSearchSnapshotPageResponse;
+import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 재색인용 경매 스냅샷 조회 UseCase
+ * - id keyset 페이지로 읽어 offset 조회처럼 뒤로 갈수록 느려지지 않음
+ * - 썸네일/판매자 닉네임은 페이지 단위로 한 번에 조회 (경매별 추가 쿼리/Feign 호출 없음)
+ * - 단건 조회는 검색 문서가 없는 경매를 부분 업데이트 대신 전체 색인할 때 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuctionSearchSnapshotUseCase {
+
+    private static final int MAX_PAGE_SIZE = 5_000;
+
+    private final AuctionSupport auctionSupport;
+    private final ItemImageRepository itemImageRepository;
+    private final UserPort userPort;
+
+    public AuctionSearchSnapshotPageResponse getSnapshots(Long lastId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<AuctionItem> auctionItems = auctionSupport.findAllAfter(lastId != null ? lastId : 0L, pageSize);
+        if (auctionItems.isEmpty()) {
+            return new AuctionSearchSnapshotPageResponse(List.of(), lastId, false);
+        }
+
+        List<AuctionItemCreatedEvent> items = toSnapshots(auctionItems);
+        Long nextLastId = auctionItems.get(auctionItems.size() - 1).getId();
+        return new AuctionSearchSnapshotPageResponse(items, nextLastId, auctionItems.size() == pageSize);
+    }
+
+    public Optional<AuctionItemCreatedEvent> getSnapshot(Long auctionItemId) {
+        return auctionSupport.findById(auctionItemId)
+                .map(auctionItem -> toSnapshots(List.of(auctionItem)).get(0));
+    }
+
+    private List<AuctionItemCreatedEvent> toSnapshots(List<AuctionItem> auctionItems) {
+        Set<Long> auctionIds = auctionItems.stream().map(AuctionItem::getId).collect(Collectors.toSet());
+        Map<Long, String> thumbnails = new HashMap<>();
+        for (Object[] row : itemImageRepository.findThumbnailUrls(auctionIds)) {
+            thumbnails.putIfAbsent((Long) row[0], (String) row[1]);
+        }
+        Set<Long> sellerIds = auctionItems.stream().map(AuctionItem::getSellerId).collect(Collectors.toSet());
+        Map<Long, String> nicknames = userPort.getNicknamesByIds(sellerIds);
+
+        return auctionItems.stream()
+                .map(item -> toSnapshot(item, thumbnails.get(item.getId()), nicknames.get(item.getSellerId())))
+                .toList();
+    }
+
+    private AuctionItemCreatedEvent toSnapshot(AuctionItem auctionItem, String thumbnailUrl, String sellerName) {
+        return new AuctionItemCreatedEvent(
+                auctionItem.getId(),
+                auctionItem.getSellerId(),
+                sellerName,
+                auctionItem.getTitle(),
+                auctionItem.getDescription(),
+                auctionItem.getCategory().toString(),
+                auctionItem.getStatus().toString(),
+                auctionItem.getStartPrice(),
+                auctionItem.getCurrentPrice(),
+                auctionItem.getBuyNowPrice(),
+                auctionItem.getBuyNowEnabled(),
+                auctionItem.getAuctionStartTime(),
+                auctionItem.getAuctionEndTime(),
+                thumbnailUrl,
+                auctionItem.getCreatedAt(),
+                auctionItem.getUpdatedAt(),
+                auctionItem.getViewCount(),
+                auctionItem.getBidCount(),
+                auctionItem.getWatchlistCount());
+    }
+}
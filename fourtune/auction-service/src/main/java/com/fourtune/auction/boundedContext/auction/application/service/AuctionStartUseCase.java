@@ -1,10 +1,8 @@
 package com.fourtune.auction.boundedContext.auction.application.service;
 
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
-import com.fourtune.auction.boundedContext.auction.domain.entity.ItemImage;
-import com.fourtune.auction.port.out.UserPort;
 import com.fourtune.core.eventPublisher.EventPublisher;
-import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
+import com.fourtune.shared.auction.event.AuctionItemStatusChangedEvent;
 import com.fourtune.shared.auction.event.AuctionStartedEvent;
 import com.fourtune.core.config.EventPublishingConfig;
 import com.fourtune.outbox.service.OutboxService;
@@ -14,18 +12,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Map;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class AuctionStartUseCase {
 
     private static final String AGGREGATE_TYPE_AUCTION = "Auction";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     private final AuctionSupport auctionSupport;
     private final EventPublisher eventPublisher;
-    private final UserPort userPort;
     private final EventPublishingConfig eventPublishingConfig;
     private final OutboxService outboxService;
 
@@ -51,48 +50,18 @@ public class AuctionStartUseCase {
             eventPublisher.publish(startedEvent);
         }
 
-        // Search 인덱싱 전용 이벤트 발행 (스냅샷 형태)
-        String thumbnailUrl = extractThumbnailUrl(auction);
-        String sellerName = userPort.getNicknamesByIds(Set.of(auction.getSellerId()))
-                .getOrDefault(auction.getSellerId(), null);
-        AuctionItemUpdatedEvent itemUpdatedEvent = new AuctionItemUpdatedEvent(
+        // Search 인덱싱 전용 이벤트 발행 (상태만 부분 업데이트, 판매자 닉네임 조회/스냅샷 생성 불필요)
+        AuctionItemStatusChangedEvent statusChangedEvent = new AuctionItemStatusChangedEvent(
                 auction.getId(),
-                auction.getSellerId(),
-                sellerName,
-                auction.getTitle(),
-                auction.getDescription(),
-                auction.getCategory().toString(),
                 auction.getStatus().toString(),
-                auction.getStartPrice(),
-                auction.getCurrentPrice(),
-                auction.getBuyNowPrice(),
-                auction.getBuyNowEnabled(),
-                auction.getAuctionStartTime(),
-                auction.getAuctionEndTime(),
-                thumbnailUrl,
-                auction.getCreatedAt(),
-                auction.getUpdatedAt(),
-                auction.getViewCount(),
-                auction.getBidCount(),
-                auction.getWatchlistCount());
+                LocalDateTime.now(KST));
         if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
-            outboxService.append(AGGREGATE_TYPE_AUCTION, aggregateId, AuctionEventType.AUCTION_ITEM_UPDATED.name(),
-                    Map.of("eventType", AuctionEventType.AUCTION_ITEM_UPDATED.name(), "aggregateId", aggregateId,
-                            "data", itemUpdatedEvent));
+            outboxService.append(AGGREGATE_TYPE_AUCTION, aggregateId, AuctionEventType.AUCTION_ITEM_STATUS_CHANGED.name(),
+                    Map.of("eventType", AuctionEventType.AUCTION_ITEM_STATUS_CHANGED.name(), "aggregateId", aggregateId,
+                            "data", statusChangedEvent));
         } else {
-            eventPublisher.publish(itemUpdatedEvent);
-        }
-    }
-
-    private String extractThumbnailUrl(AuctionItem auctionItem) {
-        if (auctionItem.getImages() == null || auctionItem.getImages().isEmpty()) {
-            return null;
+            eventPublisher.publish(statusChangedEvent);
         }
-        return auctionItem.getImages().stream()
-                .filter(ItemImage::getIsThumbnail)
-                .findFirst()
-                .map(ItemImage::getImageUrl)
-                .orElseGet(() -> auctionItem.getImages().get(0).getImageUrl()); // 썸네일이 없으면 첫 번째 이미지
     }
 
 }
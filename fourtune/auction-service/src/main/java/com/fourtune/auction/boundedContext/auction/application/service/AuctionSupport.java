@@ -3,10 +3,12 @@ package com.fourtune.auction.boundedContext.auction.application.service;
 import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
 import com.fourtune.auction.boundedContext.auction.port.out.AuctionItemRepository;
+import com.fourtune.auction.boundedContext.auction.port.out.AuctionLifecycleTarget;
 import com.fourtune.core.error.ErrorCode;
 import com.fourtune.core.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -125,6 +127,16 @@ public class AuctionSupport {
         return auctionItemRepository.findByStatus(AuctionStatus.ACTIVE);
     }
 
+    /**
+     * 생명주기 타이머 대상 keyset 페이지 조회 (SCHEDULED, ACTIVE / lastId 이후 size건)
+     */
+    public List<AuctionLifecycleTarget> findLifecycleTargets(Long lastId, int size) {
+        return auctionItemRepository.findLifecycleTargetsAfter(
+                List.of(AuctionStatus.SCHEDULED, AuctionStatus.ACTIVE),
+                lastId,
+                PageRequest.of(0, size));
+    }
+
     /**
      * 종료 시간이 지난 경매 목록 조회
      */
@@ -134,6 +146,24 @@ public class AuctionSupport {
                 AuctionStatus.ACTIVE);
     }
 
+    /**
+     * 종료 시간이 지난 경매 ID 조회 (keyset 페이지: lastId 이후 size건)
+     */
+    public List<Long> findExpiredAuctionIds(LocalDateTime now, Long lastId, int size) {
+        return auctionItemRepository.findExpiredIdsAfter(
+                AuctionStatus.ACTIVE,
+                now,
+                lastId,
+                PageRequest.of(0, size));
+    }
+
+    /**
+     * 전체 경매 keyset 페이지 조회 (lastId 이후 size건, 검색 재색인용)
+     */
+    public List<AuctionItem> findAllAfter(Long lastId, int size) {
+        return auctionItemRepository.findAllAfter(lastId, PageRequest.of(0, size));
+    }
+
     /**
      * 시작 시간이 되었지만 아직 시작되지 않은 경매 목록 조회
      */
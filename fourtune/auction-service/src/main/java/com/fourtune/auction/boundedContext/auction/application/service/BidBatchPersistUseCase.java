@@ -0,0 +1,149 @@
+package com.fourtune.auction.boundedContext.auction.application.service;
+
+import com.fourtune.auction.boundedContext.auction.application.service.engine.AcceptedBid;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.auction.boundedContext.auction.domain.entity.Bid;
+import com.fourtune.core.config.EventPublishingConfig;
+import com.fourtune.core.eventPublisher.EventPublisher;
+import com.fourtune.outbox.service.OutboxService;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
+import com.fourtune.shared.auction.event.BidPlacedEvent;
+import com.fourtune.shared.kafka.auction.AuctionEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 입찰 일괄 반영 UseCase (입찰 엔진 write-behind 전용)
+ * - 입찰 엔진이 수락한 입찰들을 수락 순서대로 한 트랜잭션에서 반영
+ * - 경매 row lock은 입찰 1건이 아닌 배치 1건당 1회만 획득
+ * - BID_PLACED 이벤트는 입찰마다, Search 입찰 델타 이벤트는 배치당 1회 발행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidBatchPersistUseCase {
+
+    private static final String AGGREGATE_TYPE_AUCTION = "Auction";
+
+    private final AuctionSupport auctionSupport;
+    private final BidSupport bidSupport;
+    private final AuctionExtendUseCase auctionExtendUseCase;
+    private final EventPublisher eventPublisher;
+    private final EventPublishingConfig eventPublishingConfig;
+    private final OutboxService outboxService;
+
+    /**
+     * 수락된 입찰 일괄 반영
+     *
+     * @return 반영된 입찰 수 (경매가 더 이상 ACTIVE가 아니면 0)
+     */
+    @Transactional
+    public int persistAcceptedBids(Long auctionId, List<AcceptedBid> acceptedBids) {
+        if (acceptedBids.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 경매 조회 (배치당 1회 Pessimistic Lock)
+        AuctionItem auctionItem = auctionSupport.findByIdWithLockOrThrow(auctionId);
+
+        // 2. 수락 이후 즉시구매/종료 등으로 상태가 바뀐 경우 반영하지 않음
+        if (auctionItem.getStatus() != AuctionStatus.ACTIVE) {
+            log.error("[BID-ENGINE] ACTIVE가 아닌 경매의 수락 입찰 폐기: auctionId={}, status={}, count={}",
+                    auctionId, auctionItem.getStatus(), acceptedBids.size());
+            return 0;
+        }
+
+        // 3. 배치가 뒤바뀌어 도착한 경우(여러 writer) 이미 반영된 현재가보다 낮으면 최고가/현재가는 건드리지 않음
+        BigDecimal lastAmount = acceptedBids.get(acceptedBids.size() - 1).bidAmount();
+        boolean raisesPrice = auctionItem.getCurrentPrice() == null
+                || lastAmount.compareTo(auctionItem.getCurrentPrice()) > 0;
+
+        // 4. 이전 최고가 입찰 해제
+        if (raisesPrice) {
+            Optional<Bid> previousHighestBid = bidSupport.findHighestBid(auctionItem);
+            previousHighestBid.ifPresent(prevBid -> {
+                prevBid.removeAsHighestBid();
+                bidSupport.save(prevBid);
+            });
+        }
+
+        // 5. 수락 순서대로 입찰 생성 (마지막 입찰이 최고가)
+        List<Bid> newBids = new ArrayList<>(acceptedBids.size());
+        for (AcceptedBid acceptedBid : acceptedBids) {
+            newBids.add(Bid.create(
+                    auctionId,
+                    acceptedBid.bidderId(),
+                    acceptedBid.bidAmount(),
+                    acceptedBid.previousPrice(),
+                    acceptedBid.bidUnit(),
+                    false
+            ));
+        }
+        if (raisesPrice) {
+            newBids.get(newBids.size() - 1).updateAsHighestBid();
+        }
+        List<Bid> savedBids = bidSupport.saveAll(newBids);
+
+        // 6. 경매 currentPrice / bidCount 반영
+        if (raisesPrice) {
+            auctionItem.updateCurrentPrice(lastAmount);
+            Bid lastBid = savedBids.get(savedBids.size() - 1);
+            auctionItem.updateHighestBid(lastBid.getId(), lastBid.getBidderId());
+        }
+        acceptedBids.forEach(acceptedBid -> auctionItem.increaseBidCount());
+        auctionSupport.save(auctionItem);
+
+        // 7. 자동 연장 반영 (엔진에서 연장된 횟수만큼, 엔티티 직접 전달하여 중복 Lock 방지)
+        for (AcceptedBid acceptedBid : acceptedBids) {
+            if (acceptedBid.extended()) {
+                auctionExtendUseCase.extendAuction(auctionItem);
+            }
+        }
+
+        // 8. 입찰별 이벤트 발행
+        String category = auctionItem.getCategory() != null ? auctionItem.getCategory().toString() : null;
+        for (int i = 0; i < acceptedBids.size(); i++) {
+            AcceptedBid acceptedBid = acceptedBids.get(i);
+            BidPlacedEvent bidPlacedEvent = new BidPlacedEvent(
+                    savedBids.get(i).getId(),
+                    auctionId,
+                    auctionItem.getTitle(),
+                    auctionItem.getSellerId(),
+                    acceptedBid.bidderId(),
+                    acceptedBid.previousBidderId(),
+                    acceptedBid.bidAmount(),
+                    acceptedBid.acceptedAt(),
+                    category
+            );
+            if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
+                outboxService.append(AGGREGATE_TYPE_AUCTION, auctionId, AuctionEventType.BID_PLACED.name(), Map.of("eventType", AuctionEventType.BID_PLACED.name(), "aggregateId", auctionId, "data", bidPlacedEvent));
+            } else {
+                eventPublisher.publish(bidPlacedEvent);
+            }
+        }
+
+        // 9. Search 인덱싱용 입찰 델타 발행 (배치당 1회)
+        AuctionBidDeltaEvent bidDeltaEvent = new AuctionBidDeltaEvent(
+                auctionId,
+                auctionItem.getCurrentPrice(),
+                auctionItem.getBidCount(),
+                auctionItem.getAuctionEndTime()
+        );
+        if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
+            outboxService.append(AGGREGATE_TYPE_AUCTION, auctionId, AuctionEventType.AUCTION_BID_DELTA.name(), Map.of("eventType", AuctionEventType.AUCTION_BID_DELTA.name(), "aggregateId", auctionId, "data", bidDeltaEvent));
+        } else {
+            eventPublisher.publish(bidDeltaEvent);
+        }
+
+        return savedBids.size();
+    }
+}
@@ -1,9 +1,13 @@
 package com.fourtune.auction.boundedContext.auction.application.service;
 
+import com.fourtune.auction.boundedContext.auction.application.service.engine.AcceptedBid;
+import com.fourtune.auction.boundedContext.auction.application.service.engine.BidAcceptor;
+import com.fourtune.auction.boundedContext.auction.mapper.BidMapper;
 import com.fourtune.shared.auction.dto.BidDetailResponse;
 import com.fourtune.shared.auction.dto.BidHistoryResponse;
 import com.fourtune.shared.auction.dto.BidResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,11 +29,22 @@ public class BidFacade {
     private final BidCancelUseCase bidCancelUseCase;
     private final BidQueryUseCase bidQueryUseCase;
     private final AuctionSupport auctionSupport;
+    private final ObjectProvider<BidAcceptor> bidAcceptorProvider;
 
     /**
      * 입찰하기
+     * - 입찰 엔진 활성 시(memory/redis): 엔진에서 수락/거절 후 즉시 응답 (DB 반영은 비동기, 응답의 id는 null)
+     * - 비활성 시: BidPlaceUseCase (Pessimistic Lock) 경로
+     * 각 경로가 필요한 트랜잭션을 직접 열도록 Facade 트랜잭션은 사용하지 않음
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BidDetailResponse placeBid(Long auctionId, Long bidderId, BigDecimal bidAmount) {
+        BidAcceptor bidAcceptor = bidAcceptorProvider.getIfAvailable();
+        if (bidAcceptor != null) {
+            AcceptedBid acceptedBid = bidAcceptor.placeBid(auctionId, bidderId, bidAmount);
+            return BidMapper.from(acceptedBid);
+        }
+
         // 1. BidPlaceUseCase 호출 (입찰 등록)
         //    - 내부에서 자동 연장 체크 및 이벤트 발행까지 처리
         Long bidId = bidPlaceUseCase.placeBid(auctionId, bidderId, bidAmount);
@@ -4,14 +4,12 @@ import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionPolicy
 import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
 import com.fourtune.auction.boundedContext.auction.domain.entity.Bid;
-import com.fourtune.auction.boundedContext.auction.domain.entity.ItemImage;
-import com.fourtune.auction.port.out.UserPort;
 import com.fourtune.core.error.ErrorCode;
 import com.fourtune.core.error.exception.BusinessException;
 import com.fourtune.core.eventPublisher.EventPublisher;
 import com.fourtune.shared.auction.event.BidPlacedEvent;
 import com.fourtune.outbox.service.OutboxService;
-import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
 import com.fourtune.core.config.EventPublishingConfig;
 import com.fourtune.shared.kafka.auction.AuctionEventType;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +23,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 /**
      * 입찰 등록 UseCase
@@ -45,7 +42,6 @@ public class BidPlaceUseCase {
     private final BidSupport bidSupport;
     private final AuctionExtendUseCase auctionExtendUseCase;
     private final EventPublisher eventPublisher;
-    private final UserPort userPort;
     private final EventPublishingConfig eventPublishingConfig;
     private final OutboxService outboxService;
 
@@ -61,8 +57,8 @@ public class BidPlaceUseCase {
         // 2. 입찰 가능 여부 확인
         validateBidPlaceable(auctionItem, bidderId, bidAmount);
         
-        // 3. 이전 최고가 입찰자 정보 조회 및 처리
-        Optional<Bid> previousHighestBid = bidSupport.findHighestBid(auctionId);
+        // 3. 이전 최고가 입찰자 정보 조회 및 처리 (AuctionItem.highestBidId로 PK 조회)
+        Optional<Bid> previousHighestBid = bidSupport.findHighestBid(auctionItem);
         if (previousHighestBid.isPresent()) {
             Bid prevBid = previousHighestBid.get();
             // 이전 최고 입찰자 상태 해제
@@ -82,8 +78,9 @@ public class BidPlaceUseCase {
         newBid.updateAsHighestBid();
         Bid savedBid = bidSupport.save(newBid);
         
-        // 5. 경매의 currentPrice 업데이트 및 bidCount 증가
+        // 5. 경매의 currentPrice / 최고 입찰 업데이트 및 bidCount 증가
         auctionItem.updateCurrentPrice(bidAmount);
+        auctionItem.updateHighestBid(savedBid.getId(), bidderId);
         auctionItem.increaseBidCount();
         auctionSupport.save(auctionItem);
         
@@ -110,59 +107,23 @@ public class BidPlaceUseCase {
             eventPublisher.publish(bidPlacedEvent);
         }
 
-        // 8. Search 인덱싱 전용 이벤트 발행 (스냅샷 형태)
-        String thumbnailUrl = extractThumbnailUrl(auctionItem);
-        String sellerName = null;
-        try {
-            sellerName = userPort.getNicknamesByIds(Set.of(auctionItem.getSellerId())).getOrDefault(auctionItem.getSellerId(), null);
-        } catch (Exception e) {
-            log.warn("판매자 닉네임 조회 실패, null로 fallback: sellerId={}", auctionItem.getSellerId(), e);
-        }
-        AuctionItemUpdatedEvent itemUpdatedEvent = new AuctionItemUpdatedEvent(
-                auctionItem.getId(),
-                auctionItem.getSellerId(),
-                sellerName,
-                auctionItem.getTitle(),
-                auctionItem.getDescription(),
-                auctionItem.getCategory().toString(),
-                auctionItem.getStatus().toString(),
-                auctionItem.getStartPrice(),
+        // 8. Search 인덱싱용 입찰 델타 발행 (변경 필드만, 스냅샷/닉네임 조회 없이 Lock 보유 시간 최소화)
+        AuctionBidDeltaEvent bidDeltaEvent = new AuctionBidDeltaEvent(
+                auctionId,
                 auctionItem.getCurrentPrice(),
-                auctionItem.getBuyNowPrice(),
-                auctionItem.getBuyNowEnabled(),
-                auctionItem.getAuctionStartTime(),
-                auctionItem.getAuctionEndTime(),
-                thumbnailUrl,
-                auctionItem.getCreatedAt(),
-                auctionItem.getUpdatedAt(),
-                auctionItem.getViewCount(),
                 auctionItem.getBidCount(),
-                auctionItem.getWatchlistCount()
+                auctionItem.getAuctionEndTime()
         );
         if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
-            outboxService.append(AGGREGATE_TYPE_AUCTION, auctionId, AuctionEventType.AUCTION_ITEM_UPDATED.name(), Map.of("eventType", AuctionEventType.AUCTION_ITEM_UPDATED.name(), "aggregateId", auctionId, "data", itemUpdatedEvent));
+            outboxService.append(AGGREGATE_TYPE_AUCTION, auctionId, AuctionEventType.AUCTION_BID_DELTA.name(), Map.of("eventType", AuctionEventType.AUCTION_BID_DELTA.name(), "aggregateId", auctionId, "data", bidDeltaEvent));
         } else {
-            eventPublisher.publish(itemUpdatedEvent);
+            eventPublisher.publish(bidDeltaEvent);
         }
 
         // 9. 입찰 ID 반환
         return savedBid.getId();
     }
     
-    /**
-     * 썸네일 URL 추출
-     */
-    private String extractThumbnailUrl(AuctionItem auctionItem) {
-        if (auctionItem.getImages() == null || auctionItem.getImages().isEmpty()) {
-            return null;
-        }
-        return auctionItem.getImages().stream()
-                .filter(ItemImage::getIsThumbnail)
-                .findFirst()
-                .map(ItemImage::getImageUrl)
-                .orElseGet(() -> auctionItem.getImages().get(0).getImageUrl()); // 썸네일이 없으면 첫 번째 이미지
-    }
-
     /**
      * 입찰 가능 여부 검증
      */
@@ -189,9 +150,8 @@ public class BidPlaceUseCase {
             }
         }
         
-        // 5. 이미 최고 입찰자인지 확인
-        Optional<Bid> highestBid = bidSupport.findHighestBid(auctionItem.getId());
-        if (highestBid.isPresent() && highestBid.get().getBidderId().equals(bidderId)) {
+        // 5. 이미 최고 입찰자인지 확인 (비정규화 필드, bids 조회 없음)
+        if (bidderId.equals(bidSupport.findHighestBidderId(auctionItem))) {
             throw new BusinessException(ErrorCode.BID_ALREADY_HIGHEST);
         }
         
@@ -66,8 +66,8 @@ public class BidQueryUseCase {
      * 경매의 최고가 입찰 조회
      */
     public BidResponse getHighestBid(Long auctionId) {
-        auctionSupport.findByIdOrThrow(auctionId);
-        Optional<Bid> highestBid = bidSupport.findHighestBid(auctionId);
+        AuctionItem auctionItem = auctionSupport.findByIdOrThrow(auctionId);
+        Optional<Bid> highestBid = bidSupport.findHighestBid(auctionItem);
         if (highestBid.isEmpty()) {
             return null;
         }
@@ -1,6 +1,7 @@
 package com.fourtune.auction.boundedContext.auction.application.service;
 
 import com.fourtune.auction.boundedContext.auction.domain.constant.BidStatus;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
 import com.fourtune.auction.boundedContext.auction.domain.entity.Bid;
 import com.fourtune.auction.boundedContext.auction.port.out.BidRepository;
 import com.fourtune.core.error.ErrorCode;
@@ -38,6 +39,13 @@ public class BidSupport {
         return bidRepository.save(bid);
     }
 
+    /**
+     * 입찰 일괄 저장 (입력 순서 유지)
+     */
+    public List<Bid> saveAll(List<Bid> bids) {
+        return bidRepository.saveAll(bids);
+    }
+
     /**
      * 경매 ID로 입찰 목록 조회 (최신순)
      */
@@ -54,6 +62,34 @@ public class BidSupport {
                 BidStatus.ACTIVE);
     }
 
+    /**
+     * 경매의 최고가 입찰 조회 (AuctionItem 비정규화 필드 사용)
+     * - highestBidId가 있으면 PK 조회 1회
+     * - 입찰이 없으면 조회 없음
+     * - 비정규화 이전 데이터면 기존 ORDER BY 조회 후 엔티티에 채움 (트랜잭션 커밋 시 반영)
+     */
+    public Optional<Bid> findHighestBid(AuctionItem auctionItem) {
+        if (auctionItem.getHighestBidId() != null) {
+            return bidRepository.findById(auctionItem.getHighestBidId());
+        }
+        if (!auctionItem.needsHighestBidBackfill()) {
+            return Optional.empty();
+        }
+        Optional<Bid> highestBid = findHighestBid(auctionItem.getId());
+        highestBid.ifPresent(bid -> auctionItem.updateHighestBid(bid.getId(), bid.getBidderId()));
+        return highestBid;
+    }
+
+    /**
+     * 경매의 최고 입찰자 ID 조회 (비정규화 필드가 있으면 조회 없음)
+     */
+    public Long findHighestBidderId(AuctionItem auctionItem) {
+        if (auctionItem.getHighestBidderId() != null) {
+            return auctionItem.getHighestBidderId();
+        }
+        return findHighestBid(auctionItem).map(Bid::getBidderId).orElse(null);
+    }
+
     /**
      * 사용자의 입찰 내역 조회
      */
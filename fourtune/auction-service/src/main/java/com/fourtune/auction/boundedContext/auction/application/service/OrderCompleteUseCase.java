@@ -1,5 +1,6 @@
 package com.fourtune.auction.boundedContext.auction.application.service;
 
+import com.fourtune.auction.boundedContext.auction.application.service.lifecycle.AuctionLifecycleTimers;
 import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionPolicy;
 import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
 import com.fourtune.auction.boundedContext.auction.domain.constant.BidStatus;
@@ -20,6 +21,7 @@ import com.fourtune.outbox.service.OutboxService;
 import com.fourtune.shared.kafka.auction.AuctionEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +47,7 @@ public class OrderCompleteUseCase {
     private final EventPublisher eventPublisher;
     private final EventPublishingConfig eventPublishingConfig;
     private final OutboxService outboxService;
+    private final ObjectProvider<AuctionLifecycleTimers> lifecycleTimersProvider;
 
     /**
      * 결제 완료 처리
@@ -166,6 +169,7 @@ public class OrderCompleteUseCase {
                         previousPrice
                 );
                 auctionSupport.save(auction);
+                lifecycleTimersProvider.ifAvailable(timers -> timers.schedule(auction));
                 log.info("주문 취소로 경매 복구: auctionId={}, orderId={}, restoredPrice={}, buyNowRecoveryCount={}, buyNowDisabled={}",
                         auction.getId(), order.getOrderId(), previousPrice, auction.getBuyNowRecoveryCount(), auction.getBuyNowDisabledByPolicy());
                 publishAuctionItemUpdatedEvent(auction);
@@ -0,0 +1,25 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 엔진이 수락한 입찰
+ * - 시퀀서에서 검증/수락된 순서대로 DB에 비동기 반영됨
+ *
+ * @param previousPrice    수락 직전 현재가 (Bid.create 검증용)
+ * @param previousBidderId 수락 직전 최고 입찰자 (BidPlacedEvent용)
+ * @param extended         이 입찰로 자동 연장이 발생했는지 여부
+ */
+public record AcceptedBid(
+        Long auctionId,
+        String auctionTitle,
+        Long bidderId,
+        BigDecimal bidAmount,
+        BigDecimal previousPrice,
+        Integer bidUnit,
+        Long previousBidderId,
+        LocalDateTime acceptedAt,
+        boolean extended
+) {
+}
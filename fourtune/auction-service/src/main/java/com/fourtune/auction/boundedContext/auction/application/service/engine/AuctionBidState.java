@@ -0,0 +1,134 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionPolicy;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 엔진이 경매별로 보관하는 입찰 검증용 상태
+ * - 소유 레인의 시퀀서 쓰레드에서만 읽고 쓴다 (단일 writer, 동기화 불필요)
+ * - 검증 규칙은 BidPlaceUseCase.validateBidPlaceable / Bid.create 와 동일
+ */
+@Getter
+public class AuctionBidState {
+
+    private final Long auctionId;
+    private final String title;
+    private final Long sellerId;
+    private final AuctionStatus status;
+    private final BigDecimal startPrice;
+    private final Integer bidUnit;
+    private final Boolean buyNowEnabled;
+    private final BigDecimal buyNowPrice;
+
+    private LocalDateTime auctionEndTime;
+    private Integer extensionCount;
+    private BigDecimal currentPrice;
+    private Long highestBidderId;
+
+    private AuctionBidState(AuctionItem auctionItem, Long highestBidderId) {
+        this.auctionId = auctionItem.getId();
+        this.title = auctionItem.getTitle();
+        this.sellerId = auctionItem.getSellerId();
+        this.status = auctionItem.getStatus();
+        this.startPrice = auctionItem.getStartPrice();
+        this.bidUnit = auctionItem.getBidUnit();
+        this.buyNowEnabled = auctionItem.getBuyNowEnabled();
+        this.buyNowPrice = auctionItem.getBuyNowPrice();
+        this.auctionEndTime = auctionItem.getAuctionEndTime();
+        this.extensionCount = auctionItem.getExtensionCount() != null ? auctionItem.getExtensionCount() : 0;
+        this.currentPrice = auctionItem.getCurrentPrice();
+        this.highestBidderId = highestBidderId;
+    }
+
+    /**
+     * DB 상태로부터 엔진 상태 생성
+     */
+    public static AuctionBidState from(AuctionItem auctionItem, Long highestBidderId) {
+        return new AuctionBidState(auctionItem, highestBidderId);
+    }
+
+    public boolean isActive() {
+        return this.status == AuctionStatus.ACTIVE;
+    }
+
+    /**
+     * 입찰 검증 후 수락 (상태 갱신)
+     * 검증 실패 시 기존 경로와 동일한 ErrorCode로 BusinessException 발생, 상태는 변경되지 않음
+     */
+    public AcceptedBid accept(Long bidderId, BigDecimal bidAmount, LocalDateTime now, int maxAutoExtendCount) {
+        // 1. 경매가 ACTIVE 상태인지
+        if (this.status != AuctionStatus.ACTIVE) {
+            throw new BusinessException(ErrorCode.BID_NOT_ALLOWED);
+        }
+
+        // 2. 경매 종료 시간이 지나지 않았는지 (KST 기준)
+        if (now.isAfter(this.auctionEndTime)) {
+            throw new BusinessException(ErrorCode.AUCTION_ALREADY_ENDED);
+        }
+
+        // 3. 본인이 판매자가 아닌지
+        if (this.sellerId.equals(bidderId)) {
+            throw new BusinessException(ErrorCode.BID_SELF_AUCTION);
+        }
+
+        // 4. 가격 역전 방지: 입찰가가 즉시구매가 이상이면 차단
+        if (Boolean.TRUE.equals(this.buyNowEnabled) && this.buyNowPrice != null
+                && bidAmount.compareTo(this.buyNowPrice) >= 0) {
+            throw new BusinessException(ErrorCode.BID_PRICE_HIGHER_THAN_BUY_NOW);
+        }
+
+        // 5. 이미 최고 입찰자인지 확인
+        if (bidderId.equals(this.highestBidderId)) {
+            throw new BusinessException(ErrorCode.BID_ALREADY_HIGHEST);
+        }
+
+        // 6. 입찰 금액이 현재가 + 입찰단위 이상인지
+        BigDecimal basePrice = this.currentPrice != null ? this.currentPrice : this.startPrice;
+        if (bidAmount.compareTo(basePrice.add(BigDecimal.valueOf(this.bidUnit))) < 0) {
+            throw new BusinessException(ErrorCode.BID_AMOUNT_TOO_LOW);
+        }
+
+        // 7. 입찰 단위로 나누어떨어지는지 (Bid.create 검증과 동일, DB 반영 시 실패하지 않도록 선검증)
+        if (this.currentPrice != null && this.currentPrice.compareTo(BigDecimal.ZERO) != 0) {
+            int unit = (this.bidUnit != null && this.bidUnit > 0) ? this.bidUnit : 1000;
+            if (bidAmount.subtract(this.currentPrice).remainder(BigDecimal.valueOf(unit)).compareTo(BigDecimal.ZERO) != 0) {
+                throw new BusinessException(ErrorCode.BID_UNIT_INVALID);
+            }
+        }
+
+        // 8. 자동 연장 체크 (종료 5분 전이면 3분 연장, 최대 횟수 초과 시 기존 경로와 동일하게 거절)
+        boolean extended = false;
+        if (Duration.between(now, this.auctionEndTime).toMinutes() <= AuctionPolicy.AUTO_EXTEND_THRESHOLD_MINUTES) {
+            if (this.extensionCount >= maxAutoExtendCount) {
+                throw new BusinessException(ErrorCode.AUCTION_MAX_EXTENSION_REACHED);
+            }
+            this.auctionEndTime = this.auctionEndTime.plusMinutes(AuctionPolicy.AUTO_EXTEND_MINUTES);
+            this.extensionCount++;
+            extended = true;
+        }
+
+        // 9. 상태 갱신
+        AcceptedBid acceptedBid = new AcceptedBid(
+                this.auctionId,
+                this.title,
+                bidderId,
+                bidAmount,
+                this.currentPrice,
+                this.bidUnit,
+                this.highestBidderId,
+                now,
+                extended
+        );
+        this.currentPrice = bidAmount;
+        this.highestBidderId = bidderId;
+        return acceptedBid;
+    }
+}
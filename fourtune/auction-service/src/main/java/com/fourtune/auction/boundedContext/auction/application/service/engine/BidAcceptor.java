@@ -0,0 +1,32 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import java.math.BigDecimal;
+
+/**
+ * 입찰 엔진 공통 인터페이스 (auction.bid-engine.mode 로 구현체 1개만 활성)
+ * - memory: BidEngine (인스턴스 메모리 + 단일 쓰레드 시퀀서)
+ * - redis: RedisBidEngine (Redis Lua 스크립트 + Stream write-behind)
+ * 비활성(none) 시 빈이 없으며 기존 BidPlaceUseCase (Pessimistic Lock) 경로 사용
+ */
+public interface BidAcceptor {
+
+    /**
+     * 입찰 검증/수락 (DB 반영은 비동기)
+     * 검증 실패 시 기존 경로와 동일한 ErrorCode로 BusinessException 발생
+     */
+    AcceptedBid placeBid(Long auctionId, Long bidderId, BigDecimal bidAmount);
+
+    /**
+     * 캐시된 경매 상태 제거 + 미반영 입찰 DB 반영 대기
+     * 종료/즉시구매/수정 등 경매 상태를 바꾸는 경로에서 Lock 획득 전에 호출
+     * 호출 이후 release 전까지 해당 경매 입찰은 BID_ENGINE_STATE_CHANGING으로 거절 (tombstone)
+     * - 트랜잭션 안에서 호출: 트랜잭션 완료(커밋/롤백) 후 자동 해제
+     * - 트랜잭션 밖에서 호출: 상태 변경 트랜잭션이 끝난 뒤 release 직접 호출
+     */
+    void evict(Long auctionId);
+
+    /**
+     * evict로 건 tombstone 해제
+     */
+    void release(Long auctionId);
+}
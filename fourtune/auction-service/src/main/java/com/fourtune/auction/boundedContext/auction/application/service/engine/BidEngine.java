@@ -0,0 +1,449 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidBatchPersistUseCase;
+import com.fourtune.auction.boundedContext.auction.application.service.BidSupport;
+import com.fourtune.auction.boundedContext.auction.domain.constant.BidPolicy;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메모리 입찰 엔진 (auction.bid-engine.mode=memory 시 활성)
+ * - 경매별 단일 writer 시퀀서: auctionId % lanes 로 레인을 정하고, 레인당 1개 쓰레드가 검증/수락을 순서대로 처리
+ * - 캐시된 현재가/최고 입찰자로 검증하므로 입찰 경로에서 DB Lock/조회가 없음 (최초 1회 로딩 제외)
+ * - 수락된 입찰은 레인별 write-behind 큐에 쌓이고, writer 쓰레드가 수락 순서대로 배치 반영
+ * - 멀티 인스턴스: auctionId % instance-count == instance-index 인 경매만 담당 (게이트웨이에서 auctionId 기준 라우팅 필요)
+ *
+ * 주의: 수락 응답 이후 DB 반영 전에 즉시구매/종료가 커밋되면 해당 입찰은 반영되지 않는다.
+ * 상태를 바꾸는 경로(종료/즉시구매/수정)는 evict()로 캐시를 비우고 반영 완료를 기다린 뒤 진행해야 한다.
+ * evict() 이후 상태 변경 트랜잭션이 끝날 때까지는 tombstone으로 입찰을 거절한다
+ * (커밋 전에 DB에서 아직 ACTIVE인 상태를 다시 읽어 입찰을 수락하지 않도록).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.bid-engine.mode", havingValue = "memory")
+public class BidEngine implements BidAcceptor {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final BidEngineProperties properties;
+    private final AuctionSupport auctionSupport;
+    private final BidSupport bidSupport;
+    private final BidPolicy bidPolicy;
+    private final BidBatchPersistUseCase bidBatchPersistUseCase;
+    private final MeterRegistry meterRegistry;
+
+    private Lane[] lanes;
+
+    // 상태 변경 중인 경매 → 진행 중인 evict 수 (0이 되면 제거)
+    private final Map<Long, Integer> tombstones = new ConcurrentHashMap<>();
+
+    private Timer acceptTimer;
+    private Timer persistTimer;
+    private Counter acceptedCounter;
+    private Counter rejectedCounter;
+    private Counter persistedCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void start() {
+        acceptTimer = Timer.builder("bid.engine.accept.duration")
+                .description("입찰 엔진 수락/거절 응답 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        persistTimer = Timer.builder("bid.engine.persist.duration")
+                .description("입찰 엔진 배치 DB 반영 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        acceptedCounter = Counter.builder("bid.engine.bids")
+                .description("입찰 엔진 처리 건수")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("bid.engine.bids")
+                .description("입찰 엔진 처리 건수")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        persistedCounter = Counter.builder("bid.engine.persist.bids")
+                .description("입찰 엔진 DB 반영 건수")
+                .tag("result", "persisted")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("bid.engine.persist.bids")
+                .description("입찰 엔진 DB 반영 건수")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+
+        lanes = new Lane[properties.getLanes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i);
+            Lane lane = lanes[i];
+            Gauge.builder("bid.engine.write.queue.size", lane.writeQueue, BlockingQueue::size)
+                    .description("DB 반영 대기 입찰 수")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        log.info("[BID-ENGINE] 시작: lanes={}, instance={}/{}",
+                lanes.length, properties.getInstanceIndex(), properties.getInstanceCount());
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Lane lane : lanes) {
+            lane.shutdown();
+        }
+        log.info("[BID-ENGINE] 종료: 대기 중인 입찰 DB 반영 완료");
+    }
+
+    /**
+     * 이 인스턴스가 해당 경매의 입찰을 담당하는지 여부
+     */
+    public boolean owns(Long auctionId) {
+        return Math.floorMod(auctionId, properties.getInstanceCount()) == properties.getInstanceIndex();
+    }
+
+    /**
+     * 입찰 요청
+     * 시퀀서에서 검증/수락 후 즉시 반환하며, DB 반영은 비동기로 진행된다.
+     */
+    @Override
+    public AcceptedBid placeBid(Long auctionId, Long bidderId, BigDecimal bidAmount) {
+        if (!owns(auctionId)) {
+            throw new BusinessException(ErrorCode.BID_ENGINE_NOT_OWNER);
+        }
+        Lane lane = laneOf(auctionId);
+        long startedAt = System.nanoTime();
+
+        BidCommand command = new BidCommand();
+        CompletableFuture<AcceptedBid> future;
+        try {
+            future = CompletableFuture.supplyAsync(
+                    () -> command.start() ? lane.accept(auctionId, bidderId, bidAmount) : null, lane.sequencer);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.BID_ENGINE_BUSY);
+        }
+
+        try {
+            AcceptedBid acceptedBid = awaitResult(future, command, auctionId, bidderId);
+            acceptedCounter.increment();
+            return acceptedBid;
+        } catch (BusinessException e) {
+            rejectedCounter.increment();
+            throw e;
+        } finally {
+            acceptTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 시퀀서 결과 대기
+     * 시간 초과 시 아직 시작 전인 명령은 취소하고 BID_ENGINE_BUSY, 이미 시작된 명령은 결과가 나올 때까지 대기
+     * (실패로 응답한 입찰이 뒤늦게 수락/반영되지 않도록)
+     */
+    private AcceptedBid awaitResult(CompletableFuture<AcceptedBid> future, BidCommand command,
+                                    Long auctionId, Long bidderId) {
+        try {
+            try {
+                return future.get(properties.getAcceptTimeoutMs(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | InterruptedException e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                if (command.cancel()) {
+                    throw new BusinessException(ErrorCode.BID_ENGINE_BUSY);
+                }
+                return future.join();
+            }
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("[BID-ENGINE] 입찰 처리 오류: auctionId={}, bidderId={}", auctionId, bidderId, e.getCause());
+            throw new BusinessException(ErrorCode.BID_LOCK_FAILED);
+        }
+    }
+
+    /**
+     * 경매 상태 캐시 무효화
+     * tombstone을 걸어 이후 입찰을 거절하고, 캐시를 비운 뒤 그 시점까지 수락된 입찰이 DB에 반영될 때까지 대기한다.
+     * 트랜잭션 안에서 호출하면 트랜잭션 완료(커밋/롤백) 후 tombstone을 해제하고, 밖에서 호출하면 release()로 해제해야 한다.
+     */
+    @Override
+    public void evict(Long auctionId) {
+        tombstones.merge(auctionId, 1, Integer::sum);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(auctionId);
+                }
+            });
+        }
+
+        Lane lane = laneOf(auctionId);
+        try {
+            long lastSequence = CompletableFuture
+                    .supplyAsync(() -> lane.evict(auctionId), lane.sequencer)
+                    .get(properties.getEvictTimeoutMs(), TimeUnit.MILLISECONDS);
+            if (!lane.awaitPersisted(lastSequence, properties.getEvictTimeoutMs())) {
+                log.warn("[BID-ENGINE] evict 대기 시간 초과 (DB 반영 미완료): auctionId={}", auctionId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RejectedExecutionException | ExecutionException | TimeoutException e) {
+            log.warn("[BID-ENGINE] evict 실패: auctionId={}, error={}", auctionId, e.toString());
+        }
+    }
+
+    /**
+     * evict()로 건 tombstone 해제 (상태 변경 커밋 이후 호출)
+     * 해제 후 첫 입찰은 DB에서 커밋된 상태를 다시 읽어 검증한다.
+     */
+    @Override
+    public void release(Long auctionId) {
+        tombstones.computeIfPresent(auctionId, (id, holds) -> holds > 1 ? holds - 1 : null);
+    }
+
+    private Lane laneOf(Long auctionId) {
+        return lanes[Math.floorMod(auctionId, lanes.length)];
+    }
+
+    /**
+     * 레인: 단일 쓰레드 시퀀서 + write-behind 큐 + writer 쓰레드
+     */
+    private final class Lane {
+
+        private final int index;
+        private final ExecutorService sequencer;
+        private final BlockingQueue<PendingWrite> writeQueue;
+        private final Thread writer;
+
+        // 시퀀서 쓰레드 전용
+        private final Map<Long, AuctionBidState> states = new HashMap<>();
+        private long lastEnqueuedSequence;
+
+        // writer → evict 대기자
+        private final Object persistedMonitor = new Object();
+        private volatile long persistedSequence;
+        private volatile boolean running = true;
+
+        private Lane(int index) {
+            this.index = index;
+            this.sequencer = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "bid-engine-seq-" + index);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+            this.writeQueue = new ArrayBlockingQueue<>(properties.getWriteQueueCapacity());
+            this.writer = new Thread(this::writeLoop, "bid-engine-writer-" + index);
+            this.writer.setDaemon(true);
+            this.writer.start();
+        }
+
+        /**
+         * [시퀀서 쓰레드] 입찰 검증/수락
+         */
+        private AcceptedBid accept(Long auctionId, Long bidderId, BigDecimal bidAmount) {
+            if (tombstones.containsKey(auctionId)) {
+                throw new BusinessException(ErrorCode.BID_ENGINE_STATE_CHANGING);
+            }
+            if (writeQueue.remainingCapacity() == 0) {
+                throw new BusinessException(ErrorCode.BID_ENGINE_BUSY);
+            }
+            AuctionBidState state = states.get(auctionId);
+            if (state == null) {
+                state = load(auctionId);
+            }
+
+            AcceptedBid acceptedBid = state.accept(
+                    bidderId, bidAmount, LocalDateTime.now(KST), bidPolicy.getMaxAutoExtendCount());
+
+            // ACTIVE 경매만 캐시 (SCHEDULED → ACTIVE 전환을 놓치지 않도록)
+            states.putIfAbsent(auctionId, state);
+            writeQueue.add(new PendingWrite(++lastEnqueuedSequence, acceptedBid));
+            return acceptedBid;
+        }
+
+        /**
+         * [시퀀서 쓰레드] DB에서 경매 상태 로딩 (경매당 최초 1회)
+         */
+        private AuctionBidState load(Long auctionId) {
+            AuctionItem auctionItem = auctionSupport.findByIdOrThrow(auctionId);
+            Long highestBidderId = bidSupport.findHighestBidderId(auctionItem);
+            return AuctionBidState.from(auctionItem, highestBidderId);
+        }
+
+        /**
+         * [시퀀서 쓰레드] 캐시 제거 후 마지막으로 큐에 넣은 시퀀스 반환
+         */
+        private long evict(Long auctionId) {
+            states.remove(auctionId);
+            return lastEnqueuedSequence;
+        }
+
+        /**
+         * [writer 쓰레드] write-behind 큐를 배치 단위로 DB 반영
+         */
+        private void writeLoop() {
+            while (running || !writeQueue.isEmpty()) {
+                try {
+                    PendingWrite first = writeQueue.poll(properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    List<PendingWrite> batch = new ArrayList<>(properties.getFlushBatchSize());
+                    batch.add(first);
+                    writeQueue.drainTo(batch, properties.getFlushBatchSize() - 1);
+
+                    flush(batch);
+                    markPersisted(batch.get(batch.size() - 1).sequence());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    log.error("[BID-ENGINE] writer 오류: lane={}", index, e);
+                }
+            }
+        }
+
+        /**
+         * 배치를 경매별로 묶어 (수락 순서 유지) 반영
+         */
+        private void flush(List<PendingWrite> batch) {
+            Map<Long, List<AcceptedBid>> byAuction = new LinkedHashMap<>();
+            for (PendingWrite pendingWrite : batch) {
+                byAuction.computeIfAbsent(pendingWrite.acceptedBid().auctionId(), id -> new ArrayList<>())
+                        .add(pendingWrite.acceptedBid());
+            }
+            byAuction.forEach(this::persistWithRetry);
+        }
+
+        private void persistWithRetry(Long auctionId, List<AcceptedBid> acceptedBids) {
+            for (int attempt = 1; attempt <= properties.getMaxPersistRetry(); attempt++) {
+                long startedAt = System.nanoTime();
+                try {
+                    int persisted = bidBatchPersistUseCase.persistAcceptedBids(auctionId, acceptedBids);
+                    persistedCounter.increment(persisted);
+                    if (persisted < acceptedBids.size()) {
+                        droppedCounter.increment(acceptedBids.size() - persisted);
+                        evictQuietly(auctionId);
+                    }
+                    return;
+                } catch (Exception e) {
+                    log.warn("[BID-ENGINE] DB 반영 실패 (재시도 {}/{}): auctionId={}, count={}, error={}",
+                            attempt, properties.getMaxPersistRetry(), auctionId, acceptedBids.size(), e.getMessage());
+                } finally {
+                    persistTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }
+            // 재시도 초과: 캐시를 비워 DB 상태와 다시 맞춘다
+            droppedCounter.increment(acceptedBids.size());
+            log.error("[BID-ENGINE] DB 반영 최종 실패, 수락 입찰 폐기: auctionId={}, bids={}", auctionId, acceptedBids);
+            evictQuietly(auctionId);
+        }
+
+        /**
+         * [writer 쓰레드] 시퀀서에 캐시 제거 요청 (다음 입찰부터 DB 기준으로 다시 검증)
+         */
+        private void evictQuietly(Long auctionId) {
+            try {
+                sequencer.execute(() -> states.remove(auctionId));
+            } catch (RejectedExecutionException e) {
+                log.error("[BID-ENGINE] 캐시 무효화 실패: auctionId={}", auctionId);
+            }
+        }
+
+        private void markPersisted(long sequence) {
+            synchronized (persistedMonitor) {
+                persistedSequence = sequence;
+                persistedMonitor.notifyAll();
+            }
+        }
+
+        private boolean awaitPersisted(long sequence, long timeoutMs) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            synchronized (persistedMonitor) {
+                while (persistedSequence < sequence) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    persistedMonitor.wait(remaining);
+                }
+            }
+            return true;
+        }
+
+        private void shutdown() {
+            sequencer.shutdown();
+            try {
+                sequencer.awaitTermination(properties.getEvictTimeoutMs(), TimeUnit.MILLISECONDS);
+                running = false;
+                writer.join(properties.getEvictTimeoutMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record PendingWrite(long sequence, AcceptedBid acceptedBid) {
+    }
+
+    /**
+     * 입찰 명령 상태 (대기 → 시작 | 취소), 시퀀서와 요청 쓰레드 중 먼저 바꾼 쪽이 이김
+     */
+    private static final class BidCommand {
+
+        private static final int WAITING = 0;
+        private static final int STARTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private boolean start() {
+            return state.compareAndSet(WAITING, STARTED);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+    }
+}
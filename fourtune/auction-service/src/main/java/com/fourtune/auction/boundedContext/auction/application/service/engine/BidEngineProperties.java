@@ -0,0 +1,78 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입찰 엔진 설정 프로퍼티
+ * - application.yml의 auction.bid-engine.* 설정을 바인딩
+ */
+@Getter
+@Component
+public class BidEngineProperties {
+
+    // 입찰 수락 방식: none(기본, 기존 Pessimistic Lock 경로) | memory(BidEngine) | redis(RedisBidEngine)
+    @Value("${auction.bid-engine.mode:none}")
+    private String mode;
+
+    // 인스턴스 내 단일 쓰레드 시퀀서(레인) 수. auctionId % lanes 로 레인 결정
+    @Value("${auction.bid-engine.lanes:8}")
+    private int lanes;
+
+    // 전체 인스턴스 수 / 현재 인스턴스 번호. auctionId % instanceCount == instanceIndex 인 경매만 담당
+    @Value("${auction.bid-engine.instance-count:1}")
+    private int instanceCount;
+
+    @Value("${auction.bid-engine.instance-index:0}")
+    private int instanceIndex;
+
+    // 레인별 대기 가능한 입찰 요청 수 (초과 시 BID_ENGINE_BUSY)
+    @Value("${auction.bid-engine.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 레인별 DB 반영 대기 입찰 수 (초과 시 BID_ENGINE_BUSY)
+    @Value("${auction.bid-engine.write-queue-capacity:50000}")
+    private int writeQueueCapacity;
+
+    // 한 번에 DB에 반영할 최대 입찰 수
+    @Value("${auction.bid-engine.flush-batch-size:200}")
+    private int flushBatchSize;
+
+    // DB 반영 대기 최대 시간 (ms)
+    @Value("${auction.bid-engine.flush-interval-ms:20}")
+    private long flushIntervalMs;
+
+    // 입찰 수락/거절 응답 대기 최대 시간 (ms)
+    @Value("${auction.bid-engine.accept-timeout-ms:2000}")
+    private long acceptTimeoutMs;
+
+    // 캐시 무효화 시 DB 반영 완료 대기 최대 시간 (ms)
+    @Value("${auction.bid-engine.evict-timeout-ms:5000}")
+    private long evictTimeoutMs;
+
+    // DB 반영 실패 시 재시도 횟수
+    @Value("${auction.bid-engine.max-persist-retry:3}")
+    private int maxPersistRetry;
+
+    // [redis] write-behind 스트림 컨슈머 이름 접두사 (실행마다 UUID를 붙임, 죽은 컨슈머의 pending은 파티션을 이어받은 인스턴스가 가져감)
+    @Value("${auction.bid-engine.redis.consumer-name:${HOSTNAME:auction-service}}")
+    private String redisConsumerName;
+
+    // [redis] write-behind 스트림 파티션 수. auctionId % partitions 로 나누고 파티션마다 한 인스턴스만 읽어 경매별 순서 유지
+    // 운영 중 변경하면 기존 파티션의 미반영 입찰이 남으므로 스트림이 빈 상태에서만 바꿔야 함
+    @Value("${auction.bid-engine.redis.stream-partitions:16}")
+    private int redisStreamPartitions;
+
+    // [redis] 파티션 소유 lease TTL (ms). 소유 인스턴스가 죽으면 최대 이 시간 후 다른 인스턴스가 이어받음 (배치 DB 반영 시간보다 길게)
+    @Value("${auction.bid-engine.redis.partition-lease-ms:10000}")
+    private long redisPartitionLeaseMs;
+
+    // [redis] 이 시간 이상 ACK 되지 않은 소유 파티션의 pending 메시지를 주기적으로 가져와 재처리 (ms)
+    @Value("${auction.bid-engine.redis.claim-idle-ms:30000}")
+    private long redisClaimIdleMs;
+
+    // [redis] Redis 상태 ↔ DB 정합성 점검 주기 (ms)
+    @Value("${auction.bid-engine.redis.reconcile-interval-ms:60000}")
+    private long redisReconcileIntervalMs;
+}
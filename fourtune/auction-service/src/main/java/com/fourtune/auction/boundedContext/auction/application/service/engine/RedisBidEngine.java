@@ -0,0 +1,207 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidSupport;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionPolicy;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.constant.BidPolicy;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.*;
+
+/**
+ * Redis 입찰 엔진 (auction.bid-engine.mode=redis 시 활성)
+ * - 검증/수락을 경매별 Redis hash에 대한 Lua 스크립트 1회로 원자적으로 처리 (DB Lock/조회 없음)
+ * - 수락된 입찰은 같은 스크립트에서 경매의 파티션 스트림에 XADD → RedisBidWriteBehindWorker가 배치로 DB 반영
+ * - 상태가 Redis에 있으므로 인스턴스 수와 무관하게 동작 (게이트웨이 라우팅 불필요)
+ * - hash가 없으면 DB에서 1회 로딩 (ACTIVE 경매만), failover 후 정합성은 RedisBidStateReconciler가 맞춤
+ * - evict 후 상태 변경 트랜잭션이 끝날 때까지 hash를 EVICTING으로 남겨 입찰을 거절 (커밋 전 DB 재로딩 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.bid-engine.mode", havingValue = "redis")
+public class RedisBidEngine implements BidAcceptor {
+
+    private static final String RESULT_MISS = "MISS";
+    private static final String RESULT_ERR = "ERR";
+    private static final long EVICT_POLL_INTERVAL_MS = 20;
+
+    private final StringRedisTemplate redisTemplate;
+    private final BidEngineProperties properties;
+    private final AuctionSupport auctionSupport;
+    private final BidSupport bidSupport;
+    private final BidPolicy bidPolicy;
+    private final MeterRegistry meterRegistry;
+
+    private Timer acceptTimer;
+    private Counter acceptedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        acceptTimer = Timer.builder("bid.redis.accept.duration")
+                .description("Redis 입찰 엔진 수락/거절 응답 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        acceptedCounter = Counter.builder("bid.redis.bids")
+                .description("Redis 입찰 엔진 처리 건수")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("bid.redis.bids")
+                .description("Redis 입찰 엔진 처리 건수")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AcceptedBid placeBid(Long auctionId, Long bidderId, BigDecimal bidAmount) {
+        long startedAt = System.nanoTime();
+        try {
+            LocalDateTime now = LocalDateTime.now(KST);
+            List<String> result = executeAccept(auctionId, bidderId, bidAmount, now);
+            if (RESULT_MISS.equals(result.get(0))) {
+                loadState(auctionId);
+                result = executeAccept(auctionId, bidderId, bidAmount, now);
+            }
+            if (RESULT_MISS.equals(result.get(0))) {
+                // 로딩 직후 release 등으로 다시 사라진 경우
+                throw new BusinessException(ErrorCode.BID_ENGINE_BUSY);
+            }
+            if (RESULT_ERR.equals(result.get(0))) {
+                throw new BusinessException(ErrorCode.valueOf(result.get(1)));
+            }
+
+            acceptedCounter.increment();
+            return new AcceptedBid(
+                    auctionId,
+                    result.get(5),
+                    bidderId,
+                    bidAmount,
+                    result.get(1).isEmpty() ? null : new BigDecimal(result.get(1)),
+                    Integer.valueOf(result.get(6)),
+                    result.get(2).isEmpty() ? null : Long.valueOf(result.get(2)),
+                    now,
+                    "1".equals(result.get(3))
+            );
+        } catch (BusinessException e) {
+            rejectedCounter.increment();
+            throw e;
+        } catch (DataAccessException e) {
+            rejectedCounter.increment();
+            log.error("[BID-REDIS] Redis 입찰 처리 실패: auctionId={}, bidderId={}", auctionId, bidderId, e);
+            throw new BusinessException(ErrorCode.BID_ENGINE_BUSY);
+        } finally {
+            acceptTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 신규 입찰을 막고(EVICTING) 마지막 수락 입찰이 DB에 반영될 때까지 대기
+     * hash는 release(트랜잭션 안이면 트랜잭션 완료 후 자동)에서 삭제
+     */
+    @Override
+    public void evict(Long auctionId) {
+        String stateKey = stateKey(auctionId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(auctionId);
+                }
+            });
+        }
+        try {
+            String lastStreamId = redisTemplate.execute(MARK_EVICTING, List.of(stateKey),
+                    String.valueOf(EVICTING_TTL.toMillis()));
+            if (lastStreamId != null && !lastStreamId.isEmpty()
+                    && !awaitPersisted(auctionId, lastStreamId, properties.getEvictTimeoutMs())) {
+                log.warn("[BID-REDIS] evict 대기 시간 초과 (DB 반영 미완료): auctionId={}, lastStreamId={}",
+                        auctionId, lastStreamId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            log.warn("[BID-REDIS] evict 실패: auctionId={}, error={}", auctionId, e.toString());
+        }
+    }
+
+    /**
+     * EVICTING 해제, 마지막 해제 시 hash 삭제 (실패해도 EVICTING_TTL 후 만료)
+     */
+    @Override
+    public void release(Long auctionId) {
+        try {
+            redisTemplate.execute(RELEASE_EVICTING, List.of(stateKey(auctionId)));
+        } catch (DataAccessException e) {
+            log.warn("[BID-REDIS] evict 해제 실패: auctionId={}, error={}", auctionId, e.toString());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> executeAccept(Long auctionId, Long bidderId, BigDecimal bidAmount, LocalDateTime now) {
+        return (List<String>) redisTemplate.execute(ACCEPT,
+                List.of(stateKey(auctionId), streamKey(auctionId, properties.getRedisStreamPartitions())),
+                String.valueOf(bidderId),
+                bidAmount.toPlainString(),
+                String.valueOf(toEpochMillis(now)),
+                String.valueOf(AuctionPolicy.AUTO_EXTEND_THRESHOLD_MINUTES),
+                String.valueOf(TimeUnit.MINUTES.toMillis(AuctionPolicy.AUTO_EXTEND_MINUTES)),
+                String.valueOf(bidPolicy.getMaxAutoExtendCount()),
+                now.toString(),
+                String.valueOf(auctionId),
+                String.valueOf(STATE_TTL_AFTER_END.toMillis()));
+    }
+
+    /**
+     * DB에서 경매 상태 로딩 (ACTIVE 경매만 캐시)
+     */
+    private void loadState(Long auctionId) {
+        AuctionItem auctionItem = auctionSupport.findByIdOrThrow(auctionId);
+        if (auctionItem.getStatus() != AuctionStatus.ACTIVE) {
+            throw new BusinessException(ErrorCode.BID_NOT_ALLOWED);
+        }
+        Long highestBidderId = bidSupport.findHighestBidderId(auctionItem);
+        redisTemplate.execute(INIT, List.of(stateKey(auctionId)), stateArgs(auctionItem, highestBidderId));
+    }
+
+    private boolean awaitPersisted(Long auctionId, String lastStreamId, long timeoutMs) throws InterruptedException {
+        RecordId target = RecordId.of(lastStreamId);
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (System.currentTimeMillis() < deadline) {
+            String persisted = redisTemplate.opsForValue().get(persistedKey(auctionId));
+            if (persisted != null && !isBefore(RecordId.of(persisted), target)) {
+                return true;
+            }
+            Thread.sleep(EVICT_POLL_INTERVAL_MS);
+        }
+        return false;
+    }
+
+    static boolean isBefore(RecordId a, RecordId b) {
+        if (a.getTimestamp() != b.getTimestamp()) {
+            return a.getTimestamp() < b.getTimestamp();
+        }
+        return a.getSequence() < b.getSequence();
+    }
+}
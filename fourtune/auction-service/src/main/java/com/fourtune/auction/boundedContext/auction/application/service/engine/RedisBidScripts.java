@@ -0,0 +1,300 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Redis 입찰 엔진 키/Lua 스크립트 모음
+ *
+ * 경매 상태 hash (auction:bid:state:{auctionId})
+ * - status, endTime(epoch ms), sellerId, buyNowPrice, highestBidderId, currentPrice, startPrice,
+ *   bidUnit, extensionCount, title, lastStreamId
+ * - null 값은 빈 문자열로 저장
+ * - evict 중에는 status=EVICTING, evictHolds=진행 중인 evict 수 (상태 변경 트랜잭션 완료 후 release에서 삭제)
+ *
+ * write-behind 스트림 (auction:bid:stream:{partition}, partition = auctionId % stream-partitions)
+ * - 파티션마다 한 인스턴스만 lease(auction:bid:writer:{partition})를 잡고 읽으므로 경매별 수락 순서대로 반영
+ *
+ * 상태 hash와 write-behind 스트림을 한 스크립트에서 다루므로 단일 Redis(또는 Sentinel) 구성을 전제로 한다.
+ */
+final class RedisBidScripts {
+
+    static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    static final String STATE_KEY_PREFIX = "auction:bid:state:";
+    static final String PERSISTED_KEY_PREFIX = "auction:bid:persisted:";
+    static final String STREAM_KEY_PREFIX = "auction:bid:stream:";
+    static final String WRITER_LEASE_KEY_PREFIX = "auction:bid:writer:";
+    static final String CONSUMER_GROUP = "bid-writer";
+
+    static final String STATUS_EVICTING = "EVICTING";
+
+    // 경매 종료 후 상태 hash 보관 시간 (종료 스케줄러 지연 대비)
+    static final Duration STATE_TTL_AFTER_END = Duration.ofHours(1);
+    // evict 중 호출자가 죽어도 EVICTING 상태가 남지 않도록 (상태 변경 트랜잭션보다 길어야 함)
+    static final Duration EVICTING_TTL = Duration.ofSeconds(30);
+    // DB 반영 완료 마커 보관 시간
+    static final Duration PERSISTED_MARKER_TTL = Duration.ofDays(1);
+
+    /**
+     * 입찰 검증/수락 (BidPlaceUseCase.validateBidPlaceable / Bid.create 와 동일한 규칙)
+     * KEYS[1]=상태 hash, KEYS[2]=write-behind 스트림
+     * ARGV: bidderId, bidAmount, nowMillis, extendThresholdMinutes, extendMillis, maxExtendCount,
+     *       acceptedAt(ISO), auctionId, stateTtlAfterEndMillis
+     * 반환: {'MISS'} | {'ERR', errorCode} | {'OK', previousPrice, previousBidderId, extended, streamId, title, bidUnit}
+     */
+    static final RedisScript<List> ACCEPT = new DefaultRedisScript<>("""
+            local state = KEYS[1]
+            if redis.call('EXISTS', state) == 0 then
+              return {'MISS'}
+            end
+            local f = redis.call('HMGET', state, 'status', 'endTime', 'sellerId', 'buyNowPrice', 'highestBidderId',
+              'currentPrice', 'startPrice', 'bidUnit', 'extensionCount', 'title')
+            local bidderId = ARGV[1]
+            local amount = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local endTime = tonumber(f[2])
+            if f[1] == 'EVICTING' then return {'ERR', 'BID_ENGINE_STATE_CHANGING'} end
+            if f[1] ~= 'ACTIVE' then return {'ERR', 'BID_NOT_ALLOWED'} end
+            if now > endTime then return {'ERR', 'AUCTION_ALREADY_ENDED'} end
+            if f[3] == bidderId then return {'ERR', 'BID_SELF_AUCTION'} end
+            if f[4] and f[4] ~= '' and amount >= tonumber(f[4]) then return {'ERR', 'BID_PRICE_HIGHER_THAN_BUY_NOW'} end
+            if f[5] == bidderId then return {'ERR', 'BID_ALREADY_HIGHEST'} end
+            local current = (f[6] and f[6] ~= '') and tonumber(f[6]) or nil
+            local bidUnit = tonumber(f[8])
+            local base = current or tonumber(f[7])
+            if amount < base + bidUnit then return {'ERR', 'BID_AMOUNT_TOO_LOW'} end
+            if current and current ~= 0 then
+              local unit = bidUnit > 0 and bidUnit or 1000
+              if (amount - current) % unit ~= 0 then return {'ERR', 'BID_UNIT_INVALID'} end
+            end
+            local extended = '0'
+            local extensionCount = tonumber(f[9])
+            if math.floor((endTime - now) / 60000) <= tonumber(ARGV[4]) then
+              if extensionCount >= tonumber(ARGV[6]) then return {'ERR', 'AUCTION_MAX_EXTENSION_REACHED'} end
+              endTime = endTime + tonumber(ARGV[5])
+              extensionCount = extensionCount + 1
+              extended = '1'
+            end
+            local previousPrice = f[6] or ''
+            local previousBidderId = f[5] or ''
+            local title = f[10] or ''
+            local id = redis.call('XADD', KEYS[2], '*',
+              'auctionId', ARGV[8], 'title', title, 'bidderId', bidderId, 'bidAmount', ARGV[2],
+              'previousPrice', previousPrice, 'bidUnit', f[8], 'previousBidderId', previousBidderId,
+              'acceptedAt', ARGV[7], 'extended', extended)
+            redis.call('HSET', state, 'currentPrice', ARGV[2], 'highestBidderId', bidderId,
+              'endTime', string.format('%.0f', endTime), 'extensionCount', tostring(extensionCount), 'lastStreamId', id)
+            redis.call('PEXPIREAT', state, endTime + tonumber(ARGV[9]))
+            return {'OK', previousPrice, previousBidderId, extended, id, title, f[8]}
+            """, List.class);
+
+    /**
+     * DB 상태로 hash 초기화 (이미 있으면 무시)
+     * KEYS[1]=상태 hash, ARGV: stateArgs(...) + stateTtlAfterEndMillis
+     */
+    static final RedisScript<Long> INIT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', ARGV[1], 'endTime', ARGV[2], 'sellerId', ARGV[3],
+              'buyNowPrice', ARGV[4], 'highestBidderId', ARGV[5], 'currentPrice', ARGV[6], 'startPrice', ARGV[7],
+              'bidUnit', ARGV[8], 'extensionCount', ARGV[9], 'title', ARGV[10], 'lastStreamId', '')
+            redis.call('PEXPIREAT', KEYS[1], tonumber(ARGV[2]) + tonumber(ARGV[11]))
+            return 1
+            """, Long.class);
+
+    /**
+     * DB가 Redis보다 앞선 경우(failover로 Redis 쓰기 유실) DB 상태로 덮어쓰기
+     * 현재가와 종료 시간이 모두 Redis 쪽이 같거나 크면 write-behind 대기 중인 것이므로 유지
+     * KEYS[1]=상태 hash, ARGV: INIT과 동일
+     */
+    static final RedisScript<Long> REBUILD_IF_BEHIND = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            local f = redis.call('HMGET', KEYS[1], 'status', 'currentPrice', 'endTime')
+            if f[1] == 'EVICTING' then
+              return 0
+            end
+            local current = (f[2] and f[2] ~= '') and tonumber(f[2]) or 0
+            local dbPrice = ARGV[6] ~= '' and tonumber(ARGV[6]) or 0
+            if current >= dbPrice and tonumber(f[3]) >= tonumber(ARGV[2]) then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', ARGV[1], 'endTime', ARGV[2], 'sellerId', ARGV[3],
+              'buyNowPrice', ARGV[4], 'highestBidderId', ARGV[5], 'currentPrice', ARGV[6], 'startPrice', ARGV[7],
+              'bidUnit', ARGV[8], 'extensionCount', ARGV[9], 'title', ARGV[10])
+            redis.call('PEXPIREAT', KEYS[1], tonumber(ARGV[2]) + tonumber(ARGV[11]))
+            return 1
+            """, Long.class);
+
+    /**
+     * 신규 입찰 차단(EVICTING) 후 마지막으로 수락된 입찰의 스트림 ID 반환 (없으면 nil)
+     * hash가 없어도 EVICTING hash를 만들어 둬야 커밋 전 입찰이 DB(아직 ACTIVE)에서 상태를 다시 로딩하지 않음
+     * KEYS[1]=상태 hash, ARGV[1]=evictingTtlMillis
+     */
+    static final RedisScript<String> MARK_EVICTING = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'status', 'EVICTING')
+            redis.call('HINCRBY', KEYS[1], 'evictHolds', 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return redis.call('HGET', KEYS[1], 'lastStreamId')
+            """, String.class);
+
+    /**
+     * evict 해제, 진행 중인 evict가 없으면 hash 삭제 (다음 입찰은 커밋된 DB 상태로 로딩)
+     * KEYS[1]=상태 hash
+     */
+    static final RedisScript<Long> RELEASE_EVICTING = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            if redis.call('HINCRBY', KEYS[1], 'evictHolds', -1) <= 0 then
+              redis.call('DEL', KEYS[1])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 파티션 lease 획득 또는 연장
+     * KEYS[1]=lease 키, ARGV[1]=컨슈머 이름, ARGV[2]=ttlMillis
+     * 반환: 1(소유) | 0(다른 인스턴스 소유)
+     */
+    static final RedisScript<Long> ACQUIRE_OR_RENEW_LEASE = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            if not owner then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 파티션 lease 해제 (본인 소유일 때만)
+     * KEYS[1]=lease 키, ARGV[1]=컨슈머 이름
+     */
+    static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * min-idle 이상 ACK 되지 않은 pending 메시지를 모두 이 컨슈머로 가져옴 (XAUTOCLAIM)
+     * lease를 새로 잡았을 때는 min-idle 0으로 이전 소유자의 pending 전체를 가져오고, pending이 없는 다른 컨슈머는 그룹에서 삭제
+     * KEYS[1]=스트림, ARGV[1]=그룹, ARGV[2]=컨슈머 이름, ARGV[3]=minIdleMillis, ARGV[4]=다른 컨슈머 정리 여부('1'|'0')
+     * 반환: 가져온 메시지 수
+     */
+    static final RedisScript<Long> CLAIM_PENDING = new DefaultRedisScript<>("""
+            local cursor = '0-0'
+            local claimed = 0
+            repeat
+              local result = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], cursor, 'COUNT', 1000, 'JUSTID')
+              cursor = result[1]
+              claimed = claimed + #result[2]
+            until cursor == '0-0'
+            if ARGV[4] == '1' then
+              for _, consumer in ipairs(redis.call('XINFO', 'CONSUMERS', KEYS[1], ARGV[1])) do
+                local name, pending
+                for i = 1, #consumer, 2 do
+                  if consumer[i] == 'name' then name = consumer[i + 1] end
+                  if consumer[i] == 'pending' then pending = consumer[i + 1] end
+                end
+                if name ~= ARGV[2] and pending == 0 then
+                  redis.call('XGROUP', 'DELCONSUMER', KEYS[1], ARGV[1], name)
+                end
+              end
+            end
+            return claimed
+            """, Long.class);
+
+    /**
+     * DB 반영 완료 마커를 앞으로만 이동 (이미 같거나 뒤의 스트림 ID가 기록돼 있으면 TTL만 연장)
+     * KEYS[1]=마커 키, ARGV[1]=스트림 ID, ARGV[2]=ttlMillis
+     * 반환: 1(이동) | 0(유지)
+     */
+    static final RedisScript<Long> ADVANCE_PERSISTED = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+              local currentMs, currentSeq = string.match(current, '(%d+)-(%d+)')
+              local nextMs, nextSeq = string.match(ARGV[1], '(%d+)-(%d+)')
+              currentMs, currentSeq = tonumber(currentMs), tonumber(currentSeq)
+              nextMs, nextSeq = tonumber(nextMs), tonumber(nextSeq)
+              if currentMs > nextMs or (currentMs == nextMs and currentSeq >= nextSeq) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 0
+              end
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private RedisBidScripts() {
+    }
+
+    static String stateKey(Long auctionId) {
+        return STATE_KEY_PREFIX + auctionId;
+    }
+
+    static int partitionOf(Long auctionId, int partitions) {
+        return Math.floorMod(auctionId, Math.max(1, partitions));
+    }
+
+    static String streamKey(int partition) {
+        return STREAM_KEY_PREFIX + partition;
+    }
+
+    static String streamKey(Long auctionId, int partitions) {
+        return streamKey(partitionOf(auctionId, partitions));
+    }
+
+    static String writerLeaseKey(int partition) {
+        return WRITER_LEASE_KEY_PREFIX + partition;
+    }
+
+    static String persistedKey(Long auctionId) {
+        return PERSISTED_KEY_PREFIX + auctionId;
+    }
+
+    static long toEpochMillis(LocalDateTime kstTime) {
+        return kstTime.atZone(KST).toInstant().toEpochMilli();
+    }
+
+    /**
+     * INIT / REBUILD_IF_BEHIND 스크립트 인자 (DB 상태 기준)
+     */
+    static Object[] stateArgs(AuctionItem auctionItem, Long highestBidderId) {
+        BigDecimal buyNowPrice = Boolean.TRUE.equals(auctionItem.getBuyNowEnabled()) ? auctionItem.getBuyNowPrice() : null;
+        long endTimeMillis = toEpochMillis(auctionItem.getAuctionEndTime());
+        return new Object[]{
+                auctionItem.getStatus().name(),
+                String.valueOf(endTimeMillis),
+                String.valueOf(auctionItem.getSellerId()),
+                plain(buyNowPrice),
+                highestBidderId != null ? String.valueOf(highestBidderId) : "",
+                plain(auctionItem.getCurrentPrice()),
+                plain(auctionItem.getStartPrice()),
+                String.valueOf(auctionItem.getBidUnit() != null ? auctionItem.getBidUnit() : 1000),
+                String.valueOf(auctionItem.getExtensionCount() != null ? auctionItem.getExtensionCount() : 0),
+                auctionItem.getTitle() != null ? auctionItem.getTitle() : "",
+                String.valueOf(STATE_TTL_AFTER_END.toMillis())
+        };
+    }
+
+    static String plain(BigDecimal value) {
+        return value != null ? value.toPlainString() : "";
+    }
+}
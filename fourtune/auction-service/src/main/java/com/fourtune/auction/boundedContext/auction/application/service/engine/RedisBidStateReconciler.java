@@ -0,0 +1,122 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidSupport;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.*;
+
+/**
+ * Redis 입찰 상태 ↔ DB 정합성 점검 (auction.bid-engine.mode=redis 시 활성)
+ * - Redis failover로 최근 쓰기가 유실되면 hash의 현재가가 이미 DB에 반영된 값보다 낮아질 수 있음
+ *   → DB(findTopByAuctionIdAndStatusOrderByBidAmountDesc 최고 입찰 + 경매 현재가/종료 시간)로 hash 재구성
+ * - Redis 쪽 현재가가 더 높으면 write-behind 대기 중인 것이므로 유지
+ * - DB에서 ACTIVE가 아닌 경매의 hash는 삭제 (다음 입찰은 DB 로딩 단계에서 거절)
+ * - 기동 직후 1회 + reconcile-interval-ms 주기로 실행, 인스턴스마다 실행해도 결과가 같음 (멱등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.bid-engine.mode", havingValue = "redis")
+public class RedisBidStateReconciler {
+
+    private static final int SCAN_COUNT = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuctionSupport auctionSupport;
+    private final BidSupport bidSupport;
+    private final MeterRegistry meterRegistry;
+
+    private Counter rebuiltCounter;
+    private Counter removedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        rebuiltCounter = Counter.builder("bid.redis.reconcile")
+                .description("Redis 입찰 상태 정합성 보정 건수")
+                .tag("result", "rebuilt")
+                .register(meterRegistry);
+        removedCounter = Counter.builder("bid.redis.reconcile")
+                .description("Redis 입찰 상태 정합성 보정 건수")
+                .tag("result", "removed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.bid-engine.redis.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        int checked = 0;
+        int rebuilt = 0;
+        int removed = 0;
+
+        ScanOptions options = ScanOptions.scanOptions().match(STATE_KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                checked++;
+                try {
+                    Long auctionId = Long.valueOf(key.substring(STATE_KEY_PREFIX.length()));
+                    switch (reconcileOne(auctionId)) {
+                        case REBUILT -> rebuilt++;
+                        case REMOVED -> removed++;
+                        default -> { }
+                    }
+                } catch (Exception e) {
+                    log.warn("[BID-REDIS] 정합성 점검 실패: key={}, error={}", key, e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            log.error("[BID-REDIS] 정합성 점검 중단", e);
+            return;
+        }
+
+        rebuiltCounter.increment(rebuilt);
+        removedCounter.increment(removed);
+        if (rebuilt > 0 || removed > 0) {
+            log.warn("[BID-REDIS] 정합성 점검 완료: checked={}, rebuilt={}, removed={}", checked, rebuilt, removed);
+        } else {
+            log.debug("[BID-REDIS] 정합성 점검 완료: checked={}", checked);
+        }
+    }
+
+    private Result reconcileOne(Long auctionId) {
+        String stateKey = stateKey(auctionId);
+        Optional<AuctionItem> auctionItem = auctionSupport.findById(auctionId);
+
+        if (auctionItem.isEmpty() || auctionItem.get().getStatus() != AuctionStatus.ACTIVE) {
+            // 종료/즉시구매 경로는 evict로 이미 정리함. EVICTING 중이면 그 흐름에 맡긴다
+            if (STATUS_EVICTING.equals(redisTemplate.opsForHash().get(stateKey, "status"))) {
+                return Result.UNCHANGED;
+            }
+            redisTemplate.delete(stateKey);
+            return Result.REMOVED;
+        }
+
+        Long highestBidderId = bidSupport.findHighestBidderId(auctionItem.get());
+        Long updated = redisTemplate.execute(REBUILD_IF_BEHIND, List.of(stateKey),
+                stateArgs(auctionItem.get(), highestBidderId));
+        if (updated != null && updated == 1L) {
+            log.warn("[BID-REDIS] Redis 상태가 DB보다 뒤처져 재구성: auctionId={}", auctionId);
+            return Result.REBUILT;
+        }
+        return Result.UNCHANGED;
+    }
+
+    private enum Result {
+        UNCHANGED, REBUILT, REMOVED
+    }
+}
@@ -0,0 +1,371 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.application.service.BidBatchPersistUseCase;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.*;
+
+/**
+ * Redis 입찰 엔진 write-behind 워커
+ * - 파티션 스트림(auction:bid:stream:{partition})마다 lease를 잡은 인스턴스 1개만 컨슈머 그룹(bid-writer)으로 읽음
+ *   → 같은 경매의 입찰은 항상 한 컨슈머가 스트림 순서대로 반영 (인스턴스 간 순서 뒤섞임 없음)
+ * - lease를 새로 잡으면 이전 소유자(죽은 파드 등)의 pending을 모두 가져와 먼저 처리, 이후에도 claim-idle-ms 주기로 오래된 pending 회수
+ * - 경매별로 묶어 수락 순서대로 BidBatchPersistUseCase 호출, 반영(또는 폐기) 후 XACK + XDEL
+ * - 경매별 반영 완료 스트림 ID 마커는 앞으로만 이동 (evict 대기용)
+ * - DB 장애 등으로 실패한 파티션은 ACK 하지 않고 남겨 두었다가 pending부터 재처리 (그동안 새 메시지는 읽지 않음)
+ * - 데이터 오류(BusinessException)는 재시도해도 실패하므로 폐기하고 dropped 메트릭으로 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.bid-engine.mode", havingValue = "redis")
+public class RedisBidWriteBehindWorker {
+
+    private static final long RETRY_BACKOFF_MS = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final BidEngineProperties properties;
+    private final BidBatchPersistUseCase bidBatchPersistUseCase;
+    private final MeterRegistry meterRegistry;
+
+    private Timer persistTimer;
+    private Counter persistedCounter;
+    private Counter droppedCounter;
+    private Counter claimedCounter;
+
+    private String consumerName;
+    private int partitions;
+    // 워커 쓰레드 전용
+    private boolean[] owned;
+    private boolean[] recovering;
+    private long[] retryAt;
+
+    private Thread worker;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    public void start() {
+        persistTimer = Timer.builder("bid.redis.persist.duration")
+                .description("Redis 입찰 엔진 배치 DB 반영 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        persistedCounter = Counter.builder("bid.redis.persist.bids")
+                .description("Redis 입찰 엔진 DB 반영 건수")
+                .tag("result", "persisted")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("bid.redis.persist.bids")
+                .description("Redis 입찰 엔진 DB 반영 건수")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        claimedCounter = Counter.builder("bid.redis.persist.claimed")
+                .description("다른 컨슈머에서 가져온 pending 메시지 수")
+                .register(meterRegistry);
+
+        consumerName = properties.getRedisConsumerName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        partitions = Math.max(1, properties.getRedisStreamPartitions());
+        owned = new boolean[partitions];
+        recovering = new boolean[partitions];
+        retryAt = new long[partitions];
+        for (int partition = 0; partition < partitions; partition++) {
+            createConsumerGroup(streamKey(partition));
+        }
+        worker = new Thread(this::consumeLoop, "bid-redis-writer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("[BID-REDIS] write-behind 워커 시작: consumer={}, partitions={}", consumerName, partitions);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(properties.getEvictTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 다른 인스턴스가 lease TTL을 기다리지 않고 바로 이어받도록
+        for (int partition = 0; partition < partitions; partition++) {
+            if (owned[partition]) {
+                try {
+                    redisTemplate.execute(RELEASE_LEASE, List.of(writerLeaseKey(partition)), consumerName);
+                } catch (DataAccessException e) {
+                    log.warn("[BID-REDIS] 파티션 lease 해제 실패: partition={}, error={}", partition, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void consumeLoop() {
+        Consumer consumer = Consumer.from(CONSUMER_GROUP, consumerName);
+        long leaseIntervalMs = Math.max(properties.getRedisPartitionLeaseMs() / 3, properties.getFlushIntervalMs());
+        long nextLeaseAt = 0;
+        long nextClaimAt = System.currentTimeMillis() + properties.getRedisClaimIdleMs();
+
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                if (now >= nextLeaseAt) {
+                    refreshLeases();
+                    nextLeaseAt = now + leaseIntervalMs;
+                }
+                if (now >= nextClaimAt) {
+                    claimIdlePending();
+                    nextClaimAt = now + properties.getRedisClaimIdleMs();
+                }
+
+                // pending이 남은 파티션은 pending부터 (같은 경매의 새 메시지를 먼저 반영하지 않도록)
+                List<StreamOffset<String>> live = new ArrayList<>();
+                for (int partition = 0; partition < partitions; partition++) {
+                    if (!owned[partition]) {
+                        continue;
+                    }
+                    if (recovering[partition]) {
+                        if (now >= retryAt[partition]) {
+                            recoverPending(consumer, partition);
+                        }
+                    } else {
+                        live.add(StreamOffset.create(streamKey(partition), ReadOffset.lastConsumed()));
+                    }
+                }
+
+                if (live.isEmpty()) {
+                    Thread.sleep(properties.getFlushIntervalMs());
+                    continue;
+                }
+                @SuppressWarnings("unchecked")
+                List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(consumer,
+                        StreamReadOptions.empty()
+                                .count(properties.getFlushBatchSize())
+                                .block(Duration.ofMillis(properties.getFlushIntervalMs())),
+                        live.toArray(new StreamOffset[0]));
+                if (records != null && !records.isEmpty()) {
+                    flushByPartition(records);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[BID-REDIS] write-behind 오류", e);
+                // Redis 장애 시 소유 여부를 알 수 없으므로 lease부터 다시 확인하고 pending부터 재처리
+                Arrays.fill(owned, false);
+                nextLeaseAt = 0;
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 파티션 lease 획득/연장, 새로 잡은 파티션은 이전 소유자의 pending을 모두 가져와 pending부터 처리
+     */
+    private void refreshLeases() {
+        for (int partition = 0; partition < partitions; partition++) {
+            boolean wasOwner = owned[partition];
+            owned[partition] = acquireOrRenewLease(partition);
+            if (owned[partition] && !wasOwner) {
+                long claimed = claimPending(partition, 0, true);
+                recovering[partition] = true;
+                retryAt[partition] = 0;
+                log.info("[BID-REDIS] write-behind 파티션 소유: partition={}, claimedPending={}", partition, claimed);
+            } else if (!owned[partition] && wasOwner) {
+                log.warn("[BID-REDIS] write-behind 파티션 소유 상실: partition={}", partition);
+            }
+        }
+    }
+
+    /**
+     * 소유 파티션에서 claim-idle-ms 이상 ACK 되지 않은 pending 회수
+     */
+    private void claimIdlePending() {
+        for (int partition = 0; partition < partitions; partition++) {
+            if (owned[partition] && claimPending(partition, properties.getRedisClaimIdleMs(), false) > 0) {
+                recovering[partition] = true;
+            }
+        }
+    }
+
+    private long claimPending(int partition, long minIdleMs, boolean removeIdleConsumers) {
+        Long claimed = redisTemplate.execute(CLAIM_PENDING, List.of(streamKey(partition)),
+                CONSUMER_GROUP, consumerName, String.valueOf(minIdleMs), removeIdleConsumers ? "1" : "0");
+        long count = claimed != null ? claimed : 0;
+        if (count > 0) {
+            claimedCounter.increment(count);
+        }
+        return count;
+    }
+
+    private boolean acquireOrRenewLease(int partition) {
+        Long result = redisTemplate.execute(ACQUIRE_OR_RENEW_LEASE, List.of(writerLeaseKey(partition)),
+                consumerName, String.valueOf(properties.getRedisPartitionLeaseMs()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 이 컨슈머의 pending을 스트림 순서대로 다시 읽어 반영, 모두 비면 새 메시지 읽기로 복귀
+     */
+    private void recoverPending(Consumer consumer, int partition) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(consumer,
+                StreamReadOptions.empty().count(properties.getFlushBatchSize()),
+                StreamOffset.create(streamKey(partition), ReadOffset.from("0")));
+        if (records == null || records.isEmpty()) {
+            recovering[partition] = false;
+            return;
+        }
+        flushPartition(partition, records);
+    }
+
+    private void flushByPartition(List<MapRecord<String, Object, Object>> records) {
+        Map<String, List<MapRecord<String, Object, Object>>> byStream = new LinkedHashMap<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            byStream.computeIfAbsent(record.getStream(), key -> new ArrayList<>()).add(record);
+        }
+        byStream.forEach((stream, streamRecords) ->
+                flushPartition(Integer.parseInt(stream.substring(STREAM_KEY_PREFIX.length())), streamRecords));
+    }
+
+    /**
+     * 반영 직전 lease를 연장해 소유 중일 때만 반영, 실패하면 backoff 후 pending부터 재처리
+     */
+    private void flushPartition(int partition, List<MapRecord<String, Object, Object>> records) {
+        if (!acquireOrRenewLease(partition)) {
+            owned[partition] = false;
+            log.warn("[BID-REDIS] write-behind 파티션 소유 상실, 반영 중단: partition={}", partition);
+            return;
+        }
+        if (!flush(records)) {
+            recovering[partition] = true;
+            retryAt[partition] = System.currentTimeMillis() + RETRY_BACKOFF_MS;
+        }
+    }
+
+    /**
+     * 경매별로 묶어 (스트림 순서 유지) 반영
+     *
+     * @return 모든 메시지를 처리(반영 또는 폐기)했으면 true
+     */
+    private boolean flush(List<MapRecord<String, Object, Object>> records) {
+        Map<Long, List<MapRecord<String, Object, Object>>> byAuction = new LinkedHashMap<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            Long auctionId = Long.valueOf(field(record, "auctionId"));
+            byAuction.computeIfAbsent(auctionId, id -> new ArrayList<>()).add(record);
+        }
+
+        boolean allDone = true;
+        for (Map.Entry<Long, List<MapRecord<String, Object, Object>>> entry : byAuction.entrySet()) {
+            allDone &= persist(entry.getKey(), entry.getValue());
+        }
+        return allDone;
+    }
+
+    private boolean persist(Long auctionId, List<MapRecord<String, Object, Object>> records) {
+        List<AcceptedBid> acceptedBids = records.stream().map(this::toAcceptedBid).toList();
+        long startedAt = System.nanoTime();
+        try {
+            int persisted = bidBatchPersistUseCase.persistAcceptedBids(auctionId, acceptedBids);
+            persistedCounter.increment(persisted);
+            if (persisted < acceptedBids.size()) {
+                droppedCounter.increment(acceptedBids.size() - persisted);
+            }
+        } catch (BusinessException e) {
+            droppedCounter.increment(acceptedBids.size());
+            log.error("[BID-REDIS] DB 반영 불가, 수락 입찰 폐기: auctionId={}, bids={}", auctionId, acceptedBids, e);
+        } catch (Exception e) {
+            log.warn("[BID-REDIS] DB 반영 실패, 재시도 예정: auctionId={}, count={}, error={}",
+                    auctionId, acceptedBids.size(), e.getMessage());
+            return false;
+        } finally {
+            persistTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        acknowledge(auctionId, records);
+        return true;
+    }
+
+    private void acknowledge(Long auctionId, List<MapRecord<String, Object, Object>> records) {
+        String stream = records.get(0).getStream();
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(stream, CONSUMER_GROUP, ids);
+        redisTemplate.opsForStream().delete(stream, ids);
+        redisTemplate.execute(ADVANCE_PERSISTED, List.of(persistedKey(auctionId)),
+                ids[ids.length - 1].getValue(), String.valueOf(PERSISTED_MARKER_TTL.toMillis()));
+    }
+
+    private AcceptedBid toAcceptedBid(MapRecord<String, Object, Object> record) {
+        String previousPrice = field(record, "previousPrice");
+        String previousBidderId = field(record, "previousBidderId");
+        return new AcceptedBid(
+                Long.valueOf(field(record, "auctionId")),
+                field(record, "title"),
+                Long.valueOf(field(record, "bidderId")),
+                new BigDecimal(field(record, "bidAmount")),
+                previousPrice.isEmpty() ? null : new BigDecimal(previousPrice),
+                Integer.valueOf(field(record, "bidUnit")),
+                previousBidderId.isEmpty() ? null : Long.valueOf(previousBidderId),
+                LocalDateTime.parse(field(record, "acceptedAt")),
+                "1".equals(field(record, "extended"))
+        );
+    }
+
+    private String field(MapRecord<String, Object, Object> record, String name) {
+        Object value = record.getValue().get(name);
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * 컨슈머 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+     */
+    private void createConsumerGroup(String streamKey) {
+        try {
+            redisTemplate.execute((RedisCallback<String>) (RedisConnection connection) ->
+                    connection.streamCommands().xGroupCreate(
+                            streamKey.getBytes(StandardCharsets.UTF_8), CONSUMER_GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fourtune.auction.boundedContext.auction.application.service.lifecycle;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매 생명주기 스케줄러 설정 프로퍼티
+ * - application.yml의 auction.lifecycle.* 설정을 바인딩
+ */
+@Getter
+@Component
+public class AuctionLifecycleProperties {
+
+    // 시작/종료 처리 방식: cron(기본, 매 분 테이블 스캔) | timer(Redis 타이머 큐로 정각 발화)
+    @Value("${auction.lifecycle.mode:cron}")
+    private String mode;
+
+    // 시작/종료 스캔 주기. 비워 두면 cron 모드는 매 분, timer 모드는 10분 (타이머가 정각 처리하므로 누락 보정용 안전망)
+    @Value("${auction.lifecycle.sweep-cron:}")
+    private String sweepCron;
+
+    // 타이머 큐 폴링 주기 (ms). 발화 지연의 상한
+    @Value("${auction.lifecycle.poll-interval-ms:100}")
+    private long pollIntervalMs;
+
+    // 한 번에 꺼내 처리할 최대 타이머 수
+    @Value("${auction.lifecycle.batch-size:200}")
+    private int batchSize;
+
+    // 리더 락 TTL (ms). 리더가 죽으면 최대 이 시간 후 다른 인스턴스가 이어받음
+    @Value("${auction.lifecycle.leader-ttl-ms:10000}")
+    private long leaderTtlMs;
+
+    // 처리 실패(DB 장애 등) 타이머 재시도 지연 (ms)
+    @Value("${auction.lifecycle.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    // 꺼낸 타이머 claim 유지 시간 (ms). 처리 중 리더가 죽으면 이 시간 후 다시 꺼내 재발화 (배치 처리 시간보다 길게)
+    @Value("${auction.lifecycle.claim-ttl-ms:60000}")
+    private long claimTtlMs;
+
+    // 리더 락 소유자 식별자 (인스턴스별 고유값)
+    @Value("${auction.lifecycle.instance-id:${HOSTNAME:auction-service}}")
+    private String instanceId;
+
+    public boolean isTimerMode() {
+        return "timer".equalsIgnoreCase(mode);
+    }
+
+    public String getSweepCron() {
+        if (sweepCron != null && !sweepCron.isBlank()) {
+            return sweepCron;
+        }
+        return isTimerMode() ? "0 */10 * * * *" : "0 * * * * *";
+    }
+}
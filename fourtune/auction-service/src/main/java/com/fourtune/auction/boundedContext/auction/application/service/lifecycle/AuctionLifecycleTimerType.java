@@ -0,0 +1,58 @@
+package com.fourtune.auction.boundedContext.auction.application.service.lifecycle;
+
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 생명주기 타이머 종류
+ * - START: 시작 시각에 SCHEDULED → ACTIVE
+ * - END: 종료 시각에 경매 종료 (낙찰/유찰)
+ * - STARTING_SOON / ENDING_SOON: 시작/종료 5분 전 관심상품 알림
+ */
+public enum AuctionLifecycleTimerType {
+
+    START,
+    END,
+    STARTING_SOON,
+    ENDING_SOON;
+
+    static final long ALERT_LEAD_MINUTES = 5;
+
+    /**
+     * 현재 경매 상태 기준 타이머 발화 시각 (해당 상태에서 필요 없는 타이머면 null)
+     * END/ENDING_SOON은 SCHEDULED 경매도 미리 등록해 두고, 발화 시점에 ACTIVE인지 다시 확인한다.
+     */
+    public LocalDateTime dueAt(AuctionItem auctionItem) {
+        return dueAt(auctionItem.getStatus(), auctionItem.getAuctionStartTime(), auctionItem.getAuctionEndTime());
+    }
+
+    /**
+     * 엔티티 없이 상태/시작/종료 시각만으로 발화 시각 계산 (리더 취임 시 요약 조회 적재용)
+     */
+    public LocalDateTime dueAt(AuctionStatus status, LocalDateTime startTime, LocalDateTime endTime) {
+        return switch (this) {
+            case START -> status == AuctionStatus.SCHEDULED ? startTime : null;
+            case STARTING_SOON -> status == AuctionStatus.SCHEDULED
+                    ? startTime.minusMinutes(ALERT_LEAD_MINUTES) : null;
+            case END -> isOpen(status) ? endTime : null;
+            case ENDING_SOON -> isOpen(status)
+                    ? endTime.minusMinutes(ALERT_LEAD_MINUTES) : null;
+        };
+    }
+
+    /**
+     * 발화 시점에 경매가 이 타이머를 처리할 수 있는 상태인지
+     */
+    public boolean isFireable(AuctionItem auctionItem) {
+        return switch (this) {
+            case START, STARTING_SOON -> auctionItem.getStatus() == AuctionStatus.SCHEDULED;
+            case END, ENDING_SOON -> auctionItem.getStatus() == AuctionStatus.ACTIVE;
+        };
+    }
+
+    private static boolean isOpen(AuctionStatus status) {
+        return status == AuctionStatus.SCHEDULED || status == AuctionStatus.ACTIVE;
+    }
+}
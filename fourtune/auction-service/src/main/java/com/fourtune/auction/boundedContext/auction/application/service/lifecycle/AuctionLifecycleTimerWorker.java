@@ -0,0 +1,364 @@
+package com.fourtune.auction.boundedContext.auction.application.service.lifecycle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionClosePipeline;
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionFacade;
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.lifecycle.AuctionLifecycleTimers.DueTimer;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.auction.boundedContext.auction.port.out.AuctionLifecycleTarget;
+import com.fourtune.auction.infrastructure.kafka.AuctionKafkaProducer;
+import com.fourtune.core.error.exception.BusinessException;
+import com.fourtune.shared.auction.event.AuctionEndingSoonEvent;
+import com.fourtune.shared.auction.event.AuctionStartingSoonEvent;
+import com.fourtune.shared.kafka.auction.AuctionEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 경매 생명주기 타이머 워커
+ * - 리더 락을 가진 인스턴스만 타이머 큐를 poll-interval-ms 주기로 확인해 발화 시각이 된 타이머 처리
+ * - 리더 취임 시 SCHEDULED/ACTIVE 경매를 DB에서 keyset 페이지로 읽어 타이머 큐를 다시 채움 (Redis 유실/배포 중 누락 보정)
+ * - 꺼낸 타이머는 처리(상태 전환 커밋) 후에 claim을 제거하므로, 처리 도중 리더가 죽어도 claim 만료 후 재발화
+ * - 발화 시 DB 상태로 재검증: 시각이 미뤄졌으면(자동 연장 등) 재등록, 상태가 바뀌었으면 건너뜀
+ * - 종료 타이머는 AuctionClosePipeline의 가상 쓰레드 실행기로 병렬 종료 (정각 몰림에도 배치가 순차로 밀리지 않도록)
+ * - 배치 처리 중에도 타이머마다/종료 대기 중 리더 락을 갱신해 긴 배치가 leader-ttl-ms를 넘겨 리더가 둘이 되지 않도록 함
+ *   리더를 잃으면 남은 타이머는 처리하지 않고 claim 만료 후 새 리더가 재발화
+ * - DB 장애 등 일시 오류는 retry-delay-ms 후 재시도, BusinessException은 폐기
+ * - 발화 지연(예정 시각 → 처리 시작)을 auction.lifecycle.fire.lag 로 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.lifecycle.mode", havingValue = "timer")
+public class AuctionLifecycleTimerWorker {
+
+    private final AuctionLifecycleTimers timers;
+    private final AuctionLifecycleProperties properties;
+    private final AuctionFacade auctionFacade;
+    private final AuctionClosePipeline auctionClosePipeline;
+    private final AuctionSupport auctionSupport;
+    private final ObjectProvider<AuctionKafkaProducer> auctionKafkaProducerProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final Map<AuctionLifecycleTimerType, Timer> lagTimers = new EnumMap<>(AuctionLifecycleTimerType.class);
+    private Counter firedCounter;
+    private Counter rescheduledCounter;
+    private Counter skippedCounter;
+    private Counter retriedCounter;
+    private Counter droppedCounter;
+
+    private Thread worker;
+    private volatile boolean running = true;
+    private volatile boolean leader;
+    private long nextRenewAt;
+
+    @PostConstruct
+    public void initMetrics() {
+        for (AuctionLifecycleTimerType type : AuctionLifecycleTimerType.values()) {
+            lagTimers.put(type, Timer.builder("auction.lifecycle.fire.lag")
+                    .description("타이머 발화 예정 시각 대비 처리 시작 지연")
+                    .tag("type", type.name())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+        firedCounter = timerCounter("fired");
+        rescheduledCounter = timerCounter("rescheduled");
+        skippedCounter = timerCounter("skipped");
+        retriedCounter = timerCounter("retried");
+        droppedCounter = timerCounter("dropped");
+        Gauge.builder("auction.lifecycle.leader", () -> leader ? 1 : 0)
+                .description("이 인스턴스가 타이머 리더인지 여부")
+                .register(meterRegistry);
+        Gauge.builder("auction.lifecycle.timers.pending", this::pendingCount)
+                .description("등록된 생명주기 타이머 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 워커 시작 (리더 취임 시 DB 적재가 필요하므로 컨텍스트 준비 이후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = new Thread(this::pollLoop, "auction-lifecycle-timer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("[AUCTION-TIMER] 생명주기 타이머 워커 시작: instanceId={}", properties.getInstanceId());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(properties.getLeaderTtlMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (leader) {
+            try {
+                timers.releaseLeadership();
+            } catch (DataAccessException e) {
+                log.warn("[AUCTION-TIMER] 리더 락 해제 실패: error={}", e.getMessage());
+            }
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                if (!renewLeadershipIfDue()) {
+                    Thread.sleep(properties.getPollIntervalMs());
+                    continue;
+                }
+
+                if (processDue() < properties.getBatchSize()) {
+                    Thread.sleep(properties.getPollIntervalMs());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // Redis 장애 시 리더 여부를 알 수 없으므로 다음 주기에 락부터 다시 확인
+                leader = false;
+                nextRenewAt = 0;
+                log.error("[AUCTION-TIMER] 타이머 처리 루프 오류: error={}", e.getMessage(), e);
+                sleepQuietly(properties.getRetryDelayMs());
+            }
+        }
+    }
+
+    /**
+     * 갱신 주기(leader-ttl-ms / 3)가 됐으면 리더 락 획득/갱신 (배치 처리 중에도 호출)
+     *
+     * @return 리더 여부
+     */
+    private boolean renewLeadershipIfDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextRenewAt) {
+            return leader;
+        }
+        boolean wasLeader = leader;
+        leader = timers.acquireOrRenewLeadership();
+        nextRenewAt = now + renewIntervalMs();
+        if (leader && !wasLeader) {
+            log.info("[AUCTION-TIMER] 타이머 리더 취임: instanceId={}", properties.getInstanceId());
+            loadFromDatabase();
+        } else if (!leader && wasLeader) {
+            log.warn("[AUCTION-TIMER] 타이머 리더 상실: instanceId={}", properties.getInstanceId());
+        }
+        return leader;
+    }
+
+    private long renewIntervalMs() {
+        return Math.max(properties.getLeaderTtlMs() / 3, properties.getPollIntervalMs());
+    }
+
+    /**
+     * SCHEDULED/ACTIVE 경매 전체를 타이머 큐에 등록 (ZADD 덮어쓰기이므로 중복 적재 안전)
+     * 엔티티 대신 id/상태/시각만 keyset 페이지로 읽어 힙과 DB 부하를 페이지 크기로 제한
+     */
+    void loadFromDatabase() {
+        long loaded = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<AuctionLifecycleTarget> targets = auctionSupport.findLifecycleTargets(lastId, LOAD_PAGE_SIZE);
+            if (targets.isEmpty()) {
+                break;
+            }
+            timers.scheduleAll(targets);
+            loaded += targets.size();
+            lastId = targets.get(targets.size() - 1).id();
+            if (targets.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+        }
+        log.info("[AUCTION-TIMER] DB 기준 타이머 적재 완료: auctions={}", loaded);
+    }
+
+    /**
+     * 발화 시각이 된 타이머를 꺼내 처리하고 claim 제거 (꺼낸 타이머 수 반환)
+     * 종료 타이머는 종료 파이프라인에 넘겨 병렬 처리하고, 종료가 끝난 뒤에 claim 제거
+     * 재등록(연장·재시도)된 타이머는 score가 바뀌었으므로 complete가 지우지 않음
+     */
+    int processDue() throws InterruptedException {
+        List<DueTimer> dueTimers = timers.popDue(System.currentTimeMillis(), properties.getBatchSize());
+        List<PendingClose> closes = new ArrayList<>();
+        for (DueTimer dueTimer : dueTimers) {
+            if (!renewLeadershipIfDue()) {
+                // 남은 타이머는 claim 만료 후 새 리더가 재발화
+                break;
+            }
+            CompletableFuture<Void> close = fire(dueTimer);
+            if (close == null) {
+                timers.complete(dueTimer);
+            } else {
+                closes.add(new PendingClose(dueTimer, close));
+            }
+        }
+        for (PendingClose pending : closes) {
+            awaitClose(pending);
+            timers.complete(pending.timer());
+        }
+        return dueTimers.size();
+    }
+
+    /**
+     * @return 종료 타이머면 종료 결과, 그 외에는 처리를 마치고 null
+     */
+    private CompletableFuture<Void> fire(DueTimer dueTimer) throws InterruptedException {
+        AuctionLifecycleTimerType type = dueTimer.type();
+        Long auctionId = dueTimer.auctionId();
+        try {
+            Optional<AuctionItem> found = auctionSupport.findById(auctionId);
+            if (found.isEmpty()) {
+                skippedCounter.increment();
+                return null;
+            }
+            AuctionItem auctionItem = found.get();
+            LocalDateTime dueAt = type.dueAt(auctionItem);
+            if (dueAt == null || !type.isFireable(auctionItem)) {
+                skippedCounter.increment();
+                log.debug("[AUCTION-TIMER] 상태 변경으로 타이머 건너뜀: type={}, auctionId={}, status={}",
+                        type, auctionId, auctionItem.getStatus());
+                return null;
+            }
+            long dueAtMillis = AuctionLifecycleTimers.toEpochMillis(dueAt);
+            if (dueAtMillis > System.currentTimeMillis()) {
+                // 등록 이후 시각이 미뤄진 경우 (자동 연장 커밋 전 꺼낸 타이머 등)
+                timers.add(type, auctionId, dueAtMillis);
+                rescheduledCounter.increment();
+                return null;
+            }
+
+            lagTimers.get(type).record(Math.max(0, System.currentTimeMillis() - dueTimer.dueAtMillis()), TimeUnit.MILLISECONDS);
+            switch (type) {
+                case START -> auctionFacade.startAuctionInTransaction(auctionId);
+                case END -> {
+                    return auctionClosePipeline.submit(auctionId);
+                }
+                case STARTING_SOON -> sendAlert(auctionItem, type);
+                case ENDING_SOON -> sendAlert(auctionItem, type);
+            }
+            firedCounter.increment();
+            log.debug("[AUCTION-TIMER] 타이머 발화: type={}, auctionId={}", type, auctionId);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            onFailure(type, auctionId, e);
+        }
+        return null;
+    }
+
+    /**
+     * 종료 완료 대기 (대기 중에도 갱신 주기마다 리더 락 갱신)
+     */
+    private void awaitClose(PendingClose pending) throws InterruptedException {
+        Long auctionId = pending.timer().auctionId();
+        while (true) {
+            try {
+                pending.close().get(Math.max(1, renewIntervalMs()), TimeUnit.MILLISECONDS);
+                firedCounter.increment();
+                log.debug("[AUCTION-TIMER] 타이머 발화: type={}, auctionId={}", AuctionLifecycleTimerType.END, auctionId);
+                return;
+            } catch (TimeoutException e) {
+                renewLeadershipIfDue();
+            } catch (ExecutionException e) {
+                onFailure(AuctionLifecycleTimerType.END, auctionId, e.getCause());
+                return;
+            }
+        }
+    }
+
+    private void onFailure(AuctionLifecycleTimerType type, Long auctionId, Throwable e) {
+        if (e instanceof BusinessException) {
+            droppedCounter.increment();
+            log.warn("[AUCTION-TIMER] 타이머 처리 불가로 폐기: type={}, auctionId={}, error={}",
+                    type, auctionId, e.getMessage());
+            return;
+        }
+        retriedCounter.increment();
+        log.error("[AUCTION-TIMER] 타이머 처리 실패, 재시도 예약: type={}, auctionId={}, error={}",
+                type, auctionId, e.getMessage(), e);
+        timers.add(type, auctionId, System.currentTimeMillis() + properties.getRetryDelayMs());
+    }
+
+    /**
+     * 관심상품 시작/종료 5분 전 알림 발행 (AuctionScheduler와 동일한 Kafka 메시지)
+     * 다운타임 등으로 늦게 발화되어 이미 시작/종료 시각이 지났으면 보내지 않음
+     */
+    private void sendAlert(AuctionItem auctionItem, AuctionLifecycleTimerType type) throws Exception {
+        LocalDateTime now = LocalDateTime.now(AuctionLifecycleTimers.KST);
+        LocalDateTime target = type == AuctionLifecycleTimerType.STARTING_SOON
+                ? auctionItem.getAuctionStartTime() : auctionItem.getAuctionEndTime();
+        if (!now.isBefore(target)) {
+            return;
+        }
+        AuctionKafkaProducer producer = auctionKafkaProducerProvider.getIfAvailable();
+        if (producer == null) {
+            return;
+        }
+        Object event = type == AuctionLifecycleTimerType.STARTING_SOON
+                ? new AuctionStartingSoonEvent(auctionItem.getId(), auctionItem.getTitle())
+                : new AuctionEndingSoonEvent(auctionItem.getId(), auctionItem.getTitle());
+        AuctionEventType eventType = type == AuctionLifecycleTimerType.STARTING_SOON
+                ? AuctionEventType.AUCTION_STARTING_SOON : AuctionEventType.AUCTION_ENDING_SOON;
+        producer.send(String.valueOf(auctionItem.getId()), objectMapper.writeValueAsString(event), eventType.name());
+    }
+
+    private double pendingCount() {
+        try {
+            Long count = timers.pendingCount();
+            return count != null ? count : 0;
+        } catch (DataAccessException e) {
+            return Double.NaN;
+        }
+    }
+
+    private Counter timerCounter(String result) {
+        return Counter.builder("auction.lifecycle.timers")
+                .description("생명주기 타이머 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record PendingClose(DueTimer timer, CompletableFuture<Void> close) {
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
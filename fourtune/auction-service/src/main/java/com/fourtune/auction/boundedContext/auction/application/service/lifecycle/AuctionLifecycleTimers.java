@@ -0,0 +1,260 @@
+package com.fourtune.auction.boundedContext.auction.application.service.lifecycle;
+
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.auction.boundedContext.auction.port.out.AuctionLifecycleTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 생명주기 타이머 큐 (Redis Sorted Set 지연 큐)
+ * - auction:lifecycle:timers 에 "{type}:{auctionId}" 멤버를 발화 시각(epoch ms)을 score로 저장
+ * - 생성/연장/취소/삭제 시 트랜잭션 커밋 후 타이머 등록·제거 (롤백된 변경은 반영하지 않음)
+ * - 발화는 리더 인스턴스만 수행 (auction:lifecycle:leader 락), 꺼내기와 리더 확인을 한 스크립트로 처리
+ * - 꺼낸 타이머는 삭제하지 않고 score를 claim 만료 시각으로 미뤄 두었다가 처리가 끝나면 제거
+ *   (처리 중 리더가 죽으면 claim-ttl-ms 후 다시 꺼내져 재발화)
+ * - 타이머는 힌트일 뿐이며 발화 시점에 DB 상태로 다시 검증하므로 중복/누락 등록에도 상태가 꼬이지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.lifecycle.mode", havingValue = "timer")
+public class AuctionLifecycleTimers {
+
+    static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    static final String TIMERS_KEY = "auction:lifecycle:timers";
+    static final String LEADER_KEY = "auction:lifecycle:leader";
+
+    /**
+     * 리더 락 획득 또는 연장
+     * KEYS[1]=리더 키, ARGV[1]=instanceId, ARGV[2]=ttlMillis
+     * 반환: 1(리더) | 0(다른 인스턴스가 리더)
+     */
+    private static final RedisScript<Long> ACQUIRE_OR_RENEW = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            if not owner then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 리더 락 해제 (본인 소유일 때만)
+     * KEYS[1]=리더 키, ARGV[1]=instanceId
+     */
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 발화 시각이 된 타이머 꺼내기 (리더만), 꺼낸 타이머는 score를 claim 만료 시각으로 미룸
+     * KEYS[1]=타이머 zset, KEYS[2]=리더 키, ARGV[1]=instanceId, ARGV[2]=nowMillis, ARGV[3]=limit, ARGV[4]=claimUntilMillis
+     * 반환: {member1, score1, member2, score2, ...}
+     */
+    private static final RedisScript<List> POP_DUE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+              return {}
+            end
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[2], 'WITHSCORES', 'LIMIT', 0, tonumber(ARGV[3]))
+            for i = 1, #due, 2 do
+              redis.call('ZADD', KEYS[1], ARGV[4], due[i])
+            end
+            return due
+            """, List.class);
+
+    /**
+     * 처리 완료된 타이머 제거 (claim 이후 재등록되지 않았을 때만)
+     * KEYS[1]=타이머 zset, ARGV[1]=member, ARGV[2]=claimUntilMillis
+     * 반환: 1(제거) | 0(처리 중 재등록/취소되어 유지)
+     */
+    private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if score and tonumber(score) == tonumber(ARGV[2]) then
+              return redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuctionLifecycleProperties properties;
+
+    /**
+     * 경매 현재 상태 기준으로 타이머 재등록 (필요 없어진 타이머는 제거)
+     * 트랜잭션 안에서 호출되면 커밋 후 반영
+     */
+    public void schedule(AuctionItem auctionItem) {
+        Long auctionId = auctionItem.getId();
+        Map<AuctionLifecycleTimerType, Long> dueTimes = new LinkedHashMap<>();
+        for (AuctionLifecycleTimerType type : AuctionLifecycleTimerType.values()) {
+            LocalDateTime dueAt = type.dueAt(auctionItem);
+            dueTimes.put(type, dueAt != null ? toEpochMillis(dueAt) : null);
+        }
+        afterCommit(() -> apply(auctionId, dueTimes));
+    }
+
+    /**
+     * 경매의 모든 타이머 제거 (삭제/취소)
+     * 트랜잭션 안에서 호출되면 커밋 후 반영
+     */
+    public void cancel(Long auctionId) {
+        Map<AuctionLifecycleTimerType, Long> dueTimes = new LinkedHashMap<>();
+        for (AuctionLifecycleTimerType type : AuctionLifecycleTimerType.values()) {
+            dueTimes.put(type, null);
+        }
+        afterCommit(() -> apply(auctionId, dueTimes));
+    }
+
+    /**
+     * 단일 타이머 등록 (발화 시점 재검증 결과 시각이 바뀐 경우, 실패 재시도)
+     */
+    void add(AuctionLifecycleTimerType type, Long auctionId, long dueAtMillis) {
+        redisTemplate.opsForZSet().add(TIMERS_KEY, member(type, auctionId), dueAtMillis);
+    }
+
+    /**
+     * 여러 경매 타이머 일괄 등록 (리더 취임 시 DB 기준 적재, 페이지 단위 호출)
+     */
+    void scheduleAll(List<AuctionLifecycleTarget> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (AuctionLifecycleTarget target : targets) {
+                for (AuctionLifecycleTimerType type : AuctionLifecycleTimerType.values()) {
+                    LocalDateTime dueAt = type.dueAt(target.status(), target.auctionStartTime(), target.auctionEndTime());
+                    if (dueAt != null) {
+                        stringConnection.zAdd(TIMERS_KEY, toEpochMillis(dueAt), member(type, target.id()));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    boolean acquireOrRenewLeadership() {
+        Long result = redisTemplate.execute(ACQUIRE_OR_RENEW, List.of(LEADER_KEY),
+                properties.getInstanceId(), String.valueOf(properties.getLeaderTtlMs()));
+        return result != null && result == 1L;
+    }
+
+    void releaseLeadership() {
+        redisTemplate.execute(RELEASE, List.of(LEADER_KEY), properties.getInstanceId());
+    }
+
+    /**
+     * 발화 시각이 된 타이머를 꺼내 반환 (리더가 아니면 빈 목록)
+     * 꺼낸 타이머는 nowMillis + claim-ttl-ms 까지 다시 꺼내지지 않으며, 처리 후 complete로 제거
+     */
+    @SuppressWarnings("unchecked")
+    List<DueTimer> popDue(long nowMillis, int limit) {
+        long claimedUntilMillis = nowMillis + properties.getClaimTtlMs();
+        List<Object> raw = redisTemplate.execute(POP_DUE, List.of(TIMERS_KEY, LEADER_KEY),
+                properties.getInstanceId(), String.valueOf(nowMillis), String.valueOf(limit),
+                String.valueOf(claimedUntilMillis));
+        if (raw == null || raw.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<DueTimer> timers = new ArrayList<>(raw.size() / 2);
+        for (int i = 0; i + 1 < raw.size(); i += 2) {
+            String member = String.valueOf(raw.get(i));
+            int separator = member.indexOf(':');
+            timers.add(new DueTimer(
+                    AuctionLifecycleTimerType.valueOf(member.substring(0, separator)),
+                    Long.valueOf(member.substring(separator + 1)),
+                    (long) Double.parseDouble(String.valueOf(raw.get(i + 1))),
+                    claimedUntilMillis));
+        }
+        return timers;
+    }
+
+    /**
+     * 처리가 끝난 타이머의 claim 제거
+     * 처리 중 재등록(연장·재시도)되었거나 취소된 타이머는 score가 달라 그대로 둠
+     */
+    void complete(DueTimer dueTimer) {
+        redisTemplate.execute(COMPLETE, List.of(TIMERS_KEY),
+                member(dueTimer.type(), dueTimer.auctionId()), String.valueOf(dueTimer.claimedUntilMillis()));
+    }
+
+    Long pendingCount() {
+        return redisTemplate.opsForZSet().zCard(TIMERS_KEY);
+    }
+
+    /**
+     * KST 시각 → epoch ms (ms 미만은 올림: 발화 시점에 도메인 검증의 now >= 시각 조건을 항상 만족하도록)
+     */
+    static long toEpochMillis(LocalDateTime kstTime) {
+        long millis = kstTime.atZone(KST).toInstant().toEpochMilli();
+        return kstTime.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+
+    private void apply(Long auctionId, Map<AuctionLifecycleTimerType, Long> dueTimes) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                dueTimes.forEach((type, dueAtMillis) -> {
+                    if (dueAtMillis != null) {
+                        stringConnection.zAdd(TIMERS_KEY, dueAtMillis, member(type, auctionId));
+                    } else {
+                        stringConnection.zRem(TIMERS_KEY, member(type, auctionId));
+                    }
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 리더 취임 시 DB 적재 + 안전망 스캔으로 보정되므로 요청은 실패시키지 않음
+            log.warn("[AUCTION-TIMER] 타이머 등록 실패: auctionId={}, error={}", auctionId, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String member(AuctionLifecycleTimerType type, Long auctionId) {
+        return type.name() + ":" + auctionId;
+    }
+
+    /**
+     * 꺼낸 타이머
+     * - dueAtMillis: 꺼낼 당시 score (발화 지연 측정 기준, claim 만료로 다시 꺼낸 경우 이전 claim 만료 시각)
+     * - claimedUntilMillis: 이번 claim 만료 시각 (complete 시 본인 claim인지 확인용)
+     */
+    record DueTimer(AuctionLifecycleTimerType type, Long auctionId, long dueAtMillis, long claimedUntilMillis) {
+    }
+}
@@ -20,7 +20,9 @@ import static jakarta.persistence.CascadeType.ALL;
 import static jakarta.persistence.GenerationType.IDENTITY;
 
 @Entity
-@Table(name = "auction_items")
+@Table(name = "auction_items", indexes = {
+        @Index(name = "idx_auction_items_status_end_time", columnList = "status, auction_end_time")
+})
 @Builder
 @Getter
 @AllArgsConstructor
@@ -85,6 +87,15 @@ public class AuctionItem extends BaseTimeEntity {
     @Builder.Default
     private Integer extensionCount = 0;
 
+    // 최고 입찰 비정규화 (입찰 경로에서 갱신 → 검증/종료/상세 조회 시 bids 테이블 ORDER BY 조회 불필요)
+    private Long highestBidId;
+
+    private Long highestBidderId;
+
+    // 최고 입찰이 바뀔 때마다 1 증가 (클라이언트/캐시가 최신 여부 비교용)
+    @Builder.Default
+    private Long highestBidVersion = 0L;
+
     // 즉시구매 악용 방지 (이중 제한) - ORDER_PAYMENT_POLICY.md 참고
     @Builder.Default
     private Integer buyNowRecoveryCount = 0; // 즉시구매 미결제 복구 횟수 (경매당)
@@ -111,6 +122,24 @@ public class AuctionItem extends BaseTimeEntity {
         this.watchlistCount--;
     }
 
+    // ==================== 최고 입찰 메서드 ====================
+
+    /**
+     * 최고 입찰 갱신 (입찰 등록 시 같은 트랜잭션에서 호출)
+     */
+    public void updateHighestBid(Long bidId, Long bidderId) {
+        this.highestBidId = bidId;
+        this.highestBidderId = bidderId;
+        this.highestBidVersion = (this.highestBidVersion == null ? 0L : this.highestBidVersion) + 1;
+    }
+
+    /**
+     * 비정규화 필드가 채워지기 전(입찰은 있으나 highestBidId가 없음) 데이터인지 여부
+     */
+    public boolean needsHighestBidBackfill() {
+        return this.highestBidId == null && this.bidCount != null && this.bidCount > 0;
+    }
+
     // ==================== 이미지 관리 메서드 ====================
 
     /**
@@ -41,6 +41,8 @@ public class AuctionMapper{
                 auctionItem.getViewCount(),
                 auctionItem.getWatchlistCount(),
                 auctionItem.getBidCount(),
+                auctionItem.getHighestBidderId(),
+                auctionItem.getHighestBidVersion(),
                 imageUrls
         );
     }
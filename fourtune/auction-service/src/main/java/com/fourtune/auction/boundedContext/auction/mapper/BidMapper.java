@@ -1,5 +1,7 @@
 package com.fourtune.auction.boundedContext.auction.mapper;
 
+import com.fourtune.auction.boundedContext.auction.application.service.engine.AcceptedBid;
+import com.fourtune.auction.boundedContext.auction.domain.constant.BidStatus;
 import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
 import com.fourtune.auction.boundedContext.auction.domain.entity.Bid;
 import com.fourtune.shared.auction.dto.BidDetailResponse;
@@ -48,6 +50,25 @@ public class BidMapper {
         );
     }
 
+    /**
+     * 입찰 엔진이 수락한 입찰로 BidDetailResponse 생성
+     * DB 반영 전이므로 id는 null
+     */
+    public static BidDetailResponse from(AcceptedBid acceptedBid) {
+        return new BidDetailResponse(
+                null,
+                acceptedBid.auctionId(),
+                acceptedBid.auctionTitle(),
+                acceptedBid.bidderId(),
+                null,
+                acceptedBid.bidAmount(),
+                BidStatus.ACTIVE.toString(),
+                true,
+                acceptedBid.acceptedAt(),
+                "현재 최고 입찰자입니다."
+        );
+    }
+
     /**
      * 입찰 상태에 따른 메시지 생성
      */
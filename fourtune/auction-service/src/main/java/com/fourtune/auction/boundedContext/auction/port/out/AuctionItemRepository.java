@@ -13,6 +13,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +46,17 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
         AuctionStatus status
     );
     
+    /**
+     * 만료 경매 ID keyset 페이지 조회 (id > lastId, 종료 파이프라인용)
+     */
+    @Query("SELECT a.id FROM AuctionItem a WHERE a.status = :status AND a.auctionEndTime < :now AND a.id > :lastId ORDER BY a.id")
+    List<Long> findExpiredIdsAfter(
+        @Param("status") AuctionStatus status,
+        @Param("now") LocalDateTime now,
+        @Param("lastId") Long lastId,
+        Pageable pageable
+    );
+
     List<AuctionItem> findBySellerId(Long sellerId);
     
     /**
@@ -53,6 +65,18 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
     long countBySellerIdAndStatus(Long sellerId, AuctionStatus status);
     
     List<AuctionItem> findByStatus(AuctionStatus status);
+
+    /**
+     * 생명주기 타이머 적재 대상 keyset 페이지 조회 (id > lastId, 타이머 계산에 필요한 컬럼만)
+     */
+    @Query("SELECT new com.fourtune.auction.boundedContext.auction.port.out.AuctionLifecycleTarget("
+            + "a.id, a.status, a.auctionStartTime, a.auctionEndTime) "
+            + "FROM AuctionItem a WHERE a.status IN :statuses AND a.id > :lastId ORDER BY a.id")
+    List<AuctionLifecycleTarget> findLifecycleTargetsAfter(
+        @Param("statuses") Collection<AuctionStatus> statuses,
+        @Param("lastId") Long lastId,
+        Pageable pageable
+    );
     
     /**
      * 시작 시간이 지났고 SCHEDULED 상태인 경매 조회 (자동 시작용)
@@ -85,6 +109,12 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
     @Query("SELECT a FROM AuctionItem a WHERE a.id = :id")
     Optional<AuctionItem> findByIdWithLock(@Param("id") Long id);
 
+    /**
+     * 전체 경매 keyset 페이지 조회 (id > lastId, 검색 재색인용)
+     */
+    @Query("SELECT a FROM AuctionItem a WHERE a.id > :lastId ORDER BY a.id")
+    List<AuctionItem> findAllAfter(@Param("lastId") Long lastId, Pageable pageable);
+
     /**
      * 조회수 벌크 증가 (Redis 동기화용)
      */
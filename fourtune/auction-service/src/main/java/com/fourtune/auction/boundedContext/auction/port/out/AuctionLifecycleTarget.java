@@ -0,0 +1,16 @@
+package com.fourtune.auction.boundedContext.auction.port.out;
+
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 생명주기 타이머 적재용 경매 요약 (엔티티 대신 타이머 계산에 필요한 컬럼만 조회)
+ */
+public record AuctionLifecycleTarget(
+        Long id,
+        AuctionStatus status,
+        LocalDateTime auctionStartTime,
+        LocalDateTime auctionEndTime
+) {
+}
@@ -2,7 +2,10 @@ package com.fourtune.auction.boundedContext.auction.port.out;
 
 import com.fourtune.auction.boundedContext.auction.domain.entity.ItemImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +16,10 @@ public interface ItemImageRepository extends JpaRepository<ItemImage, Long> {
     Optional<ItemImage> findByAuctionItemIdAndIsThumbnailTrue(Long auctionItemId);
     
     void deleteByAuctionItemId(Long auctionItemId);
+
+    /**
+     * 여러 경매의 썸네일 URL 일괄 조회 ([auctionItemId, imageUrl])
+     */
+    @Query("SELECT i.auctionItem.id, i.imageUrl FROM ItemImage i WHERE i.auctionItem.id IN :auctionItemIds AND i.isThumbnail = true")
+    List<Object[]> findThumbnailUrls(@Param("auctionItemIds") Collection<Long> auctionItemIds);
 }
@@ -20,5 +20,6 @@ public class AuctionSecurityRoute implements SecurityRouteCustomizer {
         auth.requestMatchers("/api/v1/orders/public/**").permitAll(); // 서비스 간 Feign 호출 (payment-service)
         auth.requestMatchers("/internal/**").permitAll(); // 서비스 간 호출 (탈퇴 시 진행 중 경매 확인 등)
         auth.requestMatchers("/actuator/**").permitAll(); // Docker healthcheck 허용
+        auth.requestMatchers("/api/test/**").permitAll(); // 성능 테스트용 (local/dev 프로필에서만 컨트롤러 등록)
     }
 }
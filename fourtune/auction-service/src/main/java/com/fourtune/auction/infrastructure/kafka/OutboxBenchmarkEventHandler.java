@@ -0,0 +1,49 @@
+package com.fourtune.auction.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.outbox.handler.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Outbox 릴레이 벤치마크 전용 핸들러 (OutboxRelayPerformanceController)
+ * 실제 컨슈머가 구독하지 않는 outbox-benchmark 토픽으로 발행
+ */
+@Component
+@RequiredArgsConstructor
+@Profile({"local", "dev"})
+@ConditionalOnProperty(name = "feature.kafka.enabled", havingValue = "true", matchIfMissing = false)
+public class OutboxBenchmarkEventHandler implements OutboxEventHandler {
+
+    public static final String AGGREGATE_TYPE = "OutboxBenchmark";
+    private static final String TOPIC = "outbox-benchmark";
+
+    private final KafkaTemplate<String, String> auctionKafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String getAggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public void handle(String payload) throws Exception {
+        handleAsync(payload).get();
+    }
+
+    @Override
+    public CompletableFuture<?> handleAsync(String payload) {
+        try {
+            JsonNode wrapper = objectMapper.readTree(payload);
+            return auctionKafkaTemplate.send(TOPIC, wrapper.path("aggregateId").asText(), wrapper.path("data").toString());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.fourtune.auction.adapter.in.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.adapter.out.api.CachedUserAccountAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 닉네임 캐시 User 이벤트 컨슈머 단위 테스트.
+ * - 닉네임 변경 이벤트 반영
+ * - 파싱할 수 없는 레코드는 예외 없이 건너뛰고 커밋 (무한 재시도 방지)
+ */
+@ExtendWith(MockitoExtension.class)
+class UserNicknameCacheKafkaListenerTest {
+
+    @Mock
+    private CachedUserAccountAdapter cachedUserAccountAdapter;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private UserNicknameCacheKafkaListener sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new UserNicknameCacheKafkaListener(cachedUserAccountAdapter, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("닉네임 변경 이벤트는 캐시를 갱신하고 커밋한다")
+    void handleUserEvent_Modified_RefreshesCache() {
+        // when
+        sut.handleUserEvent("{\"id\":1,\"nickname\":\"새닉\"}", "USER_MODIFIED", ack);
+
+        // then
+        verify(cachedUserAccountAdapter).refresh(1L, "새닉");
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 레코드는 예외를 던지지 않고 건너뛴 뒤 커밋한다")
+    void handleUserEvent_Malformed_SkipsAndAcknowledges() {
+        // when
+        sut.handleUserEvent("not-json", "USER_MODIFIED", ack);
+        sut.handleUserEvent("{\"id\":1,\"nickname\":\"새닉\"}", "UNKNOWN_TYPE", ack);
+
+        // then
+        verifyNoInteractions(cachedUserAccountAdapter);
+        verify(ack, times(2)).acknowledge();
+    }
+}
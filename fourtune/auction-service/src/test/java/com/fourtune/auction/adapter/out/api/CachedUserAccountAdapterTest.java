@@ -0,0 +1,173 @@
+package com.fourtune.auction.adapter.out.api;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 닉네임 캐시 UserPort 단위 테스트.
+ * - L1 적중 시 Redis/user API 미호출, L1 미스는 Redis MGET 1회 → 남은 ID만 user API 1회
+ * - 같은 ID 동시 조회는 user API 1회로 합쳐짐
+ * - user 이벤트 갱신/삭제 반영, Redis 장애 시 user API로 조회
+ */
+@ExtendWith(MockitoExtension.class)
+class CachedUserAccountAdapterTest {
+
+    @Mock
+    private UserAccountAdapter delegate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachedUserAccountAdapter sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new CachedUserAccountAdapter(delegate, redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(sut, "localTtlSeconds", 300L);
+        ReflectionTestUtils.setField(sut, "localMaxSize", 1_000L);
+        ReflectionTestUtils.setField(sut, "redisTtlSeconds", 3_600L);
+        sut.init();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시 미스는 Redis MGET 1회로 조회하고, Redis에도 없는 ID만 user API로 조회한다")
+    void getNicknames_Miss_LoadsFromRedisThenApi() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream().map(key -> key.equals("user:nickname:1") ? "레디스닉" : null).toList();
+        });
+        given(delegate.getNicknamesByIds(Set.of(2L))).willReturn(Map.of(2L, "api닉"));
+
+        // when
+        Map<Long, String> result = sut.getNicknamesByIds(Set.of(1L, 2L));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "레디스닉", 2L, "api닉"));
+        verify(delegate).getNicknamesByIds(Set.of(2L));
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        assertThat(meterRegistry.counter("user.nickname.cache", "level", "redis", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("user.nickname.cache", "level", "redis", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 모두 있으면 Redis와 user API를 호출하지 않는다")
+    void getNicknames_LocalHit_SkipsRedisAndApi() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        sut.refresh(1L, "닉네임");
+
+        // when
+        Map<Long, String> result = sut.getNicknamesByIds(Set.of(1L));
+
+        // then
+        assertThat(result).containsEntry(1L, "닉네임");
+        verify(valueOperations, never()).multiGet(anyList());
+        verifyNoInteractions(delegate);
+        assertThat(meterRegistry.counter("user.nickname.cache", "level", "local", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 ID를 동시에 조회하면 먼저 로딩을 시작한 요청의 결과를 기다려 user API는 1회만 호출된다")
+    void getNicknames_ConcurrentSameId_Coalesced() throws Exception {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willAnswer(invocation ->
+                Arrays.asList(new String[((List<?>) invocation.getArgument(0)).size()]));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        given(delegate.getNicknamesByIds(Set.of(1L))).willAnswer(invocation -> {
+            loading.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return Map.of(1L, "닉네임");
+        });
+
+        // when
+        CompletableFuture<Map<Long, String>> first = CompletableFuture.supplyAsync(() -> sut.getNicknamesByIds(Set.of(1L)));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Map<Long, String>> second = CompletableFuture.supplyAsync(() -> sut.getNicknamesByIds(Set.of(1L)));
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                meterRegistry.counter("user.nickname.cache.coalesced").count() == 1);
+        proceed.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsEntry(1L, "닉네임");
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsEntry(1L, "닉네임");
+        verify(delegate, times(1)).getNicknamesByIds(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("닉네임 변경 이벤트는 캐시를 덮어쓰고, 삭제 이벤트 후에는 다시 로딩한다")
+    void refreshAndEvict_UpdateCache() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        sut.refresh(1L, "이전닉");
+
+        // when
+        sut.refresh(1L, "새닉");
+
+        // then
+        assertThat(sut.getNicknamesByIds(Set.of(1L))).containsEntry(1L, "새닉");
+        verify(valueOperations).set("user:nickname:1", "새닉", Duration.ofSeconds(3_600));
+
+        // when: 탈퇴 → 로컬/Redis 제거 후 다음 조회는 다시 로딩
+        sut.evict(1L);
+        given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList((String) null));
+        given(delegate.getNicknamesByIds(Set.of(1L))).willReturn(Map.of());
+
+        // then
+        assertThat(sut.getNicknamesByIds(Set.of(1L))).isEmpty();
+        verify(redisTemplate).delete("user:nickname:1");
+        verify(delegate).getNicknamesByIds(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 실패하면 L2를 건너뛰고 user API로 조회한다")
+    void getNicknames_RedisFailure_FallsBackToApi() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willThrow(new QueryTimeoutException("redis down"));
+        given(delegate.getNicknamesByIds(Set.of(1L, 2L))).willReturn(Map.of(1L, "닉1", 2L, "닉2"));
+
+        // when
+        Map<Long, String> result = sut.getNicknamesByIds(Set.of(1L, 2L));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "닉1", 2L, "닉2"));
+    }
+}
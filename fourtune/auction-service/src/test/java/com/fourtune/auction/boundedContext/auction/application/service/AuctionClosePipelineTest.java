@@ -0,0 +1,94 @@
+package com.fourtune.auction.boundedContext.auction.application.service;
+
+import com.fourtune.auction.boundedContext.auction.application.service.engine.BidAcceptor;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * AuctionClosePipeline 단위 테스트.
+ * - 만료 경매 ID를 keyset(lastId) 페이지로 끝까지 읽는지
+ * - 이미 종료된 경매는 skipped, 그 외 실패는 failed로 집계하고 나머지 경매는 계속 종료하는지
+ * - 타이머 워커가 넘긴 경매 종료의 결과를 future로 돌려주는지
+ */
+@ExtendWith(MockitoExtension.class)
+class AuctionClosePipelineTest {
+
+    @Mock AuctionSupport auctionSupport;
+    @Mock AuctionCloseUseCase auctionCloseUseCase;
+    @Mock ObjectProvider<BidAcceptor> bidAcceptorProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionClosePipeline sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new AuctionClosePipeline(auctionSupport, auctionCloseUseCase, bidAcceptorProvider, meterRegistry);
+        ReflectionTestUtils.setField(sut, "concurrency", 4);
+        ReflectionTestUtils.setField(sut, "pageSize", 2);
+        sut.init();
+    }
+
+    @Test
+    @DisplayName("만료 경매를 keyset 페이지로 모두 종료하고 결과별로 집계한다")
+    void closeExpired_pagesByLastIdAndAggregatesResults() {
+        // given
+        when(auctionSupport.findExpiredAuctionIds(any(), eq(0L), eq(2))).thenReturn(List.of(1L, 2L));
+        when(auctionSupport.findExpiredAuctionIds(any(), eq(2L), eq(2))).thenReturn(List.of(3L));
+        doThrow(new BusinessException(ErrorCode.AUCTION_NOT_ACTIVE)).when(auctionCloseUseCase).closeAuction(2L);
+        doThrow(new RuntimeException("db down")).when(auctionCloseUseCase).closeAuction(3L);
+
+        // when
+        AuctionClosePipeline.CloseSummary summary = sut.closeExpired();
+
+        // then
+        verify(auctionCloseUseCase).closeAuction(1L);
+        verify(auctionCloseUseCase).closeAuction(2L);
+        verify(auctionCloseUseCase).closeAuction(3L);
+        assertThat(summary.closed()).isEqualTo(1);
+        assertThat(summary.skipped()).isEqualTo(1);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(meterRegistry.counter("auction.close.processed", "result", "closed").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("auction.close.duration").count()).isEqualTo(3);
+        assertThat(meterRegistry.get("auction.close.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("submit은 경매 종료를 비동기로 실행하고 실패 원인을 future로 돌려준다")
+    void submit_completesWithCloseResult() throws Exception {
+        // given
+        doThrow(new BusinessException(ErrorCode.AUCTION_NOT_ACTIVE)).when(auctionCloseUseCase).closeAuction(2L);
+
+        // when
+        CompletableFuture<Void> closed = sut.submit(1L);
+        CompletableFuture<Void> notActive = sut.submit(2L);
+
+        // then
+        closed.get();
+        assertThatThrownBy(notActive::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BusinessException.class);
+        verify(auctionCloseUseCase).closeAuction(1L);
+        assertThat(meterRegistry.counter("auction.close.processed", "result", "closed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("auction.close.processed", "result", "skipped").count()).isEqualTo(1);
+    }
+}
@@ -56,7 +56,7 @@ class AuctionCloseUseCaseTest {
         Bid winningBid = buildBid(1L, 2L, BigDecimal.valueOf(20_000));
 
         when(auctionSupport.findByIdWithLockOrThrow(1L)).thenReturn(auction);
-        when(bidSupport.findHighestBid(1L)).thenReturn(Optional.of(winningBid));
+        when(bidSupport.findHighestBid(auction)).thenReturn(Optional.of(winningBid));
         when(orderCreateUseCase.createWinningOrder(any(AuctionItem.class), any(), any())).thenReturn("ORDER-001");
         when(userPort.getNicknamesByIds(any())).thenReturn(java.util.Map.of(1L, "판매자"));
         when(eventPublishingConfig.isAuctionEventsKafkaEnabled()).thenReturn(true);
@@ -75,7 +75,7 @@ class AuctionCloseUseCaseTest {
         Bid winningBid = buildBid(1L, 2L, BigDecimal.valueOf(20_000));
 
         when(auctionSupport.findByIdWithLockOrThrow(1L)).thenReturn(auction);
-        when(bidSupport.findHighestBid(1L)).thenReturn(Optional.of(winningBid));
+        when(bidSupport.findHighestBid(auction)).thenReturn(Optional.of(winningBid));
         when(orderCreateUseCase.createWinningOrder(any(AuctionItem.class), any(), any())).thenReturn("ORDER-001");
         when(userPort.getNicknamesByIds(any())).thenThrow(new RuntimeException("Feign read timeout"));
         when(eventPublishingConfig.isAuctionEventsKafkaEnabled()).thenReturn(true);
@@ -97,7 +97,7 @@ class AuctionCloseUseCaseTest {
         AuctionItem auction = buildActiveAuction(1L);
 
         when(auctionSupport.findByIdWithLockOrThrow(1L)).thenReturn(auction);
-        when(bidSupport.findHighestBid(1L)).thenReturn(Optional.empty());
+        when(bidSupport.findHighestBid(auction)).thenReturn(Optional.empty());
         when(userPort.getNicknamesByIds(any())).thenThrow(new RuntimeException("fourtune-api down"));
         when(eventPublishingConfig.isAuctionEventsKafkaEnabled()).thenReturn(true);
 
@@ -118,7 +118,7 @@ class AuctionCloseUseCaseTest {
         );
 
         when(auctionSupport.findByIdWithLockOrThrow(1L)).thenReturn(auction);
-        when(bidSupport.findHighestBid(1L)).thenReturn(Optional.empty());
+        when(bidSupport.findHighestBid(auction)).thenReturn(Optional.empty());
         when(userPort.getNicknamesByIds(any())).thenReturn(java.util.Map.of());
         when(eventPublishingConfig.isAuctionEventsKafkaEnabled()).thenReturn(true);
 
@@ -0,0 +1,128 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionPolicy;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.constant.Category;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 입찰 엔진 경매 상태 단위 테스트.
+ * - 기존 BidPlaceUseCase와 동일한 검증 규칙
+ * - 거절 시 상태 불변, 수락 시 현재가/최고 입찰자 갱신
+ * - 종료 임박 입찰 자동 연장
+ */
+class AuctionBidStateTest {
+
+    private static final Long AUCTION_ID = 10L;
+    private static final Long SELLER_ID = 1L;
+    private static final int MAX_EXTEND = 5;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private AuctionBidState state(AuctionStatus status, LocalDateTime endTime, Long highestBidderId) {
+        AuctionItem item = AuctionItem.builder()
+                .id(AUCTION_ID)
+                .sellerId(SELLER_ID)
+                .title("제목")
+                .category(Category.ETC)
+                .startPrice(BigDecimal.valueOf(10_000))
+                .currentPrice(BigDecimal.valueOf(10_000))
+                .bidUnit(1000)
+                .buyNowEnabled(true)
+                .buyNowPrice(BigDecimal.valueOf(50_000))
+                .auctionStartTime(NOW.minusHours(1))
+                .auctionEndTime(endTime)
+                .status(status)
+                .build();
+        return AuctionBidState.from(item, highestBidderId);
+    }
+
+    private AuctionBidState activeState() {
+        return state(AuctionStatus.ACTIVE, NOW.plusHours(1), null);
+    }
+
+    private void assertRejected(AuctionBidState state, Long bidderId, long amount, ErrorCode errorCode) {
+        assertThatThrownBy(() -> state.accept(bidderId, BigDecimal.valueOf(amount), NOW, MAX_EXTEND))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(errorCode);
+    }
+
+    @Test
+    @DisplayName("accept — 현재가+입찰단위 이상이면 수락되고 현재가/최고 입찰자가 갱신된다")
+    void accept_valid_updatesState() {
+        AuctionBidState state = activeState();
+
+        AcceptedBid accepted = state.accept(2L, BigDecimal.valueOf(11_000), NOW, MAX_EXTEND);
+
+        assertThat(accepted.previousPrice()).isEqualByComparingTo(BigDecimal.valueOf(10_000));
+        assertThat(accepted.previousBidderId()).isNull();
+        assertThat(accepted.extended()).isFalse();
+        assertThat(state.getCurrentPrice()).isEqualByComparingTo(BigDecimal.valueOf(11_000));
+        assertThat(state.getHighestBidderId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("accept — 연속 수락 시 직전 최고 입찰자가 previousBidderId로 전달된다")
+    void accept_sequential_carriesPreviousBidder() {
+        AuctionBidState state = activeState();
+        state.accept(2L, BigDecimal.valueOf(11_000), NOW, MAX_EXTEND);
+
+        AcceptedBid accepted = state.accept(3L, BigDecimal.valueOf(12_000), NOW, MAX_EXTEND);
+
+        assertThat(accepted.previousBidderId()).isEqualTo(2L);
+        assertThat(accepted.previousPrice()).isEqualByComparingTo(BigDecimal.valueOf(11_000));
+    }
+
+    @Test
+    @DisplayName("accept — 검증 규칙 위반 시 기존 경로와 동일한 ErrorCode로 거절된다")
+    void accept_invalid_throwsSameErrorCodes() {
+        assertRejected(state(AuctionStatus.SCHEDULED, NOW.plusHours(1), null), 2L, 11_000, ErrorCode.BID_NOT_ALLOWED);
+        assertRejected(state(AuctionStatus.ACTIVE, NOW.minusSeconds(1), null), 2L, 11_000, ErrorCode.AUCTION_ALREADY_ENDED);
+        assertRejected(activeState(), SELLER_ID, 11_000, ErrorCode.BID_SELF_AUCTION);
+        assertRejected(activeState(), 2L, 50_000, ErrorCode.BID_PRICE_HIGHER_THAN_BUY_NOW);
+        assertRejected(state(AuctionStatus.ACTIVE, NOW.plusHours(1), 2L), 2L, 11_000, ErrorCode.BID_ALREADY_HIGHEST);
+        assertRejected(activeState(), 2L, 10_500, ErrorCode.BID_AMOUNT_TOO_LOW);
+        assertRejected(activeState(), 2L, 11_500, ErrorCode.BID_UNIT_INVALID);
+    }
+
+    @Test
+    @DisplayName("accept — 거절 시 상태가 변경되지 않는다")
+    void accept_rejected_keepsState() {
+        AuctionBidState state = activeState();
+        state.accept(2L, BigDecimal.valueOf(11_000), NOW, MAX_EXTEND);
+
+        assertRejected(state, 3L, 11_000, ErrorCode.BID_AMOUNT_TOO_LOW);
+
+        assertThat(state.getCurrentPrice()).isEqualByComparingTo(BigDecimal.valueOf(11_000));
+        assertThat(state.getHighestBidderId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("accept — 종료 임박 입찰은 자동 연장되고, 최대 횟수 도달 시 거절된다")
+    void accept_nearEnd_extendsUntilMax() {
+        AuctionBidState state = state(AuctionStatus.ACTIVE, NOW.plusMinutes(AuctionPolicy.AUTO_EXTEND_THRESHOLD_MINUTES), null);
+        LocalDateTime originalEnd = state.getAuctionEndTime();
+
+        AcceptedBid accepted = state.accept(2L, BigDecimal.valueOf(11_000), NOW, 1);
+
+        assertThat(accepted.extended()).isTrue();
+        assertThat(state.getAuctionEndTime()).isEqualTo(originalEnd.plusMinutes(AuctionPolicy.AUTO_EXTEND_MINUTES));
+        assertThat(state.getExtensionCount()).isEqualTo(1);
+
+        AuctionBidState exhausted = state(AuctionStatus.ACTIVE, NOW.plusMinutes(1), null);
+        assertThatThrownBy(() -> exhausted.accept(2L, BigDecimal.valueOf(11_000), NOW, 0))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUCTION_MAX_EXTENSION_REACHED);
+    }
+}
@@ -0,0 +1,205 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidBatchPersistUseCase;
+import com.fourtune.auction.boundedContext.auction.application.service.BidSupport;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.constant.BidPolicy;
+import com.fourtune.auction.boundedContext.auction.domain.constant.Category;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 메모리 입찰 엔진 단위 테스트.
+ * - evict 이후 상태 변경 트랜잭션이 끝날 때까지 입찰 거절 (tombstone), 해제 후 DB 상태 재로딩
+ * - 응답 시간 초과로 BID_ENGINE_BUSY를 받은 입찰은 시퀀서에서 처리/반영되지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+class BidEngineTest {
+
+    private static final Long AUCTION_ID = 10L;
+    private static final Long SELLER_ID = 1L;
+
+    @Mock
+    private AuctionSupport auctionSupport;
+
+    @Mock
+    private BidSupport bidSupport;
+
+    @Mock
+    private BidBatchPersistUseCase bidBatchPersistUseCase;
+
+    private final List<AcceptedBid> persisted = Collections.synchronizedList(new ArrayList<>());
+    private BidEngine sut;
+
+    @BeforeEach
+    void setUp() {
+        BidEngineProperties properties = new BidEngineProperties();
+        ReflectionTestUtils.setField(properties, "lanes", 1);
+        ReflectionTestUtils.setField(properties, "instanceCount", 1);
+        ReflectionTestUtils.setField(properties, "instanceIndex", 0);
+        ReflectionTestUtils.setField(properties, "queueCapacity", 100);
+        ReflectionTestUtils.setField(properties, "writeQueueCapacity", 100);
+        ReflectionTestUtils.setField(properties, "flushBatchSize", 10);
+        ReflectionTestUtils.setField(properties, "flushIntervalMs", 5L);
+        ReflectionTestUtils.setField(properties, "acceptTimeoutMs", 200L);
+        ReflectionTestUtils.setField(properties, "evictTimeoutMs", 2_000L);
+        ReflectionTestUtils.setField(properties, "maxPersistRetry", 1);
+
+        sut = new BidEngine(properties, auctionSupport, bidSupport, new BidPolicy(), bidBatchPersistUseCase,
+                new SimpleMeterRegistry());
+        sut.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        sut.stop();
+    }
+
+    @Test
+    @DisplayName("evict 후 release 전까지 입찰을 거절하고, 해제 후 첫 입찰은 DB 상태를 다시 읽는다")
+    void evict_RejectsBidsUntilRelease() {
+        // given
+        given(auctionSupport.findByIdOrThrow(AUCTION_ID)).willReturn(activeAuction());
+        givenPersistRecordsBids();
+        sut.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(11_000));
+
+        // when: 종료/수정 경로가 evict 후 아직 커밋 전
+        sut.evict(AUCTION_ID);
+
+        // then
+        assertRejected(3L, 12_000, ErrorCode.BID_ENGINE_STATE_CHANGING);
+
+        sut.release(AUCTION_ID);
+        sut.placeBid(AUCTION_ID, 3L, BigDecimal.valueOf(12_000));
+        verify(auctionSupport, times(2)).findByIdOrThrow(AUCTION_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 evict하면 트랜잭션 완료 후에야 입찰을 다시 받는다 (커밋 전 ACTIVE 재로딩 방지)")
+    void evict_InTransaction_ReleasesAfterCompletion() {
+        // given
+        given(auctionSupport.findByIdOrThrow(AUCTION_ID)).willReturn(activeAuction());
+        givenPersistRecordsBids();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when: 즉시구매 트랜잭션 안에서 evict, 커밋 전 다른 요청의 입찰
+        sut.evict(AUCTION_ID);
+
+        // then
+        assertRejected(2L, 11_000, ErrorCode.BID_ENGINE_STATE_CHANGING);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        sut.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(11_000));
+        verify(auctionSupport).findByIdOrThrow(AUCTION_ID);
+    }
+
+    @Test
+    @DisplayName("evict가 겹치면 마지막 release까지 tombstone을 유지한다")
+    void evict_Nested_HoldsUntilLastRelease() {
+        // given
+        sut.evict(AUCTION_ID);
+        sut.evict(AUCTION_ID);
+
+        // when
+        sut.release(AUCTION_ID);
+
+        // then
+        assertRejected(2L, 11_000, ErrorCode.BID_ENGINE_STATE_CHANGING);
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과로 BUSY를 받은 입찰은 시퀀서에서 건너뛰어 수락/반영되지 않는다")
+    void placeBid_TimedOut_IsCancelled() throws Exception {
+        // given: 첫 입찰의 상태 로딩이 시퀀서를 붙잡고 있음
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        given(auctionSupport.findByIdOrThrow(AUCTION_ID)).willAnswer(invocation -> {
+            loading.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return activeAuction();
+        });
+        givenPersistRecordsBids();
+        CompletableFuture<AcceptedBid> first =
+                CompletableFuture.supplyAsync(() -> sut.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(11_000)));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 뒤에 줄 선 입찰이 응답 시간 초과
+        assertRejected(3L, 12_000, ErrorCode.BID_ENGINE_BUSY);
+        proceed.countDown();
+
+        // then: 먼저 시작한 입찰만 수락/반영
+        assertThat(first.get(5, TimeUnit.SECONDS).bidderId()).isEqualTo(2L);
+        sut.evict(AUCTION_ID);
+        assertThat(persisted).extracting(AcceptedBid::bidderId).containsExactly(2L);
+    }
+
+    private void givenPersistRecordsBids() {
+        given(bidBatchPersistUseCase.persistAcceptedBids(eq(AUCTION_ID), anyList())).willAnswer(invocation -> {
+            List<AcceptedBid> bids = invocation.getArgument(1);
+            persisted.addAll(bids);
+            return bids.size();
+        });
+    }
+
+    private void assertRejected(Long bidderId, long amount, ErrorCode errorCode) {
+        assertThatThrownBy(() -> sut.placeBid(AUCTION_ID, bidderId, BigDecimal.valueOf(amount)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(errorCode);
+    }
+
+    private AuctionItem activeAuction() {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        return AuctionItem.builder()
+                .id(AUCTION_ID)
+                .sellerId(SELLER_ID)
+                .title("제목")
+                .category(Category.ETC)
+                .startPrice(BigDecimal.valueOf(10_000))
+                .currentPrice(BigDecimal.valueOf(10_000))
+                .bidUnit(1000)
+                .buyNowEnabled(true)
+                .buyNowPrice(BigDecimal.valueOf(50_000))
+                .auctionStartTime(now.minusHours(1))
+                .auctionEndTime(now.plusHours(1))
+                .status(AuctionStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidSupport;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.constant.BidPolicy;
+import com.fourtune.auction.boundedContext.auction.domain.constant.Category;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.streamKey;
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.stateKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Redis 입찰 엔진 통합 테스트 (로컬 Redis 컨테이너)
+ * - Lua 스크립트 수락/거절 규칙과 상태 hash/스트림 반영
+ * - evict 후 release(트랜잭션 완료) 전까지 EVICTING으로 입찰 거절, 해제 후 DB 재로딩
+ */
+@Testcontainers
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Redis 입찰 엔진 Lua 수락/거절")
+class RedisBidEngineIntegrationTest {
+
+    private static final Long AUCTION_ID = 10L;
+    private static final Long SELLER_ID = 1L;
+    private static final int PARTITIONS = 4;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:alpine"))
+            .withExposedPorts(6379);
+
+    @Mock
+    private AuctionSupport auctionSupport;
+
+    @Mock
+    private BidSupport bidSupport;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisBidEngine sut;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        BidEngineProperties properties = new BidEngineProperties();
+        ReflectionTestUtils.setField(properties, "evictTimeoutMs", 500L);
+        ReflectionTestUtils.setField(properties, "redisStreamPartitions", PARTITIONS);
+        sut = new RedisBidEngine(redisTemplate, properties, auctionSupport, bidSupport, new BidPolicy(),
+                new SimpleMeterRegistry());
+        sut.initMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("상태 hash가 없으면 DB에서 로딩한 뒤 Lua로 수락하고 hash/스트림에 기록한다")
+    void placeBid_LoadsStateAndAccepts() {
+        // given
+        given(auctionSupport.findByIdOrThrow(AUCTION_ID)).willReturn(activeAuction());
+
+        // when
+        AcceptedBid accepted = sut.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(11_000));
+
+        // then
+        assertThat(accepted.previousPrice()).isEqualByComparingTo(BigDecimal.valueOf(10_000));
+        assertThat(accepted.previousBidderId()).isNull();
+        assertThat(redisTemplate.opsForHash().get(stateKey(AUCTION_ID), "currentPrice")).isEqualTo("11000");
+        assertThat(redisTemplate.opsForHash().get(stateKey(AUCTION_ID), "highestBidderId")).isEqualTo("2");
+        assertThat(redisTemplate.opsForStream().size(streamKey(AUCTION_ID, PARTITIONS))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("규칙에 어긋난 입찰은 Lua에서 거절되고 상태/스트림이 바뀌지 않는다")
+    void placeBid_RejectedByScript_KeepsState() {
+        // given
+        given(auctionSupport.findByIdOrThrow(AUCTION_ID)).willReturn(activeAuction());
+        sut.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(11_000));
+
+        // when & then
+        assertRejected(3L, 11_500, ErrorCode.BID_AMOUNT_TOO_LOW);
+        assertRejected(2L, 13_000, ErrorCode.BID_ALREADY_HIGHEST);
+        assertRejected(SELLER_ID, 13_000, ErrorCode.BID_SELF_AUCTION);
+        assertRejected(3L, 50_000, ErrorCode.BID_PRICE_HIGHER_THAN_BUY_NOW);
+
+        assertThat(redisTemplate.opsForHash().get(stateKey(AUCTION_ID), "currentPrice")).isEqualTo("11000");
+        assertThat(redisTemplate.opsForStream().size(streamKey(AUCTION_ID, PARTITIONS))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict 후 release 전까지는 캐시가 없던 경매도 입찰을 거절하고, 해제 후 DB 상태를 다시 읽는다")
+    void evict_RejectsBidsUntilRelease() {
+        // given
+        sut.evict(AUCTION_ID);
+
+        // when & then: 커밋 전 입찰은 DB 로딩 없이 거절
+        assertRejected(2L, 11_000, ErrorCode.BID_ENGINE_STATE_CHANGING);
+        verify(auctionSupport, never()).findByIdOrThrow(AUCTION_ID);
+
+        sut.release(AUCTION_ID);
+        assertThat(redisTemplate.hasKey(stateKey(AUCTION_ID))).isFalse();
+
+        given(auctionSupport.findByIdOrThrow(AUCTION_ID)).willReturn(activeAuction());
+        sut.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(11_000));
+        verify(auctionSupport).findByIdOrThrow(AUCTION_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 evict하면 트랜잭션이 끝난 뒤에 EVICTING을 해제한다")
+    void evict_InTransaction_ReleasesAfterCompletion() {
+        // given
+        given(auctionSupport.findByIdOrThrow(AUCTION_ID)).willReturn(activeAuction());
+        sut.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(11_000));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        sut.evict(AUCTION_ID);
+
+        // then
+        assertRejected(3L, 12_000, ErrorCode.BID_ENGINE_STATE_CHANGING);
+        assertThat(redisTemplate.opsForHash().get(stateKey(AUCTION_ID), "status")).isEqualTo("EVICTING");
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(redisTemplate.hasKey(stateKey(AUCTION_ID))).isFalse();
+    }
+
+    @Test
+    @DisplayName("evict가 겹치면 마지막 release에서만 hash를 삭제한다")
+    void evict_Nested_DeletesOnLastRelease() {
+        // given
+        sut.evict(AUCTION_ID);
+        sut.evict(AUCTION_ID);
+
+        // when
+        sut.release(AUCTION_ID);
+
+        // then
+        assertRejected(2L, 11_000, ErrorCode.BID_ENGINE_STATE_CHANGING);
+        sut.release(AUCTION_ID);
+        assertThat(redisTemplate.hasKey(stateKey(AUCTION_ID))).isFalse();
+    }
+
+    private void assertRejected(Long bidderId, long amount, ErrorCode errorCode) {
+        assertThatThrownBy(() -> sut.placeBid(AUCTION_ID, bidderId, BigDecimal.valueOf(amount)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(errorCode);
+    }
+
+    private AuctionItem activeAuction() {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        return AuctionItem.builder()
+                .id(AUCTION_ID)
+                .sellerId(SELLER_ID)
+                .title("제목")
+                .category(Category.ETC)
+                .startPrice(BigDecimal.valueOf(10_000))
+                .currentPrice(BigDecimal.valueOf(10_000))
+                .bidUnit(1000)
+                .buyNowEnabled(true)
+                .buyNowPrice(BigDecimal.valueOf(50_000))
+                .auctionStartTime(now.minusHours(1))
+                .auctionEndTime(now.plusHours(1))
+                .status(AuctionStatus.ACTIVE)
+                .build();
+    }
+}
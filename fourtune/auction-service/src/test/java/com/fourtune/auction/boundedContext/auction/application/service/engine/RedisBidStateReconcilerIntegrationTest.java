@@ -0,0 +1,158 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidSupport;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.constant.Category;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.INIT;
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.MARK_EVICTING;
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.stateArgs;
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.stateKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Redis 입찰 상태 정합성 점검 통합 테스트 (로컬 Redis 컨테이너)
+ * - failover로 Redis가 DB보다 뒤처지면 DB 기준으로 재구성, 앞서 있으면(write-behind 대기) 유지
+ * - DB에서 ACTIVE가 아닌 경매 hash는 삭제, evict 중(EVICTING)인 hash는 건드리지 않음
+ */
+@Testcontainers
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Redis 입찰 상태 정합성 점검")
+class RedisBidStateReconcilerIntegrationTest {
+
+    private static final Long AUCTION_ID = 10L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:alpine"))
+            .withExposedPorts(6379);
+
+    @Mock
+    private AuctionSupport auctionSupport;
+
+    @Mock
+    private BidSupport bidSupport;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisBidStateReconciler sut;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new RedisBidStateReconciler(redisTemplate, auctionSupport, bidSupport, meterRegistry);
+        sut.initMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Redis 현재가가 DB보다 낮으면 (쓰기 유실) DB 상태로 hash를 재구성한다")
+    void reconcile_RebuildsWhenBehindDb() {
+        // given: Redis에는 11,000원까지만 남고 DB에는 15,000원까지 반영됨
+        initState(auction(AuctionStatus.ACTIVE, 11_000), 2L);
+        given(auctionSupport.findById(AUCTION_ID)).willReturn(Optional.of(auction(AuctionStatus.ACTIVE, 15_000)));
+        given(bidSupport.findHighestBidderId(any())).willReturn(3L);
+
+        // when
+        sut.reconcile();
+
+        // then
+        assertThat(redisTemplate.opsForHash().get(stateKey(AUCTION_ID), "currentPrice")).isEqualTo("15000");
+        assertThat(redisTemplate.opsForHash().get(stateKey(AUCTION_ID), "highestBidderId")).isEqualTo("3");
+        assertThat(meterRegistry.counter("bid.redis.reconcile", "result", "rebuilt").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 현재가가 DB보다 높으면 write-behind 대기 중이므로 유지한다")
+    void reconcile_KeepsWhenAheadOfDb() {
+        // given
+        initState(auction(AuctionStatus.ACTIVE, 15_000), 3L);
+        given(auctionSupport.findById(AUCTION_ID)).willReturn(Optional.of(auction(AuctionStatus.ACTIVE, 11_000)));
+        given(bidSupport.findHighestBidderId(any())).willReturn(2L);
+
+        // when
+        sut.reconcile();
+
+        // then
+        assertThat(redisTemplate.opsForHash().get(stateKey(AUCTION_ID), "currentPrice")).isEqualTo("15000");
+        assertThat(meterRegistry.counter("bid.redis.reconcile", "result", "rebuilt").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB에서 종료된 경매의 hash는 삭제하되, evict 중인 hash는 남겨 둔다")
+    void reconcile_RemovesEndedButKeepsEvicting() {
+        // given
+        initState(auction(AuctionStatus.ACTIVE, 11_000), 2L);
+        Long evictingId = 20L;
+        redisTemplate.execute(MARK_EVICTING, List.of(stateKey(evictingId)), "30000");
+        given(auctionSupport.findById(AUCTION_ID)).willReturn(Optional.of(auction(AuctionStatus.ENDED, 11_000)));
+        given(auctionSupport.findById(evictingId)).willReturn(Optional.of(auction(AuctionStatus.ENDED, 11_000)));
+
+        // when
+        sut.reconcile();
+
+        // then
+        assertThat(redisTemplate.hasKey(stateKey(AUCTION_ID))).isFalse();
+        assertThat(redisTemplate.opsForHash().get(stateKey(evictingId), "status")).isEqualTo("EVICTING");
+        assertThat(meterRegistry.counter("bid.redis.reconcile", "result", "removed").count()).isEqualTo(1);
+    }
+
+    private void initState(AuctionItem auctionItem, Long highestBidderId) {
+        redisTemplate.execute(INIT, List.of(stateKey(AUCTION_ID)), stateArgs(auctionItem, highestBidderId));
+    }
+
+    private AuctionItem auction(AuctionStatus status, long currentPrice) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul")).withNano(0);
+        return AuctionItem.builder()
+                .id(AUCTION_ID)
+                .sellerId(1L)
+                .title("제목")
+                .category(Category.ETC)
+                .startPrice(BigDecimal.valueOf(10_000))
+                .currentPrice(BigDecimal.valueOf(currentPrice))
+                .bidUnit(1000)
+                .buyNowEnabled(false)
+                .auctionStartTime(now.minusHours(1))
+                .auctionEndTime(now.withMinute(0).withSecond(0).plusHours(2))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,281 @@
+package com.fourtune.auction.boundedContext.auction.application.service.engine;
+
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.BidBatchPersistUseCase;
+import com.fourtune.auction.boundedContext.auction.application.service.BidSupport;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.constant.BidPolicy;
+import com.fourtune.auction.boundedContext.auction.domain.constant.Category;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.ADVANCE_PERSISTED;
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.CONSUMER_GROUP;
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.persistedKey;
+import static com.fourtune.auction.boundedContext.auction.application.service.engine.RedisBidScripts.streamKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Redis 입찰 엔진 write-behind 워커 통합 테스트 (로컬 Redis 컨테이너)
+ * - 스트림의 수락 입찰을 수락 순서대로 DB에 반영하고 ACK/삭제, 반영 완료 마커 기록
+ * - DB 장애는 ACK 없이 남겼다가 재처리, 데이터 오류는 폐기
+ * - 파티션을 이어받으면 죽은 컨슈머의 pending부터 순서대로 반영, 반영 완료 마커는 뒤로 가지 않음
+ */
+@Testcontainers
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Redis 입찰 엔진 write-behind 반영")
+class RedisBidWriteBehindWorkerIntegrationTest {
+
+    private static final Long AUCTION_ID = 10L;
+    private static final int PARTITIONS = 4;
+    private static final String STREAM_KEY = streamKey(AUCTION_ID, PARTITIONS);
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:alpine"))
+            .withExposedPorts(6379);
+
+    @Mock
+    private AuctionSupport auctionSupport;
+
+    @Mock
+    private BidSupport bidSupport;
+
+    @Mock
+    private BidBatchPersistUseCase bidBatchPersistUseCase;
+
+    private final List<AcceptedBid> persisted = Collections.synchronizedList(new ArrayList<>());
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisBidEngine engine;
+    private RedisBidWriteBehindWorker sut;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        BidEngineProperties properties = new BidEngineProperties();
+        ReflectionTestUtils.setField(properties, "flushBatchSize", 100);
+        ReflectionTestUtils.setField(properties, "flushIntervalMs", 20L);
+        ReflectionTestUtils.setField(properties, "evictTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(properties, "redisConsumerName", "test-writer");
+        ReflectionTestUtils.setField(properties, "redisStreamPartitions", PARTITIONS);
+        ReflectionTestUtils.setField(properties, "redisPartitionLeaseMs", 10_000L);
+        ReflectionTestUtils.setField(properties, "redisClaimIdleMs", 30_000L);
+
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new RedisBidEngine(redisTemplate, properties, auctionSupport, bidSupport, new BidPolicy(), meterRegistry);
+        engine.initMetrics();
+        sut = new RedisBidWriteBehindWorker(redisTemplate, properties, bidBatchPersistUseCase, meterRegistry);
+
+        given(auctionSupport.findByIdOrThrow(AUCTION_ID)).willReturn(activeAuction());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.stop();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("수락된 입찰을 수락 순서대로 반영하고 스트림에서 ACK/삭제, 반영 완료 마커를 남긴다")
+    void drain_PersistsInOrderAndAcknowledges() {
+        // given
+        givenPersistRecordsBids();
+        placeBids();
+
+        // when
+        sut.start();
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(persisted).extracting(AcceptedBid::bidderId).containsExactly(2L, 3L, 2L));
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(redisTemplate.opsForStream().size(STREAM_KEY)).isZero();
+            assertThat(redisTemplate.opsForValue().get(persistedKey(AUCTION_ID))).isNotNull();
+        });
+        assertThat(persisted).extracting(AcceptedBid::previousBidderId).containsExactly(null, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("evict는 마지막 수락 입찰의 DB 반영이 끝날 때까지 기다린다")
+    void evict_WaitsForDrain() {
+        // given
+        givenPersistRecordsBids();
+        placeBids();
+        sut.start();
+
+        // when
+        engine.evict(AUCTION_ID);
+
+        // then
+        assertThat(persisted).hasSize(3);
+        engine.release(AUCTION_ID);
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 ACK 하지 않고 pending으로 남겨 재처리한다")
+    void drain_RetriesPendingOnFailure() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        given(bidBatchPersistUseCase.persistAcceptedBids(eq(AUCTION_ID), anyList())).willAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("DB 장애");
+            }
+            List<AcceptedBid> bids = invocation.getArgument(1);
+            persisted.addAll(bids);
+            return bids.size();
+        });
+        placeBids();
+
+        // when
+        sut.start();
+
+        // then
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(persisted).extracting(AcceptedBid::bidderId).containsExactly(2L, 3L, 2L);
+            assertThat(redisTemplate.opsForStream().size(STREAM_KEY)).isZero();
+        });
+        assertThat(attempts.get()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("데이터 오류(BusinessException)는 재시도하지 않고 폐기 후 ACK 한다")
+    void drain_DropsOnBusinessException() {
+        // given
+        given(bidBatchPersistUseCase.persistAcceptedBids(eq(AUCTION_ID), anyList()))
+                .willThrow(new BusinessException(ErrorCode.AUCTION_NOT_ACTIVE));
+        placeBids();
+
+        // when
+        sut.start();
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(redisTemplate.opsForStream().size(STREAM_KEY)).isZero();
+            assertThat(meterRegistry.counter("bid.redis.persist.bids", "result", "dropped").count()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("파티션을 이어받으면 죽은 컨슈머의 pending을 가져와 이후 입찰보다 먼저 순서대로 반영한다")
+    void drain_ClaimsPendingOfDeadConsumerInOrder() {
+        // given: 이전 파드의 컨슈머가 앞의 두 입찰을 읽은 채 죽고, 그 뒤 새 입찰이 들어옴
+        givenPersistRecordsBids();
+        engine.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(11_000));
+        engine.placeBid(AUCTION_ID, 3L, BigDecimal.valueOf(12_000));
+        redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
+        redisTemplate.opsForStream().read(Consumer.from(CONSUMER_GROUP, "dead-writer"),
+                StreamReadOptions.empty().count(10), StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        engine.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(13_000));
+
+        // when
+        sut.start();
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(persisted).extracting(AcceptedBid::bidAmount)
+                    .containsExactly(BigDecimal.valueOf(11_000), BigDecimal.valueOf(12_000), BigDecimal.valueOf(13_000));
+            assertThat(redisTemplate.opsForStream().size(STREAM_KEY)).isZero();
+        });
+        assertThat(redisTemplate.opsForStream().consumers(STREAM_KEY, CONSUMER_GROUP).stream()
+                .map(StreamInfo.XInfoConsumer::consumerName))
+                .doesNotContain("dead-writer");
+        assertThat(meterRegistry.counter("bid.redis.persist.claimed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("반영 완료 마커는 더 앞선 스트림 ID로 덮어쓰지 않는다")
+    void advancePersisted_NeverMovesBackward() {
+        // given
+        String key = persistedKey(AUCTION_ID);
+        String ttl = "60000";
+
+        // when
+        redisTemplate.execute(ADVANCE_PERSISTED, List.of(key), "1000-5", ttl);
+        redisTemplate.execute(ADVANCE_PERSISTED, List.of(key), "1000-3", ttl);
+        redisTemplate.execute(ADVANCE_PERSISTED, List.of(key), "999-9", ttl);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(key)).isEqualTo("1000-5");
+
+        // when: 더 뒤의 ID는 반영
+        redisTemplate.execute(ADVANCE_PERSISTED, List.of(key), "1001-0", ttl);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(key)).isEqualTo("1001-0");
+    }
+
+    private void placeBids() {
+        engine.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(11_000));
+        engine.placeBid(AUCTION_ID, 3L, BigDecimal.valueOf(12_000));
+        engine.placeBid(AUCTION_ID, 2L, BigDecimal.valueOf(13_000));
+    }
+
+    private void givenPersistRecordsBids() {
+        given(bidBatchPersistUseCase.persistAcceptedBids(eq(AUCTION_ID), anyList())).willAnswer(invocation -> {
+            List<AcceptedBid> bids = invocation.getArgument(1);
+            persisted.addAll(bids);
+            return bids.size();
+        });
+    }
+
+    private AuctionItem activeAuction() {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        return AuctionItem.builder()
+                .id(AUCTION_ID)
+                .sellerId(1L)
+                .title("제목")
+                .category(Category.ETC)
+                .startPrice(BigDecimal.valueOf(10_000))
+                .currentPrice(BigDecimal.valueOf(10_000))
+                .bidUnit(1000)
+                .buyNowEnabled(false)
+                .auctionStartTime(now.minusHours(1))
+                .auctionEndTime(now.plusHours(1))
+                .status(AuctionStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.fourtune.auction.boundedContext.auction.application.service.lifecycle;
+
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.constant.Category;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생명주기 타이머 발화 시각 계산 단위 테스트.
+ * - 상태별로 필요한 타이머만 시각을 가짐
+ * - 연장된 종료 시간 기준으로 종료/종료 임박 시각이 다시 계산됨
+ */
+class AuctionLifecycleTimerTypeTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 12, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+    private AuctionItem auction(AuctionStatus status, LocalDateTime endTime) {
+        return AuctionItem.builder()
+                .id(1L)
+                .sellerId(1L)
+                .title("제목")
+                .category(Category.ETC)
+                .startPrice(BigDecimal.valueOf(10_000))
+                .bidUnit(1000)
+                .auctionStartTime(START)
+                .auctionEndTime(endTime)
+                .status(status)
+                .build();
+    }
+
+    @Test
+    @DisplayName("SCHEDULED 경매는 시작/시작 임박/종료/종료 임박 타이머를 모두 가진다")
+    void scheduled_hasAllTimers() {
+        AuctionItem item = auction(AuctionStatus.SCHEDULED, END);
+
+        assertThat(AuctionLifecycleTimerType.START.dueAt(item)).isEqualTo(START);
+        assertThat(AuctionLifecycleTimerType.STARTING_SOON.dueAt(item)).isEqualTo(START.minusMinutes(5));
+        assertThat(AuctionLifecycleTimerType.END.dueAt(item)).isEqualTo(END);
+        assertThat(AuctionLifecycleTimerType.ENDING_SOON.dueAt(item)).isEqualTo(END.minusMinutes(5));
+        assertThat(AuctionLifecycleTimerType.END.isFireable(item)).isFalse();
+    }
+
+    @Test
+    @DisplayName("ACTIVE 경매는 연장된 종료 시간 기준으로 종료 타이머만 가진다")
+    void active_usesExtendedEndTime() {
+        AuctionItem item = auction(AuctionStatus.ACTIVE, END);
+        item.extend(3);
+
+        assertThat(AuctionLifecycleTimerType.START.dueAt(item)).isNull();
+        assertThat(AuctionLifecycleTimerType.STARTING_SOON.dueAt(item)).isNull();
+        assertThat(AuctionLifecycleTimerType.END.dueAt(item)).isEqualTo(END.plusMinutes(3));
+        assertThat(AuctionLifecycleTimerType.ENDING_SOON.dueAt(item)).isEqualTo(END.plusMinutes(3).minusMinutes(5));
+        assertThat(AuctionLifecycleTimerType.END.isFireable(item)).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료/취소된 경매는 타이머가 없다")
+    void closed_hasNoTimers() {
+        for (AuctionStatus status : new AuctionStatus[]{AuctionStatus.ENDED, AuctionStatus.CANCELLED}) {
+            AuctionItem item = auction(status, END);
+            for (AuctionLifecycleTimerType type : AuctionLifecycleTimerType.values()) {
+                assertThat(type.dueAt(item)).isNull();
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.fourtune.auction.boundedContext.auction.application.service.lifecycle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionClosePipeline;
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionFacade;
+import com.fourtune.auction.boundedContext.auction.application.service.AuctionSupport;
+import com.fourtune.auction.boundedContext.auction.application.service.lifecycle.AuctionLifecycleTimers.DueTimer;
+import com.fourtune.auction.boundedContext.auction.domain.constant.AuctionStatus;
+import com.fourtune.auction.boundedContext.auction.domain.constant.Category;
+import com.fourtune.auction.boundedContext.auction.domain.entity.AuctionItem;
+import com.fourtune.auction.boundedContext.auction.port.out.AuctionLifecycleTarget;
+import com.fourtune.auction.infrastructure.kafka.AuctionKafkaProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 생명주기 타이머 워커 단위 테스트.
+ * - 꺼낸 타이머는 상태 전환이 끝난 뒤에 claim 제거 (종료는 종료 파이프라인에서 병렬 처리)
+ * - 배치 처리 중 리더를 잃으면 남은 타이머는 처리하지 않음
+ * - 종료 시각이 미뤄졌으면 새 시각으로 재등록, 일시 오류는 재시도 예약
+ * - 리더 취임 시 DB 적재는 keyset 페이지 단위
+ */
+@ExtendWith(MockitoExtension.class)
+class AuctionLifecycleTimerWorkerTest {
+
+    private static final Long AUCTION_ID = 10L;
+
+    @Mock
+    private AuctionLifecycleTimers timers;
+
+    @Mock
+    private AuctionFacade auctionFacade;
+
+    @Mock
+    private AuctionClosePipeline auctionClosePipeline;
+
+    @Mock
+    private AuctionSupport auctionSupport;
+
+    @Mock
+    private ObjectProvider<AuctionKafkaProducer> auctionKafkaProducerProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionLifecycleTimerWorker sut;
+
+    @BeforeEach
+    void setUp() {
+        AuctionLifecycleProperties properties = new AuctionLifecycleProperties();
+        ReflectionTestUtils.setField(properties, "batchSize", 200);
+        ReflectionTestUtils.setField(properties, "retryDelayMs", 5_000L);
+
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new AuctionLifecycleTimerWorker(timers, properties, auctionFacade, auctionClosePipeline, auctionSupport,
+                auctionKafkaProducerProvider, new ObjectMapper(), meterRegistry);
+        sut.initMetrics();
+        // 리더 취임 상태, 배치 중 락 갱신 주기는 아직 오지 않음
+        ReflectionTestUtils.setField(sut, "leader", true);
+        ReflectionTestUtils.setField(sut, "nextRenewAt", Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("종료 시각이 된 타이머는 경매를 종료한 뒤에 claim을 제거한다")
+    void processDue_ClosesThenCompletes() throws Exception {
+        // given
+        DueTimer dueTimer = dueTimer(AuctionLifecycleTimerType.END);
+        given(timers.popDue(anyLong(), anyInt())).willReturn(List.of(dueTimer));
+        given(auctionSupport.findById(AUCTION_ID))
+                .willReturn(Optional.of(activeAuction(LocalDateTime.now(AuctionLifecycleTimers.KST).minusSeconds(1))));
+        given(auctionClosePipeline.submit(AUCTION_ID)).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int processed = sut.processDue();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        InOrder inOrder = inOrder(auctionClosePipeline, timers);
+        inOrder.verify(auctionClosePipeline).submit(AUCTION_ID);
+        inOrder.verify(timers).complete(dueTimer);
+        assertThat(meterRegistry.counter("auction.lifecycle.timers", "result", "fired").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발화 시점에 종료 시각이 미뤄져 있으면 종료하지 않고 새 시각으로 재등록한다")
+    void processDue_ExtendedEndTime_Rearms() throws Exception {
+        // given
+        LocalDateTime extendedEnd = LocalDateTime.now(AuctionLifecycleTimers.KST).plusMinutes(3);
+        given(timers.popDue(anyLong(), anyInt())).willReturn(List.of(dueTimer(AuctionLifecycleTimerType.END)));
+        given(auctionSupport.findById(AUCTION_ID)).willReturn(Optional.of(activeAuction(extendedEnd)));
+
+        // when
+        sut.processDue();
+
+        // then
+        verify(auctionClosePipeline, never()).submit(AUCTION_ID);
+        verify(timers).add(AuctionLifecycleTimerType.END, AUCTION_ID, AuctionLifecycleTimers.toEpochMillis(extendedEnd));
+        assertThat(meterRegistry.counter("auction.lifecycle.timers", "result", "rescheduled").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태 전환이 일시 오류로 실패하면 retry-delay-ms 뒤로 재시도를 예약한다")
+    void processDue_TransientFailure_SchedulesRetry() throws Exception {
+        // given
+        long before = System.currentTimeMillis();
+        given(timers.popDue(anyLong(), anyInt())).willReturn(List.of(dueTimer(AuctionLifecycleTimerType.END)));
+        given(auctionSupport.findById(AUCTION_ID))
+                .willReturn(Optional.of(activeAuction(LocalDateTime.now(AuctionLifecycleTimers.KST).minusSeconds(1))));
+        given(auctionClosePipeline.submit(AUCTION_ID))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("DB 장애")));
+
+        // when
+        sut.processDue();
+
+        // then
+        verify(timers).add(eq(AuctionLifecycleTimerType.END), eq(AUCTION_ID),
+                longThat(dueAt -> dueAt >= before + 5_000L));
+        assertThat(meterRegistry.counter("auction.lifecycle.timers", "result", "retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 처리 중 리더 락 갱신에 실패하면 남은 타이머를 처리하지 않고 claim 만료 후 재발화에 맡긴다")
+    void processDue_LeadershipLost_StopsBatch() throws Exception {
+        // given
+        ReflectionTestUtils.setField(sut, "nextRenewAt", 0L);
+        given(timers.popDue(anyLong(), anyInt()))
+                .willReturn(List.of(dueTimer(AuctionLifecycleTimerType.END), dueTimer(AuctionLifecycleTimerType.START)));
+        given(timers.acquireOrRenewLeadership()).willReturn(false);
+
+        // when
+        int processed = sut.processDue();
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        verify(auctionSupport, never()).findById(AUCTION_ID);
+        verify(auctionClosePipeline, never()).submit(AUCTION_ID);
+        verify(timers, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("리더 취임 시 DB 적재는 마지막 ID 이후를 페이지 단위로 읽어 등록한다")
+    void loadFromDatabase_PagesByKeyset() {
+        // given
+        List<AuctionLifecycleTarget> firstPage = LongStream.rangeClosed(1, 1000).mapToObj(this::target).toList();
+        List<AuctionLifecycleTarget> lastPage = List.of(target(1001L));
+        given(auctionSupport.findLifecycleTargets(0L, 1000)).willReturn(firstPage);
+        given(auctionSupport.findLifecycleTargets(1000L, 1000)).willReturn(lastPage);
+
+        // when
+        sut.loadFromDatabase();
+
+        // then
+        verify(timers).scheduleAll(firstPage);
+        verify(timers).scheduleAll(lastPage);
+        verify(auctionSupport, times(2)).findLifecycleTargets(anyLong(), anyInt());
+    }
+
+    private DueTimer dueTimer(AuctionLifecycleTimerType type) {
+        long now = System.currentTimeMillis();
+        return new DueTimer(type, AUCTION_ID, now - 10, now + 60_000);
+    }
+
+    private AuctionLifecycleTarget target(long id) {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+        return new AuctionLifecycleTarget(id, AuctionStatus.ACTIVE, start, start.plusDays(1));
+    }
+
+    private AuctionItem activeAuction(LocalDateTime endTime) {
+        return AuctionItem.builder()
+                .id(AUCTION_ID)
+                .sellerId(1L)
+                .title("제목")
+                .category(Category.ETC)
+                .startPrice(BigDecimal.valueOf(10_000))
+                .bidUnit(1000)
+                .auctionStartTime(endTime.minusHours(1))
+                .auctionEndTime(endTime)
+                .status(AuctionStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.fourtune.auction.boundedContext.auction.application.service.lifecycle;
+
+import com.fourtune.auction.boundedContext.auction.application.service.lifecycle.AuctionLifecycleTimers.DueTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+import static com.fourtune.auction.boundedContext.auction.application.service.lifecycle.AuctionLifecycleTimers.TIMERS_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * 생명주기 타이머 큐 통합 테스트 (로컬 Redis 컨테이너)
+ * - 꺼낸 타이머는 claim 동안 다시 꺼내지지 않고, complete 전에 리더가 죽으면 claim 만료 후 재발화
+ * - 처리 중 재등록된 타이머는 complete가 지우지 않음
+ */
+@Testcontainers
+@DisplayName("생명주기 타이머 claim/재발화")
+class AuctionLifecycleTimersIntegrationTest {
+
+    private static final Long AUCTION_ID = 10L;
+    private static final long CLAIM_TTL_MS = 1_000L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private AuctionLifecycleTimers sut;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        AuctionLifecycleProperties properties = new AuctionLifecycleProperties();
+        ReflectionTestUtils.setField(properties, "instanceId", "test-leader");
+        ReflectionTestUtils.setField(properties, "leaderTtlMs", 10_000L);
+        ReflectionTestUtils.setField(properties, "claimTtlMs", CLAIM_TTL_MS);
+        sut = new AuctionLifecycleTimers(redisTemplate, properties);
+        assertThat(sut.acquireOrRenewLeadership()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("처리 완료된 타이머는 complete 후 큐에서 사라진다")
+    void popDue_ThenComplete_Removes() {
+        // given
+        long now = System.currentTimeMillis();
+        sut.add(AuctionLifecycleTimerType.END, AUCTION_ID, now - 100);
+
+        // when
+        List<DueTimer> popped = sut.popDue(now, 10);
+        sut.complete(popped.get(0));
+
+        // then
+        assertThat(popped).extracting(DueTimer::auctionId).containsExactly(AUCTION_ID);
+        assertThat(sut.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("complete 전에 리더가 죽으면 claim 동안은 숨겨졌다가 만료 후 다시 꺼내진다")
+    void popDue_WithoutComplete_RearmsAfterClaim() {
+        // given
+        long now = System.currentTimeMillis();
+        sut.add(AuctionLifecycleTimerType.END, AUCTION_ID, now - 100);
+        sut.popDue(now, 10);
+
+        // when & then: claim 중에는 다시 꺼내지지 않음
+        assertThat(sut.popDue(now + CLAIM_TTL_MS - 1, 10)).isEmpty();
+        assertThat(sut.pendingCount()).isEqualTo(1);
+
+        // claim 만료 후 다른 리더(같은 락 소유자로 대체)가 다시 꺼냄
+        assertThat(sut.popDue(now + CLAIM_TTL_MS, 10))
+                .extracting(DueTimer::type, DueTimer::auctionId)
+                .containsExactly(tuple(AuctionLifecycleTimerType.END, AUCTION_ID));
+    }
+
+    @Test
+    @DisplayName("처리 중 재등록(연장/재시도)된 타이머는 complete가 지우지 않는다")
+    void complete_AfterReschedule_KeepsTimer() {
+        // given
+        long now = System.currentTimeMillis();
+        sut.add(AuctionLifecycleTimerType.END, AUCTION_ID, now - 100);
+        DueTimer popped = sut.popDue(now, 10).get(0);
+        sut.add(AuctionLifecycleTimerType.END, AUCTION_ID, now + 180_000);
+
+        // when
+        sut.complete(popped);
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score(TIMERS_KEY, "END:" + AUCTION_ID)).isEqualTo(now + 180_000.0);
+    }
+}
@@ -320,4 +320,40 @@ class AuctionItemTest {
         assertThatThrownBy(() -> item.recoverFromBuyNowFailure(10, 3, BigDecimal.valueOf(10_000)))
                 .isInstanceOf(BusinessException.class);
     }
+
+    @Test
+    @DisplayName("updateHighestBid — 최고 입찰 정보가 갱신되고 버전이 1씩 증가한다")
+    void updateHighestBid_updatesSnapshotAndVersion() {
+        AuctionItem item = AuctionItem.create(
+                1L, "제목", null, "ETC",
+                BigDecimal.valueOf(10_000), 1000, null, false,
+                START, END
+        );
+        assertThat(item.getHighestBidId()).isNull();
+        assertThat(item.getHighestBidVersion()).isZero();
+
+        item.updateHighestBid(100L, 2L);
+        item.updateHighestBid(101L, 3L);
+
+        assertThat(item.getHighestBidId()).isEqualTo(101L);
+        assertThat(item.getHighestBidderId()).isEqualTo(3L);
+        assertThat(item.getHighestBidVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("needsHighestBidBackfill — 입찰이 있는데 highestBidId가 없을 때만 true")
+    void needsHighestBidBackfill_onlyWhenBidsWithoutSnapshot() {
+        AuctionItem item = AuctionItem.create(
+                1L, "제목", null, "ETC",
+                BigDecimal.valueOf(10_000), 1000, null, false,
+                START, END
+        );
+        assertThat(item.needsHighestBidBackfill()).isFalse();
+
+        item.increaseBidCount();
+        assertThat(item.needsHighestBidBackfill()).isTrue();
+
+        item.updateHighestBid(100L, 2L);
+        assertThat(item.needsHighestBidBackfill()).isFalse();
+    }
 }
@@ -49,7 +49,10 @@ public enum ErrorCode {
     BID_CANCELLED_NOT_ALLOWED(400, "B007", "취소할 수 없는 입찰입니다."),
     BID_LOCK_FAILED(500, "B008", "입찰 처리 중 오류가 발생했습니다."),
     BID_PRICE_HIGHER_THAN_BUY_NOW(400, "B009", "입찰 금액이 즉시 구매가보다 높습니다. 즉시 구매를 이용해주세요."),
-    
+    BID_ENGINE_NOT_OWNER(503, "B010", "해당 경매의 입찰을 처리하는 서버가 아닙니다."),
+    BID_ENGINE_BUSY(503, "B011", "입찰 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    BID_ENGINE_STATE_CHANGING(409, "B012", "경매 상태가 변경되는 중입니다. 잠시 후 다시 시도해주세요."),
+
     //Order(주문 관련)
     ORDER_NOT_FOUND(404, "O001", "존재하지 않는 주문입니다."),
     ORDER_ALREADY_EXISTS(409, "O002", "이미 생성된 주문이 있습니다."),
@@ -124,7 +127,11 @@ public enum ErrorCode {
     //WatchList(관심상품 관련)
     WATCH_LIST_USER_NOT_FOUND(404, "W001", "관심상품의 유저가 없습니다."),
     WATCH_LIST_AUCTION_ITEM_NOT_FOUND(404, "W002", "관심상품의 상품이 없습니다."),
-    WATCH_LIST_NOT_FOUND(404, "W003", "관심상품을 찾을 수 업습니다.");
+    WATCH_LIST_NOT_FOUND(404, "W003", "관심상품을 찾을 수 업습니다."),
+
+    //Realtime(실시간 푸시 관련)
+    REALTIME_CONNECTION_LIMIT_EXCEEDED(503, "R001", "실시간 연결이 많아 잠시 후 다시 시도해주세요."),
+    REALTIME_TOO_MANY_AUCTIONS(400, "R002", "한 연결에서 구독할 수 있는 경매 수를 초과했습니다.");
 
 
     private final int status;
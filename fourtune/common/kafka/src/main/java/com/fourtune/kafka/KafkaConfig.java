@@ -20,6 +20,7 @@ import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import java.util.function.BiFunction;
 
 @EnableKafka
@@ -33,6 +34,10 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:fourtune-consumer-group}")
     private String consumerGroupId;
 
+    // 배치 리스너 1회 poll 최대 레코드 수
+    @Value("${kafka.consumer.batch.max-poll-records:500}")
+    private int batchMaxPollRecords;
+
     // --- Producer 설정 (String, String) ---
 
     @Bean
@@ -42,6 +47,9 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        // Outbox 배치 비동기 전송이 파티션별 배치로 묶이도록 짧게 대기
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
         return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), new StringSerializer());
     }
 
@@ -112,6 +120,27 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Auction Event 배치 리스너 (검색 인덱싱 bulk 처리)
+     * poll 단위로 List를 받고, 리스너가 정상 반환한 뒤에 오프셋 커밋 (AckMode.BATCH)
+     * 리스너가 예외를 던지면 배치 전체를 재시도하고, 재시도 소진 시 레코드별로 DLQ 전달
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> auctionEventBatchKafkaListenerContainerFactory(
+            ConsumerFactory<String, String> auctionEventConsumerFactory,
+            DefaultErrorHandler kafkaCommonErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(auctionEventConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchMaxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+        factory.setCommonErrorHandler(kafkaCommonErrorHandler);
+        return factory;
+    }
+
     // --- WatchList Event Consumer 설정 (String 기반) ---
 
     @Bean
@@ -230,4 +259,47 @@ public class KafkaConfig {
         factory.setCommonErrorHandler(kafkaCommonErrorHandler);
         return factory;
     }
+
+    /**
+     * Notification Event 배치 리스너 (FCM 멀티캐스트 묶음 전송)
+     * poll 단위로 List를 받고, 리스너가 정상 반환한 뒤에 오프셋 커밋 (AckMode.BATCH)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> notificationEventBatchKafkaListenerContainerFactory(
+            ConsumerFactory<String, String> notificationEventConsumerFactory,
+            DefaultErrorHandler kafkaCommonErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(notificationEventConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchMaxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+        factory.setCommonErrorHandler(kafkaCommonErrorHandler);
+        return factory;
+    }
+
+    // --- 실시간 푸시 Consumer 설정 (노드별 그룹, String 기반) ---
+
+    /**
+     * 실시간 푸시 리스너 (노드마다 고유 그룹으로 모든 이벤트 수신)
+     * 지금 연결된 클라이언트에게만 의미가 있으므로 latest부터 읽고 오프셋을 커밋하지 않음 (AckMode.MANUAL, ack 호출 없음)
+     * 커밋한 오프셋이 없는 그룹은 노드가 내려가 비면 브로커가 바로 정리하므로 재시작마다 새 그룹을 써도 쌓이지 않음
+     * 푸시는 best-effort라 재시도/DLQ 없음
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> realtimePushKafkaListenerContainerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(
+                new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), new StringDeserializer()));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(0L, 0L)));
+        return factory;
+    }
 }
@@ -0,0 +1,442 @@
+package com.fourtune.outbox.cdc;
+
+import com.fourtune.outbox.cdc.PgOutputDecoder.Commit;
+import com.fourtune.outbox.cdc.PgOutputDecoder.Insert;
+import com.fourtune.outbox.cdc.PgOutputDecoder.PgOutputMessage;
+import com.fourtune.outbox.domain.OutboxEvent;
+import com.fourtune.outbox.domain.OutboxEventStatus;
+import com.fourtune.outbox.handler.OutboxEventHandler;
+import com.fourtune.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox CDC 릴레이 (outbox.relay.mode=cdc)
+ * 폴링 대신 PostgreSQL 논리 복제 슬롯(pgoutput)으로 outbox_events INSERT를 커밋 직후 받아 Kafka로 발행
+ *
+ * - publication은 outbox_events INSERT만 포함, 슬롯/publication이 없으면 기동 시 생성
+ *   (DB에 wal_level=logical 필요, 복제 권한이 있는 계정이어야 함)
+ * - OutboxEventHandler를 aggregate_type으로 라우팅하는 것은 폴링 모드와 동일
+ * - 발행 완료는 슬롯의 확인 LSN으로만 관리하므로 status/publishedAt 갱신이 없음 (행은 PENDING으로 남고 보존 기간 후 삭제)
+ * - 트랜잭션 경계(Commit)까지 전송이 모두 끝난 뒤에만 LSN을 확인 → 재기동 시 미확인 구간부터 재전송 (at-least-once)
+ * - 전송 실패 이벤트는 max-send-attempts까지 바로 재전송하고, 그래도 실패하면 행을 FAILED로 표시한 뒤 LSN을 진행
+ *   (영구 실패 이벤트 하나가 슬롯을 막아 뒤 이벤트와 WAL이 쌓이지 않도록)
+ *   FAILED 행은 폴링 모드와 같이 max-retry-count까지 주기적으로 재전송, 초과하면 FAILED로 남겨 확인
+ * - 슬롯은 동시에 한 연결만 사용할 수 있어 여러 인스턴스 중 하나만 스트리밍하고 나머지는 재연결 대기 (대기 인스턴스가 자동 승계)
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${feature.kafka.enabled:false} and '${outbox.relay.mode:polling}' == 'cdc'")
+public class OutboxCdcRelay {
+
+    private static final String OUTBOX_TABLE = "outbox_events";
+
+    private final Map<String, OutboxEventHandler> handlers;
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${outbox.cdc.slot-name:outbox_slot}")
+    private String slotName;
+
+    @Value("${outbox.cdc.publication-name:outbox_publication}")
+    private String publicationName;
+
+    // 스트림에 읽을 메시지가 없을 때 대기 간격 (ms)
+    @Value("${outbox.cdc.idle-poll-interval-ms:5}")
+    private long idlePollIntervalMs;
+
+    // 이 개수 이상 전송 중이면 커밋 경계에서 완료 대기 후 LSN 확인
+    @Value("${outbox.cdc.max-in-flight:500}")
+    private int maxInFlight;
+
+    // 서버로 처리 위치를 보고하는 주기 (ms)
+    @Value("${outbox.cdc.status-interval-ms:1000}")
+    private long statusIntervalMs;
+
+    @Value("${outbox.cdc.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    // 실패한 이벤트를 FAILED로 넘기기 전 스트림 안에서 전송해 보는 최대 횟수 (첫 전송 포함)
+    @Value("${outbox.cdc.max-send-attempts:3}")
+    private int maxSendAttempts;
+
+    @Value("${outbox.cdc.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    // FAILED 행 재전송 한도 (폴링 모드와 공유)
+    @Value("${outbox.publisher.max-retry-count:3}")
+    private int maxRetryCount;
+
+    @Value("${outbox.cdc.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    // 발행 여부와 무관하게 이 기간이 지난 행 삭제 (슬롯이 이미 확인한 구간)
+    @Value("${outbox.cdc.retention-days:7}")
+    private int retentionDays;
+
+    // 파티션 사용 시 정리는 OutboxPartitionManager의 파티션 삭제로 대체
+    @Value("${outbox.partition.enabled:false}")
+    private boolean partitioned;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter unroutedCounter;
+    private final Counter parkedCounter;
+    private final Timer lagTimer;
+
+    private Thread worker;
+    private volatile boolean running = true;
+    private volatile boolean streaming;
+
+    public OutboxCdcRelay(
+            List<OutboxEventHandler> handlerList,
+            OutboxEventRepository outboxEventRepository,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry) {
+        this.handlers = handlerList.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::getAggregateType, h -> h));
+        this.outboxEventRepository = outboxEventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox 이벤트 발행 결과")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox 이벤트 발행 결과")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.unroutedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox 이벤트 발행 결과")
+                .tag("result", "unrouted")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox 이벤트 발행 결과")
+                .tag("result", "parked")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("outbox.cdc.lag")
+                .description("DB 커밋 → Kafka 전송 완료까지 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("outbox.cdc.streaming", this, relay -> relay.streaming ? 1 : 0)
+                .description("이 인스턴스가 복제 슬롯을 스트리밍 중인지 여부")
+                .register(meterRegistry);
+        log.info("OutboxCdcRelay 초기화 완료: 등록된 핸들러={}", handlers.keySet());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = new Thread(this::runLoop, "outbox-cdc-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 Outbox 행 삭제 (매일 새벽 3시 실행)
+     * CDC 모드에서는 상태를 갱신하지 않으므로 생성 시각 기준으로 정리
+     * outbox.partition.enabled=true 이면 파티션 삭제로 정리하므로 건너뜀
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    @Transactional
+    public void cleanupOldEvents() {
+        if (partitioned) {
+            return;
+        }
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        int deleted = outboxEventRepository.deleteOldEvents(threshold);
+        log.info("Outbox 정리 완료 (CDC): {} 건 삭제", deleted);
+    }
+
+    /**
+     * 스트림에서 FAILED로 넘긴 이벤트 재전송 (30초마다, 슬롯을 스트리밍 중인 인스턴스만)
+     * 폴링 모드와 같이 max-retry-count를 넘으면 더 시도하지 않고 FAILED로 남김
+     */
+    @Scheduled(fixedRate = 30000)
+    @Transactional
+    public void retryFailedEvents() {
+        if (!streaming) {
+            return;
+        }
+        List<OutboxEvent> events = outboxEventRepository.findRetryableEvents(OutboxEventStatus.FAILED, maxRetryCount);
+        for (OutboxEvent event : events) {
+            OutboxEventHandler handler = handlers.get(event.getAggregateType());
+            if (handler == null) {
+                continue;
+            }
+            try {
+                handler.handleAsync(event.getPayload()).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                event.markAsPublished();
+                publishedCounter.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                event.markAsFailed();
+                failedCounter.increment();
+                log.error("Outbox 이벤트 재전송 실패 (CDC): id={}, retryCount={}, error={}",
+                        event.getId(), event.getRetryCount(), e.getMessage());
+            }
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                ensurePublication();
+                try (Connection connection = openReplicationConnection()) {
+                    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                    ensureSlot(pgConnection);
+                    try (PGReplicationStream stream = pgConnection.getReplicationAPI()
+                            .replicationStream()
+                            .logical()
+                            .withSlotName(slotName)
+                            .withSlotOption("proto_version", "1")
+                            .withSlotOption("publication_names", publicationName)
+                            .withStatusInterval((int) statusIntervalMs, TimeUnit.MILLISECONDS)
+                            .start()) {
+                        streaming = true;
+                        log.info("Outbox CDC 스트리밍 시작: slot={}, publication={}", slotName, publicationName);
+                        stream(stream);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 다른 인스턴스가 슬롯 사용 중(active)이거나 연결/전송 실패 → 미확인 LSN부터 재시작
+                log.warn("Outbox CDC 스트리밍 중단, {}ms 후 재연결: error={}", reconnectDelayMs, e.getMessage());
+            } finally {
+                streaming = false;
+            }
+            sleepQuietly(reconnectDelayMs);
+        }
+    }
+
+    private void stream(PGReplicationStream stream) throws Exception {
+        PgOutputDecoder decoder = new PgOutputDecoder();
+        List<InFlight> inFlight = new ArrayList<>();
+        List<Long> commitTimes = new ArrayList<>();
+        long lastCommitEndLsn = 0;
+        long ackedLsn = 0;
+
+        while (running) {
+            ByteBuffer buffer = stream.readPending();
+            if (buffer == null) {
+                if (lastCommitEndLsn != ackedLsn) {
+                    awaitAndAck(stream, inFlight, commitTimes, lastCommitEndLsn);
+                    ackedLsn = lastCommitEndLsn;
+                }
+                Thread.sleep(idlePollIntervalMs);
+                continue;
+            }
+
+            PgOutputMessage message = decoder.decode(buffer);
+            if (message instanceof Insert insert && OUTBOX_TABLE.equals(insert.table())) {
+                InFlight event = route(insert);
+                if (event != null) {
+                    inFlight.add(event);
+                }
+            } else if (message instanceof Commit commit) {
+                lastCommitEndLsn = commit.endLsn();
+                commitTimes.add(commit.commitTimeMillis());
+                if (inFlight.size() >= maxInFlight) {
+                    awaitAndAck(stream, inFlight, commitTimes, lastCommitEndLsn);
+                    ackedLsn = lastCommitEndLsn;
+                }
+            }
+        }
+    }
+
+    private InFlight route(Insert insert) {
+        Map<String, String> values = insert.values();
+        String aggregateType = values.get("aggregate_type");
+        OutboxEventHandler handler = handlers.get(aggregateType);
+        if (handler == null) {
+            // 재전송해도 처리할 수 없으므로 건너뜀 (폴링 모드의 재시도 한도 초과와 동일한 결과)
+            unroutedCounter.increment();
+            log.warn("알 수 없는 aggregate type: {}, id={}", aggregateType, values.get("id"));
+            return null;
+        }
+        String payload = values.get("payload");
+        return new InFlight(Long.valueOf(values.get("id")), handler, payload, send(handler, payload));
+    }
+
+    private CompletableFuture<?> send(OutboxEventHandler handler, String payload) {
+        try {
+            return handler.handleAsync(payload)
+                    .whenComplete((result, error) -> {
+                        if (error == null) {
+                            publishedCounter.increment();
+                        }
+                    });
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 전송 중인 이벤트가 모두 완료되면 마지막 커밋 LSN까지 확인
+     * 실패한 이벤트는 재전송하고, max-send-attempts를 넘으면 FAILED로 표시한 뒤 넘어감
+     * FAILED 표시(DB)까지 실패하면 예외 → 재연결 후 마지막 확인 LSN 이후부터 다시 받음
+     */
+    private void awaitAndAck(PGReplicationStream stream, List<InFlight> inFlight,
+                             List<Long> commitTimes, long commitEndLsn) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (InFlight event : inFlight) {
+            Exception error = await(event.future(), Math.max(0, deadline - System.nanoTime()));
+            if (error != null) {
+                resendOrPark(event, error);
+            }
+        }
+        long now = System.currentTimeMillis();
+        for (Long commitTime : commitTimes) {
+            lagTimer.record(Math.max(0, now - commitTime), TimeUnit.MILLISECONDS);
+        }
+        inFlight.clear();
+        commitTimes.clear();
+
+        LogSequenceNumber lsn = LogSequenceNumber.valueOf(commitEndLsn);
+        stream.setAppliedLSN(lsn);
+        stream.setFlushedLSN(lsn);
+    }
+
+    private void resendOrPark(InFlight event, Exception error) throws InterruptedException {
+        failedCounter.increment();
+        for (int attempt = 2; attempt <= maxSendAttempts; attempt++) {
+            log.warn("Outbox 이벤트 전송 실패 (CDC), 재전송 {}/{}: id={}, error={}",
+                    attempt, maxSendAttempts, event.id(), error.getMessage());
+            Thread.sleep(retryBackoffMs);
+            error = await(send(event.handler(), event.payload()), TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs));
+            if (error == null) {
+                return;
+            }
+            failedCounter.increment();
+        }
+        jdbcTemplate.update("UPDATE " + OUTBOX_TABLE + " SET status = ?, retry_count = retry_count + 1 WHERE id = ?",
+                OutboxEventStatus.FAILED.name(), event.id());
+        parkedCounter.increment();
+        log.error("Outbox 이벤트 전송 최종 실패 (CDC), FAILED로 표시 후 진행: id={}, aggregateType={}, error={}",
+                event.id(), event.handler().getAggregateType(), error.getMessage());
+    }
+
+    /**
+     * @return 전송 성공이면 null, 실패/시간 초과면 원인
+     */
+    private Exception await(CompletableFuture<?> future, long timeoutNanos) throws InterruptedException {
+        try {
+            future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            return e;
+        }
+    }
+
+    private void ensurePublication() {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_publication WHERE pubname = ?", Integer.class, publicationName);
+        if (exists == null || exists == 0) {
+            // 파티션 테이블이어도 부모 테이블 이름으로 받도록 publish_via_partition_root 지정
+            jdbcTemplate.execute("CREATE PUBLICATION " + publicationName + " FOR TABLE " + OUTBOX_TABLE
+                    + " WITH (publish = 'insert', publish_via_partition_root = true)");
+            log.info("Outbox CDC publication 생성: {}", publicationName);
+            return;
+        }
+        Integer published = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_publication_tables WHERE pubname = ? AND tablename = ?",
+                Integer.class, publicationName, OUTBOX_TABLE);
+        if (published == null || published == 0) {
+            // 파티션 전환 등으로 테이블이 다시 만들어져 publication에서 빠진 경우
+            jdbcTemplate.execute("ALTER PUBLICATION " + publicationName
+                    + " SET (publish = 'insert', publish_via_partition_root = true)");
+            jdbcTemplate.execute("ALTER PUBLICATION " + publicationName + " ADD TABLE " + OUTBOX_TABLE);
+            log.info("Outbox CDC publication에 테이블 재등록: {}", publicationName);
+        }
+    }
+
+    private void ensureSlot(PGConnection pgConnection) throws SQLException {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_replication_slots WHERE slot_name = ?", Integer.class, slotName);
+        if (exists == null || exists == 0) {
+            // 슬롯 생성 이전에 쌓인 행은 전달되지 않음 (전환 시 폴링 모드로 backlog를 비운 뒤 전환)
+            pgConnection.getReplicationAPI()
+                    .createReplicationSlot()
+                    .logical()
+                    .withSlotName(slotName)
+                    .withOutputPlugin("pgoutput")
+                    .make();
+            log.info("Outbox CDC 복제 슬롯 생성: {}", slotName);
+        }
+    }
+
+    private Connection openReplicationConnection() throws SQLException {
+        Properties properties = new Properties();
+        PGProperty.USER.set(properties, username);
+        PGProperty.PASSWORD.set(properties, password);
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "10");
+        PGProperty.REPLICATION.set(properties, "database");
+        PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+        return DriverManager.getConnection(url, properties);
+    }
+
+    private record InFlight(Long id, OutboxEventHandler handler, String payload, CompletableFuture<?> future) {
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
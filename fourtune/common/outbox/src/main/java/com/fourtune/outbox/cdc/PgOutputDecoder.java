@@ -0,0 +1,135 @@
+package com.fourtune.outbox.cdc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostgreSQL pgoutput(proto_version 1) 논리 복제 메시지 디코더
+ * Outbox 릴레이에 필요한 Begin/Commit/Relation/Insert만 해석하고 나머지(Update, Delete, Truncate, Type, Origin)는 무시
+ *
+ * Relation 메시지로 받은 컬럼 목록을 relation oid별로 기억해 두었다가 Insert 튜플을 컬럼명 → 텍스트 값으로 변환한다.
+ * (스트림 1개당 디코더 1개, 스레드 안전하지 않음)
+ */
+class PgOutputDecoder {
+
+    // PostgreSQL epoch(2000-01-01T00:00:00Z)과 Unix epoch 차이 (ms)
+    private static final long PG_EPOCH_OFFSET_MILLIS = 946_684_800_000L;
+
+    private final Map<Integer, Relation> relations = new HashMap<>();
+
+    PgOutputMessage decode(ByteBuffer buffer) {
+        char type = (char) buffer.get();
+        return switch (type) {
+            case 'B' -> {
+                long finalLsn = buffer.getLong();
+                long commitTime = buffer.getLong();
+                buffer.getInt(); // xid
+                yield new Begin(finalLsn, toEpochMillis(commitTime));
+            }
+            case 'C' -> {
+                buffer.get(); // flags
+                long commitLsn = buffer.getLong();
+                long endLsn = buffer.getLong();
+                long commitTime = buffer.getLong();
+                yield new Commit(commitLsn, endLsn, toEpochMillis(commitTime));
+            }
+            case 'R' -> {
+                Relation relation = readRelation(buffer);
+                relations.put(relation.oid(), relation);
+                yield Ignored.INSTANCE;
+            }
+            case 'I' -> readInsert(buffer);
+            default -> Ignored.INSTANCE;
+        };
+    }
+
+    private Relation readRelation(ByteBuffer buffer) {
+        int oid = buffer.getInt();
+        String namespace = readString(buffer);
+        String name = readString(buffer);
+        buffer.get(); // replica identity
+        short columnCount = buffer.getShort();
+        String[] columns = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            buffer.get(); // flags (key 여부)
+            columns[i] = readString(buffer);
+            buffer.getInt(); // type oid
+            buffer.getInt(); // type modifier
+        }
+        return new Relation(oid, namespace, name, List.of(columns));
+    }
+
+    private PgOutputMessage readInsert(ByteBuffer buffer) {
+        int oid = buffer.getInt();
+        buffer.get(); // 'N' (new tuple)
+        Relation relation = relations.get(oid);
+        if (relation == null) {
+            throw new IllegalStateException("Relation 메시지 없이 Insert 수신: oid=" + oid);
+        }
+
+        short columnCount = buffer.getShort();
+        Map<String, String> values = new LinkedHashMap<>(columnCount * 2);
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) buffer.get();
+            String column = relation.columns().get(i);
+            switch (kind) {
+                case 'n', 'u' -> values.put(column, null);
+                case 't' -> {
+                    byte[] bytes = new byte[buffer.getInt()];
+                    buffer.get(bytes);
+                    values.put(column, new String(bytes, StandardCharsets.UTF_8));
+                }
+                default -> throw new IllegalStateException("지원하지 않는 튜플 컬럼 형식: " + kind);
+            }
+        }
+        return new Insert(relation.name(), values);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int start = buffer.position();
+        int end = start;
+        while (buffer.get(end) != 0) {
+            end++;
+        }
+        byte[] bytes = new byte[end - start];
+        buffer.get(bytes);
+        buffer.get(); // null terminator
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long toEpochMillis(long pgMicros) {
+        return pgMicros / 1000 + PG_EPOCH_OFFSET_MILLIS;
+    }
+
+    sealed interface PgOutputMessage permits Begin, Commit, Insert, Ignored {
+    }
+
+    /**
+     * 트랜잭션 시작 (commitTimeMillis = 커밋 시각 epoch ms)
+     */
+    record Begin(long finalLsn, long commitTimeMillis) implements PgOutputMessage {
+    }
+
+    /**
+     * 트랜잭션 커밋 (endLsn까지 처리 완료를 서버에 알리면 슬롯이 WAL을 해제)
+     */
+    record Commit(long commitLsn, long endLsn, long commitTimeMillis) implements PgOutputMessage {
+    }
+
+    /**
+     * 행 추가 (컬럼명 → 텍스트 값, NULL은 null)
+     */
+    record Insert(String table, Map<String, String> values) implements PgOutputMessage {
+    }
+
+    enum Ignored implements PgOutputMessage {
+        INSTANCE
+    }
+
+    private record Relation(int oid, String namespace, String name, List<String> columns) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.fourtune.outbox.handler;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Outbox 이벤트 핸들러 인터페이스
  * 각 도메인에서 이 인터페이스를 구현하여 Kafka 발행 로직을 정의
@@ -17,4 +19,20 @@ public interface OutboxEventHandler {
      * @param payload JSON 문자열 형태의 이벤트 페이로드
      */
     void handle(String payload) throws Exception;
+
+    /**
+     * 이벤트 비동기 발행 (OutboxPublisher가 배치 단위로 전송 후 한 번에 완료 대기)
+     * Kafka 전송 future를 그대로 반환하도록 구현하면 배치 내 전송이 producer 배치로 묶임.
+     * 기본 구현은 handle()을 동기 호출한다.
+     *
+     * @param payload JSON 문자열 형태의 이벤트 페이로드
+     */
+    default CompletableFuture<?> handleAsync(String payload) {
+        try {
+            handle(payload);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -0,0 +1,237 @@
+package com.fourtune.outbox.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Outbox 테이블 일 단위 파티션 관리 (outbox.partition.enabled=true, PostgreSQL 전용)
+ * - outbox_events 를 created_at 기준 RANGE 파티션 테이블로 유지 (outbox_events_pYYYYMMDD + default 파티션)
+ * - 오늘부터 precreate-days 일 뒤까지 파티션을 미리 생성
+ * - retention-days 가 지난 파티션은 DETACH 후 DROP → 대량 DELETE/vacuum 없이 메타데이터 작업으로 정리
+ *   (폴링 모드에서 PENDING/FAILED 행이 남은 파티션은 발행될 때까지 유지. CDC 모드는 상태를 갱신하지 않으므로 보존 기간만 적용)
+ * - 일반 테이블 → 파티션 테이블 전환은 migrate-legacy=true 일 때만 수행 (미발행 행만 옮기고 기존 테이블은
+ *   outbox_events_legacy 로 남겨 두므로 확인 후 수동 삭제). 설정이 없으면 파티션 관리를 건너뛰고 오류 로그만 남김
+ * - 여러 인스턴스가 동시에 실행해도 advisory lock으로 한 인스턴스만 DDL 수행
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.partition.enabled", havingValue = "true")
+public class OutboxPartitionManager {
+
+    static final String TABLE = "outbox_events";
+    static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern PARTITION_NAME = Pattern.compile("^" + PARTITION_PREFIX + "(\\d{8})$");
+
+    private static final String CREATE_PARTITIONED_TABLE = """
+            CREATE TABLE outbox_events (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                aggregate_type VARCHAR(50) NOT NULL,
+                aggregate_id BIGINT NOT NULL,
+                event_type VARCHAR(100) NOT NULL,
+                payload TEXT NOT NULL,
+                created_at TIMESTAMP(6) NOT NULL DEFAULT LOCALTIMESTAMP,
+                published_at TIMESTAMP(6),
+                status VARCHAR(20) NOT NULL,
+                retry_count INTEGER NOT NULL,
+                PRIMARY KEY (id, created_at)
+            ) PARTITION BY RANGE (created_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 미리 만들어 둘 파티션 일수 (오늘 포함 이후)
+    @Value("${outbox.partition.precreate-days:3}")
+    private int precreateDays;
+
+    // 파티션 보존 일수 (이보다 오래된 파티션 삭제)
+    @Value("${outbox.partition.retention-days:7}")
+    private int retentionDays;
+
+    // 기존 일반 테이블을 파티션 테이블로 전환할지 여부 (명시적으로 켠 배포에서 1회만 사용)
+    @Value("${outbox.partition.migrate-legacy:false}")
+    private boolean migrateLegacy;
+
+    @Value("${outbox.relay.mode:polling}")
+    private String relayMode;
+
+    public OutboxPartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    /**
+     * 파티션 생성/삭제 (매일 00:10 실행, 기동 시 1회)
+     */
+    @Scheduled(cron = "${outbox.partition.maintenance-cron:0 10 0 * * *}")
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(hashtext('outbox_partition'))", Boolean.class);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("다른 인스턴스가 Outbox 파티션 관리 중");
+                    return;
+                }
+                LocalDate today = LocalDate.now();
+                if (!ensurePartitionedTable(today)) {
+                    return;
+                }
+                createAhead(today);
+                dropExpired(today);
+            });
+        } catch (Exception e) {
+            // default 파티션이 있으므로 사전 생성이 실패해도 INSERT는 실패하지 않음
+            log.error("Outbox 파티션 관리 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파티션 테이블 준비 (없으면 생성, 일반 테이블이면 migrate-legacy=true 일 때만 전환)
+     *
+     * @return 파티션 관리를 계속할 수 있으면 true
+     */
+    private boolean ensurePartitionedTable(LocalDate today) {
+        String kind = jdbcTemplate.query(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)",
+                rs -> rs.next() ? rs.getString(1) : null, TABLE);
+        if ("p".equals(kind)) {
+            return true;
+        }
+
+        if (kind == null) {
+            jdbcTemplate.execute(CREATE_PARTITIONED_TABLE);
+            createIndexesAndDefault();
+            log.info("Outbox 파티션 테이블 생성");
+            return true;
+        }
+
+        if (!migrateLegacy) {
+            log.error("Outbox 테이블이 파티션 테이블이 아니므로 파티션 관리를 건너뜀: "
+                    + "트래픽이 적을 때 outbox.partition.migrate-legacy=true 로 1회 전환하거나 수동으로 마이그레이션하세요");
+            return false;
+        }
+        migrateLegacyTable(today);
+        return true;
+    }
+
+    /**
+     * 일반 테이블 → 파티션 테이블 전환 (미발행 행만 이관, 기존 테이블은 outbox_events_legacy 로 보존)
+     */
+    private void migrateLegacyTable(LocalDate today) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + TABLE + "_legacy");
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS idx_outbox_status_created RENAME TO idx_outbox_status_created_legacy");
+        // 기존 PK 인덱스 이름(outbox_events_pkey)이 새 테이블의 PK와 겹치지 않도록
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS outbox_events_pkey RENAME TO outbox_events_legacy_pkey");
+        jdbcTemplate.execute(CREATE_PARTITIONED_TABLE);
+        createIndexesAndDefault();
+
+        LocalDate oldest = jdbcTemplate.queryForObject(
+                "SELECT CAST(MIN(created_at) AS DATE) FROM " + TABLE + "_legacy WHERE status <> 'PUBLISHED'",
+                LocalDate.class);
+        if (oldest != null && oldest.isBefore(today)) {
+            for (LocalDate day = oldest; day.isBefore(today); day = day.plusDays(1)) {
+                createPartition(day);
+            }
+        }
+        createAhead(today);
+
+        int moved = jdbcTemplate.update("""
+                INSERT INTO outbox_events (id, aggregate_type, aggregate_id, event_type, payload,
+                                           created_at, published_at, status, retry_count)
+                SELECT id, aggregate_type, aggregate_id, event_type, payload,
+                       COALESCE(created_at, LOCALTIMESTAMP), published_at, status, retry_count
+                FROM outbox_events_legacy
+                WHERE status <> 'PUBLISHED'
+                """);
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + TABLE + "_legacy", Long.class);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN id RESTART WITH " + (maxId + 1));
+        log.info("Outbox 테이블 파티션 전환 완료: 이관된 미발행 이벤트={} 건 (기존 테이블 {}_legacy 는 확인 후 수동 삭제)",
+                moved, TABLE);
+    }
+
+    private void createIndexesAndDefault() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_outbox_status_created ON " + TABLE + " (status, created_at)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+    }
+
+    private void createAhead(LocalDate today) {
+        for (int i = 0; i <= precreateDays; i++) {
+            createPartition(today.plusDays(i));
+        }
+    }
+
+    private void createPartition(LocalDate day) {
+        jdbcTemplate.update("CREATE TABLE IF NOT EXISTS " + partitionName(day) + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+    }
+
+    private void dropExpired(LocalDate today) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits
+                JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                WHERE parent.relname = ?
+                """, String.class, TABLE);
+
+        boolean cdc = "cdc".equalsIgnoreCase(relayMode);
+        for (String partition : expiredPartitions(partitions, today.minusDays(retentionDays))) {
+            if (!cdc) {
+                Integer unpublished = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM " + partition + " WHERE status IN ('PENDING', 'FAILED')", Integer.class);
+                if (unpublished != null && unpublished > 0) {
+                    log.warn("미발행 Outbox 이벤트가 남아 있어 파티션 삭제를 미룸: partition={}, count={}",
+                            partition, unpublished);
+                    continue;
+                }
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Outbox 파티션 삭제: {}", partition);
+        }
+    }
+
+    /**
+     * 파티션 이름 (outbox_events_pYYYYMMDD)
+     */
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(SUFFIX_FORMAT);
+    }
+
+    /**
+     * 삭제 대상 파티션 (해당 일자가 cutoff 이전인 일 단위 파티션, default 파티션 제외)
+     */
+    static List<String> expiredPartitions(List<String> partitions, LocalDate cutoff) {
+        List<String> expired = new ArrayList<>();
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (matcher.matches() && LocalDate.parse(matcher.group(1), SUFFIX_FORMAT).isBefore(cutoff)) {
+                expired.add(partition);
+            }
+        }
+        return expired;
+    }
+}
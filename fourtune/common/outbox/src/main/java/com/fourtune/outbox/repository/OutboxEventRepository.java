@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
@@ -23,16 +24,91 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>
     @Query("SELECT o FROM OutboxEvent o WHERE o.status = :status ORDER BY o.createdAt ASC LIMIT :limit")
     List<OutboxEvent> findPendingEvents(@Param("status") OutboxEventStatus status, @Param("limit") int limit);
 
+    /**
+     * 발행 대기 이벤트 선점 (FOR UPDATE SKIP LOCKED)
+     * 다른 인스턴스가 잠근 행은 건너뛰므로 여러 인스턴스가 같은 행을 중복 발행하지 않음.
+     * 잠금은 호출한 트랜잭션이 끝날 때 해제된다.
+     * 생성 시각 하한을 두지 않음: 오래 밀린 PENDING 행도 반드시 발행 대상 (status, created_at 인덱스로 조회)
+     */
+    @Query(value = """
+            SELECT * FROM outbox_events
+            WHERE status = 'PENDING'
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> claimPendingEvents(@Param("limit") int limit);
+
+    /**
+     * 발행 대기 이벤트 선점 (aggregateId 샤드 한정)
+     * 같은 aggregate의 이벤트를 항상 같은 인스턴스가 발행하므로 인스턴스 간 순서 역전이 없음
+     */
+    @Query(value = """
+            SELECT * FROM outbox_events
+            WHERE status = 'PENDING' AND MOD(aggregate_id, :shardCount) = :shardIndex
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> claimPendingEventsInShard(@Param("limit") int limit,
+                                                @Param("shardCount") int shardCount,
+                                                @Param("shardIndex") int shardIndex);
+
+    /**
+     * 발행 완료 일괄 처리
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = :status, o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int updatePublished(@Param("ids") Collection<Long> ids,
+                        @Param("status") OutboxEventStatus status,
+                        @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 발행 실패 일괄 처리 (재시도 횟수 증가)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = :status, o.retryCount = o.retryCount + 1 WHERE o.id IN :ids")
+    int updateFailed(@Param("ids") Collection<Long> ids, @Param("status") OutboxEventStatus status);
+
     /**
      * 재시도 가능한 실패 이벤트 조회
      */
     @Query("SELECT o FROM OutboxEvent o WHERE o.status = :status AND o.retryCount < :maxRetry ORDER BY o.createdAt ASC")
     List<OutboxEvent> findRetryableEvents(@Param("status") OutboxEventStatus status, @Param("maxRetry") int maxRetry);
 
+    /**
+     * 재시도 가능한 실패 이벤트를 발행 대기로 일괄 전환 (생성 시각 하한 없음)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = :pending "
+            + "WHERE o.status = :failed AND o.retryCount < :maxRetry")
+    int resetRetryableEvents(@Param("failed") OutboxEventStatus failed,
+                             @Param("pending") OutboxEventStatus pending,
+                             @Param("maxRetry") int maxRetry);
+
+    /**
+     * 가장 오래된 이벤트 생성 시각 (발행 지연 측정용)
+     */
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEvent o WHERE o.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") OutboxEventStatus status);
+
+    /**
+     * 가장 오래된 이벤트 생성 시각 (발행 지연 측정용, since 이후 파티션만 스캔)
+     */
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEvent o WHERE o.status = :status AND o.createdAt >= :since")
+    LocalDateTime findOldestCreatedAt(@Param("status") OutboxEventStatus status, @Param("since") LocalDateTime since);
+
     /**
      * 오래된 발행 완료 이벤트 삭제 (정리용)
      */
     @Modifying
     @Query("DELETE FROM OutboxEvent o WHERE o.status = :status AND o.publishedAt < :before")
     int deleteOldPublishedEvents(@Param("status") OutboxEventStatus status, @Param("before") LocalDateTime before);
+
+    /**
+     * 생성 시각 기준 오래된 이벤트 삭제 (CDC 모드 정리용, 상태 무관)
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.createdAt < :before")
+    int deleteOldEvents(@Param("before") LocalDateTime before);
 }
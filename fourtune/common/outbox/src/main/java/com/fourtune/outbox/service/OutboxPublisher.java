@@ -4,29 +4,55 @@ import com.fourtune.outbox.domain.OutboxEvent;
 import com.fourtune.outbox.domain.OutboxEventStatus;
 import com.fourtune.outbox.handler.OutboxEventHandler;
 import com.fourtune.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * Outbox 이벤트 발행자
  * 주기적으로 Outbox 테이블을 폴링하여 Kafka로 발행
+ *
+ * - 배치 단위로 FOR UPDATE SKIP LOCKED 선점 → 여러 인스턴스가 같은 행을 중복 발행하지 않음
+ *   (shard-count > 1 이면 aggregateId % shard-count == shard-index 인 행만 선점해 인스턴스 간 순서 역전도 방지)
+ * - 배치 내 이벤트는 비동기로 모두 전송한 뒤 한 번에 완료 대기 (producer 배치/linger 활용)
+ * - 성공/실패는 각각 bulk UPDATE 1회로 반영
+ * - 전용 스레드(outbox-publisher)에서 폴링하므로 공용 스케줄러 풀(재시도/정리/다른 @Scheduled 작업)을 점유하지 않음
+ * - backlog가 있으면 min-poll-interval-ms 간격으로 연속 처리, 비어 있으면 poll-interval-ms까지 점진적으로 간격 확대
+ * - outbox.relay.mode=cdc 이면 비활성화되고 OutboxCdcRelay가 논리 복제로 발행
  */
 @Slf4j
 @Component
-@ConditionalOnProperty(name = "feature.kafka.enabled", havingValue = "true", matchIfMissing = false)
+@ConditionalOnExpression("${feature.kafka.enabled:false} and '${outbox.relay.mode:polling}' == 'polling'")
 public class OutboxPublisher {
 
+    private static final long METRICS_SAMPLE_INTERVAL_MS = 1000;
+
     private final OutboxEventRepository outboxEventRepository;
     private final Map<String, OutboxEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Value("${outbox.publisher.batch-size:100}")
     private int batchSize;
@@ -34,43 +60,190 @@ public class OutboxPublisher {
     @Value("${outbox.publisher.max-retry-count:3}")
     private int maxRetryCount;
 
+    // 대기 이벤트가 없을 때 최대 폴링 간격 (ms)
+    @Value("${outbox.publisher.poll-interval-ms:1000}")
+    private long maxPollIntervalMs;
+
+    // backlog 처리 시 폴링 간격 (ms)
+    @Value("${outbox.publisher.min-poll-interval-ms:50}")
+    private long minPollIntervalMs;
+
+    // 1회 폴링에서 연속 처리할 최대 배치 수 (발행 지연 측정 주기 보장)
+    @Value("${outbox.publisher.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    // 배치 전송 완료 대기 최대 시간 (ms). 초과한 이벤트는 실패 처리 후 재시도
+    @Value("${outbox.publisher.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    // aggregateId 샤딩 (1이면 샤딩 없이 SKIP LOCKED로만 분배)
+    @Value("${outbox.publisher.shard-count:1}")
+    private int shardCount;
+
+    @Value("${outbox.publisher.shard-index:0}")
+    private int shardIndex;
+
+    // 발행 지연 측정 시 조회할 최근 기간 (시간). 파티션 테이블일 때만 적용 (이 기간의 파티션만 스캔)
+    // 선점/재시도 조회에는 적용하지 않음: 오래 밀린 PENDING/FAILED 행이 발행 대상에서 빠지지 않도록
+    @Value("${outbox.publisher.scan-window-hours:48}")
+    private long scanWindowHours;
+
+    // 파티션 사용 시 정리는 OutboxPartitionManager의 파티션 삭제로 대체
+    @Value("${outbox.partition.enabled:false}")
+    private boolean partitioned;
+
+    private long currentIntervalMs;
+    private Thread worker;
+    private volatile boolean running = true;
+
+    private Counter publishedCounter;
+    private Counter failedCounter;
+    private Timer batchTimer;
+    private final AtomicLong oldestPendingAgeMs = new AtomicLong();
+    private final AtomicLong publishedSinceSample = new AtomicLong();
+    private volatile double publishRate;
+    private long lastSampleAt;
+
     public OutboxPublisher(
             OutboxEventRepository outboxEventRepository,
-            List<OutboxEventHandler> handlerList) {
+            List<OutboxEventHandler> handlerList,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
         this.outboxEventRepository = outboxEventRepository;
         this.handlers = handlerList.stream()
                 .collect(Collectors.toMap(OutboxEventHandler::getAggregateType, h -> h));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        initMetrics();
         log.info("OutboxPublisher 초기화 완료: 등록된 핸들러={}", handlers.keySet());
     }
 
+    private void initMetrics() {
+        publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox 이벤트 발행 결과")
+                .tag("result", "success")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox 이벤트 발행 결과")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("outbox.relay.batch.duration")
+                .description("Outbox 배치 1회 선점 → 전송 → 상태 반영 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag.seconds", oldestPendingAgeMs, ms -> ms.get() / 1000.0)
+                .description("가장 오래된 PENDING 이벤트의 대기 시간")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.publish.rate", this, publisher -> publisher.publishRate)
+                .description("초당 Outbox 이벤트 발행 수")
+                .register(meterRegistry);
+    }
+
     /**
-     * 대기 중인 이벤트 발행 (1초마다 실행)
+     * 애플리케이션 기동 완료 후 전용 폴링 스레드 시작
      */
-    @Scheduled(fixedDelayString = "${outbox.publisher.poll-interval-ms:1000}")
-    @Transactional
-    public void publishPendingEvents() {
-        List<OutboxEvent> pendingEvents = outboxEventRepository.findPendingEvents(
-                OutboxEventStatus.PENDING, batchSize);
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = new Thread(this::pollLoop, "outbox-publisher");
+        worker.setDaemon(true);
+        worker.start();
+    }
 
-        if (pendingEvents.isEmpty()) {
+    /**
+     * 진행 중인 배치(전송 완료 대기 + 상태 반영)가 끝날 때까지 기다린 뒤 종료
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker == null) {
             return;
         }
+        try {
+            worker.join(sendTimeoutMs + maxPollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            publishPendingEvents();
+            sleepQuietly(currentIntervalMs);
+        }
+    }
+
+    /**
+     * 대기 중인 이벤트 발행 (폴링 1회)
+     * 배치가 가득 차 있으면 max-batches-per-poll까지 연속 처리하고, 결과에 따라 다음 폴링 간격을 조정
+     */
+    void publishPendingEvents() {
+        int claimed = 0;
+        int batches = 0;
+        try {
+            do {
+                Integer result = transactionTemplate.execute(status -> relayBatch());
+                claimed = result != null ? result : 0;
+                batches++;
+            } while (claimed >= batchSize && batches < maxBatchesPerPoll);
+        } catch (Exception e) {
+            log.error("Outbox 발행 중 오류: error={}", e.getMessage(), e);
+        }
+
+        adjustPollInterval(claimed);
+        sampleMetrics();
+    }
+
+    /**
+     * 배치 1건 선점 → 비동기 전송 → 완료 대기 → 성공/실패 bulk UPDATE (선점 잠금은 트랜잭션 종료 시 해제)
+     *
+     * @return 선점한 이벤트 수
+     */
+    private int relayBatch() {
+        long startedAt = System.nanoTime();
+        List<OutboxEvent> events = shardCount > 1
+                ? outboxEventRepository.claimPendingEventsInShard(batchSize, shardCount, shardIndex)
+                : outboxEventRepository.claimPendingEvents(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
 
-        log.debug("Outbox 발행 시작: {} 건", pendingEvents.size());
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            futures.add(publishEventAsync(event));
+        }
 
-        for (OutboxEvent event : pendingEvents) {
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        List<Long> failedIds = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
             try {
-                publishEvent(event);
-                event.markAsPublished();
-                log.debug("Outbox 이벤트 발행 성공: id={}, type={}", event.getId(), event.getEventType());
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                publishedIds.add(event.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedIds.add(event.getId());
             } catch (Exception e) {
-                event.markAsFailed();
+                failedIds.add(event.getId());
                 log.error("Outbox 이벤트 발행 실패: id={}, type={}, error={}",
-                        event.getId(), event.getEventType(), e.getMessage(), e);
+                        event.getId(), event.getEventType(), e.getMessage());
             }
         }
 
-        outboxEventRepository.saveAll(pendingEvents);
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.updatePublished(publishedIds, OutboxEventStatus.PUBLISHED, LocalDateTime.now());
+        }
+        if (!failedIds.isEmpty()) {
+            outboxEventRepository.updateFailed(failedIds, OutboxEventStatus.FAILED);
+        }
+
+        publishedCounter.increment(publishedIds.size());
+        failedCounter.increment(failedIds.size());
+        publishedSinceSample.addAndGet(publishedIds.size());
+        batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.debug("Outbox 배치 발행: claimed={}, published={}, failed={}",
+                events.size(), publishedIds.size(), failedIds.size());
+        return events.size();
     }
 
     /**
@@ -79,40 +252,86 @@ public class OutboxPublisher {
     @Scheduled(fixedRate = 30000)
     @Transactional
     public void retryFailedEvents() {
-        List<OutboxEvent> failedEvents = outboxEventRepository.findRetryableEvents(
-                OutboxEventStatus.FAILED, maxRetryCount);
-
-        if (failedEvents.isEmpty()) {
-            return;
-        }
-
-        log.info("Outbox 재시도 시작: {} 건", failedEvents.size());
+        int reset = outboxEventRepository.resetRetryableEvents(
+                OutboxEventStatus.FAILED, OutboxEventStatus.PENDING, maxRetryCount);
 
-        for (OutboxEvent event : failedEvents) {
-            event.retry();
+        if (reset > 0) {
+            log.info("Outbox 재시도 전환: {} 건", reset);
         }
-
-        outboxEventRepository.saveAll(failedEvents);
     }
 
     /**
      * 오래된 발행 완료 이벤트 정리 (매일 새벽 3시 실행)
+     * outbox.partition.enabled=true 이면 파티션 삭제로 정리하므로 건너뜀
      */
     @Scheduled(cron = "0 0 3 * * *")
     @Transactional
     public void cleanupOldEvents() {
+        if (partitioned) {
+            return;
+        }
         LocalDateTime threshold = LocalDateTime.now().minusDays(7);
         int deleted = outboxEventRepository.deleteOldPublishedEvents(OutboxEventStatus.PUBLISHED, threshold);
         log.info("Outbox 정리 완료: {} 건 삭제", deleted);
     }
 
-    private void publishEvent(OutboxEvent event) throws Exception {
-        OutboxEventHandler handler = handlers.get(event.getAggregateType());
-        if (handler != null) {
-            handler.handle(event.getPayload());
+    /**
+     * 배치가 가득 찼으면(backlog) 최소 간격, 일부만 있었으면 최소 간격,
+     * 비어 있었으면 간격을 2배씩 늘려 poll-interval-ms까지 확대
+     */
+    private void adjustPollInterval(int lastClaimed) {
+        if (lastClaimed > 0) {
+            currentIntervalMs = minPollIntervalMs;
         } else {
+            currentIntervalMs = Math.min(maxPollIntervalMs, Math.max(minPollIntervalMs, currentIntervalMs * 2));
+        }
+    }
+
+
+    /**
+     * 발행 지연(가장 오래된 PENDING 대기 시간) / 초당 발행 수 갱신 (1초 간격)
+     */
+    private void sampleMetrics() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - lastSampleAt;
+        if (elapsed < METRICS_SAMPLE_INTERVAL_MS) {
+            return;
+        }
+        if (lastSampleAt > 0) {
+            publishRate = publishedSinceSample.getAndSet(0) * 1000.0 / elapsed;
+        }
+        lastSampleAt = now;
+        try {
+            LocalDateTime oldest = partitioned
+                    ? outboxEventRepository.findOldestCreatedAt(OutboxEventStatus.PENDING, scanWindowStart())
+                    : outboxEventRepository.findOldestCreatedAt(OutboxEventStatus.PENDING);
+            oldestPendingAgeMs.set(oldest != null
+                    ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()) : 0);
+        } catch (Exception e) {
+            log.warn("Outbox 발행 지연 측정 실패: error={}", e.getMessage());
+        }
+    }
+
+    private LocalDateTime scanWindowStart() {
+        return LocalDateTime.now().minusHours(scanWindowHours);
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private CompletableFuture<?> publishEventAsync(OutboxEvent event) {
+        OutboxEventHandler handler = handlers.get(event.getAggregateType());
+        if (handler == null) {
             log.warn("알 수 없는 aggregate type: {}", event.getAggregateType());
-            throw new IllegalArgumentException("처리할 수 없는 aggregate type: " + event.getAggregateType());
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("처리할 수 없는 aggregate type: " + event.getAggregateType()));
         }
+        return handler.handleAsync(event.getPayload());
     }
 }
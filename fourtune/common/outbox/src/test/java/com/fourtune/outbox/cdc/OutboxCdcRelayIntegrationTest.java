@@ -0,0 +1,217 @@
+package com.fourtune.outbox.cdc;
+
+import com.fourtune.outbox.domain.OutboxEvent;
+import com.fourtune.outbox.domain.OutboxEventStatus;
+import com.fourtune.outbox.handler.OutboxEventHandler;
+import com.fourtune.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Outbox CDC 릴레이 통합 테스트 (wal_level=logical PostgreSQL 컨테이너)
+ * - outbox_events INSERT가 커밋되면 aggregate_type에 맞는 OutboxEventHandler로 payload 전달
+ * - 핸들러가 없는 aggregate type은 건너뜀
+ * - 전송 실패 시 LSN을 확인하기 전에 같은 이벤트를 재전송 (at-least-once)
+ * - 재전송 한도를 넘으면 행을 FAILED로 표시하고 다음 이벤트로 진행, FAILED 행은 주기적으로 재전송
+ */
+@Testcontainers
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Outbox CDC 릴레이")
+class OutboxCdcRelayIntegrationTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "wal_level=logical");
+
+    @Mock
+    private OutboxEventHandler auctionHandler;
+
+    @Mock
+    private OutboxEventHandler userHandler;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxCdcRelay sut;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS outbox_events");
+        jdbcTemplate.execute("""
+                CREATE TABLE outbox_events (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    aggregate_type VARCHAR(50) NOT NULL,
+                    aggregate_id BIGINT NOT NULL,
+                    event_type VARCHAR(100) NOT NULL,
+                    payload TEXT NOT NULL,
+                    created_at TIMESTAMP NOT NULL DEFAULT now(),
+                    published_at TIMESTAMP,
+                    status VARCHAR(20) NOT NULL,
+                    retry_count INT NOT NULL)
+                """);
+
+        given(auctionHandler.getAggregateType()).willReturn("AUCTION");
+        given(userHandler.getAggregateType()).willReturn("USER");
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new OutboxCdcRelay(List.of(auctionHandler, userHandler), outboxEventRepository, jdbcTemplate, meterRegistry);
+
+        // 테스트마다 새 슬롯/publication (이전 테스트 슬롯의 미확인 구간과 섞이지 않도록)
+        int sequence = SEQUENCE.incrementAndGet();
+        ReflectionTestUtils.setField(sut, "url", postgres.getJdbcUrl());
+        ReflectionTestUtils.setField(sut, "username", postgres.getUsername());
+        ReflectionTestUtils.setField(sut, "password", postgres.getPassword());
+        ReflectionTestUtils.setField(sut, "slotName", "outbox_slot_" + sequence);
+        ReflectionTestUtils.setField(sut, "publicationName", "outbox_publication_" + sequence);
+        ReflectionTestUtils.setField(sut, "idlePollIntervalMs", 5L);
+        ReflectionTestUtils.setField(sut, "maxInFlight", 500);
+        ReflectionTestUtils.setField(sut, "statusIntervalMs", 100L);
+        ReflectionTestUtils.setField(sut, "sendTimeoutMs", 2_000L);
+        ReflectionTestUtils.setField(sut, "reconnectDelayMs", 200L);
+        ReflectionTestUtils.setField(sut, "maxSendAttempts", 3);
+        ReflectionTestUtils.setField(sut, "retryBackoffMs", 50L);
+        ReflectionTestUtils.setField(sut, "maxRetryCount", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.stop();
+    }
+
+    @Test
+    @DisplayName("커밋된 INSERT를 aggregate_type에 맞는 핸들러로 전달하고, 핸들러가 없는 타입은 건너뛴다")
+    void insert_RoutedToHandlerByAggregateType() {
+        // given
+        given(auctionHandler.handleAsync(anyString())).willReturn(CompletableFuture.completedFuture(null));
+        given(userHandler.handleAsync(anyString())).willReturn(CompletableFuture.completedFuture(null));
+        startAndAwaitStreaming();
+
+        // when
+        insert("AUCTION", 1L, "{\"auctionId\":1}");
+        insert("USER", 2L, "{\"userId\":2}");
+        insert("UNKNOWN", 3L, "{}");
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            verify(auctionHandler).handleAsync("{\"auctionId\":1}");
+            verify(userHandler).handleAsync("{\"userId\":2}");
+            assertThat(meterRegistry.counter("outbox.events.published", "result", "unrouted").count()).isEqualTo(1);
+        });
+        assertThat(meterRegistry.counter("outbox.events.published", "result", "success").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송이 실패하면 LSN을 확인하기 전에 같은 이벤트를 다시 전달한다")
+    void sendFailure_Redelivers() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        given(auctionHandler.handleAsync(anyString())).willAnswer(invocation -> attempts.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(new IllegalStateException("broker down"))
+                : CompletableFuture.completedFuture(null));
+        startAndAwaitStreaming();
+
+        // when
+        insert("AUCTION", 1L, "{\"auctionId\":1}");
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                verify(auctionHandler, times(2)).handleAsync("{\"auctionId\":1}"));
+        assertThat(meterRegistry.counter("outbox.events.published", "result", "failed").count()).isEqualTo(1);
+        verify(userHandler, never()).handleAsync(anyString());
+    }
+
+    @Test
+    @DisplayName("재전송 한도를 넘게 실패한 이벤트는 FAILED로 표시하고 다음 이벤트를 계속 전달한다")
+    void permanentFailure_ParksEventAndMovesOn() {
+        // given: 파싱할 수 없는 payload는 항상 실패
+        given(auctionHandler.handleAsync(anyString())).willAnswer(invocation -> "broken".equals(invocation.getArgument(0))
+                ? CompletableFuture.failedFuture(new IllegalArgumentException("parse error"))
+                : CompletableFuture.completedFuture(null));
+        startAndAwaitStreaming();
+
+        // when
+        insert("AUCTION", 1L, "broken");
+        insert("AUCTION", 2L, "{\"auctionId\":2}");
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            verify(auctionHandler).handleAsync("{\"auctionId\":2}");
+            assertThat(meterRegistry.counter("outbox.events.published", "result", "parked").count()).isEqualTo(1);
+        });
+        verify(auctionHandler, times(3)).handleAsync("broken");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM outbox_events WHERE payload = 'broken'", String.class)).isEqualTo("FAILED");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT retry_count FROM outbox_events WHERE payload = 'broken'", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍 중인 인스턴스는 재시도 가능한 FAILED 이벤트를 재전송하고 결과를 반영한다")
+    void retryFailedEvents_RedeliversParkedEvents() {
+        // given
+        OutboxEvent recovered = OutboxEvent.builder()
+                .aggregateType("AUCTION").aggregateId(1L).eventType("TEST_EVENT").payload("{\"auctionId\":1}").build();
+        OutboxEvent stillFailing = OutboxEvent.builder()
+                .aggregateType("USER").aggregateId(2L).eventType("TEST_EVENT").payload("{\"userId\":2}").build();
+        recovered.markAsFailed();
+        stillFailing.markAsFailed();
+        given(outboxEventRepository.findRetryableEvents(OutboxEventStatus.FAILED, 3))
+                .willReturn(List.of(recovered, stillFailing));
+        given(auctionHandler.handleAsync(anyString())).willReturn(CompletableFuture.completedFuture(null));
+        given(userHandler.handleAsync(anyString()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        ReflectionTestUtils.setField(sut, "streaming", true);
+
+        // when
+        sut.retryFailedEvents();
+
+        // then
+        assertThat(recovered.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+        assertThat(stillFailing.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+        assertThat(stillFailing.getRetryCount()).isEqualTo(2);
+    }
+
+    private void startAndAwaitStreaming() {
+        sut.start();
+        // 슬롯 생성 이전 INSERT는 전달되지 않으므로 스트리밍 시작 후 기록
+        await().atMost(Duration.ofSeconds(10)).until(() ->
+                meterRegistry.get("outbox.cdc.streaming").gauge().value() == 1.0);
+    }
+
+    private void insert(String aggregateType, Long aggregateId, String payload) {
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, status, retry_count)
+                VALUES (?, ?, 'TEST_EVENT', ?, 'PENDING', 0)
+                """, aggregateType, aggregateId, payload);
+    }
+}
@@ -0,0 +1,113 @@
+package com.fourtune.outbox.cdc;
+
+import com.fourtune.outbox.cdc.PgOutputDecoder.Commit;
+import com.fourtune.outbox.cdc.PgOutputDecoder.Ignored;
+import com.fourtune.outbox.cdc.PgOutputDecoder.Insert;
+import com.fourtune.outbox.cdc.PgOutputDecoder.PgOutputMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * pgoutput 메시지 디코딩 단위 테스트.
+ * - Relation으로 받은 컬럼명으로 Insert 튜플을 해석
+ * - Commit의 LSN/커밋 시각(PostgreSQL epoch → Unix epoch) 변환
+ */
+class PgOutputDecoderTest {
+
+    private static final int RELATION_OID = 16384;
+
+    private final PgOutputDecoder decoder = new PgOutputDecoder();
+
+    @Test
+    @DisplayName("Relation 이후 Insert는 컬럼명 → 텍스트 값으로 해석된다")
+    void insert_decodedWithRelationColumns() throws IOException {
+        assertThat(decoder.decode(relation("outbox_events", "id", "aggregate_type", "payload", "published_at")))
+                .isEqualTo(Ignored.INSTANCE);
+
+        PgOutputMessage message = decoder.decode(insert("1", "Auction", "{\"eventType\":\"BID_PLACED\",\"title\":\"한정판\"}", null));
+
+        assertThat(message).isInstanceOf(Insert.class);
+        Insert insert = (Insert) message;
+        assertThat(insert.table()).isEqualTo("outbox_events");
+        assertThat(insert.values())
+                .containsEntry("id", "1")
+                .containsEntry("aggregate_type", "Auction")
+                .containsEntry("payload", "{\"eventType\":\"BID_PLACED\",\"title\":\"한정판\"}")
+                .containsEntry("published_at", null);
+    }
+
+    @Test
+    @DisplayName("Commit은 종료 LSN과 커밋 시각을 epoch ms로 반환한다")
+    void commit_decoded() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('C');
+        out.writeByte(0);
+        out.writeLong(100L);
+        out.writeLong(200L);
+        out.writeLong(1_000_000L); // PostgreSQL epoch + 1초 (마이크로초)
+
+        PgOutputMessage message = decoder.decode(ByteBuffer.wrap(bytes.toByteArray()));
+
+        assertThat(message).isEqualTo(new Commit(100L, 200L, 946_684_801_000L));
+    }
+
+    @Test
+    @DisplayName("Relation 정보 없이 Insert를 받으면 예외가 발생한다")
+    void insert_withoutRelation_throws() {
+        assertThatThrownBy(() -> decoder.decode(insert("1", "Auction", "{}", null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ByteBuffer relation(String table, String... columns) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('R');
+        out.writeInt(RELATION_OID);
+        writeString(out, "public");
+        writeString(out, table);
+        out.writeByte('d');
+        out.writeShort(columns.length);
+        for (String column : columns) {
+            out.writeByte(0);
+            writeString(out, column);
+            out.writeInt(25); // text
+            out.writeInt(-1);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private ByteBuffer insert(String... values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('I');
+        out.writeInt(RELATION_OID);
+        out.writeByte('N');
+        out.writeShort(values.length);
+        for (String value : values) {
+            if (value == null) {
+                out.writeByte('n');
+                continue;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            out.writeByte('t');
+            out.writeInt(encoded.length);
+            out.write(encoded);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+        out.writeByte(0);
+    }
+}
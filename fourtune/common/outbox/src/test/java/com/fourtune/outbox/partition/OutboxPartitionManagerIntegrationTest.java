@@ -0,0 +1,164 @@
+package com.fourtune.outbox.partition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox 파티션 관리 통합 테스트 (PostgreSQL 컨테이너)
+ * - 보존 기간이 지났어도 PENDING/FAILED 행이 남은 파티션은 삭제하지 않음 (CDC 모드는 보존 기간만 적용)
+ * - 기존 일반 테이블은 migrate-legacy=true 일 때만 전환하고, 전환 후에도 기존 테이블은 _legacy 로 보존
+ */
+@Testcontainers
+@DisplayName("Outbox 파티션 관리")
+class OutboxPartitionManagerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private OutboxPartitionManager sut;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS outbox_events CASCADE");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS outbox_events_legacy CASCADE");
+
+        sut = new OutboxPartitionManager(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(sut, "precreateDays", 1);
+        ReflectionTestUtils.setField(sut, "retentionDays", 7);
+        ReflectionTestUtils.setField(sut, "migrateLegacy", false);
+        ReflectionTestUtils.setField(sut, "relayMode", "polling");
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 파티션 중 발행 완료 행만 있는 파티션은 삭제하고, PENDING/FAILED 행이 남은 파티션은 유지한다")
+    void maintain_KeepsExpiredPartitionsWithUnpublishedRows() {
+        // given
+        sut.maintain();
+        LocalDate today = LocalDate.now();
+        LocalDate pendingDay = today.minusDays(10);
+        LocalDate failedDay = today.minusDays(9);
+        LocalDate publishedDay = today.minusDays(8);
+        for (LocalDate day : new LocalDate[]{pendingDay, failedDay, publishedDay}) {
+            createPartition(day);
+        }
+        insert(pendingDay, "PENDING");
+        insert(failedDay, "FAILED");
+        insert(publishedDay, "PUBLISHED");
+
+        // when
+        sut.maintain();
+
+        // then
+        assertThat(exists(OutboxPartitionManager.partitionName(pendingDay))).isTrue();
+        assertThat(exists(OutboxPartitionManager.partitionName(failedDay))).isTrue();
+        assertThat(exists(OutboxPartitionManager.partitionName(publishedDay))).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("CDC 모드는 상태를 갱신하지 않으므로 보존 기간이 지난 파티션을 상태와 무관하게 삭제한다")
+    void maintain_CdcMode_DropsByRetentionOnly() {
+        // given
+        ReflectionTestUtils.setField(sut, "relayMode", "cdc");
+        sut.maintain();
+        LocalDate expiredDay = LocalDate.now().minusDays(10);
+        createPartition(expiredDay);
+        insert(expiredDay, "PENDING");
+
+        // when
+        sut.maintain();
+
+        // then
+        assertThat(exists(OutboxPartitionManager.partitionName(expiredDay))).isFalse();
+    }
+
+    @Test
+    @DisplayName("기존 일반 테이블은 migrate-legacy 설정 없이는 전환하지 않는다")
+    void maintain_LegacyTableWithoutOptIn_LeftUntouched() {
+        // given
+        createLegacyTable();
+
+        // when
+        sut.maintain();
+
+        // then
+        assertThat(relkind("outbox_events")).isEqualTo("r");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class)).isEqualTo(2);
+        assertThat(exists(OutboxPartitionManager.DEFAULT_PARTITION)).isFalse();
+    }
+
+    @Test
+    @DisplayName("migrate-legacy=true 이면 미발행 행만 파티션 테이블로 옮기고 기존 테이블은 _legacy 로 남긴다")
+    void maintain_LegacyTableWithOptIn_MigratesAndKeepsLegacy() {
+        // given
+        ReflectionTestUtils.setField(sut, "migrateLegacy", true);
+        createLegacyTable();
+
+        // when
+        sut.maintain();
+
+        // then
+        assertThat(relkind("outbox_events")).isEqualTo("p");
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM outbox_events", String.class))
+                .containsExactly("PENDING");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events_legacy", Integer.class))
+                .isEqualTo(2);
+    }
+
+    private void createLegacyTable() {
+        jdbcTemplate.execute("""
+                CREATE TABLE outbox_events (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    aggregate_type VARCHAR(50) NOT NULL,
+                    aggregate_id BIGINT NOT NULL,
+                    event_type VARCHAR(100) NOT NULL,
+                    payload TEXT NOT NULL,
+                    created_at TIMESTAMP(6),
+                    published_at TIMESTAMP(6),
+                    status VARCHAR(20) NOT NULL,
+                    retry_count INTEGER NOT NULL)
+                """);
+        insert(LocalDate.now().minusDays(1), "PENDING");
+        insert(LocalDate.now().minusDays(1), "PUBLISHED");
+    }
+
+    private void createPartition(LocalDate day) {
+        jdbcTemplate.execute("CREATE TABLE " + OutboxPartitionManager.partitionName(day)
+                + " PARTITION OF outbox_events FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+    }
+
+    private void insert(LocalDate day, String status) {
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, status, retry_count)
+                VALUES ('AUCTION', 1, 'AUCTION_CREATED', '{}', ?, ?, 0)
+                """, Timestamp.valueOf(LocalDateTime.of(day, LocalTime.NOON)), status);
+    }
+
+    private boolean exists(String table) {
+        return relkind(table) != null;
+    }
+
+    private String relkind(String table) {
+        return jdbcTemplate.query("SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)",
+                rs -> rs.next() ? rs.getString(1) : null, table);
+    }
+}
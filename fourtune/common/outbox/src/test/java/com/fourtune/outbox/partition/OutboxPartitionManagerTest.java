@@ -0,0 +1,37 @@
+package com.fourtune.outbox.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox 파티션 이름/삭제 대상 계산 단위 테스트.
+ */
+class OutboxPartitionManagerTest {
+
+    @Test
+    @DisplayName("파티션 이름은 outbox_events_pYYYYMMDD 형식이다")
+    void partitionName() {
+        assertThat(OutboxPartitionManager.partitionName(LocalDate.of(2026, 3, 9)))
+                .isEqualTo("outbox_events_p20260309");
+    }
+
+    @Test
+    @DisplayName("cutoff 이전 일자의 파티션만 삭제 대상이며 default 파티션과 다른 테이블은 제외된다")
+    void expiredPartitions() {
+        List<String> partitions = List.of(
+                "outbox_events_p20260301",
+                "outbox_events_p20260302",
+                "outbox_events_p20260303",
+                OutboxPartitionManager.DEFAULT_PARTITION,
+                "outbox_events_p2026030");
+
+        List<String> expired = OutboxPartitionManager.expiredPartitions(partitions, LocalDate.of(2026, 3, 3));
+
+        assertThat(expired).containsExactly("outbox_events_p20260301", "outbox_events_p20260302");
+    }
+}
@@ -0,0 +1,177 @@
+package com.fourtune.outbox.repository;
+
+import com.fourtune.outbox.domain.OutboxEvent;
+import com.fourtune.outbox.domain.OutboxEventStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox 선점/재시도 쿼리 통합 테스트 (PostgreSQL 컨테이너)
+ * - 두 트랜잭션이 동시에 선점하면 FOR UPDATE SKIP LOCKED로 서로 다른 행을 가져감
+ * - 샤드 선점은 MOD(aggregate_id, shard-count) = shard-index 인 행만 가져감
+ * - 재시도 전환은 retry_count < max-retry-count 인 FAILED 행만 PENDING으로 되돌림
+ * - 선점/재시도에는 생성 시각 하한이 없어 오래 밀린 행도 대상
+ */
+@Testcontainers
+class OutboxEventRepositoryIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private OutboxEventRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan("com.fourtune.outbox.domain");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        repository = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+                .getRepository(OutboxEventRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactoryBean.destroy();
+    }
+
+    @Test
+    @DisplayName("두 트랜잭션이 동시에 선점하면 잠긴 행을 건너뛰어 서로 다른 이벤트를 가져간다")
+    void claimPendingEvents_ConcurrentClaims_AreDisjoint() throws Exception {
+        // given
+        for (long aggregateId = 1; aggregateId <= 4; aggregateId++) {
+            insert(aggregateId, OutboxEventStatus.PENDING, 0);
+        }
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        // when: 첫 트랜잭션은 2건을 잠근 채 두 번째 트랜잭션이 끝날 때까지 커밋하지 않음
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            List<Long> ids = ids(repository.claimPendingEvents(2));
+            firstClaimed.countDown();
+            await(secondDone);
+            return ids;
+        }));
+        await(firstClaimed);
+        List<Long> second = transactionTemplate.execute(status -> ids(repository.claimPendingEvents(4)));
+        secondDone.countDown();
+
+        // then
+        List<Long> firstIds = first.get(10, TimeUnit.SECONDS);
+        assertThat(firstIds).hasSize(2);
+        assertThat(second).hasSize(2).doesNotContainAnyElementsOf(firstIds);
+    }
+
+    @Test
+    @DisplayName("샤드 선점은 aggregate_id가 자기 샤드인 이벤트만 가져간다")
+    void claimPendingEventsInShard_ClaimsOwnShardOnly() {
+        // given
+        for (long aggregateId = 1; aggregateId <= 6; aggregateId++) {
+            insert(aggregateId, OutboxEventStatus.PENDING, 0);
+        }
+
+        // when
+        List<OutboxEvent> claimed = transactionTemplate.execute(status ->
+                repository.claimPendingEventsInShard(10, 3, 1));
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getAggregateId).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("며칠 밀린 PENDING/FAILED 이벤트도 선점·재시도 대상에서 빠지지 않는다")
+    void claimAndReset_IncludeOldRows() {
+        // given
+        insert(1L, OutboxEventStatus.PENDING, 0, LocalDateTime.now().minusDays(3));
+        insert(2L, OutboxEventStatus.FAILED, 1, LocalDateTime.now().minusDays(5));
+
+        // when
+        Integer reset = transactionTemplate.execute(status -> repository.resetRetryableEvents(
+                OutboxEventStatus.FAILED, OutboxEventStatus.PENDING, 3));
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> repository.claimPendingEvents(10));
+
+        // then
+        assertThat(reset).isEqualTo(1);
+        assertThat(claimed).extracting(OutboxEvent::getAggregateId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("재시도 전환은 재시도 횟수가 남은 FAILED 이벤트만 PENDING으로 되돌린다")
+    void resetRetryableEvents_SkipsExhausted() {
+        // given
+        insert(1L, OutboxEventStatus.FAILED, 1);
+        insert(2L, OutboxEventStatus.FAILED, 3);
+        insert(3L, OutboxEventStatus.PUBLISHED, 0);
+
+        // when
+        Integer reset = transactionTemplate.execute(status -> repository.resetRetryableEvents(
+                OutboxEventStatus.FAILED, OutboxEventStatus.PENDING, 3));
+
+        // then
+        assertThat(reset).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT aggregate_id FROM outbox_events WHERE status = 'PENDING'", Long.class)).containsExactly(1L);
+    }
+
+    private void insert(Long aggregateId, OutboxEventStatus status, int retryCount) {
+        insert(aggregateId, status, retryCount, LocalDateTime.now().minusSeconds(10 - aggregateId));
+    }
+
+    private void insert(Long aggregateId, OutboxEventStatus status, int retryCount, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, status, retry_count)
+                VALUES ('AUCTION', ?, 'AUCTION_CREATED', '{}', ?, ?, ?)
+                """, aggregateId, Timestamp.valueOf(createdAt), status.name(), retryCount);
+    }
+
+    private List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.fourtune.outbox.service;
+
+import com.fourtune.outbox.domain.OutboxEvent;
+import com.fourtune.outbox.domain.OutboxEventStatus;
+import com.fourtune.outbox.handler.OutboxEventHandler;
+import com.fourtune.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Outbox 폴링 발행자 단위 테스트.
+ * - 배치 전송 결과를 성공/실패 bulk UPDATE 1회씩으로 반영
+ * - backlog는 max-batches-per-poll까지 연속 처리, 비어 있으면 폴링 간격을 poll-interval-ms까지 2배씩 확대
+ * - 샤딩 설정 시 자기 샤드만 선점, 실패 이벤트는 max-retry-count 미만만 재시도 전환
+ * - scan-window-hours는 파티션 테이블의 지연 측정에만 적용
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+    private static final String AGGREGATE_TYPE = "AUCTION";
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventHandler handler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxPublisher sut;
+
+    @BeforeEach
+    void setUp() {
+        given(handler.getAggregateType()).willReturn(AGGREGATE_TYPE);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new OutboxPublisher(outboxEventRepository, List.of(handler), transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(sut, "batchSize", 3);
+        ReflectionTestUtils.setField(sut, "maxRetryCount", 3);
+        ReflectionTestUtils.setField(sut, "maxPollIntervalMs", 400L);
+        ReflectionTestUtils.setField(sut, "minPollIntervalMs", 50L);
+        ReflectionTestUtils.setField(sut, "maxBatchesPerPoll", 2);
+        ReflectionTestUtils.setField(sut, "sendTimeoutMs", 1_000L);
+        ReflectionTestUtils.setField(sut, "shardCount", 1);
+        ReflectionTestUtils.setField(sut, "scanWindowHours", 48L);
+    }
+
+    @Test
+    @DisplayName("배치 전송 후 성공/실패 이벤트를 각각 한 번의 bulk UPDATE로 반영한다")
+    void publishPendingEvents_AcksBatchInBulk() {
+        // given
+        given(outboxEventRepository.claimPendingEvents(3))
+                .willReturn(List.of(event(1L, "p1"), event(2L, "p2")));
+        given(handler.handleAsync("p1")).willAnswer(invocation -> CompletableFuture.completedFuture(null));
+        given(handler.handleAsync("p2")).willAnswer(invocation ->
+                CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        sut.publishPendingEvents();
+
+        // then
+        verify(outboxEventRepository).updatePublished(eq(List.of(1L)), eq(OutboxEventStatus.PUBLISHED), any());
+        verify(outboxEventRepository).updateFailed(List.of(2L), OutboxEventStatus.FAILED);
+        assertThat(meterRegistry.counter("outbox.events.published", "result", "success").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("outbox.events.published", "result", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("핸들러가 없는 aggregate type 이벤트는 전송하지 않고 실패로 반영한다")
+    void publishPendingEvents_UnknownAggregate_MarksFailed() {
+        // given
+        OutboxEvent unknown = OutboxEvent.builder()
+                .aggregateType("UNKNOWN").aggregateId(1L).eventType("X").payload("p").build();
+        ReflectionTestUtils.setField(unknown, "id", 9L);
+        given(outboxEventRepository.claimPendingEvents(3)).willReturn(List.of(unknown));
+
+        // when
+        sut.publishPendingEvents();
+
+        // then
+        verify(outboxEventRepository).updateFailed(List.of(9L), OutboxEventStatus.FAILED);
+        verify(outboxEventRepository, never()).updatePublished(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차 있으면 max-batches-per-poll까지 이어서 선점한다")
+    void publishPendingEvents_Backlog_ContinuesUpToLimit() {
+        // given
+        given(outboxEventRepository.claimPendingEvents(3))
+                .willAnswer(invocation -> List.of(event(1L, "p"), event(2L, "p"), event(3L, "p")));
+        given(handler.handleAsync("p")).willAnswer(invocation -> CompletableFuture.completedFuture(null));
+
+        // when
+        sut.publishPendingEvents();
+
+        // then
+        verify(outboxEventRepository, times(2)).claimPendingEvents(3);
+        assertThat(ReflectionTestUtils.getField(sut, "currentIntervalMs")).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트가 없으면 폴링 간격을 2배씩 늘려 poll-interval-ms에서 멈추고, 이벤트가 생기면 최소 간격으로 돌아온다")
+    void publishPendingEvents_Idle_BacksOff() {
+        // given
+        given(outboxEventRepository.claimPendingEvents(3)).willReturn(List.of());
+        List<Object> intervals = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            sut.publishPendingEvents();
+            intervals.add(ReflectionTestUtils.getField(sut, "currentIntervalMs"));
+        }
+        given(outboxEventRepository.claimPendingEvents(3)).willReturn(List.of(event(1L, "p")));
+        given(handler.handleAsync("p")).willAnswer(invocation -> CompletableFuture.completedFuture(null));
+        sut.publishPendingEvents();
+
+        // then
+        assertThat(intervals).containsExactly(50L, 100L, 200L, 400L, 400L);
+        assertThat(ReflectionTestUtils.getField(sut, "currentIntervalMs")).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("shard-count > 1 이면 자기 샤드의 이벤트만 선점한다")
+    void publishPendingEvents_Sharded_ClaimsOwnShard() {
+        // given
+        ReflectionTestUtils.setField(sut, "shardCount", 4);
+        ReflectionTestUtils.setField(sut, "shardIndex", 1);
+        given(outboxEventRepository.claimPendingEventsInShard(3, 4, 1)).willReturn(List.of());
+
+        // when
+        sut.publishPendingEvents();
+
+        // then
+        verify(outboxEventRepository).claimPendingEventsInShard(3, 4, 1);
+        verify(outboxEventRepository, never()).claimPendingEvents(anyInt());
+    }
+
+    @Test
+    @DisplayName("scan-window-hours는 파티션 테이블의 발행 지연 측정에만 적용하고, 일반 테이블은 기간 조건 없이 측정한다")
+    void sampleMetrics_ScanWindowOnlyWhenPartitioned() {
+        // given
+        given(outboxEventRepository.claimPendingEvents(3)).willReturn(List.of());
+
+        // when
+        sut.publishPendingEvents();
+        ReflectionTestUtils.setField(sut, "partitioned", true);
+        ReflectionTestUtils.setField(sut, "lastSampleAt", 0L);
+        sut.publishPendingEvents();
+
+        // then
+        verify(outboxEventRepository).findOldestCreatedAt(OutboxEventStatus.PENDING);
+        verify(outboxEventRepository).findOldestCreatedAt(eq(OutboxEventStatus.PENDING), any());
+    }
+
+    @Test
+    @DisplayName("실패 이벤트 재시도는 max-retry-count 미만인 행만 PENDING으로 전환한다")
+    void retryFailedEvents_ResetsUnderMaxRetry() {
+        // when
+        sut.retryFailedEvents();
+
+        // then
+        verify(outboxEventRepository).resetRetryableEvents(OutboxEventStatus.FAILED, OutboxEventStatus.PENDING, 3);
+    }
+
+    private OutboxEvent event(Long id, String payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType(AGGREGATE_TYPE)
+                .aggregateId(id)
+                .eventType("AUCTION_CREATED")
+                .payload(payload)
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -23,6 +23,8 @@ public record AuctionItemDetailResponse(
     Long viewCount,
     Integer watchlistCount,
     Integer bidCount,
+    Long highestBidderId, // 현재 최고 입찰자 (입찰 없으면 null)
+    Long highestBidVersion, // 최고 입찰이 바뀔 때마다 증가 (최신 여부 비교용)
     List<String> imageUrls
 ) {
 
@@ -33,7 +35,8 @@ public record AuctionItemDetailResponse(
         return new AuctionItemDetailResponse(
                 id, sellerId, sellerNickname, title, description, category,
                 startPrice, currentPrice, bidUnit, buyNowPrice, buyNowEnabled, buyNowDisabledByPolicy,
-                status, auctionStartTime, auctionEndTime, viewCount, watchlistCount, bidCount, imageUrls
+                status, auctionStartTime, auctionEndTime, viewCount, watchlistCount, bidCount,
+                highestBidderId, highestBidVersion, imageUrls
         );
     }
 }
@@ -0,0 +1,17 @@
+package com.fourtune.shared.auction.dto;
+
+import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
+
+import java.util.List;
+
+/**
+ * 검색 재색인용 경매 스냅샷 페이지 (auction-service 내부 API 응답)
+ * - items: 검색 인덱싱 이벤트와 같은 형태의 스냅샷 (id 오름차순)
+ * - lastId: 다음 페이지 요청 시 넘길 keyset 커서
+ */
+public record AuctionSearchSnapshotPageResponse(
+    List<AuctionItemCreatedEvent> items,
+    Long lastId,
+    boolean hasNext
+) {
+}
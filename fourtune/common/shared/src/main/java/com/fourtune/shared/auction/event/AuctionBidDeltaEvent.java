@@ -0,0 +1,17 @@
+package com.fourtune.shared.auction.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 입찰로 바뀐 경매 필드만 담은 이벤트 (Search 인덱싱 / 관심상품 현재가 동기화용)
+ * - 입찰마다 전체 스냅샷(AuctionItemUpdatedEvent)을 만들지 않도록 입찰 경로에서 발행
+ * - 수신 측에서 경매별로 모아 부분 업데이트 (bidCount가 큰 쪽이 최신)
+ */
+public record AuctionBidDeltaEvent(
+    Long auctionItemId,
+    BigDecimal currentPrice,
+    Integer bidCount,
+    LocalDateTime endAt
+) {
+}
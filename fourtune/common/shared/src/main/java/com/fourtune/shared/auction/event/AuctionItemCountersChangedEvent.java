@@ -0,0 +1,16 @@
+package com.fourtune.shared.auction.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 카운터 변경 이벤트 (Search 인덱싱 전용, 부분 업데이트)
+ * - 조회수/관심 수만 바뀐 경우 발행, 바뀌지 않은 카운터는 null
+ * - changedAt(epoch ms)이 검색 문서의 카운터 버전으로 쓰여 늦게 도착한 이벤트는 무시됨
+ */
+public record AuctionItemCountersChangedEvent(
+    Long auctionItemId,
+    Long viewCount,
+    Integer watchlistCount,
+    LocalDateTime changedAt
+) {
+}
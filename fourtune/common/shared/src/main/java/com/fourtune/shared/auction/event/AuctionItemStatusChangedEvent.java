@@ -0,0 +1,15 @@
+package com.fourtune.shared.auction.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 상태 변경 이벤트 (Search 인덱싱 전용, 부분 업데이트)
+ * - 상태만 바뀌는 전환(시작 등)에서 전체 스냅샷 대신 발행
+ * - changedAt(epoch ms)이 검색 문서의 상태 버전으로 쓰여 늦게 도착한 이벤트는 무시됨
+ */
+public record AuctionItemStatusChangedEvent(
+    Long auctionItemId,
+    String status,
+    LocalDateTime changedAt
+) {
+}
@@ -19,6 +19,9 @@ public final class AuctionEventMapper {
         TYPE_TO_CLASS.put(AuctionEventType.AUCTION_CREATED.name(), AuctionCreatedEvent.class);
         TYPE_TO_CLASS.put(AuctionEventType.AUCTION_ITEM_CREATED.name(), AuctionItemCreatedEvent.class);
         TYPE_TO_CLASS.put(AuctionEventType.AUCTION_ITEM_UPDATED.name(), AuctionItemUpdatedEvent.class);
+        TYPE_TO_CLASS.put(AuctionEventType.AUCTION_BID_DELTA.name(), AuctionBidDeltaEvent.class);
+        TYPE_TO_CLASS.put(AuctionEventType.AUCTION_ITEM_STATUS_CHANGED.name(), AuctionItemStatusChangedEvent.class);
+        TYPE_TO_CLASS.put(AuctionEventType.AUCTION_ITEM_COUNTERS_CHANGED.name(), AuctionItemCountersChangedEvent.class);
         TYPE_TO_CLASS.put(AuctionEventType.AUCTION_ITEM_DELETED.name(), AuctionItemDeletedEvent.class);
         TYPE_TO_CLASS.put(AuctionEventType.AUCTION_UPDATED.name(), AuctionUpdatedEvent.class);
         TYPE_TO_CLASS.put(AuctionEventType.AUCTION_STARTED.name(), AuctionStartedEvent.class);
@@ -10,6 +10,9 @@ public enum AuctionEventType {
     AUCTION_CREATED,
     AUCTION_ITEM_CREATED,
     AUCTION_ITEM_UPDATED,
+    AUCTION_BID_DELTA,
+    AUCTION_ITEM_STATUS_CHANGED,
+    AUCTION_ITEM_COUNTERS_CHANGED,
     AUCTION_ITEM_DELETED,
     AUCTION_UPDATED,
     AUCTION_STARTED,
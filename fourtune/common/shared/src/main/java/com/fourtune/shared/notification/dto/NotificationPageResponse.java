@@ -0,0 +1,16 @@
+package com.fourtune.shared.notification.dto;
+
+import java.util.List;
+
+/**
+ * 알림함 커서 페이지
+ * - nextCursor: 다음 페이지 조회용 커서 (마지막 페이지면 null)
+ * - unreadCount: 읽지 않은 알림 수 (알림함 배지용)
+ */
+public record NotificationPageResponse(
+        List<NotificationResponseDto> items,
+        String nextCursor,
+        boolean hasNext,
+        long unreadCount
+) {
+}
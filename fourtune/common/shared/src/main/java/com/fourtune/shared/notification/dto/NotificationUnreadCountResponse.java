@@ -0,0 +1,6 @@
+package com.fourtune.shared.notification.dto;
+
+public record NotificationUnreadCountResponse(
+        long unreadCount
+) {
+}
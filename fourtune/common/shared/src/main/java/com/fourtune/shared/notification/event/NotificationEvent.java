@@ -4,6 +4,7 @@ public record NotificationEvent (
         Long receiverId,
         String title,
         String content,
-        String relatedUrl
+        String relatedUrl,
+        String type
 ){
 }
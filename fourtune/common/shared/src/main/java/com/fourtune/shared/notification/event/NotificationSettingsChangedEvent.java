@@ -0,0 +1,9 @@
+package com.fourtune.shared.notification.event;
+
+/**
+ * 알림 설정 변경 이벤트 (푸시 대상 캐시 무효화용)
+ */
+public record NotificationSettingsChangedEvent(
+        Long userId
+) {
+}
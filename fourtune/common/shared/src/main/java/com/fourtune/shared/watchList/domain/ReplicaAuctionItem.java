@@ -54,4 +54,8 @@ public class ReplicaAuctionItem extends BaseEntity {
         this.category = category;
     }
 
+    public void updateCurrentPrice(BigDecimal currentPrice){
+        this.currentPrice = currentPrice;
+    }
+
 }
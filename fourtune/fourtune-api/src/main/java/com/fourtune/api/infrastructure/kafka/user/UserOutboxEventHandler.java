@@ -7,6 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * User 도메인 Outbox 이벤트 핸들러
  * payload = {"eventType":"...","aggregateId":123,"data":{...}} 형태로 저장된 JSON을 파싱
@@ -36,4 +38,16 @@ public class UserOutboxEventHandler implements OutboxEventHandler {
         String value = objectMapper.writeValueAsString(wrapper.getData());
         userKafkaProducer.sendSync(key, value, eventType);
     }
+
+    @Override
+    public CompletableFuture<?> handleAsync(String payload) {
+        try {
+            UserEventPayload wrapper = objectMapper.readValue(payload, UserEventPayload.class);
+            String key = String.valueOf(wrapper.getAggregateId());
+            String value = objectMapper.writeValueAsString(wrapper.getData());
+            return userKafkaProducer.send(key, value, wrapper.getEventType());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -3,17 +3,27 @@ package com.fourtune.auction.boundedContext.fcmToken.adapter.in;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fourtune.auction.boundedContext.fcmToken.application.FcmService;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmPush;
 import com.fourtune.kafka.KafkaTopicConfig;
 import com.fourtune.api.infrastructure.kafka.notification.NotificationEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * FCM 푸시 알림용 Notification 이벤트 Kafka Consumer
+ * FCM 푸시 알림용 Notification 이벤트 Kafka Consumer (배치)
+ * - poll 단위로 받은 NOTIFICATION_CREATED를 모아 FcmService.sendAll 1회로 처리 (같은 제목/내용은 멀티캐스트로 묶임)
+ * - 역직렬화 실패 레코드만 DLQ(-dlq)로 보내고 나머지는 처리
+ * - 대상 조회(DB) 실패 시 예외를 던져 배치 전체를 재시도, 전송 자체는 비동기라 실패해도 재시도하지 않음
  */
 @Slf4j
 @Component
@@ -21,32 +31,44 @@ import org.springframework.stereotype.Component;
 @ConditionalOnProperty(name = "feature.kafka.notification-events.enabled", havingValue = "true", matchIfMissing = false)
 public class FcmNotificationKafkaListener {
 
+    private static final String EVENT_TYPE_HEADER = "X-Event-Type";
+
     private final FcmService fcmService;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
     private final ObjectMapper objectMapper;
 
     @KafkaListener(
             topics = KafkaTopicConfig.NOTIFICATION_EVENTS_TOPIC,
             groupId = "fcm-notification-events-group",
-            containerFactory = "notificationEventKafkaListenerContainerFactory"
+            containerFactory = "notificationEventBatchKafkaListenerContainerFactory"
     )
-    public void consume(String payload, @Header(value = "X-Event-Type", required = false) String eventType) {
-        if (eventType == null || !eventType.equals(NotificationEventType.NOTIFICATION_CREATED.name())) {
-            return;
+    public void consume(List<ConsumerRecord<String, String>> records) {
+        List<FcmPush> pushes = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            if (!NotificationEventType.NOTIFICATION_CREATED.name().equals(eventType(record))) {
+                continue;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(record.value());
+                pushes.add(new FcmPush(
+                        node.get("receiverId").asLong(),
+                        node.path("type").asText(null),
+                        node.get("title").asText(),
+                        node.get("content").asText()));
+            } catch (Exception e) {
+                log.error("[FCM] Notification 이벤트 역직렬화 실패, DLQ 전송: offset={}", record.offset(), e);
+                deadLetterPublishingRecoverer.accept(record, e);
+            }
         }
 
-        try {
-            JsonNode node = objectMapper.readTree(payload);
-            Long receiverId = node.get("receiverId").asLong();
-            String title = node.get("title").asText();
-            String content = node.get("content").asText();
-            String relatedUrl = node.get("relatedUrl").asText();
-
-            fcmService.sendNotification(receiverId, title, content, relatedUrl);
-            log.debug("[FCM] Notification 이벤트 처리 완료: receiverId={}", receiverId);
-
-        } catch (Exception e) {
-            log.error("[FCM] Notification 이벤트 처리 실패: error={}", e.getMessage(), e);
-            throw new RuntimeException(e);
+        fcmService.sendAll(pushes);
+        if (!pushes.isEmpty()) {
+            log.debug("[FCM] Notification 이벤트 배치 처리 완료: records={}, pushes={}", records.size(), pushes.size());
         }
     }
+
+    private String eventType(ConsumerRecord<String, String> record) {
+        Header header = record.headers().lastHeader(EVENT_TYPE_HEADER);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
 }
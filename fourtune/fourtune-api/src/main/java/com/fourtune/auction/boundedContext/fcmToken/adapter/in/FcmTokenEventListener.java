@@ -1,9 +1,12 @@
 package com.fourtune.auction.boundedContext.fcmToken.adapter.in;
 
 import com.fourtune.auction.boundedContext.fcmToken.application.FcmService;
+import com.fourtune.auction.boundedContext.fcmToken.application.FcmTargetCache;
 import com.fourtune.core.config.EventPublishingConfig;
 import com.fourtune.shared.notification.event.NotificationEvent;
+import com.fourtune.shared.notification.event.NotificationSettingsChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -14,6 +17,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class FcmTokenEventListener {
 
     private final FcmService fcmService;
+    private final FcmTargetCache fcmTargetCache;
     private final EventPublishingConfig eventPublishingConfig;
 
     @Async
@@ -24,10 +28,19 @@ public class FcmTokenEventListener {
         }
         fcmService.sendNotification(
                 event.receiverId(),
+                event.type(),
                 event.title(),
-                event.content(),
-                event.relatedUrl()
+                event.content()
         );
     }
 
+    /**
+     * 알림 설정이 바뀌면 푸시 대상 캐시 무효화
+     * - 설정 변경 트랜잭션 안에서 호출되어 캐시가 커밋 후 무효화를 등록함 (롤백되면 유지)
+     */
+    @EventListener
+    public void handleNotificationSettingsChangedEvent(NotificationSettingsChangedEvent event) {
+        fcmTargetCache.invalidate(event.userId());
+    }
+
 }
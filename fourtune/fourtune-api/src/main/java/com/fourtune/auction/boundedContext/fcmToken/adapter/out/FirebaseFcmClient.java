@@ -0,0 +1,72 @@
+package com.fourtune.auction.boundedContext.fcmToken.adapter.out;
+
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmMulticastResult;
+import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmClient;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Firebase Admin SDK 기반 FCM 클라이언트 (fcm.client=firebase, 기본)
+ * - 응답 순서가 토큰 순서와 같으므로 UNREGISTERED 응답의 토큰을 골라 반환
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmClient implements FcmClient {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    public FirebaseFcmClient(ObjectProvider<FirebaseMessaging> firebaseMessagingProvider) {
+        this.firebaseMessaging = firebaseMessagingProvider.getIfAvailable();
+    }
+
+    @Override
+    public FcmMulticastResult sendMulticast(List<String> tokens, String title, String body) {
+        if (firebaseMessaging == null) {
+            log.warn("🚫 FCM 이 비활성화되어 있습니다. 알림 전송을 건너뜀 (Title: {})", title);
+            return FcmMulticastResult.skipped();
+        }
+
+        MulticastMessage message = MulticastMessage.builder()
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .addAllTokens(tokens)
+                .build();
+
+        try {
+            BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
+            List<String> unregistered = new ArrayList<>();
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                SendResponse sendResponse = responses.get(i);
+                if (sendResponse.isSuccessful()) {
+                    continue;
+                }
+                FirebaseMessagingException e = sendResponse.getException();
+                if (e != null && e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+                    unregistered.add(tokens.get(i));
+                } else {
+                    log.debug("FCM 전송 실패 원인: {}", e != null ? e.getMessage() : "unknown");
+                }
+            }
+            return new FcmMulticastResult(response.getSuccessCount(), response.getFailureCount(), unregistered);
+        } catch (FirebaseMessagingException e) {
+            log.error("❌ FCM 전송 중 치명적 에러: tokens={}", tokens.size(), e);
+            return FcmMulticastResult.failed(tokens.size());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.fourtune.auction.boundedContext.fcmToken.adapter.out;
+
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmMulticastResult;
+import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 로컬 FCM 스텁 (fcm.client=stub)
+ * - 실제 전송 없이 latency-ms만큼 대기 후 성공 처리
+ * - unregistered-prefix로 시작하는 토큰은 UNREGISTERED로 응답 (토큰 정리 경로 확인용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "stub")
+public class StubFcmClient implements FcmClient {
+
+    @Value("${fcm.stub.latency-ms:50}")
+    private long latencyMs;
+
+    @Value("${fcm.stub.unregistered-prefix:unregistered-}")
+    private String unregisteredPrefix;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+
+    @Override
+    public FcmMulticastResult sendMulticast(List<String> tokens, String title, String body) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return FcmMulticastResult.failed(tokens.size());
+            }
+        }
+        List<String> unregistered = tokens.stream()
+                .filter(token -> token.startsWith(unregisteredPrefix))
+                .toList();
+        requests.incrementAndGet();
+        delivered.addAndGet(tokens.size() - unregistered.size());
+        log.debug("[FCM][STUB] multicast: tokens={}, unregistered={}", tokens.size(), unregistered.size());
+        return new FcmMulticastResult(tokens.size() - unregistered.size(), unregistered.size(), unregistered);
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long delivered() {
+        return delivered.get();
+    }
+}
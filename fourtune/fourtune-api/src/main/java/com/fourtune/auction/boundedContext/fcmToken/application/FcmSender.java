@@ -1,60 +1,180 @@
 package com.fourtune.auction.boundedContext.fcmToken.application;
 
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.MulticastMessage;
-import com.google.firebase.messaging.Notification;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmMulticastResult;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmToken;
+import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmClient;
+import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-@Component
+/**
+ * FCM 멀티캐스트 비동기 전송기
+ * - 토큰을 500개씩 나눠 요청 1건씩 가상 스레드에서 전송
+ * - 동시 요청은 max-concurrency개까지, 넘으면 호출 스레드(Kafka 컨슈머)가 대기 → 자연스러운 backpressure
+ * - 요청 시작 간격을 rate-per-second로 제한 (FCM 할당량 보호)
+ * - UNREGISTERED로 응답한 토큰은 삭제하고 소유 유저의 대상 캐시를 무효화
+ * - 푸시는 best-effort라 전송 실패는 재시도 없이 로그/메트릭만 남김
+ */
 @Slf4j
+@Component
+@RequiredArgsConstructor
 public class FcmSender {
 
-    private final FirebaseMessaging firebaseMessaging;
+    static final int MAX_TOKENS_PER_MULTICAST = 500;
+
+    private final FcmClient fcmClient;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmTargetCache fcmTargetCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fcm.send.max-concurrency:16}")
+    private int maxConcurrency;
+
+    // 초당 멀티캐스트 요청 수, 0 이하면 제한 없음
+    @Value("${fcm.send.rate-per-second:50}")
+    private int ratePerSecond;
+
+    @Value("${fcm.send.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private final AtomicLong nextSlotNanos = new AtomicLong();
+
+    private Semaphore inFlight;
+    private ExecutorService executor;
+
+    private Counter requestCounter;
+    private Counter successCounter;
+    private Counter failureCounter;
+    private Counter prunedCounter;
 
-    public FcmSender(ObjectProvider<FirebaseMessaging> firebaseMessagingProvider) {
-        this.firebaseMessaging = firebaseMessagingProvider.getIfAvailable();
+    @PostConstruct
+    public void start() {
+        inFlight = new Semaphore(Math.max(1, maxConcurrency));
+        nextSlotNanos.set(System.nanoTime());
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fcm-sender-", 0).factory());
+        requestCounter = Counter.builder("fcm.send.requests")
+                .description("FCM 멀티캐스트 요청 수")
+                .register(meterRegistry);
+        successCounter = tokenCounter("success");
+        failureCounter = tokenCounter("failure");
+        prunedCounter = Counter.builder("fcm.send.pruned")
+                .description("UNREGISTERED 응답으로 삭제한 토큰 수")
+                .register(meterRegistry);
     }
 
-    public void sendMulticast(List<String> tokens, String title, String content) {
-        if (firebaseMessaging == null) {
-            log.warn("🚫 FCM 이 비활성화되어 있습니다. 알림 전송을 건너뜀 (Title: {})", title);
-            return;
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("[FCM] 종료 대기 시간 초과, 전송 중인 요청 중단");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
         }
-        if (tokens.isEmpty())
-            return;
+    }
 
-        Notification notification = Notification.builder()
-                .setTitle(title)
-                .setBody(content)
-                .build();
+    /**
+     * 토큰 목록에 같은 제목/내용을 전송 (500개씩 나눠 비동기 전송, 전송 완료를 기다리지 않음)
+     */
+    public void sendMulticast(List<String> tokens, String title, String content) {
+        for (int from = 0; from < tokens.size(); from += MAX_TOKENS_PER_MULTICAST) {
+            List<String> chunk = List.copyOf(tokens.subList(from, Math.min(from + MAX_TOKENS_PER_MULTICAST, tokens.size())));
+            try {
+                awaitRateLimit();
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("[FCM] 전송 대기 중 인터럽트, 남은 토큰 전송 중단: remaining={}", tokens.size() - from);
+                return;
+            }
+            try {
+                executor.execute(() -> send(chunk, title, content));
+            } catch (RuntimeException e) {
+                inFlight.release();
+                log.warn("[FCM] 전송 작업 등록 실패: tokens={}, error={}", chunk.size(), e.getMessage());
+            }
+        }
+    }
 
-        MulticastMessage message = MulticastMessage.builder()
-                .setNotification(notification)
-                .addAllTokens(tokens)
-                .build();
+    /**
+     * 진행 중인 전송이 모두 끝날 때까지 대기 (테스트/종료 확인용)
+     */
+    boolean awaitIdle(Duration timeout) throws InterruptedException {
+        int permits = Math.max(1, maxConcurrency);
+        if (!inFlight.tryAcquire(permits, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        inFlight.release(permits);
+        return true;
+    }
 
+    private void send(List<String> tokens, String title, String content) {
         try {
-            BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
-
-            if (response.getFailureCount() > 0) {
-                log.error("🚫 알림 전송 실패: {} 건", response.getFailureCount());
-                response.getResponses().forEach(r -> {
-                    if (!r.isSuccessful()) {
-                        log.error("실패 원인: {}", r.getException().getMessage());
-                    }
-                });
-            } else {
-                log.info("✅ 알림 전송 성공: {} 건", response.getSuccessCount());
+            FcmMulticastResult result = fcmClient.sendMulticast(tokens, title, content);
+            requestCounter.increment();
+            successCounter.increment(result.successCount());
+            failureCounter.increment(result.failureCount());
+            if (result.failureCount() > 0) {
+                log.warn("🚫 알림 전송 실패: {} 건 (성공 {} 건, 만료 토큰 {} 건)",
+                        result.failureCount(), result.successCount(), result.unregisteredTokens().size());
+            }
+            if (!result.unregisteredTokens().isEmpty()) {
+                prune(result.unregisteredTokens());
             }
+        } catch (Exception e) {
+            failureCounter.increment(tokens.size());
+            log.error("❌ FCM 전송 중 에러: tokens={}", tokens.size(), e);
+        } finally {
+            inFlight.release();
+        }
+    }
 
-        } catch (FirebaseMessagingException e) {
-            log.error("❌ FCM 전송 중 치명적 에러: ", e);
+    private void prune(List<String> tokens) {
+        List<FcmToken> expired = fcmTokenRepository.findAllByTokenIn(tokens);
+        if (expired.isEmpty()) {
+            return;
+        }
+        fcmTokenRepository.deleteAllInBatch(expired);
+        fcmTargetCache.invalidateAll(expired.stream().map(FcmToken::getUserId).distinct().toList());
+        prunedCounter.increment(expired.size());
+        log.info("[FCM] 만료 토큰 삭제: {} 건", expired.size());
+    }
+
+    // 요청 시작 시각을 1/rate 초 간격으로 배정하고 자기 차례까지 대기
+    private void awaitRateLimit() throws InterruptedException {
+        if (ratePerSecond <= 0) {
+            return;
+        }
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long now = System.nanoTime();
+        long slot = Math.max(now, nextSlotNanos.getAndAccumulate(now, (prev, n) -> Math.max(prev, n) + interval));
+        long waitNanos = slot - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
         }
     }
+
+    private Counter tokenCounter(String result) {
+        return Counter.builder("fcm.send.tokens")
+                .description("FCM 전송 토큰 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 }
@@ -1,41 +1,66 @@
 package com.fourtune.auction.boundedContext.fcmToken.application;
 
-import com.fourtune.auction.boundedContext.notification.domain.NotificationSettings;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmPush;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmPushTarget;
 import com.fourtune.auction.boundedContext.fcmToken.domain.FcmToken;
-import com.fourtune.auction.boundedContext.notification.port.out.NotificationSettingsRepository;
 import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FcmService {
 
-    private final NotificationSettingsRepository notificationSettingsRepository;
+    private final FcmTargetCache fcmTargetCache;
     private final FcmSender fcmSender;
     private final FcmTokenRepository fcmTokenRepository;
 
-    @Transactional(readOnly = true)
     public void sendNotification(Long userId, String type, String title, String message) {
-        NotificationSettings settings = notificationSettingsRepository.findByUserId(userId)
-                .orElse(new NotificationSettings(null));
+        sendAll(List.of(new FcmPush(userId, type, title, message)));
+    }
 
-        if (!isAllowed(settings, type)) {
-            log.warn("알림 차단됨 (User ID: {}, Type: {})", userId, type);
+    /**
+     * 푸시 일괄 전송
+     * - 수신자들의 설정/토큰을 캐시에서 한 번에 조회 (미스난 유저만 IN 조회)
+     * - 설정으로 차단된 푸시는 빼고, 제목/내용이 같은 푸시끼리 토큰을 모아 멀티캐스트
+     */
+    public void sendAll(List<FcmPush> pushes) {
+        if (pushes.isEmpty()) {
             return;
         }
-        List<String> tokens = fcmTokenRepository.findAllTokensByUserId(userId);
-        List<String> uniqueTokens = tokens.stream().distinct().toList();
-        if (tokens.isEmpty()) {
-            log.warn("🚫 전송 실패: 해당 유저의 FCM 토큰이 없음 (User ID: {})", userId);
-            return;
+        Set<Long> receiverIds = pushes.stream().map(FcmPush::receiverId).collect(Collectors.toSet());
+        Map<Long, FcmPushTarget> targets = fcmTargetCache.getAll(receiverIds);
+
+        Map<Message, Set<String>> groups = new LinkedHashMap<>();
+        int blocked = 0;
+        int noToken = 0;
+        for (FcmPush push : pushes) {
+            FcmPushTarget target = targets.get(push.receiverId());
+            if (target == null || target.tokens().isEmpty()) {
+                noToken++;
+                continue;
+            }
+            if (!target.allows(push.type())) {
+                blocked++;
+                continue;
+            }
+            groups.computeIfAbsent(new Message(push.title(), push.body()), key -> new LinkedHashSet<>())
+                    .addAll(target.tokens());
         }
-        fcmSender.sendMulticast(uniqueTokens, title, message);
+
+        groups.forEach((message, tokens) -> fcmSender.sendMulticast(List.copyOf(tokens), message.title(), message.body()));
+        log.debug("[FCM] 푸시 일괄 처리: pushes={}, messages={}, blocked={}, noToken={}",
+                pushes.size(), groups.size(), blocked, noToken);
     }
 
     @Transactional
@@ -45,17 +70,12 @@ public class FcmService {
                         FcmToken::updateLastUsedAt,
                         () -> fcmTokenRepository.save(new FcmToken(userId, token))
                 );
+        fcmTargetCache.invalidate(userId);
 
         log.info("FCM Token saved for userId: {}", userId);
     }
 
-    private boolean isAllowed(NotificationSettings setting, String type) {
-        return switch (type) {
-            case "OUTBID", "AUCTION_SUCCESS", "AUCTION_FAILED", "BID_RECEIVED" -> setting.isBidPushEnabled();
-            case "PAYMENT", "PAYMENT_SUCCESS", "PAYMENT_FAILED" -> setting.isPaymentPushEnabled();
-            case "WATCHLIST_START", "WATCHLIST_END" -> setting.isWatchListPushEnabled();
-            default -> true;
-        };
+    // 멀티캐스트 묶음 기준 (제목/내용이 같으면 한 메시지)
+    private record Message(String title, String body) {
     }
-
 }
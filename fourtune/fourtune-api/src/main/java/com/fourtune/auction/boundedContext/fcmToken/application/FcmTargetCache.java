@@ -0,0 +1,102 @@
+package com.fourtune.auction.boundedContext.fcmToken.application;
+
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmPushTarget;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmToken;
+import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmTokenRepository;
+import com.fourtune.auction.boundedContext.notification.domain.NotificationSettings;
+import com.fourtune.auction.boundedContext.notification.port.out.NotificationSettingsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 푸시 대상(알림 설정 + 토큰) 로컬 캐시
+ * - 미스난 유저만 모아 설정/토큰을 IN 조회 1회씩으로 채움 (토큰이 없는 유저도 빈 목록으로 캐시)
+ * - 토큰 등록/삭제, 설정 변경 시 커밋 후 무효화
+ * - 다른 인스턴스에서 바뀐 값은 최대 ttl-ms만큼 늦게 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class FcmTargetCache {
+
+    private final NotificationSettingsRepository notificationSettingsRepository;
+    private final FcmTokenRepository fcmTokenRepository;
+
+    @Value("${fcm.target-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${fcm.target-cache.max-size:100000}")
+    private long maxSize;
+
+    private Cache<Long, FcmPushTarget> targets;
+
+    @PostConstruct
+    public void init() {
+        targets = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public Map<Long, FcmPushTarget> getAll(Collection<Long> userIds) {
+        return targets.getAll(userIds, this::load);
+    }
+
+    public void invalidate(Long userId) {
+        invalidateAll(List.of(userId));
+    }
+
+    public void invalidateAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> keys = List.copyOf(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    targets.invalidateAll(keys);
+                }
+            });
+        } else {
+            targets.invalidateAll(keys);
+        }
+    }
+
+    private Map<Long, FcmPushTarget> load(Set<? extends Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        Map<Long, NotificationSettings> settings = notificationSettingsRepository.findAllByUserIdIn(ids).stream()
+                .collect(Collectors.toMap(s -> s.getUser().getId(), s -> s, (a, b) -> a));
+        Map<Long, List<String>> tokens = fcmTokenRepository.findAllByUserIdIn(ids).stream()
+                .collect(Collectors.groupingBy(FcmToken::getUserId,
+                        Collectors.mapping(FcmToken::getToken, Collectors.toList())));
+
+        Map<Long, FcmPushTarget> loaded = new HashMap<>(ids.size() * 2);
+        for (Long userId : ids) {
+            List<String> userTokens = List.copyOf(tokens.getOrDefault(userId, List.of()));
+            NotificationSettings setting = settings.get(userId);
+            loaded.put(userId, setting == null
+                    ? FcmPushTarget.allowAll(userTokens)
+                    : new FcmPushTarget(
+                            setting.isBidPushEnabled(),
+                            setting.isPaymentPushEnabled(),
+                            setting.isWatchListPushEnabled(),
+                            userTokens));
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,22 @@
+package com.fourtune.auction.boundedContext.fcmToken.domain;
+
+import java.util.List;
+
+/**
+ * 멀티캐스트 1회 결과
+ * - unregisteredTokens: FCM이 UNREGISTERED로 응답한 토큰 (앱 삭제/토큰 만료, 삭제 대상)
+ */
+public record FcmMulticastResult(
+        int successCount,
+        int failureCount,
+        List<String> unregisteredTokens
+) {
+
+    public static FcmMulticastResult skipped() {
+        return new FcmMulticastResult(0, 0, List.of());
+    }
+
+    public static FcmMulticastResult failed(int tokenCount) {
+        return new FcmMulticastResult(0, tokenCount, List.of());
+    }
+}
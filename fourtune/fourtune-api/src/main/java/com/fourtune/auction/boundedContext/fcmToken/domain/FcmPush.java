@@ -0,0 +1,13 @@
+package com.fourtune.auction.boundedContext.fcmToken.domain;
+
+/**
+ * 푸시 1건 (수신자, 알림 타입, 제목, 내용)
+ * - type은 알림 설정 차단 여부 판단에만 쓰고, 멀티캐스트는 제목/내용이 같은 것끼리 묶음
+ */
+public record FcmPush(
+        Long receiverId,
+        String type,
+        String title,
+        String body
+) {
+}
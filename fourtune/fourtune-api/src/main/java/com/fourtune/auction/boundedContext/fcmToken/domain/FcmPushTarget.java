@@ -0,0 +1,31 @@
+package com.fourtune.auction.boundedContext.fcmToken.domain;
+
+import java.util.List;
+
+/**
+ * 유저 1명의 푸시 대상 정보 (알림 설정 + 등록된 토큰)
+ * - 설정이 없는 유저는 모두 허용 (NotificationSettings 기본값과 동일)
+ */
+public record FcmPushTarget(
+        boolean bidPushEnabled,
+        boolean paymentPushEnabled,
+        boolean watchListPushEnabled,
+        List<String> tokens
+) {
+
+    public static FcmPushTarget allowAll(List<String> tokens) {
+        return new FcmPushTarget(true, true, true, tokens);
+    }
+
+    public boolean allows(String type) {
+        if (type == null) {
+            return true;
+        }
+        return switch (type) {
+            case "OUTBID", "AUCTION_SUCCESS", "AUCTION_FAILED", "BID_RECEIVED" -> bidPushEnabled;
+            case "PAYMENT", "PAYMENT_SUCCESS", "PAYMENT_FAILED" -> paymentPushEnabled;
+            case "WATCHLIST_START", "WATCHLIST_END" -> watchListPushEnabled;
+            default -> true;
+        };
+    }
+}
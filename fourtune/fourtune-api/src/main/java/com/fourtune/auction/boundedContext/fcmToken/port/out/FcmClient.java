@@ -0,0 +1,15 @@
+package com.fourtune.auction.boundedContext.fcmToken.port.out;
+
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmMulticastResult;
+
+import java.util.List;
+
+/**
+ * FCM 멀티캐스트 전송 포트
+ * - fcm.client=firebase(기본): Firebase Admin SDK, fcm.client=stub: 부하 테스트용 로컬 스텁
+ * - tokens는 호출 1회당 최대 500개 (FCM 멀티캐스트 제한)
+ */
+public interface FcmClient {
+
+    FcmMulticastResult sendMulticast(List<String> tokens, String title, String body);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +20,8 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     List<String> findAllTokensByUserId(@Param("userId") Long userId);
 
     Optional<FcmToken> findByUserId(Long userId);
+
+    List<FcmToken> findAllByUserIdIn(Collection<Long> userIds);
+
+    List<FcmToken> findAllByTokenIn(Collection<String> tokens);
 }
@@ -3,7 +3,8 @@ package com.fourtune.auction.boundedContext.notification.adapter.in.controller;
 import com.fourtune.auction.boundedContext.notification.application.NotificationFacade;
 import com.fourtune.auction.boundedContext.fcmToken.application.FcmService;
 import com.fourtune.shared.auth.dto.UserContext;
-import com.fourtune.shared.notification.dto.NotificationResponseDto;
+import com.fourtune.shared.notification.dto.NotificationPageResponse;
+import com.fourtune.shared.notification.dto.NotificationUnreadCountResponse;
 import com.fourtune.shared.notification.dto.NotificationSettingsResponse;
 import com.fourtune.shared.notification.dto.NotificationSettingsUpdateRequest;
 import com.fourtune.fcm.dto.FCMTokenRequest;
@@ -14,8 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -26,16 +25,35 @@ public class NotificationController {
     private final FcmService fcmService;
 
     @GetMapping
-    public ResponseEntity<List<NotificationResponseDto>> getMyNotifications(
-            @AuthenticationPrincipal UserContext userContext
+    public ResponseEntity<NotificationPageResponse> getMyNotifications(
+            @AuthenticationPrincipal UserContext userContext,
+            @RequestParam(required = false) String cursor, // 이전 응답의 nextCursor, 없으면 최신 알림부터
+            @RequestParam(defaultValue = "20") int size
             ) {
         log.info("GET /api/v1/notifications - User: {}", userContext.id());
 
-        List<NotificationResponseDto> response = notificationFacade.getMyNotifications(userContext.id());
+        NotificationPageResponse response = notificationFacade.getMyNotifications(userContext.id(), cursor, size);
 
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationUnreadCountResponse> getUnreadCount(
+            @AuthenticationPrincipal UserContext userContext
+    ) {
+        return ResponseEntity.ok(notificationFacade.getUnreadCount(userContext.id()));
+    }
+
+    @PatchMapping("/read-all")
+    public ResponseEntity<Void> markAllAsRead(
+            @AuthenticationPrincipal UserContext userContext
+    ) {
+        log.info("PATCH /api/v1/notifications/read-all - User: {}", userContext.id());
+
+        notificationFacade.markAllAsRead(userContext.id());
+        return ResponseEntity.ok().build();
+    }
+
     @PatchMapping("{notificationId}/read")
     public ResponseEntity<Void> markAsRead(
             @AuthenticationPrincipal UserContext userContext,
@@ -3,6 +3,7 @@ package com.fourtune.auction.boundedContext.notification.adapter.in.kafka;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fourtune.auction.boundedContext.notification.application.NotificationFacade;
+import com.fourtune.auction.boundedContext.notification.application.NotificationFanOutTracker;
 import com.fourtune.auction.boundedContext.notification.domain.constant.NotificationType;
 import com.fourtune.kafka.KafkaTopicConfig;
 import com.fourtune.api.infrastructure.kafka.watchList.WatchListEventType;
@@ -18,6 +19,8 @@ import java.util.List;
 
 /**
  * Notification 도메인의 WatchList 이벤트 Kafka Consumer
+ * - 경매 시작/종료 알림은 관심 유저 chunk 단위 메시지로 수신 (파티션별 병렬 소비, chunk마다 트랜잭션)
+ * - fanOutId가 있는 메시지는 chunk 완료를 기록해 재전달 시 완료한 chunk를 건너뜀
  */
 @Slf4j
 @Component
@@ -27,11 +30,13 @@ public class NotificationWatchListKafkaListener {
 
     private final NotificationFacade notificationFacade;
     private final ObjectMapper objectMapper;
+    private final NotificationFanOutTracker fanOutTracker;
 
     @KafkaListener(
             topics = KafkaTopicConfig.WATCHLIST_EVENTS_TOPIC,
             groupId = "notification-watchlist-events-group",
-            containerFactory = "watchlistEventKafkaListenerContainerFactory"
+            containerFactory = "watchlistEventKafkaListenerContainerFactory",
+            concurrency = "${feature.kafka.watchlist-events.alert-concurrency:3}"
     )
     public void consume(String payload, @Header(value = "X-Event-Type", required = false) String eventType) {
         if (eventType == null) {
@@ -53,6 +58,14 @@ public class NotificationWatchListKafkaListener {
             List<Long> users = new ArrayList<>();
             node.get("users").forEach(u -> users.add(u.asLong()));
 
+            String fanOutId = node.hasNonNull("fanOutId") ? node.get("fanOutId").asText() : null;
+            int chunkIndex = node.path("chunkIndex").asInt(0);
+            if (fanOutId != null && fanOutTracker.isDone(fanOutId, chunkIndex)) {
+                log.debug("[Notification] 이미 처리한 WatchList 알림 chunk, SKIP: fanOutId={}, chunkIndex={}",
+                        fanOutId, chunkIndex);
+                return;
+            }
+
             switch (type) {
                 case WATCHLIST_AUCTION_STARTED -> {
                     notificationFacade.createGroupNotification(users, auctionItemId, NotificationType.WATCHLIST_START, auctionTitle);
@@ -65,6 +78,9 @@ public class NotificationWatchListKafkaListener {
                             auctionItemId, users.size());
                 }
             }
+            if (fanOutId != null) {
+                fanOutTracker.markDone(fanOutId, chunkIndex);
+            }
         } catch (IllegalArgumentException e) {
             log.warn("[Notification] 알 수 없는 WatchList 이벤트 타입: {}", eventType);
         } catch (Exception e) {
@@ -0,0 +1,43 @@
+package com.fourtune.auction.boundedContext.notification.adapter.out.persistence;
+
+import com.fourtune.auction.boundedContext.notification.domain.constant.NotificationType;
+import com.fourtune.auction.boundedContext.notification.port.out.NotificationBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// IDENTITY 키라 JPA saveAll은 건별 INSERT가 되므로 JDBC batch로 직접 저장
+// (PostgreSQL 드라이버 reWriteBatchedInserts 설정 시 multi-row INSERT로 전송)
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcBulkRepository implements NotificationBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (user_id, type, title, content, related_url, is_read, send_at)
+            VALUES (?, ?, ?, ?, ?, false, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<Long> receiverIds, NotificationType type, String title, String content, String relatedUrl,
+                         LocalDateTime sendAt) {
+        if (receiverIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp sentAt = Timestamp.valueOf(sendAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, receiverIds, receiverIds.size(), (ps, receiverId) -> {
+            ps.setLong(1, receiverId);
+            ps.setString(2, type.name());
+            ps.setString(3, title);
+            ps.setString(4, content);
+            ps.setString(5, relatedUrl);
+            ps.setTimestamp(6, sentAt);
+        });
+        return receiverIds.size();
+    }
+}
@@ -15,9 +15,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +36,11 @@ public class NotificationCreateUseCase {
     private final EventPublishingConfig eventPublishingConfig;
     private final ObjectMapper objectMapper;
     private final ObjectProvider<NotificationKafkaProducer> notificationKafkaProducerProvider;
+    private final NotificationUnreadCounter unreadCounter;
+
+    // 그룹 알림 1회 조회/INSERT 단위 (IN 절 파라미터 수 제한 고려)
+    @Value("${notification.group.bulk-size:1000}")
+    private int bulkSize;
 
     @Transactional
     public void bidPlaceToSeller(Long sellerId, Long bidderId, Long auctionId, NotificationType type, Object... args) {
@@ -49,13 +59,36 @@ public class NotificationCreateUseCase {
         createNotification(receiverId, relatedUrl, type, args);
     }
 
+    /**
+     * 그룹 알림 일괄 생성
+     * - bulk-size명씩 존재하는 유저 ID를 1회 조회하고 JDBC batch INSERT
+     * - 없는 유저는 건너뜀 (한 명 때문에 전체가 롤백되지 않도록)
+     * - NOTIFICATION_CREATED는 커밋 후 한꺼번에 발행 (프로듀서가 linger/batch.size 단위로 묶어 전송)
+     */
     @Transactional
     public void createGroupNotification(List<Long> userIds, Long auctionId, NotificationType type, Object... args) {
         String relatedUrl = "/auctions/" + auctionId;
-
-        for (Long userId : userIds) {
-            createNotification(userId, relatedUrl, type, args);
+        String title = type.getTitleTemplate();
+        String content = type.makeContent(args);
+        LocalDateTime sendAt = LocalDateTime.now();
+
+        List<Long> distinctIds = userIds.stream().distinct().toList();
+        List<Long> receivers = new ArrayList<>(distinctIds.size());
+        int step = Math.max(1, bulkSize);
+        for (int from = 0; from < distinctIds.size(); from += step) {
+            List<Long> slice = distinctIds.subList(from, Math.min(from + step, distinctIds.size()));
+            List<Long> existing = notificationSupport.findExistingUserIds(slice);
+            notificationSupport.insertAll(existing, type, title, content, relatedUrl, sendAt);
+            receivers.addAll(existing);
         }
+        if (receivers.size() < distinctIds.size()) {
+            log.warn("그룹 알림 대상 중 없는 유저 건너뜀 - Type: {}, requested: {}, created: {}",
+                    type, distinctIds.size(), receivers.size());
+        }
+        log.info("그룹 알림 생성 완료 - Type: {}, Receivers: {}", type, receivers.size());
+
+        unreadCounter.incrementAfterCommit(receivers);
+        publishCreated(receivers, type, title, content, relatedUrl);
     }
 
     @Transactional
@@ -64,6 +97,44 @@ public class NotificationCreateUseCase {
         createNotification(receiverId, relatedUrl, type, args);
     }
 
+    private void publishCreated(List<Long> receiverIds, NotificationType type, String title, String content,
+                                String relatedUrl) {
+        if (!eventPublishingConfig.isNotificationEventsKafkaEnabled()) {
+            receiverIds.forEach(receiverId ->
+                    eventPublisher.publish(new NotificationEvent(receiverId, title, content, relatedUrl, type.name())));
+            return;
+        }
+        List<Map.Entry<Long, String>> payloads = new ArrayList<>(receiverIds.size());
+        for (Long receiverId : receiverIds) {
+            try {
+                payloads.add(Map.entry(receiverId, objectMapper.writeValueAsString(Map.of(
+                        "receiverId", receiverId,
+                        "title", title,
+                        "content", content,
+                        "relatedUrl", relatedUrl,
+                        "type", type.name()))));
+            } catch (Exception e) {
+                log.error("Notification Kafka 이벤트 직렬화 실패: receiverId={}", receiverId, e);
+            }
+        }
+        afterCommit(() -> notificationKafkaProducerProvider.ifAvailable(producer -> payloads.forEach(payload ->
+                producer.send(String.valueOf(payload.getKey()), payload.getValue(),
+                        NotificationEventType.NOTIFICATION_CREATED.name()))));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
     private void createNotification(Long receiverId, String relatedUrl, NotificationType type, Object... args) {
         NotificationUser user = notificationSupport.findByUserId(receiverId);
 
@@ -76,6 +147,7 @@ public class NotificationCreateUseCase {
                 .build();
 
         notificationSupport.save(notification);
+        unreadCounter.incrementAfterCommit(List.of(receiverId));
         log.info("알림 생성 완료 - Receiver: {}, Type: {}", receiverId, type);
 
         if (eventPublishingConfig.isNotificationEventsKafkaEnabled()) {
@@ -84,7 +156,8 @@ public class NotificationCreateUseCase {
                         "receiverId", receiverId,
                         "title", notification.getTitle(),
                         "content", notification.getContent(),
-                        "relatedUrl", relatedUrl));
+                        "relatedUrl", relatedUrl,
+                        "type", type.name()));
                 notificationKafkaProducerProvider.ifAvailable(producer -> producer.send(String.valueOf(receiverId),
                         payload, NotificationEventType.NOTIFICATION_CREATED.name()));
             } catch (Exception e) {
@@ -92,7 +165,8 @@ public class NotificationCreateUseCase {
             }
         } else {
             eventPublisher.publish(
-                    new NotificationEvent(receiverId, notification.getTitle(), notification.getContent(), relatedUrl));
+                    new NotificationEvent(receiverId, notification.getTitle(), notification.getContent(), relatedUrl,
+                            type.name()));
         }
     }
 
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationDeleteUseCase {
 
     private final NotificationSupport notificationSupport;
+    private final NotificationUnreadCounter unreadCounter;
 
     @Transactional
     public void deleteNotification(Long userId, Long notificationId) {
@@ -25,6 +26,9 @@ public class NotificationDeleteUseCase {
         }
 
         notificationSupport.delete(notification);
+        if (!notification.isRead()) {
+            unreadCounter.decrementAfterCommit(userId);
+        }
         log.info("알림 삭제 완료 - ID: {}", notificationId);
     }
 
@@ -1,7 +1,8 @@
 package com.fourtune.auction.boundedContext.notification.application;
 
 import com.fourtune.auction.boundedContext.notification.domain.constant.NotificationType;
-import com.fourtune.shared.notification.dto.NotificationResponseDto;
+import com.fourtune.shared.notification.dto.NotificationPageResponse;
+import com.fourtune.shared.notification.dto.NotificationUnreadCountResponse;
 import com.fourtune.shared.notification.dto.NotificationSettingsResponse;
 import com.fourtune.shared.notification.dto.NotificationSettingsUpdateRequest;
 import com.fourtune.shared.user.dto.UserResponse;
@@ -24,14 +25,22 @@ public class NotificationFacade {
     private final NotificationSyncUserUseCase notificationSyncUserUseCase;
     private final NotificationSettingsService notificationSettingsService;
 
-    public List<NotificationResponseDto> getMyNotifications(Long userId) {
-        return notificationReadUseCase.readNotifications(userId);
+    public NotificationPageResponse getMyNotifications(Long userId, String cursor, int size) {
+        return notificationReadUseCase.readNotifications(userId, cursor, size);
+    }
+
+    public NotificationUnreadCountResponse getUnreadCount(Long userId) {
+        return new NotificationUnreadCountResponse(notificationReadUseCase.countUnread(userId));
     }
 
     public void markAsRead(Long userId, Long notificationId) {
         notificationReadUseCase.isReadIsTrue(userId, notificationId);
     }
 
+    public void markAllAsRead(Long userId) {
+        notificationReadUseCase.markAllAsRead(userId);
+    }
+
     public void deleteNotification(Long userId, Long notificationId) {
         notificationDeleteUseCase.deleteNotification(userId, notificationId);
     }
@@ -0,0 +1,32 @@
+package com.fourtune.auction.boundedContext.notification.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 그룹 알림 fan-out의 chunk 단위 처리 완료 기록
+ * - notification:fanout:{fanOutId} Set에 완료한 chunkIndex 저장
+ * - 재전달된 chunk 중 이미 완료한 chunk는 건너뛰고, 실패한 chunk만 다시 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationFanOutTracker {
+
+    private static final String KEY_PREFIX = "notification:fanout:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean isDone(String fanOutId, int chunkIndex) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(KEY_PREFIX + fanOutId, String.valueOf(chunkIndex)));
+    }
+
+    public void markDone(String fanOutId, int chunkIndex) {
+        String key = KEY_PREFIX + fanOutId;
+        redisTemplate.opsForSet().add(key, String.valueOf(chunkIndex));
+        redisTemplate.expire(key, TTL);
+    }
+}
@@ -1,17 +1,20 @@
 package com.fourtune.auction.boundedContext.notification.application;
 
 import com.fourtune.auction.boundedContext.notification.domain.Notification;
+import com.fourtune.auction.boundedContext.notification.domain.NotificationCursor;
 import com.fourtune.auction.boundedContext.notification.mapper.NotificationMapper;
 import com.fourtune.core.error.ErrorCode;
 import com.fourtune.core.error.exception.BusinessException;
+import com.fourtune.shared.notification.dto.NotificationPageResponse;
 import com.fourtune.shared.notification.dto.NotificationResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -20,11 +23,39 @@ import java.util.stream.Collectors;
 public class NotificationReadUseCase {
 
     private final NotificationSupport notificationSupport;
+    private final NotificationUnreadCounter unreadCounter;
 
-    public List<NotificationResponseDto> readNotifications(Long userId){
-        return notificationSupport.findAllByUserIdOrderBySendAtDesc(userId).stream()
+    @Value("${notification.inbox.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * 알림함 keyset 페이지 조회
+     * - (sendAt, id) 역순으로 size+1건만 읽어 다음 페이지 여부 판단 (이력 건수와 무관)
+     * - 읽지 않은 알림 수는 Redis 캐시에서 조회
+     */
+    public NotificationPageResponse readNotifications(Long userId, String cursor, int size) {
+        NotificationCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = NotificationCursor.decode(cursor);
+            if (after == null) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+        int pageSize = Math.clamp(size, 1, Math.max(1, maxPageSize));
+
+        List<Notification> fetched = notificationSupport.findPage(userId, after, pageSize + 1);
+        boolean hasNext = fetched.size() > pageSize;
+        List<Notification> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        List<NotificationResponseDto> items = page.stream()
                 .map(NotificationMapper::from)
-                .collect(Collectors.toList());
+                .toList();
+        String nextCursor = hasNext ? NotificationCursor.of(page.getLast()).encode() : null;
+        return new NotificationPageResponse(items, nextCursor, hasNext, countUnread(userId));
+    }
+
+    public long countUnread(Long userId) {
+        return unreadCounter.get(userId, () -> notificationSupport.countUnread(userId));
     }
 
     @Transactional
@@ -36,7 +67,18 @@ public class NotificationReadUseCase {
             throw new BusinessException(ErrorCode.NOT_NOTIFICATION_OWNER);
         }
 
-        notification.read();
+        // 같은 알림을 동시에 읽어도 false → true로 바꾼 요청만 개수를 줄임
+        if (notificationSupport.markAsRead(notificationId, LocalDateTime.now()) == 1) {
+            unreadCounter.decrementAfterCommit(userId);
+        }
+    }
+
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        int updated = notificationSupport.markAllAsRead(userId, LocalDateTime.now());
+        unreadCounter.evictAfterCommit(userId);
+        log.info("알림 모두 읽음 처리 - User: {}, Updated: {}", userId, updated);
+        return updated;
     }
 
 }
@@ -7,8 +7,10 @@ import com.fourtune.auction.boundedContext.notification.port.out.NotificationSet
 import com.fourtune.auction.boundedContext.notification.port.out.NotificationUserRepository;
 import com.fourtune.core.error.ErrorCode;
 import com.fourtune.core.error.exception.BusinessException;
+import com.fourtune.core.eventPublisher.EventPublisher;
 import com.fourtune.shared.notification.dto.NotificationSettingsResponse;
 import com.fourtune.shared.notification.dto.NotificationSettingsUpdateRequest;
+import com.fourtune.shared.notification.event.NotificationSettingsChangedEvent;
 import com.fourtune.shared.user.dto.UserResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,6 +23,7 @@ public class NotificationSettingsService {
 
     private final NotificationSettingsRepository notificationSettingsRepository;
     private final NotificationUserRepository notificationUserRepository;
+    private final EventPublisher eventPublisher;
 
     public void createNotificationSettings(UserResponse userResponse){
         NotificationUser user = notificationUserRepository.getReferenceById(userResponse.id());
@@ -41,6 +44,7 @@ public class NotificationSettingsService {
                 request.isPaymentPushEnabled(),
                 request.isWatchListPushEnabled()
         );
+        eventPublisher.publish(new NotificationSettingsChangedEvent(userId));
     }
 
     public NotificationSettingsResponse getSettings(Long userId) {
@@ -1,14 +1,21 @@
 package com.fourtune.auction.boundedContext.notification.application;
 
 import com.fourtune.auction.boundedContext.notification.domain.Notification;
+import com.fourtune.auction.boundedContext.notification.domain.NotificationCursor;
 import com.fourtune.auction.boundedContext.notification.domain.NotificationUser;
+import com.fourtune.auction.boundedContext.notification.domain.constant.NotificationType;
+import com.fourtune.auction.boundedContext.notification.port.out.NotificationBulkRepository;
 import com.fourtune.auction.boundedContext.notification.port.out.NotificationRepository;
 import com.fourtune.auction.boundedContext.notification.port.out.NotificationUserRepository;
 import com.fourtune.core.error.ErrorCode;
 import com.fourtune.core.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,9 +25,25 @@ public class NotificationSupport {
 
     private final NotificationRepository notificationRepository;
     private final NotificationUserRepository notificationUserRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
 
-    public List<Notification> findAllByUserIdOrderBySendAtDesc(Long userId){
-        return notificationRepository.findAllByUserIdOrderBySendAtDesc(userId);
+    public List<Notification> findPage(Long userId, NotificationCursor cursor, int size){
+        Pageable limit = PageRequest.of(0, size);
+        return cursor == null
+                ? notificationRepository.findLatest(userId, limit)
+                : notificationRepository.findBefore(userId, cursor.sendAt(), cursor.id(), limit);
+    }
+
+    public long countUnread(Long userId){
+        return notificationRepository.countUnread(userId);
+    }
+
+    public int markAsRead(Long notificationId, LocalDateTime readAt){
+        return notificationRepository.markAsRead(notificationId, readAt);
+    }
+
+    public int markAllAsRead(Long userId, LocalDateTime readAt){
+        return notificationRepository.markAllAsRead(userId, readAt);
     }
 
     public Notification findById(Long notificationId){
@@ -33,6 +56,15 @@ public class NotificationSupport {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
+    public List<Long> findExistingUserIds(Collection<Long> userIds){
+        return notificationUserRepository.findExistingIds(userIds);
+    }
+
+    public int insertAll(List<Long> receiverIds, NotificationType type, String title, String content, String relatedUrl,
+                         LocalDateTime sendAt){
+        return notificationBulkRepository.insertAll(receiverIds, type, title, content, relatedUrl, sendAt);
+    }
+
     public Notification save(Notification notification){
         return notificationRepository.save(notification);
     }
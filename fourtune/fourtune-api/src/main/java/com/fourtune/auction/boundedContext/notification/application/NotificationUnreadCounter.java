@@ -0,0 +1,124 @@
+package com.fourtune.auction.boundedContext.notification.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 유저별 읽지 않은 알림 수 캐시
+ * - notification:unread:{userId}에 개수 저장, 알림 생성/읽음/삭제 시 커밋 후 증감
+ * - 키가 없으면 증감하지 않음 (다음 조회에서 DB count로 채움), 증감 결과가 음수면 키를 지워 다시 세게 함
+ * - DB count와 키 저장 사이에 커밋된 증감은 놓칠 수 있으므로 TTL(1일)마다 다시 셈
+ * - 모두 읽음은 키 삭제 (UPDATE 이후 생성된 알림과 섞이지 않도록 0으로 덮어쓰지 않음)
+ * - Redis 장애 시 DB count로 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private static final String ADD_IF_PRESENT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+                redis.call('DEL', KEYS[1])
+            end
+            return count
+            """;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 캐시된 개수, 없으면 loader(DB count) 결과를 캐시하고 반환
+     */
+    public long get(Long userId, LongSupplier loader) {
+        String key = KEY_PREFIX + userId;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Math.max(0, Long.parseLong(cached));
+            }
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("[NOTIFICATION] 읽지 않은 알림 수 조회 실패, DB로 대체: userId={}, error={}", userId, e.getMessage());
+            return loader.getAsLong();
+        }
+
+        long count = loader.getAsLong();
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL);
+        } catch (DataAccessException e) {
+            log.warn("[NOTIFICATION] 읽지 않은 알림 수 저장 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    public void incrementAfterCommit(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> targets = List.copyOf(userIds);
+        afterCommit(() -> add(targets, 1));
+    }
+
+    public void decrementAfterCommit(Long userId) {
+        afterCommit(() -> add(List.of(userId), -1));
+    }
+
+    public void evictAfterCommit(Long userId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(KEY_PREFIX + userId);
+            } catch (DataAccessException e) {
+                log.warn("[NOTIFICATION] 읽지 않은 알림 수 초기화 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        });
+    }
+
+    // 그룹 알림은 수신자 수만큼 스크립트를 파이프라인 1회로 실행
+    private void add(List<Long> userIds, long delta) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long userId : userIds) {
+                    stringConnection.eval(ADD_IF_PRESENT, ReturnType.INTEGER, 1,
+                            KEY_PREFIX + userId, String.valueOf(delta));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 증감을 놓친 키는 TTL이 지나면 DB count로 다시 채워짐
+            log.warn("[NOTIFICATION] 읽지 않은 알림 수 갱신 실패: users={}, delta={}, error={}",
+                    userIds.size(), delta, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
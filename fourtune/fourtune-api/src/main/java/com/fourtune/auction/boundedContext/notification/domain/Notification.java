@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "notifications")
+// 알림함 keyset 조회 (user_id = ? and (send_at, id) < (?, ?) order by send_at desc, id desc)
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_send_at", columnList = "user_id, send_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Notification {
 
@@ -0,0 +1,43 @@
+package com.fourtune.auction.boundedContext.notification.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 알림함 keyset 커서 (클라이언트에는 Base64URL("sendAt|id") 문자열로만 노출)
+ * - 직전 페이지 마지막 알림의 (sendAt, id), 다음 페이지는 이보다 오래된 알림부터
+ * - sendAt은 DB 정밀도(마이크로초)를 그대로 유지해야 같은 시각 알림을 빠뜨리지 않음
+ */
+public record NotificationCursor(LocalDateTime sendAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static NotificationCursor of(Notification notification) {
+        return new NotificationCursor(notification.getSendAt(), notification.getId());
+    }
+
+    public String encode() {
+        String raw = sendAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 형식이 잘못된 커서면 null
+     */
+    public static NotificationCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                return null;
+            }
+            return new NotificationCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
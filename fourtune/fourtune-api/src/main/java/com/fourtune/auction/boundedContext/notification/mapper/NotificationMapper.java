@@ -14,6 +14,7 @@ public class NotificationMapper {
                 .type(notification.getType().name())
                 .title(notification.getTitle())
                 .content(notification.getContent())
+                .relatedUrl(notification.getRelatedUrl())
                 .isRead(notification.isRead())
                 .sendAt(notification.getSendAt())
                 .build();
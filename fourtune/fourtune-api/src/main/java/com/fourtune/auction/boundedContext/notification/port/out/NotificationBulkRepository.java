@@ -0,0 +1,13 @@
+package com.fourtune.auction.boundedContext.notification.port.out;
+
+import com.fourtune.auction.boundedContext.notification.domain.constant.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationBulkRepository {
+
+    // 같은 내용의 알림을 수신자별로 JDBC batch INSERT, 저장한 건수 반환
+    int insertAll(List<Long> receiverIds, NotificationType type, String title, String content, String relatedUrl,
+                  LocalDateTime sendAt);
+}
@@ -1,11 +1,43 @@
 package com.fourtune.auction.boundedContext.notification.port.out;
 
 import com.fourtune.auction.boundedContext.notification.domain.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    List<Notification> findAllByUserIdOrderBySendAtDesc(Long userId);
+    // 알림함 첫 페이지 (idx_notifications_user_send_at 역순 스캔, count 쿼리 없음)
+    @Query("select n from Notification n where n.user.id = :userId order by n.sendAt desc, n.id desc")
+    List<Notification> findLatest(@Param("userId") Long userId, Pageable pageable);
+
+    // 직전 페이지 마지막 알림 (sendAt, id) 이후, 이력이 많아도 읽는 행 수는 페이지 크기만큼
+    @Query("""
+            select n from Notification n
+            where n.user.id = :userId
+              and (n.sendAt < :sendAt or (n.sendAt = :sendAt and n.id < :id))
+            order by n.sendAt desc, n.id desc
+            """)
+    List<Notification> findBefore(@Param("userId") Long userId,
+                                  @Param("sendAt") LocalDateTime sendAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
+    @Query("select count(n) from Notification n where n.user.id = :userId and n.isRead = false")
+    long countUnread(@Param("userId") Long userId);
+
+    // 단건 읽음: 읽지 않은 상태일 때만 바꾸고 바뀐 행 수 반환 (동시 요청 중 한 건만 1)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Notification n set n.isRead = true, n.readAt = :readAt where n.id = :id and n.isRead = false")
+    int markAsRead(@Param("id") Long id, @Param("readAt") LocalDateTime readAt);
+
+    // 모두 읽음: 엔티티를 읽지 않고 UPDATE 1회
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Notification n set n.isRead = true, n.readAt = :readAt where n.user.id = :userId and n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
 }
@@ -3,8 +3,12 @@ package com.fourtune.auction.boundedContext.notification.port.out;
 import com.fourtune.auction.boundedContext.notification.domain.NotificationSettings;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationSettingsRepository extends JpaRepository<NotificationSettings, Long> {
     Optional<NotificationSettings> findByUserId(Long userId);
+
+    List<NotificationSettings> findAllByUserIdIn(Collection<Long> userIds);
 }
@@ -2,6 +2,15 @@ package com.fourtune.auction.boundedContext.notification.port.out;
 
 import com.fourtune.auction.boundedContext.notification.domain.NotificationUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface NotificationUserRepository extends JpaRepository<NotificationUser, Long> {
+
+    // 그룹 알림 대상 중 존재하는 유저 ID만 조회 (엔티티 로딩 없이 1회 쿼리)
+    @Query("select u.id from NotificationUser u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
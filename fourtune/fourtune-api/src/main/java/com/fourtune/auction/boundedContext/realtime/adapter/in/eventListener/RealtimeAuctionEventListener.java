@@ -0,0 +1,46 @@
+package com.fourtune.auction.boundedContext.realtime.adapter.in.eventListener;
+
+import com.fourtune.auction.boundedContext.realtime.application.RealtimeEventRelay;
+import com.fourtune.core.config.EventPublishingConfig;
+import com.fourtune.shared.auction.event.AuctionClosedEvent;
+import com.fourtune.shared.auction.event.AuctionExtendedEvent;
+import com.fourtune.shared.auction.event.BidPlacedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Kafka 미사용(단일 노드) 환경에서 입찰/연장/종료 이벤트를 실시간 푸시로 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class RealtimeAuctionEventListener {
+
+    private final RealtimeEventRelay eventRelay;
+    private final EventPublishingConfig eventPublishingConfig;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBidPlacedEvent(BidPlacedEvent event) {
+        if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
+            return;
+        }
+        eventRelay.bidPlaced(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAuctionExtendedEvent(AuctionExtendedEvent event) {
+        if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
+            return;
+        }
+        eventRelay.auctionExtended(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAuctionClosedEvent(AuctionClosedEvent event) {
+        if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
+            return;
+        }
+        eventRelay.auctionClosed(event);
+    }
+}
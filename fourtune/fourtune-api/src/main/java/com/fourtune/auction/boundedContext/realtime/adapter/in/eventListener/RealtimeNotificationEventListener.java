@@ -0,0 +1,28 @@
+package com.fourtune.auction.boundedContext.realtime.adapter.in.eventListener;
+
+import com.fourtune.auction.boundedContext.realtime.application.RealtimeEventRelay;
+import com.fourtune.core.config.EventPublishingConfig;
+import com.fourtune.shared.notification.event.NotificationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Kafka 미사용(단일 노드) 환경에서 알림 생성 이벤트를 실시간 푸시로 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class RealtimeNotificationEventListener {
+
+    private final RealtimeEventRelay eventRelay;
+    private final EventPublishingConfig eventPublishingConfig;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationEvent(NotificationEvent event) {
+        if (eventPublishingConfig.isNotificationEventsKafkaEnabled()) {
+            return;
+        }
+        eventRelay.notificationCreated(event.receiverId(), event.title(), event.content(), event.relatedUrl());
+    }
+}
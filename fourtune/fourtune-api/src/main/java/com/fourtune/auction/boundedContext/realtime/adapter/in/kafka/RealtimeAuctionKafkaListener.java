@@ -0,0 +1,60 @@
+package com.fourtune.auction.boundedContext.realtime.adapter.in.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.realtime.application.RealtimeEventRelay;
+import com.fourtune.kafka.KafkaTopicConfig;
+import com.fourtune.shared.auction.event.AuctionClosedEvent;
+import com.fourtune.shared.auction.event.AuctionExtendedEvent;
+import com.fourtune.shared.auction.event.BidPlacedEvent;
+import com.fourtune.shared.kafka.auction.AuctionEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 푸시용 Auction 이벤트 Kafka Consumer
+ * - 노드마다 별도 그룹(realtime-push-auction-{노드 ID}, RealtimePushNodeId)으로 구독해 모든 노드가 모든 이벤트를 받음
+ * - 연결된 클라이언트에게 지금 이후 이벤트만 의미가 있으므로 latest부터 읽고 오프셋은 커밋하지 않음
+ * - Kafka 미사용 환경에서는 RealtimeAuctionEventListener가 같은 역할
+ * - 푸시는 best-effort라 실패해도 재시도/DLQ 없이 로그만 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "feature.kafka.auction-events.enabled", havingValue = "true", matchIfMissing = false)
+public class RealtimeAuctionKafkaListener {
+
+    private final RealtimeEventRelay eventRelay;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = KafkaTopicConfig.AUCTION_EVENTS_TOPIC,
+            groupId = "realtime-push-auction-#{@realtimePushNodeId.value()}",
+            containerFactory = "realtimePushKafkaListenerContainerFactory"
+    )
+    public void consume(String payload, @Header(value = "X-Event-Type", required = false) String eventType) {
+        if (eventType == null) {
+            return;
+        }
+
+        try {
+            switch (AuctionEventType.valueOf(eventType)) {
+                case BID_PLACED -> eventRelay.bidPlaced(objectMapper.readValue(payload, BidPlacedEvent.class));
+                case AUCTION_EXTENDED -> eventRelay.auctionExtended(
+                        objectMapper.readValue(payload, AuctionExtendedEvent.class));
+                case AUCTION_CLOSED -> eventRelay.auctionClosed(
+                        objectMapper.readValue(payload, AuctionClosedEvent.class));
+                default -> {
+                    // 실시간으로 내보내지 않는 이벤트는 무시
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("[REALTIME] 알 수 없는 이벤트 타입: {}", eventType);
+        } catch (Exception e) {
+            log.warn("[REALTIME] Auction 이벤트 푸시 실패: eventType={}, error={}", eventType, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.fourtune.auction.boundedContext.realtime.adapter.in.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.api.infrastructure.kafka.notification.NotificationEventType;
+import com.fourtune.auction.boundedContext.realtime.application.RealtimeEventRelay;
+import com.fourtune.kafka.KafkaTopicConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 푸시용 Notification 이벤트 Kafka Consumer
+ * - 수신자가 어느 노드에 연결돼 있는지 모르므로 노드마다 별도 그룹으로 전체를 받고, 연결이 없는 유저는 허브에서 버림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "feature.kafka.notification-events.enabled", havingValue = "true", matchIfMissing = false)
+public class RealtimeNotificationKafkaListener {
+
+    private final RealtimeEventRelay eventRelay;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = KafkaTopicConfig.NOTIFICATION_EVENTS_TOPIC,
+            groupId = "realtime-push-notification-#{@realtimePushNodeId.value()}",
+            containerFactory = "realtimePushKafkaListenerContainerFactory"
+    )
+    public void consume(String payload, @Header(value = "X-Event-Type", required = false) String eventType) {
+        if (eventType == null || !eventType.equals(NotificationEventType.NOTIFICATION_CREATED.name())) {
+            return;
+        }
+
+        try {
+            JsonNode node = objectMapper.readTree(payload);
+            eventRelay.notificationCreated(
+                    node.get("receiverId").asLong(),
+                    node.path("title").asText(),
+                    node.path("content").asText(),
+                    node.path("relatedUrl").asText(null));
+        } catch (Exception e) {
+            log.warn("[REALTIME] Notification 이벤트 푸시 실패: error={}", e.getMessage());
+        }
+    }
+}
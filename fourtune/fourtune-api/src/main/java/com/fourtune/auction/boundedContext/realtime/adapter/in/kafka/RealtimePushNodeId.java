@@ -0,0 +1,40 @@
+package com.fourtune.auction.boundedContext.realtime.adapter.in.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * 실시간 푸시 Kafka 그룹 ID 접미사
+ * - 설정값(없으면 호스트 이름) 뒤에 실행마다 새 UUID를 붙여, 호스트 이름이 겹치거나 같은 노드가 재시작해도 그룹이 겹치지 않음
+ *   (그룹이 겹치면 파티션을 나눠 받아 일부 노드의 연결에 이벤트가 가지 않음)
+ * - 리스너는 오프셋을 커밋하지 않으므로 노드가 내려가 빈 그룹이 되면 브로커가 바로 정리함
+ */
+@Slf4j
+@Component
+public class RealtimePushNodeId {
+
+    private final String value;
+
+    public RealtimePushNodeId(@Value("${realtime.push.node-id:}") String configured) {
+        String prefix = configured != null && !configured.isBlank() ? configured : hostName();
+        this.value = prefix + "-" + UUID.randomUUID();
+        log.info("[REALTIME] Kafka 그룹 노드 ID: {}", value);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.fourtune.auction.boundedContext.realtime.adapter.in.web;
+
+import com.fourtune.auction.boundedContext.realtime.application.RealtimePushHub;
+import com.fourtune.auction.boundedContext.realtime.application.RealtimeSubscriber;
+import com.fourtune.shared.auth.dto.UserContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 실시간 푸시 SSE 엔드포인트
+ * - auctionIds로 경매 방(현재가/연장/종료)을 구독하고, 로그인 상태면 본인 알림도 같은 연결로 받음
+ * - 서블릿 비동기 요청이라 연결이 요청 스레드를 잡지 않음, 전송은 연결마다 가상 스레드 writer가 담당
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/realtime")
+public class RealtimePushController {
+
+    private final RealtimePushHub pushHub;
+
+    // 연결 최대 유지 시간, 지나면 서버가 닫고 클라이언트가 재연결
+    @Value("${realtime.push.connection-timeout-ms:1800000}")
+    private long connectionTimeoutMs;
+
+    @Value("${realtime.push.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${realtime.push.reconnect-delay-ms:3000}")
+    private long reconnectDelayMs;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal UserContext userContext,
+            @RequestParam(required = false) Set<Long> auctionIds
+    ) {
+        Long userId = userContext != null ? userContext.id() : null;
+        RealtimeSubscriber subscriber = pushHub.connect(userId, auctionIds != null ? auctionIds : Set.of());
+
+        SseEmitter emitter = new SseEmitter(connectionTimeoutMs);
+        emitter.onCompletion(() -> pushHub.disconnect(subscriber));
+        emitter.onTimeout(() -> pushHub.disconnect(subscriber));
+        emitter.onError(e -> pushHub.disconnect(subscriber));
+
+        Thread.ofVirtual().name("realtime-sse-writer").start(new SseSubscriberWriter(
+                pushHub, subscriber, emitter, Duration.ofMillis(heartbeatIntervalMs), reconnectDelayMs));
+        return emitter;
+    }
+}
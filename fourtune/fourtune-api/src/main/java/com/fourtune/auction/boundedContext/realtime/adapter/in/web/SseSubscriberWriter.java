@@ -0,0 +1,52 @@
+package com.fourtune.auction.boundedContext.realtime.adapter.in.web;
+
+import com.fourtune.auction.boundedContext.realtime.application.RealtimePushHub;
+import com.fourtune.auction.boundedContext.realtime.application.RealtimeSubscriber;
+import com.fourtune.auction.boundedContext.realtime.domain.RealtimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 연결 1개의 대기열을 SSE로 내보내는 writer (연결마다 가상 스레드 1개)
+ * - 느린 클라이언트 때문에 소켓 쓰기가 막혀도 이 가상 스레드만 멈추고, 그 사이 대기열이 차면 허브가 연결을 끊음
+ * - heartbeat 동안 보낼 메시지가 없으면 주석 이벤트를 보내 프록시 유휴 타임아웃과 끊긴 연결을 감지
+ */
+@Slf4j
+@RequiredArgsConstructor
+class SseSubscriberWriter implements Runnable {
+
+    private final RealtimePushHub pushHub;
+    private final RealtimeSubscriber subscriber;
+    private final SseEmitter emitter;
+    private final Duration heartbeatInterval;
+    private final long reconnectDelayMs;
+
+    @Override
+    public void run() {
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(reconnectDelayMs).comment("connected"));
+            while (!subscriber.isClosed()) {
+                RealtimeMessage message = subscriber.poll(heartbeatInterval);
+                if (message != null) {
+                    emitter.send(SseEmitter.event().name(message.event()).data(message.data()));
+                } else if (!subscriber.isClosed()) {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                }
+            }
+            // 느린 연결로 끊겼거나 서버 종료: 스트림을 닫아 클라이언트가 재연결하게 함
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 먼저 끊음 (emitter 정리는 컨테이너 onError/onCompletion에서)
+            log.debug("[REALTIME] SSE 전송 중단: userId={}, error={}", subscriber.userId(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } finally {
+            pushHub.disconnect(subscriber);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.fourtune.auction.boundedContext.realtime.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fourtune.auction.boundedContext.realtime.domain.RealtimeMessage;
+import com.fourtune.shared.auction.event.AuctionClosedEvent;
+import com.fourtune.shared.auction.event.AuctionExtendedEvent;
+import com.fourtune.shared.auction.event.BidPlacedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트 → 클라이언트용 실시간 메시지 변환 후 허브로 전달
+ * - 이벤트 1건당 JSON 직렬화는 한 번만 하고 방/채널의 모든 구독자가 같은 문자열을 받음
+ * - 입찰자/낙찰자 ID 등 다른 사용자에게 보일 필요 없는 값은 내보내지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class RealtimeEventRelay {
+
+    public static final String BID_PLACED = "BID_PLACED";
+    public static final String AUCTION_EXTENDED = "AUCTION_EXTENDED";
+    public static final String AUCTION_CLOSED = "AUCTION_CLOSED";
+    public static final String NOTIFICATION_CREATED = "NOTIFICATION_CREATED";
+
+    private final RealtimePushHub pushHub;
+    private final ObjectMapper objectMapper;
+
+    public void bidPlaced(BidPlacedEvent event) {
+        ObjectNode data = objectMapper.createObjectNode()
+                .put("auctionId", event.auctionId())
+                .put("currentPrice", event.bidAmount())
+                .put("bidTime", format(event.bidTime()));
+        pushHub.publishBidPlaced(event.auctionId(), message(BID_PLACED, data));
+    }
+
+    public void auctionExtended(AuctionExtendedEvent event) {
+        ObjectNode data = objectMapper.createObjectNode()
+                .put("auctionId", event.auctionId())
+                .put("endAt", format(event.newEndTime()));
+        pushHub.publishToAuction(event.auctionId(), message(AUCTION_EXTENDED, data));
+    }
+
+    public void auctionClosed(AuctionClosedEvent event) {
+        ObjectNode data = objectMapper.createObjectNode()
+                .put("auctionId", event.auctionId())
+                .put("sold", event.winnerId() != null)
+                .put("finalPrice", event.finalPrice());
+        pushHub.publishToAuction(event.auctionId(), message(AUCTION_CLOSED, data));
+    }
+
+    public void notificationCreated(Long receiverId, String title, String content, String relatedUrl) {
+        ObjectNode data = objectMapper.createObjectNode()
+                .put("title", title)
+                .put("content", content)
+                .put("relatedUrl", relatedUrl);
+        pushHub.publishToUser(receiverId, message(NOTIFICATION_CREATED, data));
+    }
+
+    private RealtimeMessage message(String event, ObjectNode data) {
+        try {
+            return new RealtimeMessage(event, objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("실시간 메시지 직렬화 실패: " + event, e);
+        }
+    }
+
+    private static String format(LocalDateTime time) {
+        return time != null ? time.toString() : null;
+    }
+}
@@ -0,0 +1,255 @@
+package com.fourtune.auction.boundedContext.realtime.application;
+
+import com.fourtune.auction.boundedContext.realtime.domain.RealtimeMessage;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 노드 단위 실시간 푸시 허브
+ * - 경매 방(auctionId)과 유저 채널(userId)별로 연결을 모아 두고, Kafka에서 받은 이벤트를 해당 연결의 대기열에 넣음
+ * - 입찰가 갱신(BID_PLACED)은 coalesce-window 동안 경매별 마지막 값만 남겨 한 번에 내보냄
+ *   (연장/종료 이벤트는 남은 입찰가를 먼저 내보낸 뒤 바로 전달)
+ * - 대기열이 가득 찬 느린 연결은 끊음 (클라이언트는 재연결 후 REST로 현재 상태를 다시 읽음)
+ * - 이 노드에 구독자가 없는 경매/유저 이벤트는 바로 버림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RealtimePushHub {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${realtime.push.max-connections:100000}")
+    private int maxConnections;
+
+    @Value("${realtime.push.max-auctions-per-connection:20}")
+    private int maxAuctionsPerConnection;
+
+    // 연결별 송신 대기열 크기, 넘치면 느린 연결로 보고 끊음
+    @Value("${realtime.push.buffer-size:64}")
+    private int bufferSize;
+
+    // 0 이하면 입찰가를 모으지 않고 바로 전달
+    @Value("${realtime.push.coalesce-window-ms:200}")
+    private long coalesceWindowMs;
+
+    private final Map<Long, Set<RealtimeSubscriber>> auctionRooms = new ConcurrentHashMap<>();
+    private final Map<Long, Set<RealtimeSubscriber>> userChannels = new ConcurrentHashMap<>();
+    private final Map<Long, RealtimeMessage> pendingPrices = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private ScheduledExecutorService coalescer;
+
+    private Counter auctionDeliveredCounter;
+    private Counter userDeliveredCounter;
+    private Counter coalescedCounter;
+    private Counter evictedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("realtime.push.connections", connections, AtomicInteger::get)
+                .description("현재 연결된 실시간 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("realtime.push.rooms", auctionRooms, Map::size)
+                .description("구독자가 있는 경매 방 수")
+                .register(meterRegistry);
+        auctionDeliveredCounter = deliveredCounter("auction");
+        userDeliveredCounter = deliveredCounter("user");
+        coalescedCounter = Counter.builder("realtime.push.coalesced")
+                .description("전송 전에 더 최신 입찰가로 대체된 메시지 수")
+                .register(meterRegistry);
+        evictedCounter = Counter.builder("realtime.push.evicted")
+                .description("대기열이 넘쳐 끊은 느린 연결 수")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("realtime.push.rejected")
+                .description("최대 연결 수 초과로 거절한 연결 수")
+                .register(meterRegistry);
+
+        if (coalesceWindowMs > 0) {
+            coalescer = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("realtime-push-coalescer").daemon().factory());
+            coalescer.scheduleWithFixedDelay(this::flushQuietly, coalesceWindowMs, coalesceWindowMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (coalescer != null) {
+            coalescer.shutdownNow();
+        }
+        List<RealtimeSubscriber> all = new ArrayList<>();
+        auctionRooms.values().forEach(all::addAll);
+        userChannels.values().forEach(all::addAll);
+        all.forEach(this::disconnect);
+    }
+
+    /**
+     * 연결 등록 (비로그인이면 userId null, 경매 방만 구독)
+     */
+    public RealtimeSubscriber connect(Long userId, Set<Long> auctionIds) {
+        if (auctionIds.size() > maxAuctionsPerConnection) {
+            throw new BusinessException(ErrorCode.REALTIME_TOO_MANY_AUCTIONS);
+        }
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.REALTIME_CONNECTION_LIMIT_EXCEEDED);
+        }
+        RealtimeSubscriber subscriber = new RealtimeSubscriber(userId, auctionIds, bufferSize);
+        subscriber.auctionIds().forEach(auctionId -> join(auctionRooms, auctionId, subscriber));
+        if (userId != null) {
+            join(userChannels, userId, subscriber);
+        }
+        return subscriber;
+    }
+
+    /**
+     * 연결 해제 (여러 번 호출돼도 한 번만 처리)
+     */
+    public void disconnect(RealtimeSubscriber subscriber) {
+        release(subscriber);
+    }
+
+    /**
+     * 입찰가 갱신: 같은 경매의 갱신은 coalesce-window 동안 마지막 것만 전달
+     */
+    public void publishBidPlaced(Long auctionId, RealtimeMessage message) {
+        if (!auctionRooms.containsKey(auctionId)) {
+            return;
+        }
+        if (coalesceWindowMs <= 0) {
+            fanOut(auctionRooms.get(auctionId), message, auctionDeliveredCounter);
+            return;
+        }
+        if (pendingPrices.put(auctionId, message) != null) {
+            coalescedCounter.increment();
+        }
+    }
+
+    /**
+     * 경매 방 전체에 즉시 전달 (모아 둔 입찰가가 있으면 먼저 전달해 순서 유지)
+     */
+    public void publishToAuction(Long auctionId, RealtimeMessage message) {
+        Set<RealtimeSubscriber> room = auctionRooms.get(auctionId);
+        if (room == null) {
+            return;
+        }
+        // 병합기가 같은 방의 입찰가를 내보내는 중이면 끝날 때까지 기다려 입찰가 → 연장/종료 순서를 지킴
+        synchronized (room) {
+            RealtimeMessage pending = pendingPrices.remove(auctionId);
+            if (pending != null) {
+                fanOut(room, pending, auctionDeliveredCounter);
+            }
+            fanOut(room, message, auctionDeliveredCounter);
+        }
+    }
+
+    public void publishToUser(Long userId, RealtimeMessage message) {
+        fanOut(userChannels.get(userId), message, userDeliveredCounter);
+    }
+
+    /**
+     * 모아 둔 입찰가를 경매 방마다 전달
+     */
+    public void flushPendingPrices() {
+        for (Long auctionId : pendingPrices.keySet()) {
+            Set<RealtimeSubscriber> room = auctionRooms.get(auctionId);
+            if (room == null) {
+                pendingPrices.remove(auctionId);
+                continue;
+            }
+            synchronized (room) {
+                RealtimeMessage message = pendingPrices.remove(auctionId);
+                if (message != null) {
+                    fanOut(room, message, auctionDeliveredCounter);
+                }
+            }
+        }
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    private void flushQuietly() {
+        try {
+            flushPendingPrices();
+        } catch (Exception e) {
+            // 예외가 나가면 스케줄이 멈추므로 삼킴
+            log.error("[REALTIME] 입찰가 전달 실패", e);
+        }
+    }
+
+    private void fanOut(Set<RealtimeSubscriber> subscribers, RealtimeMessage message, Counter deliveredCounter) {
+        if (subscribers == null) {
+            return;
+        }
+        int delivered = 0;
+        for (RealtimeSubscriber subscriber : subscribers) {
+            if (subscriber.offer(message)) {
+                delivered++;
+            } else if (release(subscriber)) {
+                evictedCounter.increment();
+                log.debug("[REALTIME] 대기열이 가득 찬 느린 연결 끊음: userId={}, auctions={}",
+                        subscriber.userId(), subscriber.auctionIds());
+            }
+        }
+        deliveredCounter.increment(delivered);
+    }
+
+    private boolean release(RealtimeSubscriber subscriber) {
+        if (!subscriber.close()) {
+            return false;
+        }
+        subscriber.auctionIds().forEach(auctionId -> leave(auctionRooms, auctionId, subscriber));
+        if (subscriber.userId() != null) {
+            leave(userChannels, subscriber.userId(), subscriber);
+        }
+        connections.decrementAndGet();
+        return true;
+    }
+
+    // 빈 방 제거와 입장이 겹쳐도 구독자가 버려진 Set에 들어가지 않도록 compute 안에서 추가/제거
+    private static void join(Map<Long, Set<RealtimeSubscriber>> channels, Long key, RealtimeSubscriber subscriber) {
+        channels.compute(key, (k, members) -> {
+            Set<RealtimeSubscriber> target = members != null ? members : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+    }
+
+    private static void leave(Map<Long, Set<RealtimeSubscriber>> channels, Long key, RealtimeSubscriber subscriber) {
+        channels.computeIfPresent(key, (k, members) -> {
+            members.remove(subscriber);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private Counter deliveredCounter(String channel) {
+        return Counter.builder("realtime.push.delivered")
+                .description("연결 대기열에 넣은 메시지 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fourtune.auction.boundedContext.realtime.application;
+
+import com.fourtune.auction.boundedContext.realtime.domain.RealtimeMessage;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실시간 연결 1개의 송신 대기열
+ * - fan-out 스레드는 offer만 하고 막히지 않음, 실제 전송은 연결마다 붙은 writer가 poll로 꺼내 감
+ * - 대기열이 가득 차면(클라이언트가 읽는 속도가 발행 속도를 못 따라가면) offer가 false → 허브가 연결을 끊음
+ */
+public class RealtimeSubscriber {
+
+    // close 시 대기 중인 writer를 깨우는 표식
+    private static final RealtimeMessage CLOSED = new RealtimeMessage("CLOSED", "");
+
+    private final Long userId;
+    private final Set<Long> auctionIds;
+    private final BlockingQueue<RealtimeMessage> queue;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public RealtimeSubscriber(Long userId, Set<Long> auctionIds, int bufferSize) {
+        this.userId = userId;
+        this.auctionIds = Set.copyOf(auctionIds);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+    }
+
+    public Long userId() {
+        return userId;
+    }
+
+    public Set<Long> auctionIds() {
+        return auctionIds;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * @return 대기열이 가득 찼거나 이미 닫힌 연결이면 false
+     */
+    public boolean offer(RealtimeMessage message) {
+        return !closed.get() && queue.offer(message);
+    }
+
+    /**
+     * 다음 메시지를 최대 timeout만큼 기다림
+     * @return timeout 동안 메시지가 없거나 연결이 닫혔으면 null
+     */
+    public RealtimeMessage poll(Duration timeout) throws InterruptedException {
+        if (closed.get()) {
+            return null;
+        }
+        RealtimeMessage message = queue.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        return message == CLOSED ? null : message;
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * @return 이번 호출로 닫혔으면 true (이미 닫힌 연결이면 false)
+     */
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        queue.offer(CLOSED);
+        return true;
+    }
+}
@@ -0,0 +1,12 @@
+package com.fourtune.auction.boundedContext.realtime.domain;
+
+/**
+ * 클라이언트에 내보낼 실시간 메시지
+ * - event: SSE event 이름 (BID_PLACED, AUCTION_EXTENDED, AUCTION_CLOSED, NOTIFICATION_CREATED)
+ * - data: 직렬화를 마친 JSON (같은 방의 구독자 모두가 같은 문자열을 공유)
+ */
+public record RealtimeMessage(
+        String event,
+        String data
+) {
+}
@@ -1,9 +1,14 @@
 package com.fourtune.auction.boundedContext.search.adapter.in.event;
 
+import com.fourtune.auction.boundedContext.search.application.service.AuctionBidDeltaCoalescer;
 import com.fourtune.auction.boundedContext.search.application.service.AuctionItemIndexingHandler;
 import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionStatusChange;
+import com.fourtune.auction.boundedContext.search.mapper.SearchAuctionEventMapper;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
 import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
 import com.fourtune.shared.auction.event.AuctionItemDeletedEvent;
+import com.fourtune.shared.auction.event.AuctionItemStatusChangedEvent;
 import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +37,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class AuctionItemIndexEventListener {
 
     private final AuctionItemIndexingHandler indexingHandler;
+    private final AuctionBidDeltaCoalescer bidDeltaCoalescer;
 
     /**
      * 경매 생성 이벤트 처리
@@ -48,7 +54,7 @@ public class AuctionItemIndexEventListener {
     public void handleCreated(AuctionItemCreatedEvent event) {
         log.info("[SEARCH][INDEX] Received AuctionItemCreatedEvent: auctionItemId={}", event.auctionItemId());
         try {
-            SearchAuctionItemView view = toView(event);
+            SearchAuctionItemView view = SearchAuctionEventMapper.toView(event);
             indexingHandler.upsert(view);
             log.debug("[SEARCH][INDEX] Successfully indexed auction item: {}", event.auctionItemId());
         } catch (Exception e) {
@@ -70,7 +76,7 @@ public class AuctionItemIndexEventListener {
     public void handleUpdated(AuctionItemUpdatedEvent event) {
         log.info("[SEARCH][INDEX] Received AuctionItemUpdatedEvent: auctionItemId={}", event.auctionItemId());
         try {
-            SearchAuctionItemView view = toView(event);
+            SearchAuctionItemView view = SearchAuctionEventMapper.toView(event);
             indexingHandler.upsert(view);
             log.debug("[SEARCH][INDEX] Successfully updated auction item index: {}", event.auctionItemId());
         } catch (Exception e) {
@@ -79,6 +85,33 @@ public class AuctionItemIndexEventListener {
         }
     }
 
+    /**
+     * 입찰 델타 이벤트 처리
+     * 경매별로 병합만 하고 ES 반영은 AuctionBidDeltaCoalescer가 주기적으로 1회 수행 (비동기 불필요)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBidDelta(AuctionBidDeltaEvent event) {
+        log.debug("[SEARCH][INDEX] Received AuctionBidDeltaEvent: auctionItemId={}, bidCount={}",
+                event.auctionItemId(), event.bidCount());
+        bidDeltaCoalescer.submit(SearchAuctionEventMapper.toDelta(event));
+    }
+
+    /**
+     * 경매 상태 변경 이벤트 처리 (상태 필드만 부분 업데이트)
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStatusChanged(AuctionItemStatusChangedEvent event) {
+        log.info("[SEARCH][INDEX] Received AuctionItemStatusChangedEvent: auctionItemId={}, status={}",
+                event.auctionItemId(), event.status());
+        try {
+            indexingHandler.updateStatus(new SearchAuctionStatusChange(
+                    event.auctionItemId(), event.status(), event.changedAt()));
+        } catch (Exception e) {
+            log.error("[SEARCH][INDEX] Failed to update auction item status: {}", event.auctionItemId(), e);
+        }
+    }
+
     /**
      * 경매 삭제 이벤트 처리
      * 
@@ -98,52 +131,4 @@ public class AuctionItemIndexEventListener {
             // TODO: Kafka DLQ 또는 재시도 로직 추가
         }
     }
-
-    // AuctionItemCreatedEvent를 SearchAuctionItemView로 변환
-    private SearchAuctionItemView toView(AuctionItemCreatedEvent event) {
-        return new SearchAuctionItemView(
-                event.auctionItemId(),
-                event.title(),
-                event.description(),
-                event.category(),
-                event.status(),
-                event.startPrice(),
-                event.currentPrice(),
-                event.buyNowPrice(),
-                event.buyNowEnabled(),
-                event.startAt(),
-                event.endAt(),
-                event.thumbnailUrl(),
-                event.createdAt(),
-                event.updatedAt(),
-                event.viewCount(),
-                event.watchlistCount(),
-                event.bidCount(),
-                event.sellerId(),
-                event.sellerName());
-    }
-
-    // AuctionItemUpdatedEvent를 SearchAuctionItemView로 변환
-    private SearchAuctionItemView toView(AuctionItemUpdatedEvent event) {
-        return new SearchAuctionItemView(
-                event.auctionItemId(),
-                event.title(),
-                event.description(),
-                event.category(),
-                event.status(),
-                event.startPrice(),
-                event.currentPrice(),
-                event.buyNowPrice(),
-                event.buyNowEnabled(),
-                event.startAt(),
-                event.endAt(),
-                event.thumbnailUrl(),
-                event.createdAt(),
-                event.updatedAt(),
-                event.viewCount(),
-                event.watchlistCount(),
-                event.bidCount(),
-                event.sellerId(),
-                event.sellerName());
-    }
 }
@@ -1,67 +1,24 @@
 package com.fourtune.auction.boundedContext.search.adapter.in.event;
 
-import com.fourtune.auction.boundedContext.search.domain.SearchLog;
-import com.fourtune.auction.boundedContext.search.port.out.SearchLogRepository;
+import com.fourtune.auction.boundedContext.search.application.service.SearchLogIngestor;
 import com.fourtune.shared.search.event.SearchAuctionItemEvent;
-import com.fourtune.api.infrastructure.kafka.search.SearchKafkaProducer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.math.BigDecimal;
-import java.util.ArrayList;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SearchLogEventListener {
 
-    private final SearchLogRepository searchLogRepository;
-    private final SearchKafkaProducer searchKafkaProducer;
-
-    public SearchLogEventListener(SearchLogRepository searchLogRepository,
-            @Autowired(required = false) SearchKafkaProducer searchKafkaProducer) {
-        this.searchLogRepository = searchLogRepository;
-        this.searchKafkaProducer = searchKafkaProducer;
-    }
+    private final SearchLogIngestor searchLogIngestor;
 
-    @Async("taskExecutor") // AsyncConfig에서 정의한 스레드 풀 사용
+    // 검색 요청 스레드에서 버퍼에 넣기만 함 (DB 저장/Kafka 발행은 SearchLogIngestor 전용 스레드가 묶어서 처리)
     @EventListener
-    @Transactional
     public void handleSearchEvent(SearchAuctionItemEvent event) {
-        log.info("[SEARCH][LOG] 비동기 검색 로그 저장 시작 - keyword: {}, userId: {}", event.keyword(), event.userId());
-
-        // 1. DB 저장 (필수 아님, 실패해도 무방하도록 try-catch)
-        try {
-            SearchLog logEntity = SearchLog.builder()
-                    .userId(event.userId())
-                    .keyword(event.keyword())
-                    .categories(event.categories() != null ? event.categories() : new ArrayList<>())
-                    .minPrice(event.minPrice() != null ? event.minPrice() : BigDecimal.ZERO)
-                    .maxPrice(event.maxPrice())
-                    .status(event.status() != null ? event.status() : new ArrayList<>())
-                    .resultCount(event.resultCount())
-                    .isSuccess(event.isSuccess())
-                    .build();
-
-            searchLogRepository.save(logEntity);
-            log.debug("[SEARCH][LOG] 비동기 검색 로그 저장 완료 - keyword: {}, resultCount: {}", event.keyword(),
-                    event.resultCount());
-
-        } catch (Exception e) {
-            log.error("[SEARCH][LOG] 비동기 검색 로그 저장 실패 - keyword: {}", event.keyword(), e);
-            // 비동기 처리 중 에러 발생 시 메인 로직에는 영향 없음
-        }
-
-        // 2. Kafka 발행
-        try {
-            if (searchKafkaProducer != null) {
-                searchKafkaProducer.send(event);
-            }
-        } catch (Exception e) {
-            log.error("[SEARCH][LOG] Kafka 이벤트 발행 실패 - keyword: {}", event.keyword(), e);
+        if (!searchLogIngestor.offer(event)) {
+            log.debug("[SEARCH][LOG] 적재 버퍼가 가득 차 검색 로그를 버림 - keyword: {}", event.keyword());
         }
     }
 }
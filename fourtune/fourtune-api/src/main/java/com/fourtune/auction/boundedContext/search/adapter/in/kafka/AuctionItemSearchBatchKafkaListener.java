@@ -0,0 +1,159 @@
+package com.fourtune.auction.boundedContext.search.adapter.in.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionBidDeltaCoalescer;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemBulkIndexer;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemBulkIndexer.BulkIndexResult;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemIndexingHandler;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionCounters;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionStatusChange;
+import com.fourtune.auction.boundedContext.search.domain.SearchIndexOperation;
+import com.fourtune.auction.boundedContext.search.mapper.SearchAuctionEventMapper;
+import com.fourtune.kafka.KafkaTopicConfig;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
+import com.fourtune.shared.auction.event.AuctionItemCountersChangedEvent;
+import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
+import com.fourtune.shared.auction.event.AuctionItemDeletedEvent;
+import com.fourtune.shared.auction.event.AuctionItemStatusChangedEvent;
+import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
+import com.fourtune.shared.kafka.auction.AuctionEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 인덱싱 배치 리스너 (search.indexing.listener-mode=batch)
+ * - poll 단위로 받은 생성/수정/삭제 이벤트를 경매별로 병합해 ES _bulk 1회로 반영
+ * - 입찰 델타는 AuctionBidDeltaCoalescer로 경매별 병합 후 배치 끝에서 경매당 1회 반영 (오프셋 커밋 전, flush-then-ack)
+ * - 상태/카운터 변경은 bulk 반영 뒤 건별 부분 업데이트 (같은 배치에서 생성된 문서에도 적용되도록, 순서는 문서 버전으로 보장)
+ * - 역직렬화 실패/문서별 bulk 실패/부분 업데이트 실패는 해당 레코드만 DLQ(-dlq)로 보내고 나머지는 커밋
+ *   (입찰 델타 반영 실패는 해당 경매의 마지막 델타 레코드를 DLQ로 보냄)
+ * - bulk 요청 자체가 실패하면 예외를 던져 배치 전체를 재시도 (오프셋 미커밋)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${feature.kafka.auction-events.enabled:false} and '${search.indexing.listener-mode:single}' == 'batch'")
+public class AuctionItemSearchBatchKafkaListener {
+
+    private static final String EVENT_TYPE_HEADER = "X-Event-Type";
+
+    private final AuctionItemBulkIndexer bulkIndexer;
+    private final AuctionItemIndexingHandler indexingHandler;
+    private final AuctionBidDeltaCoalescer bidDeltaCoalescer;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = KafkaTopicConfig.AUCTION_EVENTS_TOPIC, groupId = "search-auction-events-group", containerFactory = "auctionEventBatchKafkaListenerContainerFactory")
+    public void consume(List<ConsumerRecord<String, String>> records) {
+        List<SearchIndexOperation> operations = new ArrayList<>(records.size());
+        Map<SearchIndexOperation, ConsumerRecord<String, String>> sources = new IdentityHashMap<>();
+        List<PartialUpdate> partialUpdates = new ArrayList<>();
+        Map<Long, ConsumerRecord<String, String>> bidDeltaSources = new LinkedHashMap<>();
+
+        for (ConsumerRecord<String, String> record : records) {
+            String eventType = eventType(record);
+            if (eventType == null) {
+                continue;
+            }
+            try {
+                SearchIndexOperation operation = toOperation(eventType, record, partialUpdates, bidDeltaSources);
+                if (operation != null) {
+                    operations.add(operation);
+                    sources.put(operation, record);
+                }
+            } catch (Exception e) {
+                log.error("[SEARCH][KAFKA] auction event 역직렬화 실패, DLQ 전송: type={}, offset={}",
+                        eventType, record.offset(), e);
+                deadLetterPublishingRecoverer.accept(record, e);
+            }
+        }
+
+        BulkIndexResult result = bulkIndexer.index(operations);
+        for (SearchIndexOperation failed : result.failed()) {
+            String reason = result.reasons().get(failed.auctionItemId());
+            log.error("[SEARCH][KAFKA] bulk 문서 반영 실패, DLQ 전송: auctionId={}, reason={}", failed.auctionItemId(), reason);
+            deadLetterPublishingRecoverer.accept(sources.get(failed),
+                    new IllegalStateException("ES bulk 문서 반영 실패: " + reason));
+        }
+        for (PartialUpdate update : partialUpdates) {
+            try {
+                update.action().run();
+            } catch (Exception e) {
+                log.error("[SEARCH][KAFKA] 부분 업데이트 실패, DLQ 전송: offset={}, error={}",
+                        update.source().offset(), e.getMessage());
+                deadLetterPublishingRecoverer.accept(update.source(), e);
+            }
+        }
+        // 입찰 델타는 오프셋 커밋 전에 반영 (flush-then-ack)
+        bidDeltaCoalescer.flushNow(bidDeltaSources.keySet()).forEach((auctionId, e) -> {
+            log.error("[SEARCH][KAFKA] 입찰 델타 반영 실패, DLQ 전송: auctionId={}, error={}", auctionId, e.getMessage());
+            deadLetterPublishingRecoverer.accept(bidDeltaSources.get(auctionId), e);
+        });
+        if (!operations.isEmpty() || !partialUpdates.isEmpty() || !bidDeltaSources.isEmpty()) {
+            log.info("[SEARCH][KAFKA] Batch processed: records={}, bulk={}, failed={}, partial={}, bidDeltas={}",
+                    records.size(), result.applied().size(), result.failed().size(), partialUpdates.size(),
+                    bidDeltaSources.size());
+        }
+    }
+
+    /**
+     * 이벤트 → 인덱스 작업 변환
+     * 입찰 델타는 디바운서로, 상태/카운터 변경은 부분 업데이트 목록으로 보내고 null 반환
+     */
+    private SearchIndexOperation toOperation(String eventType, ConsumerRecord<String, String> record,
+                                             List<PartialUpdate> partialUpdates,
+                                             Map<Long, ConsumerRecord<String, String>> bidDeltaSources) throws Exception {
+        String payload = record.value();
+        return switch (AuctionEventType.valueOf(eventType)) {
+            case AUCTION_ITEM_CREATED -> SearchIndexOperation.upsert(
+                    SearchAuctionEventMapper.toView(objectMapper.readValue(payload, AuctionItemCreatedEvent.class)));
+            case AUCTION_ITEM_UPDATED -> SearchIndexOperation.upsert(
+                    SearchAuctionEventMapper.toView(objectMapper.readValue(payload, AuctionItemUpdatedEvent.class)));
+            case AUCTION_ITEM_DELETED -> SearchIndexOperation.delete(
+                    objectMapper.readValue(payload, AuctionItemDeletedEvent.class).auctionItemId());
+            case AUCTION_BID_DELTA -> {
+                AuctionBidDeltaEvent event = objectMapper.readValue(payload, AuctionBidDeltaEvent.class);
+                bidDeltaCoalescer.submit(SearchAuctionEventMapper.toDelta(event));
+                bidDeltaSources.put(event.auctionItemId(), record);
+                yield null;
+            }
+            case AUCTION_ITEM_STATUS_CHANGED -> {
+                AuctionItemStatusChangedEvent event = objectMapper.readValue(payload, AuctionItemStatusChangedEvent.class);
+                SearchAuctionStatusChange change = new SearchAuctionStatusChange(
+                        event.auctionItemId(), event.status(), event.changedAt());
+                partialUpdates.add(new PartialUpdate(record, () -> indexingHandler.updateStatus(change)));
+                yield null;
+            }
+            case AUCTION_ITEM_COUNTERS_CHANGED -> {
+                AuctionItemCountersChangedEvent event = objectMapper.readValue(payload, AuctionItemCountersChangedEvent.class);
+                SearchAuctionCounters counters = new SearchAuctionCounters(
+                        event.auctionItemId(), event.viewCount(), event.watchlistCount(), event.changedAt());
+                partialUpdates.add(new PartialUpdate(record, () -> indexingHandler.updateCounters(counters)));
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+    private String eventType(ConsumerRecord<String, String> record) {
+        Header header = record.headers().lastHeader(EVENT_TYPE_HEADER);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    // 부분 업데이트 1건과 실패 시 DLQ로 보낼 원본 레코드
+    private record PartialUpdate(ConsumerRecord<String, String> source, Runnable action) {
+    }
+}
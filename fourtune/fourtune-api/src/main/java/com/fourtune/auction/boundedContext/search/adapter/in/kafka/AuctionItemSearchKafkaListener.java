@@ -1,27 +1,36 @@
 package com.fourtune.auction.boundedContext.search.adapter.in.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionBidDeltaCoalescer;
 import com.fourtune.auction.boundedContext.search.application.service.AuctionItemIndexingHandler;
-import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionCounters;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionStatusChange;
+import com.fourtune.auction.boundedContext.search.mapper.SearchAuctionEventMapper;
 import com.fourtune.kafka.KafkaTopicConfig;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
+import com.fourtune.shared.auction.event.AuctionItemCountersChangedEvent;
 import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
 import com.fourtune.shared.auction.event.AuctionItemDeletedEvent;
+import com.fourtune.shared.auction.event.AuctionItemStatusChangedEvent;
 import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
 import com.fourtune.shared.kafka.auction.AuctionEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
-@ConditionalOnProperty(name = "feature.kafka.auction-events.enabled", havingValue = "true")
+@ConditionalOnExpression("${feature.kafka.auction-events.enabled:false} and '${search.indexing.listener-mode:single}' != 'batch'")
 public class AuctionItemSearchKafkaListener {
 
     private final AuctionItemIndexingHandler indexingHandler;
+    private final AuctionBidDeltaCoalescer bidDeltaCoalescer;
     private final ObjectMapper objectMapper;
 
     @KafkaListener(topics = KafkaTopicConfig.AUCTION_EVENTS_TOPIC, groupId = "search-auction-events-group", containerFactory = "auctionEventKafkaListenerContainerFactory")
@@ -34,14 +43,36 @@ public class AuctionItemSearchKafkaListener {
             switch (AuctionEventType.valueOf(eventType)) {
                 case AUCTION_ITEM_CREATED -> {
                     AuctionItemCreatedEvent event = objectMapper.readValue(payload, AuctionItemCreatedEvent.class);
-                    indexingHandler.upsert(toView(event));
+                    indexingHandler.upsert(SearchAuctionEventMapper.toView(event));
                     log.info("[SEARCH][KAFKA] Created event processed: auctionId={}", event.auctionItemId());
                 }
                 case AUCTION_ITEM_UPDATED -> {
                     AuctionItemUpdatedEvent event = objectMapper.readValue(payload, AuctionItemUpdatedEvent.class);
-                    indexingHandler.upsert(toView(event));
+                    indexingHandler.upsert(SearchAuctionEventMapper.toView(event));
                     log.info("[SEARCH][KAFKA] Updated event processed: auctionId={}", event.auctionItemId());
                 }
+                case AUCTION_BID_DELTA -> {
+                    AuctionBidDeltaEvent event = objectMapper.readValue(payload, AuctionBidDeltaEvent.class);
+                    // 레코드 단위 커밋이므로 커밋 전에 바로 반영 (flush-then-ack)
+                    bidDeltaCoalescer.submit(SearchAuctionEventMapper.toDelta(event));
+                    Exception failure = bidDeltaCoalescer.flushNow(List.of(event.auctionItemId())).get(event.auctionItemId());
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    log.debug("[SEARCH][KAFKA] Bid delta processed: auctionId={}, bidCount={}", event.auctionItemId(), event.bidCount());
+                }
+                case AUCTION_ITEM_STATUS_CHANGED -> {
+                    AuctionItemStatusChangedEvent event = objectMapper.readValue(payload, AuctionItemStatusChangedEvent.class);
+                    indexingHandler.updateStatus(new SearchAuctionStatusChange(
+                            event.auctionItemId(), event.status(), event.changedAt()));
+                    log.info("[SEARCH][KAFKA] Status changed event processed: auctionId={}, status={}", event.auctionItemId(), event.status());
+                }
+                case AUCTION_ITEM_COUNTERS_CHANGED -> {
+                    AuctionItemCountersChangedEvent event = objectMapper.readValue(payload, AuctionItemCountersChangedEvent.class);
+                    indexingHandler.updateCounters(new SearchAuctionCounters(
+                            event.auctionItemId(), event.viewCount(), event.watchlistCount(), event.changedAt()));
+                    log.debug("[SEARCH][KAFKA] Counters changed event processed: auctionId={}", event.auctionItemId());
+                }
                 case AUCTION_ITEM_DELETED -> {
                     AuctionItemDeletedEvent event = objectMapper.readValue(payload, AuctionItemDeletedEvent.class);
                     indexingHandler.delete(event.auctionItemId());
@@ -54,52 +85,4 @@ public class AuctionItemSearchKafkaListener {
             // ContainerFactory에 설정된 ErrorHandler가 재시도를 처리함
         }
     }
-
-    // AuctionItemCreatedEvent를 SearchAuctionItemView로 변환
-    private SearchAuctionItemView toView(AuctionItemCreatedEvent event) {
-        return new SearchAuctionItemView(
-                event.auctionItemId(),
-                event.title(),
-                event.description(),
-                event.category(),
-                event.status(),
-                event.startPrice(),
-                event.currentPrice(),
-                event.buyNowPrice(),
-                event.buyNowEnabled(),
-                event.startAt(),
-                event.endAt(),
-                event.thumbnailUrl(),
-                event.createdAt(),
-                event.updatedAt(),
-                event.viewCount(),
-                event.watchlistCount(),
-                event.bidCount(),
-                event.sellerId(),
-                event.sellerName());
-    }
-
-    // AuctionItemUpdatedEvent를 SearchAuctionItemView로 변환
-    private SearchAuctionItemView toView(AuctionItemUpdatedEvent event) {
-        return new SearchAuctionItemView(
-                event.auctionItemId(),
-                event.title(),
-                event.description(),
-                event.category(),
-                event.status(),
-                event.startPrice(),
-                event.currentPrice(),
-                event.buyNowPrice(),
-                event.buyNowEnabled(),
-                event.startAt(),
-                event.endAt(),
-                event.thumbnailUrl(),
-                event.createdAt(),
-                event.updatedAt(),
-                event.viewCount(),
-                event.watchlistCount(),
-                event.bidCount(),
-                event.sellerId(),
-                event.sellerName());
-    }
 }
@@ -0,0 +1,186 @@
+package com.fourtune.auction.boundedContext.search.adapter.in.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionEventReplayer;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemIndexingHandler;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionBidDelta;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionCounters;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionStatusChange;
+import com.fourtune.auction.boundedContext.search.domain.SearchIndexOperation;
+import com.fourtune.auction.boundedContext.search.mapper.SearchAuctionEventMapper;
+import com.fourtune.kafka.KafkaTopicConfig;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
+import com.fourtune.shared.auction.event.AuctionItemCountersChangedEvent;
+import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
+import com.fourtune.shared.auction.event.AuctionItemDeletedEvent;
+import com.fourtune.shared.auction.event.AuctionItemStatusChangedEvent;
+import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
+import com.fourtune.shared.kafka.auction.AuctionEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 재색인용 경매 이벤트 재생기
+ * - 리스너 그룹과 별개 컨슈머로 전체 파티션을 assign, fromMillis 시점 오프셋부터 시작 시점의 끝 오프셋까지 읽음
+ * - 오프셋은 커밋하지 않음 (운영 리스너의 오프셋에 영향 없음)
+ * - poll 단위로 생성/수정/삭제를 경매별로 병합해 bulk 1회, 입찰/상태/카운터는 그 뒤 건별 부분 업데이트
+ * - 반영은 모두 문서 버전 비교를 거치므로 같은 이벤트를 여러 번 재생해도 결과가 같음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "feature.kafka.auction-events.enabled", havingValue = "true")
+public class KafkaAuctionEventReplayer implements AuctionEventReplayer {
+
+    private static final String EVENT_TYPE_HEADER = "X-Event-Type";
+    private static final String REPLAY_GROUP_ID = "search-reindex-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final int MAX_EMPTY_POLLS = 20;
+
+    private final ConsumerFactory<String, String> auctionEventConsumerFactory;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public long replay(long fromMillis, AuctionItemIndexingHandler target) {
+        try (Consumer<String, String> consumer = auctionEventConsumerFactory.createConsumer(REPLAY_GROUP_ID, "replay")) {
+            List<TopicPartition> partitions = consumer.partitionsFor(KafkaTopicConfig.AUCTION_EVENTS_TOPIC).stream()
+                    .map(p -> new TopicPartition(p.topic(), p.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            Map<TopicPartition, Long> timestamps = new HashMap<>();
+            partitions.forEach(p -> timestamps.put(p, fromMillis));
+            Map<TopicPartition, OffsetAndTimestamp> startOffsets = consumer.offsetsForTimes(timestamps);
+
+            Set<TopicPartition> remaining = new HashSet<>();
+            for (TopicPartition partition : partitions) {
+                OffsetAndTimestamp start = startOffsets.get(partition);
+                long end = endOffsets.getOrDefault(partition, 0L);
+                // fromMillis 이후 레코드가 없는 파티션은 건너뜀
+                if (start != null && start.offset() < end) {
+                    consumer.seek(partition, start.offset());
+                    remaining.add(partition);
+                }
+            }
+
+            long replayed = 0;
+            int emptyPolls = 0;
+            while (!remaining.isEmpty() && emptyPolls < MAX_EMPTY_POLLS) {
+                ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+                emptyPolls = records.isEmpty() ? emptyPolls + 1 : 0;
+
+                List<ConsumerRecord<String, String>> batch = new ArrayList<>(records.count());
+                for (ConsumerRecord<String, String> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() < endOffsets.getOrDefault(partition, 0L)) {
+                        batch.add(record);
+                    }
+                }
+                replayed += apply(batch, target);
+                remaining.removeIf(p -> consumer.position(p) >= endOffsets.getOrDefault(p, 0L));
+            }
+            if (!remaining.isEmpty()) {
+                log.warn("[SEARCH][REINDEX] 이벤트 재생 중 끝 오프셋에 도달하지 못한 파티션: {}", remaining);
+            }
+            return replayed;
+        }
+    }
+
+    private int apply(List<ConsumerRecord<String, String>> records, AuctionItemIndexingHandler target) {
+        Map<Long, SearchIndexOperation> merged = new LinkedHashMap<>();
+        List<Runnable> partialUpdates = new ArrayList<>();
+        int applied = 0;
+        for (ConsumerRecord<String, String> record : records) {
+            String eventType = eventType(record);
+            if (eventType == null) {
+                continue;
+            }
+            try {
+                SearchIndexOperation operation = toOperation(eventType, record.value(), target, partialUpdates);
+                if (operation != null) {
+                    merged.merge(operation.auctionItemId(), operation, SearchIndexOperation::latest);
+                }
+                applied++;
+            } catch (Exception e) {
+                // 운영 리스너에서 이미 DLQ로 보낸 레코드이므로 재생에서는 건너뜀
+                log.warn("[SEARCH][REINDEX] 재생 이벤트 역직렬화 실패, 건너뜀: type={}, offset={}",
+                        eventType, record.offset());
+            }
+        }
+
+        if (!merged.isEmpty()) {
+            Map<Long, String> failures = target.bulk(new ArrayList<>(merged.values()));
+            failures.forEach((auctionId, reason) ->
+                    log.warn("[SEARCH][REINDEX] 재생 문서 반영 실패: auctionId={}, reason={}", auctionId, reason));
+        }
+        for (Runnable update : partialUpdates) {
+            try {
+                update.run();
+            } catch (Exception e) {
+                log.warn("[SEARCH][REINDEX] 재생 부분 업데이트 실패: error={}", e.getMessage());
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 이벤트 → 인덱스 작업 변환, 입찰/상태/카운터 변경은 부분 업데이트 목록에 넣고 null 반환
+     */
+    private SearchIndexOperation toOperation(String eventType, String payload, AuctionItemIndexingHandler target,
+                                             List<Runnable> partialUpdates) throws Exception {
+        return switch (AuctionEventType.valueOf(eventType)) {
+            case AUCTION_ITEM_CREATED -> SearchIndexOperation.upsert(
+                    SearchAuctionEventMapper.toView(objectMapper.readValue(payload, AuctionItemCreatedEvent.class)));
+            case AUCTION_ITEM_UPDATED -> SearchIndexOperation.upsert(
+                    SearchAuctionEventMapper.toView(objectMapper.readValue(payload, AuctionItemUpdatedEvent.class)));
+            case AUCTION_ITEM_DELETED -> SearchIndexOperation.delete(
+                    objectMapper.readValue(payload, AuctionItemDeletedEvent.class).auctionItemId());
+            case AUCTION_BID_DELTA -> {
+                AuctionBidDeltaEvent event = objectMapper.readValue(payload, AuctionBidDeltaEvent.class);
+                SearchAuctionBidDelta delta = SearchAuctionEventMapper.toDelta(event);
+                partialUpdates.add(() -> target.updatePrice(delta));
+                yield null;
+            }
+            case AUCTION_ITEM_STATUS_CHANGED -> {
+                AuctionItemStatusChangedEvent event = objectMapper.readValue(payload, AuctionItemStatusChangedEvent.class);
+                SearchAuctionStatusChange change = new SearchAuctionStatusChange(
+                        event.auctionItemId(), event.status(), event.changedAt());
+                partialUpdates.add(() -> target.updateStatus(change));
+                yield null;
+            }
+            case AUCTION_ITEM_COUNTERS_CHANGED -> {
+                AuctionItemCountersChangedEvent event = objectMapper.readValue(payload, AuctionItemCountersChangedEvent.class);
+                SearchAuctionCounters counters = new SearchAuctionCounters(
+                        event.auctionItemId(), event.viewCount(), event.watchlistCount(), event.changedAt());
+                partialUpdates.add(() -> target.updateCounters(counters));
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+    private String eventType(ConsumerRecord<String, String> record) {
+        Header header = record.headers().lastHeader(EVENT_TYPE_HEADER);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
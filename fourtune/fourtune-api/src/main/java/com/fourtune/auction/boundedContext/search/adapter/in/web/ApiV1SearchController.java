@@ -3,6 +3,7 @@ package com.fourtune.auction.boundedContext.search.adapter.in.web;
 import com.fourtune.auction.boundedContext.search.application.service.SearchFacade;
 import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
 import com.fourtune.auction.boundedContext.search.domain.SearchCondition;
+import com.fourtune.auction.boundedContext.search.domain.SearchFacets;
 import com.fourtune.auction.boundedContext.search.domain.SearchPriceRange;
 import com.fourtune.auction.boundedContext.search.domain.SearchResultPage;
 import com.fourtune.auction.boundedContext.search.domain.constant.SearchSort;
@@ -31,16 +32,39 @@ public class ApiV1SearchController {
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(defaultValue = "LATEST") SearchSort sort,
-            @RequestParam(defaultValue = "1") int page) {
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean facets) {
         SearchCondition condition = new SearchCondition(
                 keyword,
                 categories,
                 new SearchPriceRange(minPrice, maxPrice),
                 statuses,
                 sort,
-                page);
+                page,
+                null,
+                cursor, // 무한 스크롤: 이전 응답의 nextCursor를 넘기면 page 대신 사용
+                facets); // 카테고리/상태/가격대 건수를 같은 요청에서 함께 집계 (커서 조회에서는 무시)
 
         Long userId = (user != null) ? user.id() : null;
         return ResponseEntity.ok(facade.search(userId, condition));
     }
+
+    // 결과 없이 필터별 건수만 조회 (필터 패널 갱신용)
+    @GetMapping("/auction-items/facets")
+    public ResponseEntity<SearchFacets> getAuctionItemFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Set<String> categories,
+            @RequestParam(required = false) Set<String> statuses,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice) {
+        SearchCondition condition = new SearchCondition(
+                keyword,
+                categories,
+                new SearchPriceRange(minPrice, maxPrice),
+                statuses,
+                null,
+                1);
+        return ResponseEntity.ok(facade.facets(condition));
+    }
 }
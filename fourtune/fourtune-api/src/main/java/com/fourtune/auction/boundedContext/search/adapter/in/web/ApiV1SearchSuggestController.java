@@ -0,0 +1,26 @@
+package com.fourtune.auction.boundedContext.search.adapter.in.web;
+
+import com.fourtune.auction.boundedContext.search.application.service.SearchSuggestService;
+import com.fourtune.auction.boundedContext.search.domain.SearchSuggestions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/search")
+public class ApiV1SearchSuggestController {
+
+    private final SearchSuggestService suggestService;
+
+    // 검색창 입력 중 자동완성 (키 입력마다 호출, 검색 로그/최근 검색어에 기록하지 않음)
+    @GetMapping("/suggestions")
+    public ResponseEntity<SearchSuggestions> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(suggestService.suggest(prefix, size));
+    }
+}
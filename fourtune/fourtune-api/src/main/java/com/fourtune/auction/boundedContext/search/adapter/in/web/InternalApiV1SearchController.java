@@ -33,7 +33,8 @@ public class InternalApiV1SearchController {
             @RequestParam(required = false) Set<String> statuses,
             @RequestParam(defaultValue = "POPULAR") SearchSort sort,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "30") Integer size) {
+            @RequestParam(defaultValue = "30") Integer size,
+            @RequestParam(required = false) String cursor) {
 
         SearchCondition condition = new SearchCondition(
                 null, // 키워드
@@ -42,7 +43,8 @@ public class InternalApiV1SearchController {
                 statuses,
                 sort,
                 page,
-                size);
+                size,
+                cursor);
 
         // 내부 API이므로 User ID(로깅용 등)는 null로 검색 실행
         return ResponseEntity.ok(facade.search(null, condition));
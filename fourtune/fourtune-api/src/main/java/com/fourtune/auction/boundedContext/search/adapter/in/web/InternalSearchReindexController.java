@@ -0,0 +1,37 @@
+package com.fourtune.auction.boundedContext.search.adapter.in.web;
+
+import com.fourtune.auction.boundedContext.search.application.service.SearchReindexService;
+import com.fourtune.auction.boundedContext.search.application.service.SearchReindexService.ReindexStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 검색 재색인 운영용 내부 API (ROLE_INTERNAL).
+ * 재색인은 백그라운드로 실행되고, 진행 상태는 GET으로 확인합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/internal/v1/search/reindex")
+public class InternalSearchReindexController {
+
+    private final SearchReindexService reindexService;
+
+    /**
+     * 재색인 시작 (중단된 재색인이 있으면 체크포인트부터 이어서 실행), 이미 실행 중이면 409
+     */
+    @PostMapping
+    public ResponseEntity<ReindexStatus> start() {
+        HttpStatus status = reindexService.start() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(reindexService.status());
+    }
+
+    @GetMapping
+    public ResponseEntity<ReindexStatus> status() {
+        return ResponseEntity.ok(reindexService.status());
+    }
+}
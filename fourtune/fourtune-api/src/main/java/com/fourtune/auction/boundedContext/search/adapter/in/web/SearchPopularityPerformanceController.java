@@ -0,0 +1,255 @@
+package com.fourtune.auction.boundedContext.search.adapter.in.web;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.document.SearchAuctionItemDocument;
+import com.fourtune.auction.boundedContext.search.domain.policy.PopularityScorePolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인기순(POPULAR) 정렬 방식별 검색 지연 비교 컨트롤러
+ *
+ * 테스트 목적:
+ * - 기존 방식: 요청마다 Painless 스크립트 정렬(JSON 문자열 생성 + withJson 파싱, 매칭 문서마다 점수 계산)
+ * - 변경 방식: 미리 계산해 둔 popularityScore 필드 정렬
+ * - 같은 쿼리(status=ACTIVE, 20건)를 번갈아 실행해 p50/p99 비교
+ *
+ * 사용 순서:
+ * 1. POST /seed?count=1000000 : 합성 문서 색인 (SYNTHETIC_SELLER_ID, ID는 SYNTHETIC_ID_BASE부터)
+ * 2. POST /run?iterations=200 : 두 방식 지연 측정
+ *
+ * 프로필 제한:
+ * - local, dev: 수동 성능 테스트용으로 활성화
+ * - test, prod: 비활성화
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/test/search/performance/popular")
+@RequiredArgsConstructor
+@Profile({"local", "dev"})
+public class SearchPopularityPerformanceController {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long SYNTHETIC_SELLER_ID = 8_999_999_999L;
+    private static final long SYNTHETIC_ID_BASE = 9_000_000_000L;
+    private static final int SEED_CHUNK_SIZE = 5_000;
+    private static final int MAX_SEED_COUNT = 2_000_000;
+    private static final int MAX_ITERATIONS = 5_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] CATEGORIES = {"ELECTRONICS", "CLOTHING", "POTTERY", "APPLIANCES", "BEDDING", "BOOKS", "COLLECTIBLES", "ETC"};
+    private static final String[] STATUSES = {"SCHEDULED", "ACTIVE", "ACTIVE", "ACTIVE", "ENDED"};
+
+    // 변경 전 ElasticsearchAuctionItemSearchEngine.buildPopularScriptSort 와 동일한 스크립트
+    private static final String LEGACY_POPULAR_SCRIPT = """
+            long now = params.now;
+            long createdAt = (doc['createdAt'].size() > 0) ? doc['createdAt'].value.toInstant().toEpochMilli() : now;
+            double hoursOld = (now - createdAt) / 3600000.0;
+            if (hoursOld < 0) {
+                hoursOld = 0;
+            }
+            double viewVal = (doc['viewCount'].size() > 0) ? doc['viewCount'].value : 0;
+            double viewScore = Math.log10(viewVal + 1);
+            double watchVal = (doc['watchlistCount'].size() > 0) ? doc['watchlistCount'].value : 0;
+            double bidVal = (doc['bidCount'].size() > 0) ? doc['bidCount'].value : 0;
+            double baseScore = (viewScore * 1.0) + (watchVal * 3.0) + (bidVal * 5.0);
+            double decay = Math.pow(hoursOld + 2, 0.5);
+            return baseScore / decay;
+            """;
+
+    private final ElasticsearchOperations operations;
+
+    private final Map<String, Map<String, Object>> lastResults = new ConcurrentHashMap<>();
+
+    /**
+     * 합성 검색 문서 색인 (등록 시각은 최근 30일 내 무작위, 카운터는 롱테일 분포)
+     */
+    @PostMapping("/seed")
+    public ResponseEntity<Map<String, Object>> seed(@RequestParam(defaultValue = "1000000") int count) {
+        int total = Math.max(1, Math.min(count, MAX_SEED_COUNT));
+        long now = System.currentTimeMillis();
+        long startedAt = System.nanoTime();
+
+        int indexed = 0;
+        while (indexed < total) {
+            int chunkSize = Math.min(SEED_CHUNK_SIZE, total - indexed);
+            List<IndexQuery> queries = new ArrayList<>(chunkSize);
+            for (int i = 0; i < chunkSize; i++) {
+                SearchAuctionItemDocument doc = syntheticDocument(SYNTHETIC_ID_BASE + indexed + i, now);
+                queries.add(new IndexQueryBuilder().withId(String.valueOf(doc.getAuctionItemId())).withObject(doc).build());
+            }
+            operations.bulkIndex(queries, SearchAuctionItemDocument.class);
+            indexed += chunkSize;
+        }
+        operations.indexOps(SearchAuctionItemDocument.class).refresh();
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("[SEARCH-POPULAR-PERF] 합성 문서 색인 완료: count={}, elapsedMs={}", indexed, elapsedMs);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("indexed", indexed);
+        result.put("elapsedMs", elapsedMs);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 스크립트 정렬 vs 필드 정렬 지연 측정 (번갈아 실행해 캐시/부하 영향을 나눔)
+     */
+    @PostMapping("/run")
+    public ResponseEntity<Map<String, Object>> run(@RequestParam(defaultValue = "200") int iterations) {
+        int total = Math.max(1, Math.min(iterations, MAX_ITERATIONS));
+        long[] scriptNanos = new long[total];
+        long[] fieldNanos = new long[total];
+
+        // 워밍업 (스크립트 컴파일, 필드 데이터 로딩)
+        searchWithScriptSort();
+        searchWithFieldSort();
+
+        for (int i = 0; i < total; i++) {
+            long startedAt = System.nanoTime();
+            searchWithScriptSort();
+            scriptNanos[i] = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            searchWithFieldSort();
+            fieldNanos[i] = System.nanoTime() - startedAt;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("iterations", total);
+        result.put("documents", operations.count(NativeQuery.builder().withQuery(q -> q.matchAll(m -> m)).build(),
+                SearchAuctionItemDocument.class));
+        result.put("scriptSort", latencySummary(scriptNanos));
+        result.put("fieldSort", latencySummary(fieldNanos));
+        lastResults.put("iterations-" + total, result);
+        log.info("[SEARCH-POPULAR-PERF] 인기순 정렬 비교 결과: {}", result);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 성능 테스트 요약 정보
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getPerformanceSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("description", "인기순 정렬 p50/p99 비교 (Painless 스크립트 정렬 vs popularityScore 필드 정렬)");
+        summary.put("usage", Map.of(
+                "seed", "POST /api/test/search/performance/popular/seed?count=1000000",
+                "run", "POST /api/test/search/performance/popular/run?iterations=200"
+        ));
+        summary.put("lastResults", lastResults);
+        return ResponseEntity.ok(summary);
+    }
+
+    private void searchWithScriptSort() {
+        // 변경 전과 같이 요청마다 JSON 문자열을 만들고 파싱
+        String escapedScript = LEGACY_POPULAR_SCRIPT.replace("\n", " ").replace("\"", "\\\"");
+        String json = String.format("""
+                {
+                    "_script": {
+                        "type": "number",
+                        "script": {
+                            "source": "%s",
+                            "lang": "painless",
+                            "params": {
+                                "now": %d
+                            }
+                        },
+                        "order": "desc"
+                    }
+                }
+                """, escapedScript, System.currentTimeMillis());
+        SortOptions sort = SortOptions.of(s -> s.withJson(new StringReader(json)));
+        operations.search(NativeQuery.builder()
+                .withQuery(activeFilter())
+                .withPageable(PageRequest.of(0, PAGE_SIZE))
+                .withSort(sort)
+                .build(), SearchAuctionItemDocument.class);
+    }
+
+    private void searchWithFieldSort() {
+        operations.search(NativeQuery.builder()
+                .withQuery(activeFilter())
+                .withPageable(PageRequest.of(0, PAGE_SIZE))
+                .withSort(Sort.by(new Order(Sort.Direction.DESC, "popularityScore").withUnmappedType("double"), Sort.Order.desc("createdAt")))
+                .build(), SearchAuctionItemDocument.class);
+    }
+
+    private Query activeFilter() {
+        return Query.of(q -> q.bool(b -> b.filter(f -> f.term(t -> t.field("status").value(FieldValue.of("ACTIVE"))))));
+    }
+
+    private SearchAuctionItemDocument syntheticDocument(long id, long nowMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long createdAtMillis = nowMillis - random.nextLong(30L * 24 * 3_600_000);
+        long viewCount = (long) Math.floor(Math.pow(random.nextDouble(), 3) * 10_000);
+        int watchlistCount = (int) Math.floor(Math.pow(random.nextDouble(), 4) * 200);
+        int bidCount = (int) Math.floor(Math.pow(random.nextDouble(), 4) * 100);
+        ZonedDateTime createdAt = ZonedDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), KST);
+        BigDecimal price = BigDecimal.valueOf(1_000L * (1 + random.nextInt(1_000)));
+
+        return SearchAuctionItemDocument.builder()
+                .auctionItemId(id)
+                .title("[POPULAR-PERF] 합성 경매 " + id)
+                .description("인기순 정렬 성능 비교용 합성 문서")
+                .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                .status(STATUSES[random.nextInt(STATUSES.length)])
+                .startPrice(price)
+                .currentPrice(price)
+                .buyNowEnabled(false)
+                .startAt(createdAt)
+                .endAt(createdAt.plusDays(7))
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .viewCount(viewCount)
+                .watchlistCount(watchlistCount)
+                .bidCount(bidCount)
+                .popularityScore(PopularityScorePolicy.score(viewCount, watchlistCount, bidCount, createdAtMillis, nowMillis))
+                .sellerId(SYNTHETIC_SELLER_ID)
+                .sellerName("perf")
+                .sourceVersion(createdAtMillis)
+                .statusVersion(createdAtMillis)
+                .countersVersion(createdAtMillis)
+                .build();
+    }
+
+    private Map<String, Object> latencySummary(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("p50Ms", percentileMs(sorted, 0.50));
+        summary.put("p99Ms", percentileMs(sorted, 0.99));
+        summary.put("maxMs", sorted[sorted.length - 1] / 1_000_000.0);
+        summary.put("avgMs", Arrays.stream(sorted).average().orElse(0) / 1_000_000.0);
+        return summary;
+    }
+
+    private double percentileMs(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,347 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemSearchEngine;
+import com.fourtune.auction.boundedContext.search.application.service.SearchProperties;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchCondition;
+import com.fourtune.auction.boundedContext.search.domain.SearchFacets;
+import com.fourtune.auction.boundedContext.search.domain.SearchPriceRange;
+import com.fourtune.auction.boundedContext.search.domain.SearchResultPage;
+import com.fourtune.auction.boundedContext.search.domain.constant.SearchSort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과 캐시 AuctionItemSearchEngine (ElasticsearchAuctionItemSearchEngine 데코레이터)
+ * - 카테고리 탭 + 상태 + 정렬 1페이지처럼 같은 조건이 반복되는 검색을 ES까지 보내지 않음
+ * - 키: 정규화한 SearchCondition (키워드 공백 정리, 카테고리/상태 대문자 정렬, 가격 범위 표기 통일, 정렬/페이지/크기)
+ * - L1: 인스턴스 로컬 Caffeine, L2(선택): Redis (search:result:{key}), 둘 다 없을 때만 ES 조회
+ * - 같은 키를 동시에 조회하는 요청은 먼저 로딩을 시작한 요청의 결과를 기다림 (ES 호출 1회)
+ * - 무효화는 TTL만 사용, 같은 시점에 채워진 항목이 한꺼번에 만료되지 않도록 TTL에 지터를 더함
+ * - 커서 조회(PIT)와 max-page를 넘는 페이지는 캐시하지 않음
+ * - 건수만 조회(facets)는 정렬/페이지와 무관하므로 필터 조건만으로 키를 만들어 별도 로컬 캐시 (facet-ttl-ms)
+ * - Redis 장애 시 L2를 건너뛰고 ES로 조회
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.result-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachedAuctionItemSearchEngine implements AuctionItemSearchEngine {
+
+    static final String KEY_PREFIX = "search:result:";
+
+    private final ElasticsearchAuctionItemSearchEngine delegate;
+    private final SearchProperties props;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.result-cache.local-ttl-ms:3000}")
+    private long localTtlMs;
+
+    @Value("${search.result-cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${search.result-cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${search.result-cache.redis-ttl-ms:10000}")
+    private long redisTtlMs;
+
+    // TTL에 더할 최대 지터 비율 (0.2 = TTL의 0~20%)
+    @Value("${search.result-cache.ttl-jitter-ratio:0.2}")
+    private double ttlJitterRatio;
+
+    @Value("${search.result-cache.max-page:3}")
+    private int maxPage;
+
+    @Value("${search.result-cache.facet-ttl-ms:10000}")
+    private long facetTtlMs;
+
+    private Cache<String, SearchResultPage<SearchAuctionItemView>> localCache;
+    private Cache<String, SearchFacets> facetCache;
+    private final Map<String, CompletableFuture<SearchResultPage<SearchAuctionItemView>>> inFlight = new ConcurrentHashMap<>();
+    private JavaType resultType;
+
+    private Counter localHitCounter;
+    private Counter localMissCounter;
+    private Counter redisHitCounter;
+    private Counter redisMissCounter;
+    private Counter coalescedCounter;
+    private Counter searchEngineCallCounter;
+    private Counter facetHitCounter;
+    private Counter facetMissCounter;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, SearchResultPage<SearchAuctionItemView>>() {
+                    @Override
+                    public long expireAfterCreate(String key, SearchResultPage<SearchAuctionItemView> value, long currentTime) {
+                        return withJitter(localTtlMs);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, SearchResultPage<SearchAuctionItemView> value,
+                            long currentTime, long currentDuration) {
+                        return withJitter(localTtlMs);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, SearchResultPage<SearchAuctionItemView> value,
+                            long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .maximumSize(localMaxSize)
+                .build();
+        facetCache = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, SearchFacets>() {
+                    @Override
+                    public long expireAfterCreate(String key, SearchFacets value, long currentTime) {
+                        return withJitter(facetTtlMs);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, SearchFacets value, long currentTime, long currentDuration) {
+                        return withJitter(facetTtlMs);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, SearchFacets value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .maximumSize(localMaxSize)
+                .build();
+        resultType = objectMapper.getTypeFactory()
+                .constructParametricType(SearchResultPage.class, SearchAuctionItemView.class);
+
+        localHitCounter = cacheCounter("local", "hit");
+        localMissCounter = cacheCounter("local", "miss");
+        redisHitCounter = cacheCounter("redis", "hit");
+        redisMissCounter = cacheCounter("redis", "miss");
+        facetHitCounter = cacheCounter("facet", "hit");
+        facetMissCounter = cacheCounter("facet", "miss");
+        coalescedCounter = Counter.builder("search.result.cache.coalesced")
+                .description("다른 요청의 로딩 결과를 기다린 검색 수")
+                .register(meterRegistry);
+        searchEngineCallCounter = Counter.builder("search.result.cache.es.calls")
+                .description("캐시 미스로 ES까지 보낸 검색 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("search.result.cache.es.saved", this, CachedAuctionItemSearchEngine::savedCalls)
+                .description("캐시 적중/요청 병합으로 생략한 ES 검색 수")
+                .register(meterRegistry);
+        Gauge.builder("search.result.cache.hit.ratio", this, CachedAuctionItemSearchEngine::hitRatio)
+                .description("캐시 대상 검색 중 ES를 거치지 않은 비율")
+                .register(meterRegistry);
+        Gauge.builder("search.result.cache.size", localCache, Cache::estimatedSize)
+                .description("검색 결과 로컬 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SearchResultPage<SearchAuctionItemView> search(SearchCondition condition) {
+        if (condition.hasCursor() || condition.safePage() > maxPage) {
+            return delegate.search(condition);
+        }
+
+        String key = cacheKey(condition, props.getPageSize());
+        SearchResultPage<SearchAuctionItemView> cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHitCounter.increment();
+            return cached;
+        }
+        localMissCounter.increment();
+
+        // 이미 다른 요청이 로딩 중이면 기다리고, 아니면 이 요청이 로딩
+        CompletableFuture<SearchResultPage<SearchAuctionItemView>> future = new CompletableFuture<>();
+        CompletableFuture<SearchResultPage<SearchAuctionItemView>> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        try {
+            SearchResultPage<SearchAuctionItemView> loaded = load(key, condition);
+            future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 건수만 조회: 같은 필터 조건의 동시 미스는 Caffeine이 로딩 1회로 합침
+     */
+    @Override
+    public SearchFacets facets(SearchCondition condition) {
+        String key = facetKey(condition);
+        SearchFacets cached = facetCache.getIfPresent(key);
+        if (cached != null) {
+            facetHitCounter.increment();
+            return cached;
+        }
+        facetMissCounter.increment();
+        return facetCache.get(key, k -> delegate.facets(condition));
+    }
+
+    /**
+     * L2(Redis) → ES 순서로 조회 후 L1/L2에 저장
+     */
+    private SearchResultPage<SearchAuctionItemView> load(String key, SearchCondition condition) {
+        if (redisEnabled) {
+            SearchResultPage<SearchAuctionItemView> stored = readFromRedis(key);
+            if (stored != null) {
+                redisHitCounter.increment();
+                localCache.put(key, stored);
+                return stored;
+            }
+            redisMissCounter.increment();
+        }
+
+        searchEngineCallCounter.increment();
+        SearchResultPage<SearchAuctionItemView> result = delegate.search(condition);
+        localCache.put(key, result);
+        if (redisEnabled) {
+            storeInRedis(key, result);
+        }
+        return result;
+    }
+
+    private SearchResultPage<SearchAuctionItemView> readFromRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return json != null ? objectMapper.readValue(json, resultType) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[SEARCH-CACHE] Redis 검색 결과 조회 실패, ES로 조회: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeInRedis(String key, SearchResultPage<SearchAuctionItemView> result) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(result),
+                    Duration.ofNanos(withJitter(redisTtlMs)));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[SEARCH-CACHE] Redis 검색 결과 저장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 결과가 나오는 조건은 같은 키가 되도록 정규화
+     * (순서만 다른 카테고리/상태, 대소문자, 1000 vs 1000.00 같은 가격 표기 차이 제거)
+     */
+    static String cacheKey(SearchCondition c, int defaultPageSize) {
+        String keyword = c.keyword() != null ? c.keyword().trim().replaceAll("\\s+", " ") : "";
+        SearchPriceRange pr = c.searchPriceRange();
+        SearchSort sort = c.sort() != null ? c.sort() : SearchSort.LATEST;
+        int size = c.size() != null ? c.size() : defaultPageSize;
+        return String.join("|",
+                keyword,
+                normalize(c.categories()),
+                normalize(c.statuses()),
+                pr != null ? price(pr.min()) : "",
+                pr != null ? price(pr.max()) : "",
+                sort.name(),
+                String.valueOf(c.safePage()),
+                String.valueOf(size),
+                String.valueOf(c.facets()));
+    }
+
+    // 건수 조회 키: 키워드 + 필터 (정렬/페이지 제외)
+    static String facetKey(SearchCondition c) {
+        String keyword = c.keyword() != null ? c.keyword().trim().replaceAll("\\s+", " ") : "";
+        SearchPriceRange pr = c.searchPriceRange();
+        return String.join("|",
+                keyword,
+                normalize(c.categories()),
+                normalize(c.statuses()),
+                pr != null ? price(pr.min()) : "",
+                pr != null ? price(pr.max()) : "");
+    }
+
+    private static String normalize(Set<String> values) {
+        if (values == null) {
+            return "";
+        }
+        return values.stream()
+                .filter(v -> v != null && !v.isBlank())
+                .map(v -> v.trim().toUpperCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static String price(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : "";
+    }
+
+    // 지터를 더한 TTL (ns)
+    private long withJitter(long ttlMs) {
+        long jitterMs = (long) (ttlMs * Math.max(0, ttlJitterRatio));
+        long ttl = ttlMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        return TimeUnit.MILLISECONDS.toNanos(ttl);
+    }
+
+    private SearchResultPage<SearchAuctionItemView> await(CompletableFuture<SearchResultPage<SearchAuctionItemView>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private double savedCalls() {
+        return localHitCounter.count() + redisHitCounter.count() + coalescedCounter.count();
+    }
+
+    private double hitRatio() {
+        double total = savedCalls() + searchEngineCallCounter.count();
+        return total > 0 ? savedCalls() / total : 0;
+    }
+
+    private Counter cacheCounter(String level, String result) {
+        return Counter.builder("search.result.cache")
+                .description("검색 결과 캐시 조회 결과")
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,22 +1,151 @@
 package com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.document.SearchAuctionItemDocument;
 import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.repository.SearchAuctionItemCrudRepository;
 import com.fourtune.auction.boundedContext.search.application.service.AuctionItemIndexingHandler;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemSnapshotSource;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionBidDelta;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionCounters;
 import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionStatusChange;
+import com.fourtune.auction.boundedContext.search.domain.SearchIndexOperation;
+import com.fourtune.auction.boundedContext.search.domain.policy.PopularityScorePolicy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Component;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 // 정본 변경을 ES에 반영
+// - 전체 스냅샷은 스크립트 없이 version_type=external(버전: updatedAt epoch ms)로 색인, 늦게 도착한 스냅샷은 버전 충돌로 무시
+//   (스냅샷보다 늦게 반영된 입찰/카운터 값은 스냅샷 값으로 덮이고 다음 델타가 다시 반영)
+// - 입찰/상태/카운터는 바뀐 필드만 스크립트 부분 업데이트, 오래된 이벤트나 값이 같은 경우 noop (세그먼트 재색인 없음)
+// - 부분 업데이트 대상 문서가 아직 없으면(생성 이벤트 유실/순서 역전) 정본 스냅샷으로 전체 색인
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ElasticsearchAuctionItemIndexingHandler implements AuctionItemIndexingHandler {
 
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // PopularityScorePolicy와 같은 공식 (가중치는 params로 전달), 결과는 지역 변수 popularityScore
+    private static final String POPULARITY_SCORE = """
+            double hoursOld = 0;
+            if (ctx._source.createdAt != null) {
+              hoursOld = (params.now - ZonedDateTime.parse(ctx._source.createdAt).toInstant().toEpochMilli()) / 3600000.0;
+              if (hoursOld < 0) { hoursOld = 0; }
+            }
+            double views = ctx._source.viewCount == null ? 0 : ((Number) ctx._source.viewCount).doubleValue();
+            double watches = ctx._source.watchlistCount == null ? 0 : ((Number) ctx._source.watchlistCount).doubleValue();
+            double bids = ctx._source.bidCount == null ? 0 : ((Number) ctx._source.bidCount).doubleValue();
+            double popularityScore = (Math.log10(views + 1) * params.viewWeight + watches * params.watchlistWeight + bids * params.bidWeight)
+                / Math.pow(hoursOld + params.decayOffsetHours, params.decayExponent);
+            """;
+    // 카운터/입찰 수가 바뀐 문서는 반영 후 인기 점수도 다시 계산
+    private static final String RECOMPUTE_POPULARITY = """
+            if (ctx.op != 'noop') {
+            """ + POPULARITY_SCORE + """
+              ctx._source.popularityScore = popularityScore;
+            }
+            """;
+    // 주기적 재계산 대상 상태 (인기순 노출 대상인 진행/예정 경매만)
+    private static final List<String> RESCORE_STATUSES = List.of("ACTIVE", "SCHEDULED");
+
+    // 주기적 재계산: 변화율이 minChange 이하이면 noop (재색인 없이 건너뜀)
+    private static final String RESCORE_SCRIPT = POPULARITY_SCORE + """
+            if (ctx._source.popularityScore != null
+                && Math.abs(popularityScore - ctx._source.popularityScore) <= Math.abs(ctx._source.popularityScore) * params.minChange) {
+              ctx.op = 'noop';
+            } else {
+              ctx._source.popularityScore = popularityScore;
+            }
+            """;
+
+    // 늦게 도착한 델타가 최신 문서를 덮어쓰지 않도록 bidCount가 같거나 클 때만 반영
+    private static final String PRICE_SCRIPT = """
+            if (ctx._source.bidCount != null && params.bidCount < ctx._source.bidCount) {
+              ctx.op = 'noop';
+            } else {
+              ctx._source.currentPrice = params.currentPrice;
+              ctx._source.bidCount = params.bidCount;
+              if (params.endAt != null) { ctx._source.endAt = params.endAt; }
+            }
+            """ + RECOMPUTE_POPULARITY;
+    private static final String STATUS_SCRIPT = """
+            if ((ctx._source.statusVersion != null && params.version < ctx._source.statusVersion)
+                || params.status == ctx._source.status) {
+              ctx.op = 'noop';
+            } else {
+              ctx._source.status = params.status;
+              ctx._source.statusVersion = params.version;
+            }
+            """;
+    private static final String COUNTERS_SCRIPT = """
+            boolean changed = false;
+            if (ctx._source.countersVersion == null || params.version >= ctx._source.countersVersion) {
+              if (params.viewCount != null && params.viewCount != ctx._source.viewCount) {
+                ctx._source.viewCount = params.viewCount;
+                changed = true;
+              }
+              if (params.watchlistCount != null && params.watchlistCount != ctx._source.watchlistCount) {
+                ctx._source.watchlistCount = params.watchlistCount;
+                changed = true;
+              }
+            }
+            if (changed) {
+              ctx._source.countersVersion = params.version;
+            } else {
+              ctx.op = 'noop';
+            }
+            """ + RECOMPUTE_POPULARITY;
+    // SearchAuctionItemDocument의 DateFormat.date_time 과 동일한 형식
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+
     private final SearchAuctionItemCrudRepository crudRepository;
+    private final ElasticsearchOperations operations;
+    private final ElasticsearchClient client;
+    private final AuctionItemSnapshotSource snapshotSource;
+
+    private final AtomicBoolean mappingSynced = new AtomicBoolean(false);
+
+    // 지정 시 별칭 대신 이 인덱스에 반영 (재색인 중인 새 버전 인덱스)
+    private IndexCoordinates targetIndex;
+
+    /**
+     * 같은 설정으로 지정한 인덱스에만 반영하는 핸들러 (재색인 이벤트 재생용)
+     */
+    public ElasticsearchAuctionItemIndexingHandler forIndex(String indexName) {
+        ElasticsearchAuctionItemIndexingHandler handler =
+                new ElasticsearchAuctionItemIndexingHandler(crudRepository, operations, client, snapshotSource);
+        handler.targetIndex = IndexCoordinates.of(indexName);
+        return handler;
+    }
 
     @Override
     public void upsert(SearchAuctionItemView view) {
@@ -24,19 +153,226 @@ public class ElasticsearchAuctionItemIndexingHandler implements AuctionItemIndex
         if (view.auctionItemId() == null) return;
 
         SearchAuctionItemDocument doc = toDocument(view);
-        crudRepository.save(doc); // ✅ upsert
+        try {
+            client.index(i -> i.index(indexCoordinates().getIndexName())
+                    .id(String.valueOf(doc.getAuctionItemId()))
+                    .version(doc.getSourceVersion())
+                    .versionType(VersionType.External)
+                    .document(toSource(doc)));
+        } catch (ElasticsearchException e) {
+            if (e.status() != 409) throw e;
+            // 더 새 스냅샷이 이미 반영됨
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
     public void delete(Long auctionItemId) {
         if (auctionItemId == null) return;
+        if (targetIndex != null) {
+            operations.delete(String.valueOf(auctionItemId), targetIndex);
+            return;
+        }
         crudRepository.deleteById(auctionItemId);
     }
 
-    private SearchAuctionItemDocument toDocument(SearchAuctionItemView v) {
+    @Override
+    public void updatePrice(SearchAuctionBidDelta delta) {
+        if (delta == null || delta.auctionItemId() == null || delta.currentPrice() == null) return;
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("currentPrice", delta.currentPrice().doubleValue());
+        params.put("bidCount", delta.bidCount());
+        params.put("endAt", delta.endAt() != null ? delta.endAt().atZone(KST).format(DATE_TIME_FORMAT) : null);
+        putPopularityParams(params, System.currentTimeMillis());
+        partialUpdate(delta.auctionItemId(), PRICE_SCRIPT, params);
+    }
+
+    @Override
+    public void updateStatus(SearchAuctionStatusChange change) {
+        if (change == null || change.auctionItemId() == null || change.status() == null) return;
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("status", change.status());
+        params.put("version", versionOf(change.changedAt()));
+        partialUpdate(change.auctionItemId(), STATUS_SCRIPT, params);
+    }
+
+    @Override
+    public void updateCounters(SearchAuctionCounters counters) {
+        if (counters == null || counters.auctionItemId() == null) return;
+        if (counters.viewCount() == null && counters.watchlistCount() == null) return;
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("viewCount", counters.viewCount());
+        params.put("watchlistCount", counters.watchlistCount());
+        params.put("version", versionOf(counters.changedAt()));
+        putPopularityParams(params, System.currentTimeMillis());
+        partialUpdate(counters.auctionItemId(), COUNTERS_SCRIPT, params);
+    }
+
+    @Override
+    public Map<Long, String> bulk(List<SearchIndexOperation> operationList) {
+        if (operationList == null || operationList.isEmpty()) return Map.of();
+
+        // 경매 ID당 연산은 1건으로 병합되어 들어오므로 색인/삭제를 한 요청에 담아도 순서 문제 없음
+        String indexName = indexCoordinates().getIndexName();
+        BulkRequest.Builder request = new BulkRequest.Builder();
+        for (SearchIndexOperation operation : operationList) {
+            String id = String.valueOf(operation.auctionItemId());
+            if (operation.isDelete()) {
+                request.operations(op -> op.delete(d -> d.index(indexName).id(id)));
+            } else {
+                SearchAuctionItemDocument doc = toDocument(operation.view());
+                request.operations(op -> op.index(i -> i.index(indexName)
+                        .id(id)
+                        .version(doc.getSourceVersion())
+                        .versionType(VersionType.External)
+                        .document(toSource(doc))));
+            }
+        }
+        return executeBulk(request.build());
+    }
+
+    /**
+     * 필드 추가 전에 만들어진 인덱스에도 popularityScore 매핑(double)을 반영
+     * (매핑 없이 스크립트로 값을 쓰면 동적 매핑으로 float가 잡히고, 정렬 전에 필드가 없으면 검색이 실패함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncMappingOnStartup() {
+        try {
+            syncMapping(indexCoordinates());
+        } catch (RuntimeException e) {
+            log.warn("[SEARCH][ES] 기동 시 매핑 반영 실패, 인기 점수 재계산 시 다시 시도: {}", e.getMessage());
+        }
+    }
+
+    private void syncMapping(IndexCoordinates index) {
+        IndexOperations indexOps = operations.indexOps(index);
+        if (!indexOps.exists()) return;
+        indexOps.putMapping(SearchAuctionItemDocument.class);
+        mappingSynced.set(true);
+    }
+
+    @Override
+    public long refreshPopularityScores(long nowMillis, double minChange) {
+        IndexCoordinates index = indexCoordinates();
+        if (!mappingSynced.get()) {
+            // 기동 시 반영에 실패했으면 첫 재계산 전에 다시 시도 (실패하면 예외로 이번 주기를 건너뜀)
+            syncMapping(index);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("minChange", minChange);
+        putPopularityParams(params, nowMillis);
+        List<FieldValue> statuses = RESCORE_STATUSES.stream().map(FieldValue::of).toList();
+        UpdateQuery updateQuery = UpdateQuery.builder(NativeQuery.builder()
+                        .withQuery(q -> q.terms(t -> t.field("status").terms(ts -> ts.value(statuses))))
+                        .build())
+                .withScript(RESCORE_SCRIPT)
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withParams(params)
+                .withAbortOnVersionConflict(false)
+                .build();
+        ByQueryResponse response = operations.updateByQuery(updateQuery, index);
+        return response.getUpdated();
+    }
+
+    private void partialUpdate(Long auctionItemId, String script, Map<String, Object> params) {
+        try {
+            operations.update(scriptQuery(auctionItemId, script, params), indexCoordinates());
+        } catch (RuntimeException e) {
+            if (!isDocumentMissing(e)) throw e;
+            // 정본 스냅샷에는 이 변경까지 반영되어 있으므로 부분 업데이트 대신 전체 색인
+            reindexFromSource(auctionItemId);
+        }
+    }
+
+    private void reindexFromSource(Long auctionItemId) {
+        SearchAuctionItemView view = snapshotSource.fetchOne(auctionItemId).orElse(null);
+        if (view == null) {
+            // 정본에도 없으면 삭제된 경매: 문서를 만들지 않음
+            log.warn("[SEARCH][ES] 부분 업데이트 대상 문서와 정본이 모두 없어 건너뜀: auctionItemId={}", auctionItemId);
+            return;
+        }
+        log.info("[SEARCH][ES] 부분 업데이트 대상 문서가 없어 정본 스냅샷으로 색인: auctionItemId={}", auctionItemId);
+        upsert(view);
+    }
+
+    private static boolean isDocumentMissing(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("document_missing_exception")) return true;
+        }
+        return false;
+    }
+
+    private Map<Long, String> executeBulk(BulkRequest request) {
+        BulkResponse response;
+        try {
+            response = client.bulk(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!response.errors()) return Map.of();
+
+        Map<Long, String> failures = new LinkedHashMap<>();
+        for (BulkResponseItem item : response.items()) {
+            // 버전 충돌: 더 새 스냅샷이 이미 반영됨
+            if (item.error() != null && item.status() != 409) {
+                failures.put(Long.valueOf(item.id()), item.error().type() + ": " + item.error().reason());
+            }
+        }
+        return failures;
+    }
+
+    // Spring Data 매핑(날짜 형식, _class)을 그대로 써서 crudRepository.save 와 같은 문서를 만듦
+    private Map<String, Object> toSource(SearchAuctionItemDocument doc) {
+        return operations.getElasticsearchConverter().mapObject(doc);
+    }
+
+    private UpdateQuery scriptQuery(Long auctionItemId, String script, Map<String, Object> params) {
+        return UpdateQuery.builder(String.valueOf(auctionItemId))
+                .withScript(script)
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withParams(params)
+                .withRetryOnConflict(3)
+                .build();
+    }
+
+    private static void putPopularityParams(Map<String, Object> params, long nowMillis) {
+        params.put("now", nowMillis);
+        params.put("viewWeight", PopularityScorePolicy.VIEW_WEIGHT);
+        params.put("watchlistWeight", PopularityScorePolicy.WATCHLIST_WEIGHT);
+        params.put("bidWeight", PopularityScorePolicy.BID_WEIGHT);
+        params.put("decayOffsetHours", PopularityScorePolicy.DECAY_OFFSET_HOURS);
+        params.put("decayExponent", PopularityScorePolicy.DECAY_EXPONENT);
+    }
+
+    private IndexCoordinates indexCoordinates() {
+        if (targetIndex != null) return targetIndex;
+        return operations.getIndexCoordinatesFor(SearchAuctionItemDocument.class);
+    }
+
+    // 원본 변경 시각 → 문서 버전 (시각이 없으면 도착 시각)
+    private static long versionOf(LocalDateTime changedAt) {
+        return changedAt != null ? changedAt.atZone(KST).toInstant().toEpochMilli() : System.currentTimeMillis();
+    }
+
+    // 스냅샷 버전: updatedAt, 생성 직후처럼 없으면 createdAt
+    private static long versionOf(SearchAuctionItemView v) {
+        if (v.updatedAt() != null) return versionOf(v.updatedAt());
+        if (v.createdAt() != null) return versionOf(v.createdAt());
+        return 0L;
+    }
+
+    static SearchAuctionItemDocument toDocument(SearchAuctionItemView v) {
         // currentPrice null 방어: 가격필터 누락 방지
         // 예정(SCHEDULED) 경매에서는 아직 입찰이 없어서 currentPrice가 null일 수 있음
         BigDecimal currentPrice = (v.currentPrice() != null) ? v.currentPrice() : v.startPrice();
+        long version = versionOf(v);
 
         return SearchAuctionItemDocument.builder()
                 .auctionItemId(v.auctionItemId())
@@ -48,16 +384,21 @@ public class ElasticsearchAuctionItemIndexingHandler implements AuctionItemIndex
                 .currentPrice(currentPrice)
                 .buyNowPrice(v.buyNowPrice())
                 .buyNowEnabled(v.buyNowEnabled())
-                .startAt(v.startAt() != null ? v.startAt().atZone(ZoneId.of("Asia/Seoul")) : null)
-                .endAt(v.endAt() != null ? v.endAt().atZone(ZoneId.of("Asia/Seoul")) : null)
+                .startAt(v.startAt() != null ? v.startAt().atZone(KST) : null)
+                .endAt(v.endAt() != null ? v.endAt().atZone(KST) : null)
                 .thumbnailUrl(v.thumbnailUrl())
-                .createdAt(v.createdAt() != null ? v.createdAt().atZone(ZoneId.of("Asia/Seoul")) : null)
-                .updatedAt(v.updatedAt() != null ? v.updatedAt().atZone(ZoneId.of("Asia/Seoul")) : null)
+                .createdAt(v.createdAt() != null ? v.createdAt().atZone(KST) : null)
+                .updatedAt(v.updatedAt() != null ? v.updatedAt().atZone(KST) : null)
                 .viewCount(v.viewCount())
                 .watchlistCount(v.watchlistCount())
                 .bidCount(v.bidCount())
+                .popularityScore(PopularityScorePolicy.score(v.viewCount(), v.watchlistCount(), v.bidCount(),
+                        v.createdAt() != null ? versionOf(v.createdAt()) : null, System.currentTimeMillis()))
                 .sellerId(v.sellerId())
                 .sellerName(v.sellerName())
+                .sourceVersion(version)
+                .statusVersion(version)
+                .countersVersion(version)
                 .build();
     }
 }
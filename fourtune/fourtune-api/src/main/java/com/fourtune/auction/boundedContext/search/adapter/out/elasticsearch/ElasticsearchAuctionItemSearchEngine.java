@@ -5,25 +5,42 @@ import com.fourtune.auction.boundedContext.search.application.service.AuctionIte
 import com.fourtune.auction.boundedContext.search.application.service.SearchProperties;
 import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
 import com.fourtune.auction.boundedContext.search.domain.SearchCondition;
+import com.fourtune.auction.boundedContext.search.domain.SearchFacets;
 import com.fourtune.auction.boundedContext.search.domain.SearchPriceRange;
 import com.fourtune.auction.boundedContext.search.domain.SearchResultPage;
 import com.fourtune.auction.boundedContext.search.domain.constant.SearchSort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.query.Order;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.AggregationRange;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
-import co.elastic.clients.json.JsonData;
-import co.elastic.clients.elasticsearch._types.SortOptions;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
-
-import java.io.StringReader;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Locale;
 import java.time.ZoneId;
 import java.util.Set;
@@ -36,6 +53,7 @@ public class ElasticsearchAuctionItemSearchEngine implements AuctionItemSearchEn
 
     private final ElasticsearchOperations operations;
     private final SearchProperties props;
+    private final ObjectMapper objectMapper;
 
     // 검색 필터로 허용할 상태(요구사항 3개만)
     private static final Set<String> ALLOWED_STATUSES = Set.of(
@@ -45,10 +63,22 @@ public class ElasticsearchAuctionItemSearchEngine implements AuctionItemSearchEn
     private static final Set<String> ALLOWED_CATEGORIES = Set.of(
             "ELECTRONICS", "CLOTHING", "POTTERY", "APPLIANCES", "BEDDING", "BOOKS", "COLLECTIBLES", "ETC");
 
+    // 필터별 건수 집계 이름
+    private static final String CATEGORY_FACET = "category_facet";
+    private static final String STATUS_FACET = "status_facet";
+    private static final String PRICE_FACET = "price_facet";
+    private static final String FACET_VALUES = "values";
+
     @Override
     public SearchResultPage<SearchAuctionItemView> search(SearchCondition condition) {
-
         int size = condition.size() != null ? condition.size() : props.getPageSize();
+        SearchSort sort = condition.sort() != null ? condition.sort() : SearchSort.LATEST;
+        Query query = buildNativeQuery(condition);
+
+        if (condition.hasCursor()) {
+            return searchAfter(condition, query, sort, size);
+        }
+
         int page = condition.safePage();
         int from = (page - 1) * size;
 
@@ -56,37 +86,178 @@ public class ElasticsearchAuctionItemSearchEngine implements AuctionItemSearchEn
             throw new IllegalArgumentException("Too deep paging: from=" + from + ", maxFrom=" + props.getMaxFrom());
         }
 
-        // NativeQuery 생성
-        Query query = buildNativeQuery(condition);
+        var nativeQueryBuilder = NativeQuery.builder()
+                .withPageable(PageRequest.of(page - 1, size))
+                .withSort(buildSort(sort));
+        if (condition.facets()) {
+            // 필터는 post_filter로 옮겨 집계가 필터별로 자기 조건만 빼고 셀 수 있게 함 (문서/건수 결과는 동일)
+            Map<String, Query> filters = buildFilters(condition);
+            nativeQueryBuilder.withQuery(buildKeywordQuery(condition)).withFilter(allOf(filters.values()));
+            addFacetAggregations(nativeQueryBuilder, filters);
+        } else {
+            nativeQueryBuilder.withQuery(query);
+        }
+        if (props.getTrackTotalHitsUpTo() > 0) {
+            nativeQueryBuilder.withTrackTotalHitsUpTo(props.getTrackTotalHitsUpTo());
+        }
+
+        SearchHits<SearchAuctionItemDocument> hits = operations.search(nativeQueryBuilder.build(), SearchAuctionItemDocument.class);
+        List<SearchHit<SearchAuctionItemDocument>> pageHits = hits.getSearchHits();
+        var items = toViews(pageHits);
+
+        long total = hits.getTotalHits();
+        boolean totalExact = hits.getTotalHitsRelation() != TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO;
+        // 상한에 걸리면 전체 건수를 모르므로 꽉 찬 페이지면 다음이 있다고 봄
+        boolean hasNext = totalExact ? (long) from + items.size() < total : items.size() == size;
+
+        // page 조회 결과에도 커서를 내려 깊은 페이지는 커서로 이어서 조회하게 함
+        String nextCursor = hasNext
+                ? new SearchAfterCursor(null, sort.name(), page + 1, lastSortValues(pageHits), total, totalExact).encode(objectMapper)
+                : null;
+        SearchFacets facets = condition.facets() ? toFacets(hits) : null;
+        return new SearchResultPage<>(items, total, page, size, hasNext, totalExact, nextCursor, facets);
+    }
 
+    /**
+     * 필터별 건수만 집계 (size 0, 문서/정렬/전체 건수 없음)
+     */
+    @Override
+    public SearchFacets facets(SearchCondition condition) {
+        Map<String, Query> filters = buildFilters(condition);
         var nativeQueryBuilder = NativeQuery.builder()
-                .withQuery(query)
-                .withPageable(PageRequest.of(page - 1, size));
+                .withQuery(buildKeywordQuery(condition))
+                .withMaxResults(0)
+                .withTrackTotalHits(false);
+        addFacetAggregations(nativeQueryBuilder, filters);
+        return toFacets(operations.search(nativeQueryBuilder.build(), SearchAuctionItemDocument.class));
+    }
 
-        if (condition.sort() == SearchSort.POPULAR) {
-            nativeQueryBuilder.withSort(buildPopularScriptSort());
-        } else {
-            nativeQueryBuilder.withSort(buildSort(condition.sort()));
+    // 각 집계는 자기 필드의 필터만 빼고 나머지 필터를 적용한 범위에서 셈
+    private void addFacetAggregations(NativeQueryBuilder builder, Map<String, Query> filters) {
+        builder.withAggregation(CATEGORY_FACET, Aggregation.of(a -> a
+                .filter(allExcept(filters, "category"))
+                .aggregations(FACET_VALUES, v -> v.terms(t -> t.field("category").size(ALLOWED_CATEGORIES.size())))));
+        builder.withAggregation(STATUS_FACET, Aggregation.of(a -> a
+                .filter(allExcept(filters, "status"))
+                .aggregations(FACET_VALUES, v -> v.terms(t -> t.field("status").size(ALLOWED_STATUSES.size())))));
+        builder.withAggregation(PRICE_FACET, Aggregation.of(a -> a
+                .filter(allExcept(filters, "currentPrice"))
+                .aggregations(FACET_VALUES, v -> v.range(r -> r.field("currentPrice").ranges(priceRanges())))));
+    }
+
+    private List<AggregationRange> priceRanges() {
+        long[] bounds = props.getFacetPriceRanges();
+        List<AggregationRange> ranges = new ArrayList<>(bounds.length + 1);
+        Double from = null;
+        for (long bound : bounds) {
+            Double lower = from;
+            ranges.add(AggregationRange.of(r -> r.from(lower).to((double) bound)));
+            from = (double) bound;
         }
+        Double last = from;
+        ranges.add(AggregationRange.of(r -> r.from(last)));
+        return ranges;
+    }
 
-        NativeQuery nativeQuery = nativeQueryBuilder.build();
+    private SearchFacets toFacets(SearchHits<SearchAuctionItemDocument> hits) {
+        Map<String, Aggregate> aggregates = new HashMap<>();
+        if (hits.getAggregations() instanceof ElasticsearchAggregations aggregations) {
+            aggregations.aggregationsAsMap().forEach((name, aggregation) ->
+                    aggregates.put(name, aggregation.aggregation().getAggregate()));
+        }
+        return new SearchFacets(
+                termCounts(aggregates.get(CATEGORY_FACET)),
+                termCounts(aggregates.get(STATUS_FACET)),
+                priceBuckets(aggregates.get(PRICE_FACET)));
+    }
+
+    private Map<String, Long> termCounts(Aggregate facet) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (facet == null) return counts;
+        Aggregate values = facet.filter().aggregations().get(FACET_VALUES);
+        for (StringTermsBucket bucket : values.sterms().buckets().array()) {
+            counts.put(bucket.key().stringValue(), bucket.docCount());
+        }
+        return counts;
+    }
+
+    private List<SearchFacets.PriceBucket> priceBuckets(Aggregate facet) {
+        if (facet == null) return List.of();
+        Aggregate values = facet.filter().aggregations().get(FACET_VALUES);
+        return values.range().buckets().array().stream()
+                .map(bucket -> new SearchFacets.PriceBucket(
+                        bucket.from() != null ? BigDecimal.valueOf(bucket.from().longValue()) : null,
+                        bucket.to() != null ? BigDecimal.valueOf(bucket.to().longValue()) : null,
+                        bucket.docCount()))
+                .toList();
+    }
+
+    /**
+     * 커서 조회: point-in-time 스냅샷 위에서 search_after로 이어서 조회
+     * - from을 쓰지 않으므로 깊이와 무관하게 페이지 비용이 일정 (maxFrom 제한 없음)
+     * - 건수는 첫 페이지에서 센 값을 커서로 이어 받고 다시 집계하지 않음
+     * - 마지막 페이지에서 PIT를 닫음 (중간에 이탈하면 keep-alive 만료로 정리)
+     */
+    private SearchResultPage<SearchAuctionItemView> searchAfter(SearchCondition condition, Query query, SearchSort sort, int size) {
+        SearchAfterCursor cursor = SearchAfterCursor.decode(objectMapper, condition.cursor());
+        if (cursor == null || !sort.name().equals(cursor.sort())) {
+            throw new BusinessException(ErrorCode.SEARCH_INVALID_CONDITION);
+        }
+
+        Duration keepAlive = Duration.ofSeconds(props.getCursorKeepAliveSeconds());
+        String pitId = cursor.pitId() != null
+                ? cursor.pitId()
+                : operations.openPointInTime(operations.getIndexCoordinatesFor(SearchAuctionItemDocument.class), keepAlive);
+
+        NativeQuery nativeQuery = NativeQuery.builder()
+                .withQuery(query)
+                .withPointInTime(new PointInTime(pitId, keepAlive))
+                .withSearchAfter(cursor.searchAfter())
+                .withPageable(PageRequest.of(0, size + 1)) // 다음 페이지 유무 확인용 1건 추가
+                .withSort(buildSort(sort))
+                .withTrackTotalHits(false)
+                .build();
 
         SearchHits<SearchAuctionItemDocument> hits = operations.search(nativeQuery, SearchAuctionItemDocument.class);
+        List<SearchHit<SearchAuctionItemDocument>> searchHits = hits.getSearchHits();
+        boolean hasNext = searchHits.size() > size;
+        List<SearchHit<SearchAuctionItemDocument>> pageHits = hasNext ? searchHits.subList(0, size) : searchHits;
+        // ES가 응답마다 PIT ID를 갱신할 수 있으므로 응답 값을 이어 씀
+        String nextPitId = hits.getPointInTimeId() != null ? hits.getPointInTimeId() : pitId;
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = new SearchAfterCursor(nextPitId, sort.name(), cursor.page() + 1, lastSortValues(pageHits),
+                    cursor.total(), cursor.totalExact()).encode(objectMapper);
+        } else {
+            operations.closePointInTime(nextPitId);
+        }
+        return new SearchResultPage<>(toViews(pageHits), cursor.total(), cursor.page(), size, hasNext,
+                cursor.totalExact(), nextCursor);
+    }
 
-        var items = hits.getSearchHits().stream()
+    private List<SearchAuctionItemView> toViews(List<SearchHit<SearchAuctionItemDocument>> hits) {
+        return hits.stream()
                 .map(SearchHit::getContent)
                 .map(this::toView)
                 .toList();
+    }
 
-        long total = hits.getTotalHits();
-        boolean hasNext = (long) from + items.size() < total;
-
-        return new SearchResultPage<>(items, total, page, size, hasNext);
+    private List<Object> lastSortValues(List<SearchHit<SearchAuctionItemDocument>> hits) {
+        return hits.isEmpty() ? List.of() : hits.get(hits.size() - 1).getSortValues();
     }
 
     private Query buildNativeQuery(SearchCondition c) {
         BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
+        if (hasText(c.keyword())) {
+            boolQueryBuilder.must(buildKeywordQuery(c));
+        }
+        buildFilters(c).values().forEach(boolQueryBuilder::filter);
+        return boolQueryBuilder.build()._toQuery();
+    }
 
+    // 키워드 조건만 (키워드가 없으면 전체)
+    private Query buildKeywordQuery(SearchCondition c) {
         // 1) 키워드: title OR description (Unified via 'should' inside a 'must' or
         // directly if it's the only constraint)
         // 하지만 여기서는 다른 필터랑 결합되므로 boolQuery의 'must' 절 안에 'should'를 넣거나,
@@ -101,8 +272,14 @@ public class ElasticsearchAuctionItemSearchEngine implements AuctionItemSearchEn
             Query titleQuery = MatchQuery.of(m -> m.field("title").query(keyword))._toQuery();
             Query descQuery = MatchQuery.of(m -> m.field("description").query(keyword))._toQuery();
 
-            boolQueryBuilder.must(m -> m.bool(b -> b.should(titleQuery).should(descQuery)));
+            return Query.of(q -> q.bool(b -> b.should(titleQuery).should(descQuery)));
         }
+        return Query.of(q -> q.matchAll(m -> m));
+    }
+
+    // 필드별 필터 (category / status / currentPrice), 조건이 없는 필드는 빠짐
+    private Map<String, Query> buildFilters(SearchCondition c) {
+        Map<String, Query> filters = new LinkedHashMap<>();
 
         // 2) 카테고리 필터
         Set<String> categories = normalizeEnumNames(c.categories());
@@ -110,7 +287,7 @@ public class ElasticsearchAuctionItemSearchEngine implements AuctionItemSearchEn
         if (!categories.isEmpty()) {
             // terms query
             List<FieldValue> categoryValues = categories.stream().map(FieldValue::of).toList();
-            boolQueryBuilder.filter(f -> f.terms(t -> t.field("category").terms(ts -> ts.value(categoryValues))));
+            filters.put("category", Query.of(f -> f.terms(t -> t.field("category").terms(ts -> ts.value(categoryValues)))));
         }
 
         // 3) 상태 필터
@@ -120,13 +297,13 @@ public class ElasticsearchAuctionItemSearchEngine implements AuctionItemSearchEn
                 .collect(Collectors.toSet());
         if (!statuses.isEmpty()) {
             List<FieldValue> statusValues = statuses.stream().map(FieldValue::of).toList();
-            boolQueryBuilder.filter(f -> f.terms(t -> t.field("status").terms(ts -> ts.value(statusValues))));
+            filters.put("status", Query.of(f -> f.terms(t -> t.field("status").terms(ts -> ts.value(statusValues)))));
         }
 
         // 4) 가격 범위 필터
         SearchPriceRange pr = c.searchPriceRange();
         if (pr != null && !pr.isEmpty()) {
-            boolQueryBuilder.filter(f -> f.range(r -> r
+            filters.put("currentPrice", Query.of(f -> f.range(r -> r
                     .number(n -> {
                         n.field("currentPrice");
                         if (pr.min() != null)
@@ -134,13 +311,30 @@ public class ElasticsearchAuctionItemSearchEngine implements AuctionItemSearchEn
                         if (pr.max() != null)
                             n.lte(pr.max().doubleValue());
                         return n;
-                    })));
+                    }))));
         }
 
-        return boolQueryBuilder.build()._toQuery();
+        return filters;
+    }
+
+    private Query allOf(Collection<Query> filters) {
+        return Query.of(q -> q.bool(b -> b.filter(new ArrayList<>(filters))));
+    }
+
+    private Query allExcept(Map<String, Query> filters, String field) {
+        List<Query> others = filters.entrySet().stream()
+                .filter(e -> !e.getKey().equals(field))
+                .map(Map.Entry::getValue)
+                .toList();
+        return Query.of(q -> q.bool(b -> b.filter(others)));
     }
 
+    // 정렬 값이 같은 문서의 순서를 고정 (search_after 커서가 문서를 건너뛰거나 중복하지 않도록)
     private Sort buildSort(SearchSort sort) {
+        return buildPrimarySort(sort).and(Sort.by(Sort.Order.asc("auctionItemId")));
+    }
+
+    private Sort buildPrimarySort(SearchSort sort) {
         SearchSort s = (sort != null) ? sort : SearchSort.LATEST;
 
         // 최신순: createdAt desc
@@ -148,6 +342,14 @@ public class ElasticsearchAuctionItemSearchEngine implements AuctionItemSearchEn
             return Sort.by(Sort.Order.desc("createdAt"));
         }
 
+        // 인기순: 색인 시/주기적으로 미리 계산한 popularityScore desc (문서별 스크립트 실행 없음)
+        // 매핑 반영 전 인덱스에서도 실패하지 않도록 unmappedType 지정 (필드 없는 문서는 맨 뒤)
+        if (s == SearchSort.POPULAR) {
+            return Sort.by(
+                    new Order(Sort.Direction.DESC, "popularityScore").withUnmappedType("double"),
+                    Sort.Order.desc("createdAt")); // 점수 같으면 최신순
+        }
+
         // 마감임박순: endAt asc (종료 시간 빠른 순)
         if (s == SearchSort.ENDS_SOON) {
             return Sort.by(
@@ -158,49 +360,6 @@ public class ElasticsearchAuctionItemSearchEngine implements AuctionItemSearchEn
         return Sort.by(Sort.Order.desc("createdAt"));
     }
 
-    private SortOptions buildPopularScriptSort() {
-        // [신선도 가중 인기순 정렬 공식]
-        // 최종 점수 = 활동 점수 (Base) / 신선도 감가 (Decay)
-        String scriptCode = """
-                long now = params.now;
-                long createdAt = (doc['createdAt'].size() > 0) ? doc['createdAt'].value.toInstant().toEpochMilli() : now;
-                double hoursOld = (now - createdAt) / 3600000.0;
-                if (hoursOld < 0) {
-                    hoursOld = 0;
-                }
-                double viewVal = (doc['viewCount'].size() > 0) ? doc['viewCount'].value : 0;
-                double viewScore = Math.log10(viewVal + 1);
-                double watchVal = (doc['watchlistCount'].size() > 0) ? doc['watchlistCount'].value : 0;
-                double bidVal = (doc['bidCount'].size() > 0) ? doc['bidCount'].value : 0;
-                double baseScore = (viewScore * 1.0) + (watchVal * 3.0) + (bidVal * 5.0);
-                double decay = Math.pow(hoursOld + 2, 0.5);
-                return baseScore / decay;
-                """;
-
-        // Escape script for JSON
-        String escapedScript = scriptCode.replace("\n", " ").replace("\"", "\\\"");
-        long nowParam = System.currentTimeMillis();
-
-        String json = String.format("""
-                {
-                    "_script": {
-                        "type": "number",
-                        "script": {
-                            "source": "%s",
-                            "lang": "painless",
-                            "params": {
-                                "now": %d
-                            }
-                        },
-                        "order": "desc"
-                    }
-                }
-                """, escapedScript, nowParam);
-
-        return co.elastic.clients.elasticsearch._types.SortOptions.of(s -> s
-                .withJson(new StringReader(json)));
-    }
-
     private SearchAuctionItemView toView(SearchAuctionItemDocument d) {
         return new SearchAuctionItemView(
                 d.getAuctionItemId(),
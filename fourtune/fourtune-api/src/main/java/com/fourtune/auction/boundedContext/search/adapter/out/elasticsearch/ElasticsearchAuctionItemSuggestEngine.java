@@ -0,0 +1,55 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.document.SearchAuctionItemDocument;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemSuggestEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 자동완성 제목 조회
+// - title.suggest(search_as_you_type) 서브필드에 bool_prefix 매칭, 본 검색(title/description match)과 별도 쿼리
+// - 제목만 가져오고 전체 건수는 집계하지 않음
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchAuctionItemSuggestEngine implements AuctionItemSuggestEngine {
+
+    private static final List<FieldValue> SUGGEST_STATUSES = List.of(FieldValue.of("ACTIVE"), FieldValue.of("SCHEDULED"));
+
+    private final ElasticsearchOperations operations;
+
+    @Override
+    public List<String> suggestTitles(String prefix, int size) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .must(m -> m.multiMatch(mm -> mm
+                                .query(prefix)
+                                .type(TextQueryType.BoolPrefix)
+                                .fields("title.suggest", "title.suggest._2gram", "title.suggest._3gram")))
+                        .filter(f -> f.terms(t -> t.field("status").terms(v -> v.value(SUGGEST_STATUSES))))))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes("title").build())
+                // 같은 제목 중복을 걸러도 size개가 남도록 여유 있게 조회
+                .withMaxResults(size * 2)
+                .withTrackTotalHits(false)
+                .build();
+
+        Set<String> titles = new LinkedHashSet<>();
+        for (SearchHit<SearchAuctionItemDocument> hit : operations.search(query, SearchAuctionItemDocument.class)) {
+            String title = hit.getContent().getTitle();
+            if (title != null && !title.isBlank()) {
+                titles.add(title.trim());
+            }
+            if (titles.size() >= size) break;
+        }
+        return new ArrayList<>(titles);
+    }
+}
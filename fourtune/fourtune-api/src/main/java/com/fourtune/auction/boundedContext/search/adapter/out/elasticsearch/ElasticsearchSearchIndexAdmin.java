@@ -0,0 +1,169 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.document.SearchAuctionItemDocument;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemIndexingHandler;
+import com.fourtune.auction.boundedContext.search.application.service.SearchIndexAdmin;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 버전 인덱스(auction_items_vN) 관리
+// - 검색/색인은 항상 별칭(auction_items)으로 접근하고, 재색인은 새 버전 인덱스를 채운 뒤 별칭만 옮김
+// - 별칭 도입 전처럼 auction_items가 실제 인덱스이면 지우지 않고 auction_items_v0로 복제해 둔 뒤 전환을 중단
+//   (운영자가 복제본을 확인하고 직접 인덱스 삭제 + 별칭 추가를 한 요청으로 실행, 재실행하면 전환 단계부터 이어서 진행)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchSearchIndexAdmin implements SearchIndexAdmin {
+
+    private static final String VERSION_SEPARATOR = "_v";
+    // 별칭 도입 전 실제 인덱스를 보존할 버전 (새 인덱스는 항상 1 이상)
+    private static final int LEGACY_VERSION = 0;
+
+    private final ElasticsearchOperations operations;
+    private final ElasticsearchClient client;
+    private final ElasticsearchAuctionItemIndexingHandler indexingHandler;
+
+    // 적재 완료 후 복구할 운영 설정 (@Setting 기본값과 동일)
+    @Value("${search.reindex.number-of-replicas:1}")
+    private int numberOfReplicas;
+
+    @Value("${search.reindex.refresh-interval:1s}")
+    private String refreshInterval;
+
+    @Override
+    public String nextVersionIndexName() {
+        String alias = alias();
+        Set<String> indices = call(() -> client.indices()
+                .get(g -> g.index(alias + VERSION_SEPARATOR + "*").allowNoIndices(true).ignoreUnavailable(true))
+                .result().keySet());
+        int latest = 0;
+        for (String index : indices) {
+            String suffix = index.substring((alias + VERSION_SEPARATOR).length());
+            if (suffix.chars().allMatch(Character::isDigit) && !suffix.isEmpty()) {
+                latest = Math.max(latest, Integer.parseInt(suffix));
+            }
+        }
+        return alias + VERSION_SEPARATOR + (latest + 1);
+    }
+
+    @Override
+    public boolean exists(String indexName) {
+        return call(() -> client.indices().exists(e -> e.index(indexName)).value());
+    }
+
+    @Override
+    public void createForBulkLoad(String indexName) {
+        IndexOperations source = operations.indexOps(SearchAuctionItemDocument.class);
+        Settings settings = source.createSettings().flatten();
+        // 적재 중에는 세그먼트 refresh와 replica 복제를 하지 않음
+        settings.put("index.refresh_interval", "-1");
+        settings.put("index.number_of_replicas", 0);
+        operations.indexOps(IndexCoordinates.of(indexName)).create(settings, source.createMapping());
+        log.info("[SEARCH][REINDEX] 새 인덱스 생성: index={}", indexName);
+    }
+
+    @Override
+    public int bulkLoad(String indexName, List<SearchAuctionItemView> views) {
+        if (views.isEmpty()) return 0;
+        List<IndexQuery> queries = new ArrayList<>(views.size());
+        for (SearchAuctionItemView view : views) {
+            queries.add(new IndexQueryBuilder()
+                    .withId(String.valueOf(view.auctionItemId()))
+                    .withObject(ElasticsearchAuctionItemIndexingHandler.toDocument(view))
+                    .build());
+        }
+        // 문서 실패가 있으면 BulkFailureException, 호출자가 체크포인트부터 다시 적재
+        operations.bulkIndex(queries, IndexCoordinates.of(indexName));
+        return queries.size();
+    }
+
+    @Override
+    public void finishBulkLoad(String indexName) {
+        call(() -> client.indices().putSettings(p -> p
+                .index(indexName)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time(refreshInterval))
+                        .numberOfReplicas(String.valueOf(numberOfReplicas)))));
+        call(() -> client.indices().refresh(r -> r.index(indexName)));
+    }
+
+    @Override
+    public List<String> switchAlias(String indexName) {
+        String alias = alias();
+        List<Action> actions = new ArrayList<>();
+        List<String> previous = new ArrayList<>();
+        if (call(() -> client.indices().existsAlias(e -> e.name(alias)).value())) {
+            for (String index : call(() -> client.indices().getAlias(a -> a.name(alias)).result().keySet())) {
+                if (index.equals(indexName)) continue;
+                previous.add(index);
+                actions.add(Action.of(a -> a.remove(r -> r.index(index).alias(alias))));
+            }
+        } else if (exists(alias)) {
+            String legacyCopy = preserveLegacyIndex(alias);
+            throw new IllegalStateException(String.format(
+                    "별칭 %s와 이름이 같은 실제 인덱스가 있어 전환 중단. 데이터는 %s에 복제해 둠. "
+                            + "확인 후 POST _aliases {\"actions\":[{\"remove_index\":{\"index\":\"%s\"}},"
+                            + "{\"add\":{\"index\":\"%s\",\"alias\":\"%s\"}}]} 실행 뒤 재색인을 다시 시작",
+                    alias, legacyCopy, alias, indexName, alias));
+        }
+        actions.add(Action.of(a -> a.add(ad -> ad.index(indexName).alias(alias))));
+        call(() -> client.indices().updateAliases(u -> u.actions(actions)));
+        log.info("[SEARCH][REINDEX] 별칭 전환: alias={}, index={}, previous={}", alias, indexName, previous);
+        return previous;
+    }
+
+    // 쓰기를 잠깐 막고 복제(clone, 세그먼트 하드링크라 빠름)한 뒤 원본 쓰기를 다시 허용, 복제본은 읽기 전용으로 남김
+    private String preserveLegacyIndex(String legacyIndex) {
+        String legacyCopy = legacyIndex + VERSION_SEPARATOR + LEGACY_VERSION;
+        if (exists(legacyCopy)) {
+            return legacyCopy;
+        }
+        call(() -> client.indices().putSettings(p -> p.index(legacyIndex).settings(s -> s.blocks(b -> b.write(true)))));
+        try {
+            call(() -> client.indices().clone(c -> c.index(legacyIndex).target(legacyCopy)));
+        } finally {
+            call(() -> client.indices().putSettings(p -> p.index(legacyIndex).settings(s -> s.blocks(b -> b.write(false)))));
+        }
+        log.warn("[SEARCH][REINDEX] 별칭 도입 전 인덱스 복제: index={}, copy={}", legacyIndex, legacyCopy);
+        return legacyCopy;
+    }
+
+    @Override
+    public AuctionItemIndexingHandler indexingHandlerFor(String indexName) {
+        return indexingHandler.forIndex(indexName);
+    }
+
+    private String alias() {
+        return operations.getIndexCoordinatesFor(SearchAuctionItemDocument.class).getIndexName();
+    }
+
+    private static <T> T call(IoCall<T> call) {
+        try {
+            return call.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoCall<T> {
+        T run() throws IOException;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 검색 커서 (클라이언트에는 Base64URL(JSON) 문자열로만 노출)
+ * - pitId: point-in-time ID (page 조회에서 넘어온 첫 커서는 null → 커서 조회 시 새로 연다)
+ * - searchAfter: 직전 페이지 마지막 문서의 정렬 값
+ * - total/totalExact: 첫 페이지에서 집계한 건수를 이어 받아 다음 페이지부터는 다시 세지 않음
+ */
+record SearchAfterCursor(
+        String pitId,
+        String sort,
+        int page,
+        List<Object> searchAfter,
+        long total,
+        boolean totalExact
+) {
+
+    String encode(ObjectMapper objectMapper) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("검색 커서 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * @return 형식이 잘못된 커서면 null
+     */
+    static SearchAfterCursor decode(ObjectMapper objectMapper, String encoded) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(encoded.getBytes(StandardCharsets.US_ASCII));
+            SearchAfterCursor cursor = objectMapper.readValue(json, SearchAfterCursor.class);
+            if (cursor.sort() == null || cursor.searchAfter() == null || cursor.searchAfter().isEmpty()) {
+                return null;
+            }
+            return cursor;
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+}
@@ -18,7 +18,10 @@ public class SearchAuctionItemDocument {
     @Id
     private Long auctionItemId;
 
-    @Field(type = FieldType.Text, analyzer = "nori_analyzer", searchAnalyzer = "nori_analyzer")
+    // title.suggest: 자동완성용 search_as_you_type 서브필드 (입력 중인 접두어를 bool_prefix로 매칭)
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "nori_analyzer", searchAnalyzer = "nori_analyzer"),
+            otherFields = @InnerField(suffix = "suggest", type = FieldType.Search_As_You_Type))
     private String title;
 
     @Field(type = FieldType.Text, analyzer = "nori_analyzer", searchAnalyzer = "nori_analyzer")
@@ -66,9 +69,24 @@ public class SearchAuctionItemDocument {
     @Field(type = FieldType.Integer)
     private Integer bidCount;
 
+    // 인기순 정렬용 사전 계산 점수 (PopularityScorePolicy, 색인/카운터 변경 시 + 주기적 재계산)
+    @Field(type = FieldType.Double)
+    private Double popularityScore;
+
     @Field(type = FieldType.Long)
     private Long sellerId;
 
     @Field(type = FieldType.Keyword)
     private String sellerName;
+
+    // 순서 역전 방지용 버전 (원본 변경 시각 epoch ms, 검색에는 쓰지 않음)
+    // 전체 스냅샷 / 상태 부분 업데이트 / 카운터 부분 업데이트가 각자 자기 필드 버전과 비교
+    @Field(type = FieldType.Long, index = false)
+    private Long sourceVersion;
+
+    @Field(type = FieldType.Long, index = false)
+    private Long statusVersion;
+
+    @Field(type = FieldType.Long, index = false)
+    private Long countersVersion;
 }
@@ -0,0 +1,39 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.external;
+
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemSnapshotSource;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemSnapshotPage;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.mapper.SearchAuctionEventMapper;
+import com.fourtune.shared.auction.dto.AuctionSearchSnapshotPageResponse;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class AuctionItemSnapshotFeignAdapter implements AuctionItemSnapshotSource {
+
+    private final AuctionSearchSnapshotClient client;
+
+    @Override
+    public SearchAuctionItemSnapshotPage fetch(long lastId, int size) {
+        AuctionSearchSnapshotPageResponse response = client.getSnapshots(lastId, size);
+        if (response == null || response.items() == null) {
+            return new SearchAuctionItemSnapshotPage(List.of(), lastId, false);
+        }
+        List<SearchAuctionItemView> items = response.items().stream().map(SearchAuctionEventMapper::toView).toList();
+        return new SearchAuctionItemSnapshotPage(items, response.lastId(), response.hasNext());
+    }
+
+    @Override
+    public Optional<SearchAuctionItemView> fetchOne(long auctionItemId) {
+        try {
+            return Optional.ofNullable(client.getSnapshot(auctionItemId)).map(SearchAuctionEventMapper::toView);
+        } catch (FeignException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+}
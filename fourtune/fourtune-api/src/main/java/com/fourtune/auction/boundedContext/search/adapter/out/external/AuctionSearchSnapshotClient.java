@@ -0,0 +1,30 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.external;
+
+import com.fourtune.shared.auction.dto.AuctionSearchSnapshotPageResponse;
+import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * auction-service 내부 API 호출용 Feign 클라이언트.
+ * - 검색 재색인 시: 전체 경매 스냅샷을 id keyset 페이지로 조회.
+ * - 부분 업데이트 대상 문서가 없을 때: 경매 1건 스냅샷 조회.
+ */
+@FeignClient(name = "auction-service", contextId = "auctionSearchSnapshotClient", url = "${api.auction.base-url}")
+public interface AuctionSearchSnapshotClient {
+
+    /**
+     * lastId 이후 경매 스냅샷 조회 (id 오름차순).
+     */
+    @GetMapping("/internal/search/auction-items")
+    AuctionSearchSnapshotPageResponse getSnapshots(@RequestParam("lastId") Long lastId,
+                                                   @RequestParam("size") int size);
+
+    /**
+     * 경매 1건 스냅샷 조회 (없으면 404).
+     */
+    @GetMapping("/internal/search/auction-items/{auctionItemId}")
+    AuctionItemCreatedEvent getSnapshot(@PathVariable("auctionItemId") Long auctionItemId);
+}
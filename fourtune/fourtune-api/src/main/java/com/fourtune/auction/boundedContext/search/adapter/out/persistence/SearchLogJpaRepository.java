@@ -1,7 +1,19 @@
 package com.fourtune.auction.boundedContext.search.adapter.out.persistence;
 
+import com.fourtune.auction.boundedContext.search.domain.SearchKeywordCount;
 import com.fourtune.auction.boundedContext.search.domain.SearchLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface SearchLogJpaRepository extends JpaRepository<SearchLog, Long> {
+
+    @Query("SELECT new com.fourtune.auction.boundedContext.search.domain.SearchKeywordCount(s.keyword, COUNT(s)) "
+            + "FROM SearchLog s WHERE s.createdAt >= :since AND s.isSuccess = true "
+            + "GROUP BY s.keyword ORDER BY COUNT(s) DESC")
+    List<SearchKeywordCount> findTopKeywords(@Param("since") LocalDateTime since, Pageable pageable);
 }
@@ -1,18 +1,69 @@
 package com.fourtune.auction.boundedContext.search.adapter.out.persistence;
 
+import com.fourtune.auction.boundedContext.search.domain.SearchKeywordCount;
 import com.fourtune.auction.boundedContext.search.domain.SearchLog;
 import com.fourtune.auction.boundedContext.search.port.out.SearchLogRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class SearchLogPersistenceAdapter implements SearchLogRepository {
 
+    private static final String INSERT_SQL = """
+            INSERT INTO search_log (user_id, keyword, categories, min_price, max_price, status, result_count, is_success, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
     private final SearchLogJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void save(SearchLog searchLog) {
         jpaRepository.save(searchLog);
     }
+
+    // IDENTITY 키라 JPA saveAll은 건별 INSERT가 되므로 JDBC batch로 직접 저장
+    @Override
+    public void saveAll(List<SearchLog> searchLogs) {
+        if (searchLogs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, searchLogs, searchLogs.size(), (ps, searchLog) -> {
+            Connection connection = ps.getConnection();
+            if (searchLog.getUserId() != null) {
+                ps.setLong(1, searchLog.getUserId());
+            } else {
+                ps.setNull(1, Types.BIGINT);
+            }
+            ps.setString(2, searchLog.getKeyword());
+            ps.setArray(3, toArray(connection, searchLog.getCategories()));
+            ps.setBigDecimal(4, searchLog.getMinPrice());
+            ps.setBigDecimal(5, searchLog.getMaxPrice());
+            ps.setArray(6, toArray(connection, searchLog.getStatus()));
+            ps.setInt(7, searchLog.getResultCount());
+            ps.setBoolean(8, searchLog.getIsSuccess());
+            LocalDateTime createdAt = searchLog.getCreatedAt() != null ? searchLog.getCreatedAt() : LocalDateTime.now();
+            ps.setTimestamp(9, Timestamp.valueOf(createdAt));
+        });
+    }
+
+    @Override
+    public List<SearchKeywordCount> findTopKeywords(LocalDateTime since, int limit) {
+        return jpaRepository.findTopKeywords(since, PageRequest.of(0, limit));
+    }
+
+    private Array toArray(Connection connection, List<String> values) throws SQLException {
+        return connection.createArrayOf("varchar", values != null ? values.toArray() : new Object[0]);
+    }
 }
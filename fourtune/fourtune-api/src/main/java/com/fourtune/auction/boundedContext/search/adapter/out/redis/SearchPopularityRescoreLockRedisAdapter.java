@@ -0,0 +1,26 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.redis;
+
+import com.fourtune.auction.boundedContext.search.port.out.SearchPopularityRescoreLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * 인기 점수 재계산 주기 락 Redis 저장소 (string: search:popularity:rescore:lock, 값은 실행 인스턴스 식별자)
+ * 재계산 주기만큼 유지해 여러 인스턴스 중 주기당 한 곳만 update_by_query 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchPopularityRescoreLockRedisAdapter implements SearchPopularityRescoreLock {
+
+    private static final String KEY = "search:popularity:rescore:lock";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean tryAcquire(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY, owner, ttl));
+    }
+}
@@ -0,0 +1,52 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.redis;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchReindexCheckpoint;
+import com.fourtune.auction.boundedContext.search.port.out.SearchReindexCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 재색인 체크포인트 Redis 저장소 (hash: search:reindex:checkpoint)
+ * 인스턴스가 재시작되어도 같은 새 인덱스에 마지막 적재 위치부터 이어서 적재
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchReindexCheckpointRedisAdapter implements SearchReindexCheckpointRepository {
+
+    private static final String KEY = "search:reindex:checkpoint";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<SearchReindexCheckpoint> find() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new SearchReindexCheckpoint(
+                (String) entries.get("targetIndex"),
+                Long.valueOf((String) entries.get("lastId")),
+                Long.parseLong((String) entries.get("indexed")),
+                Long.parseLong((String) entries.get("replayFromMillis")),
+                SearchReindexCheckpoint.Phase.valueOf((String) entries.get("phase"))));
+    }
+
+    @Override
+    public void save(SearchReindexCheckpoint checkpoint) {
+        redisTemplate.opsForHash().putAll(KEY, Map.of(
+                "targetIndex", checkpoint.targetIndex(),
+                "lastId", String.valueOf(checkpoint.lastId()),
+                "indexed", String.valueOf(checkpoint.indexed()),
+                "replayFromMillis", String.valueOf(checkpoint.replayFromMillis()),
+                "phase", checkpoint.phase().name()));
+    }
+
+    @Override
+    public void delete() {
+        redisTemplate.delete(KEY);
+    }
+}
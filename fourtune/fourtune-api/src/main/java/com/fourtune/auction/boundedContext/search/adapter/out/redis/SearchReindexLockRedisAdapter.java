@@ -0,0 +1,54 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.redis;
+
+import com.fourtune.auction.boundedContext.search.port.out.SearchReindexLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 재색인 실행 락 Redis 저장소 (string: search:reindex:lock, 값은 실행 중인 인스턴스 식별자)
+ * 여러 인스턴스에서 동시에 시작해도 한 곳만 같은 체크포인트/새 인덱스로 진행하고,
+ * 실행 인스턴스가 죽으면 TTL 만료 후 다른 인스턴스가 체크포인트부터 이어서 진행
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchReindexLockRedisAdapter implements SearchReindexLock {
+
+    private static final String KEY = "search:reindex:lock";
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean tryAcquire(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY, owner, ttl));
+    }
+
+    @Override
+    public boolean renew(String owner, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW, List.of(KEY), owner, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    @Override
+    public void release(String owner) {
+        redisTemplate.execute(RELEASE, List.of(KEY), owner);
+    }
+}
@@ -0,0 +1,150 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionBidDelta;
+import com.fourtune.core.config.EventPublishingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입찰 델타 → ES 부분 업데이트 디바운서
+ * - 입찰마다 오는 델타를 경매별로 병합해 두고 flush-interval-ms 주기로 경매당 1회만 ES 반영
+ * - 입찰이 몰리는 경매도 주기당 ES 쓰기 1회로 제한 (검색 결과 반영 지연은 최대 1주기)
+ * - ES 반영 실패 시 다음 주기에 새 델타와 병합해 재시도, max-attempts 초과 시 폐기 (다음 입찰/스냅샷 이벤트가 보정)
+ * - Kafka 리스너는 flushNow로 받은 델타를 오프셋 커밋 전에 반영 (flush-then-ack, 재기동 시 유실 방지)
+ *   Kafka 모드에서는 주기 flush를 하지 않음 (리스너보다 먼저 델타를 가져가 메모리에서만 재시도하면 커밋된 오프셋 뒤로 유실될 수 있음)
+ *   주기 flush는 인프로세스 이벤트(Kafka 비활성) 경로용이며, 이 경로는 다른 Spring 이벤트처럼 재기동 시 유실될 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionBidDeltaCoalescer {
+
+    private final AuctionItemIndexingHandler indexingHandler;
+    private final SearchProperties searchProperties;
+    private final EventPublishingConfig eventPublishingConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, SearchAuctionBidDelta> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    private Counter receivedCounter;
+    private Counter writtenCounter;
+    private Counter failedCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        receivedCounter = Counter.builder("search.bid.delta.received")
+                .description("수신한 입찰 델타 수")
+                .register(meterRegistry);
+        writtenCounter = esWriteCounter("success");
+        failedCounter = esWriteCounter("failed");
+        droppedCounter = esWriteCounter("dropped");
+        Gauge.builder("search.bid.delta.pending", pending, Map::size)
+                .description("ES 반영 대기 중인 경매 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입찰 델타 등록 (같은 경매의 대기 중인 델타와 병합)
+     */
+    public void submit(SearchAuctionBidDelta delta) {
+        if (delta == null || delta.auctionItemId() == null) {
+            return;
+        }
+        pending.merge(delta.auctionItemId(), delta, SearchAuctionBidDelta::merge);
+        receivedCounter.increment();
+    }
+
+    /**
+     * 대기 중인 델타를 경매당 1회 부분 업데이트로 반영
+     * Kafka 모드에서는 리스너의 flushNow가 델타를 반영하므로 아무것도 하지 않음
+     */
+    @Scheduled(fixedDelayString = "${search.bid-delta.flush-interval-ms:500}")
+    public void flush() {
+        if (eventPublishingConfig.isAuctionEventsKafkaEnabled() || pending.isEmpty()) {
+            return;
+        }
+        List<Long> auctionIds = new ArrayList<>(pending.keySet());
+        for (Long auctionId : auctionIds) {
+            SearchAuctionBidDelta delta = pending.remove(auctionId);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                indexingHandler.updatePrice(delta);
+                writtenCounter.increment();
+                failedAttempts.remove(auctionId);
+            } catch (Exception e) {
+                failedCounter.increment();
+                retryOrDrop(auctionId, delta, e);
+            }
+        }
+    }
+
+    /**
+     * 지정한 경매의 대기 중인 델타를 즉시 반영 (Kafka 리스너: 오프셋 커밋 전 호출)
+     * 실패한 델타는 다시 쌓지 않고 돌려줌 (레코드 재처리/DLQ는 호출 측이 결정, 델타는 최신 값이라 재처리해도 안전)
+     *
+     * @return 반영에 실패한 경매 ID → 원인
+     */
+    public Map<Long, Exception> flushNow(Collection<Long> auctionIds) {
+        Map<Long, Exception> failures = new HashMap<>();
+        for (Long auctionId : auctionIds) {
+            SearchAuctionBidDelta delta = pending.remove(auctionId);
+            if (delta == null) {
+                // 반영할 델타 없음
+                continue;
+            }
+            try {
+                indexingHandler.updatePrice(delta);
+                writtenCounter.increment();
+                failedAttempts.remove(auctionId);
+            } catch (Exception e) {
+                failedCounter.increment();
+                failures.put(auctionId, e);
+            }
+        }
+        return failures;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void retryOrDrop(Long auctionId, SearchAuctionBidDelta delta, Exception e) {
+        int attempts = failedAttempts.merge(auctionId, 1, Integer::sum);
+        if (attempts >= searchProperties.getBidDeltaMaxAttempts()) {
+            failedAttempts.remove(auctionId);
+            droppedCounter.increment();
+            log.error("[SEARCH][BID-DELTA] ES 부분 업데이트 포기: auctionItemId={}, attempts={}, error={}",
+                    auctionId, attempts, e.getMessage());
+            return;
+        }
+        pending.merge(auctionId, delta, SearchAuctionBidDelta::merge);
+        log.warn("[SEARCH][BID-DELTA] ES 부분 업데이트 실패, 다음 주기 재시도: auctionItemId={}, attempts={}, error={}",
+                auctionId, attempts, e.getMessage());
+    }
+
+    private Counter esWriteCounter(String result) {
+        return Counter.builder("search.bid.delta.es.writes")
+                .description("입찰 델타 ES 부분 업데이트 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
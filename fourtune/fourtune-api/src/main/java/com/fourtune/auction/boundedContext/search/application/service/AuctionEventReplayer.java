@@ -0,0 +1,6 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+public interface AuctionEventReplayer {
+    // fromMillis 이후 발행된 경매 이벤트를 target에 다시 반영 (호출 시점까지), 반영한 이벤트 수 반환
+    long replay(long fromMillis, AuctionItemIndexingHandler target);
+}
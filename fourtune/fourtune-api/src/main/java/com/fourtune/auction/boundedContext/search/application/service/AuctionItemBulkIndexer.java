@@ -0,0 +1,102 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchIndexOperation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 인덱스 bulk 반영기
+ * - 한 번에 받은 작업을 경매별로 병합(SearchIndexOperation.latest)해 경매당 1건만 남김
+ * - 남은 작업을 _bulk 요청 1회로 반영하고 문서별 실패를 돌려줌 (호출자가 DLQ 등으로 처리)
+ * - bulk 크기/지연/중복 제거 비율을 메트릭으로 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionItemBulkIndexer {
+
+    private final AuctionItemIndexingHandler indexingHandler;
+    private final MeterRegistry meterRegistry;
+
+    private DistributionSummary bulkSize;
+    private DistributionSummary dedupRatio;
+    private Timer bulkTimer;
+    private Counter succeededCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        bulkSize = DistributionSummary.builder("search.index.bulk.size")
+                .description("bulk 요청 1회당 문서 수 (중복 제거 후)")
+                .register(meterRegistry);
+        dedupRatio = DistributionSummary.builder("search.index.bulk.dedup.ratio")
+                .description("중복 제거로 줄어든 작업 비율 (0 ~ 1)")
+                .register(meterRegistry);
+        bulkTimer = Timer.builder("search.index.bulk.duration")
+                .description("bulk 요청 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        succeededCounter = itemCounter("success");
+        failedCounter = itemCounter("failed");
+    }
+
+    /**
+     * 작업 병합 후 bulk 반영
+     * bulk 요청 자체가 실패하면 예외를 그대로 던짐 (호출자가 배치 전체 재시도)
+     */
+    public BulkIndexResult index(List<SearchIndexOperation> operations) {
+        if (operations.isEmpty()) {
+            return BulkIndexResult.EMPTY;
+        }
+        Map<Long, SearchIndexOperation> merged = new LinkedHashMap<>();
+        for (SearchIndexOperation operation : operations) {
+            merged.merge(operation.auctionItemId(), operation, SearchIndexOperation::latest);
+        }
+        List<SearchIndexOperation> applied = new ArrayList<>(merged.values());
+
+        long startedAt = System.nanoTime();
+        Map<Long, String> failures = indexingHandler.bulk(applied);
+        bulkTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        bulkSize.record(applied.size());
+        dedupRatio.record(1 - (double) applied.size() / operations.size());
+        succeededCounter.increment(applied.size() - failures.size());
+        failedCounter.increment(failures.size());
+
+        List<SearchIndexOperation> failed = applied.stream()
+                .filter(operation -> failures.containsKey(operation.auctionItemId()))
+                .toList();
+        log.debug("[SEARCH][BULK] received={}, applied={}, failed={}", operations.size(), applied.size(), failed.size());
+        return new BulkIndexResult(applied, failed, failures);
+    }
+
+    private Counter itemCounter(String result) {
+        return Counter.builder("search.index.bulk.items")
+                .description("bulk 반영 문서 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * bulk 반영 결과 (applied = 병합 후 실제 요청한 작업, failed = 그 중 실패한 작업, reasons = 경매 ID별 실패 사유)
+     */
+    public record BulkIndexResult(List<SearchIndexOperation> applied,
+                                  List<SearchIndexOperation> failed,
+                                  Map<Long, String> reasons) {
+
+        static final BulkIndexResult EMPTY = new BulkIndexResult(List.of(), List.of(), Collections.emptyMap());
+    }
+}
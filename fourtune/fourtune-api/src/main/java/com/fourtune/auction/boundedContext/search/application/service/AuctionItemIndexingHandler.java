@@ -1,8 +1,32 @@
 package com.fourtune.auction.boundedContext.search.application.service;
 
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionBidDelta;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionCounters;
 import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionStatusChange;
+import com.fourtune.auction.boundedContext.search.domain.SearchIndexOperation;
+
+import java.util.List;
+import java.util.Map;
 
 public interface AuctionItemIndexingHandler {
+    // 전체 문서 반영, 문서 버전(updatedAt)보다 오래된 스냅샷이면 무시
     void upsert(SearchAuctionItemView view);
     void delete(Long auctionItemId);
+
+    // 입찰 필드(현재가/입찰 수/종료 시간)만 부분 업데이트, 문서의 bidCount보다 작으면 무시
+    void updatePrice(SearchAuctionBidDelta delta);
+
+    // 상태만 부분 업데이트, 문서의 상태 버전보다 오래되었거나 값이 같으면 무시
+    void updateStatus(SearchAuctionStatusChange change);
+
+    // 조회수/관심 수만 부분 업데이트, 문서의 카운터 버전보다 오래되었거나 값이 같으면 무시
+    void updateCounters(SearchAuctionCounters counters);
+
+    // 전체 문서의 인기 점수를 nowMillis 기준으로 다시 계산, 변화율이 minChange 이하인 문서는 건너뜀
+    // 실제로 갱신된 문서 수 반환
+    long refreshPopularityScores(long nowMillis, double minChange);
+
+    // upsert/delete 여러 건을 _bulk 요청 1회로 반영, 실패한 문서의 경매 ID → 실패 사유 반환
+    Map<Long, String> bulk(List<SearchIndexOperation> operations);
 }
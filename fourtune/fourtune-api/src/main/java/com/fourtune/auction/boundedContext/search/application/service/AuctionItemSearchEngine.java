@@ -4,4 +4,7 @@ import com.fourtune.auction.boundedContext.search.domain.*;
 
 public interface AuctionItemSearchEngine {
     SearchResultPage<SearchAuctionItemView> search(SearchCondition condition);
+
+    // 문서 없이 필터별 건수만 집계 (정렬/페이지 무시)
+    SearchFacets facets(SearchCondition condition);
 }
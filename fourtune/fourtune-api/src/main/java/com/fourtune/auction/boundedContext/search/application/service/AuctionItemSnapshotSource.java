@@ -0,0 +1,14 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemSnapshotPage;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+
+import java.util.Optional;
+
+public interface AuctionItemSnapshotSource {
+    // lastId 이후 경매를 id 오름차순으로 size건 조회 (정본: auction-service)
+    SearchAuctionItemSnapshotPage fetch(long lastId, int size);
+
+    // 경매 1건 조회, 정본에 없으면(삭제된 경매) empty
+    Optional<SearchAuctionItemView> fetchOne(long auctionItemId);
+}
@@ -0,0 +1,8 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import java.util.List;
+
+public interface AuctionItemSuggestEngine {
+    // 접두어로 시작하는 단어가 있는 진행/예정 경매 제목 (중복 제거, 최대 size개)
+    List<String> suggestTitles(String prefix, int size);
+}
@@ -0,0 +1,92 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.port.out.SearchPopularityRescoreLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 점수(popularityScore) 주기적 재계산
+ * - 점수는 등록 후 경과 시간으로 감가되므로 카운터 변경이 없는 문서도 주기적으로 다시 계산
+ * - 변화율이 min-change 이하인 문서는 ES에서 noop 처리되어 재색인하지 않음 (오래된 문서일수록 대부분 건너뜀)
+ * - 카운터/입찰 수 변경 시에는 부분 업데이트 스크립트가 즉시 다시 계산
+ * - 진행/예정 경매 문서만 대상 (종료 경매는 다시 쓰지 않음)
+ * - Redis 락을 재계산 주기만큼 잡아 여러 인스턴스 중 주기당 한 곳만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.popularity.rescore-enabled", havingValue = "true", matchIfMissing = true)
+public class AuctionPopularityRescorer {
+
+    private final AuctionItemIndexingHandler indexingHandler;
+    private final SearchPopularityRescoreLock rescoreLock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.popularity.rescore-interval-ms:600000}")
+    private long rescoreIntervalMs;
+
+    // 이 비율 이하로 바뀌는 점수는 갱신하지 않음 (0.01 = 1%)
+    @Value("${search.popularity.rescore-min-change:0.01}")
+    private double minChange;
+
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    private Timer rescoreTimer;
+    private Counter updatedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        rescoreTimer = Timer.builder("search.popularity.rescore.duration")
+                .description("인기 점수 전체 재계산 소요 시간")
+                .register(meterRegistry);
+        updatedCounter = Counter.builder("search.popularity.rescore.updated")
+                .description("재계산으로 점수가 갱신된 문서 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${search.popularity.rescore-interval-ms:600000}",
+            initialDelayString = "${search.popularity.rescore-interval-ms:600000}")
+    public void rescore() {
+        if (!acquireLock()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            long updated = indexingHandler.refreshPopularityScores(System.currentTimeMillis(), minChange);
+            updatedCounter.increment(updated);
+            log.info("[SEARCH][POPULARITY] 인기 점수 재계산 완료: updated={}, elapsedMs={}",
+                    updated, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("[SEARCH][POPULARITY] 인기 점수 재계산 실패, 다음 주기에 재시도: error={}", e.getMessage());
+        } finally {
+            rescoreTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 이번 주기 실행 락 획득 (다른 인스턴스가 이미 잡았거나 Redis 오류면 건너뜀)
+     */
+    private boolean acquireLock() {
+        try {
+            if (rescoreLock.tryAcquire(lockOwner, Duration.ofMillis(rescoreIntervalMs))) {
+                return true;
+            }
+            log.debug("[SEARCH][POPULARITY] 이번 주기는 다른 인스턴스가 재계산");
+        } catch (Exception e) {
+            log.warn("[SEARCH][POPULARITY] 재계산 락 획득 실패, 다음 주기에 재시도: error={}", e.getMessage());
+        }
+        return false;
+    }
+}
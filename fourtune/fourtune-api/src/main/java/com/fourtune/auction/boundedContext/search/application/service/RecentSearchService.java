@@ -1,14 +1,19 @@
 package com.fourtune.auction.boundedContext.search.application.service;
 
 import com.fourtune.auction.boundedContext.search.domain.policy.RecentSearchPolicy;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -18,9 +23,44 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class RecentSearchService {
 
+    /**
+     * 최근 검색어 저장 (ZADD → 최대 개수 초과분 삭제 → TTL 갱신을 Redis 왕복 1회로 원자 실행)
+     * KEYS[1]=사용자 최근 검색어 ZSet
+     * ARGV: keyword, score(epoch ms), maxKeywords, ttlMillis
+     * 반환: 삭제한 오래된 검색어 수
+     */
+    static final RedisScript<Long> ADD_KEYWORD = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[3])
+            if overflow > 0 then
+              redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+            else
+              overflow = 0
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return overflow
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
     private final RecentSearchPolicy recentSearchPolicy;
 
+    // 목록 조회 로컬 캐시 유지 시간 (다른 인스턴스에서 저장한 검색어는 최대 이 시간만큼 늦게 보임)
+    @Value("${search.recent.local-cache-ttl-ms:3000}")
+    private long localCacheTtlMs;
+
+    @Value("${search.recent.local-cache-max-size:10000}")
+    private long localCacheMaxSize;
+
+    private Cache<Long, List<String>> keywordsCache;
+
+    @PostConstruct
+    public void init() {
+        keywordsCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localCacheTtlMs))
+                .maximumSize(localCacheMaxSize)
+                .build();
+    }
+
     /**
      * 최근 검색어 저장 (비동기)
      * - 중복 키워드는 최신 Score로 갱신
@@ -33,39 +73,24 @@ public class RecentSearchService {
         }
 
         String key = recentSearchPolicy.getKeyPrefix() + userId;
-        ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
-
         try {
-            // 1. ZADD: 키워드 추가 (Score = 현재 시간) - 이미 존재하면 Score 갱신됨
-            zSetOps.add(key, keyword, System.currentTimeMillis());
-
-            // 2. 최대 개수 초과 시 오래된 순 삭제
-            Long count = zSetOps.zCard(key);
-            int maxKeywords = recentSearchPolicy.getMaxKeywords();
-
-            if (count != null && count > maxKeywords) {
-                zSetOps.removeRange(key, 0, count - maxKeywords - 1);
-            }
-
-            // 3. TTL 설정
-            redisTemplate.expire(key, recentSearchPolicy.getTtl());
-
+            redisTemplate.execute(ADD_KEYWORD, List.of(key),
+                    keyword,
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(recentSearchPolicy.getMaxKeywords()),
+                    String.valueOf(recentSearchPolicy.getTtl().toMillis()));
+            keywordsCache.invalidate(userId);
         } catch (Exception e) {
             log.error("Failed to add recent search keyword for user {}: {}", userId, e.getMessage());
         }
     }
 
-    // 최근 검색어 목록 조회 - 최신순 정렬
+    // 최근 검색어 목록 조회 - 최신순 정렬 (로컬 캐시 우선)
     public List<String> getKeywords(Long userId) {
         if (userId == null) {
             return Collections.emptyList();
         }
-        String key = recentSearchPolicy.getKeyPrefix() + userId;
-        int maxKeywords = recentSearchPolicy.getMaxKeywords();
-
-        // Score 역순(최신순) 조회
-        Set<String> keywords = redisTemplate.opsForZSet().reverseRange(key, 0, maxKeywords - 1);
-        return keywords != null ? new ArrayList<>(keywords) : Collections.emptyList();
+        return keywordsCache.get(userId, this::loadKeywords);
     }
 
     // 최근 검색어 개별 삭제
@@ -75,6 +100,7 @@ public class RecentSearchService {
         }
         String key = recentSearchPolicy.getKeyPrefix() + userId;
         redisTemplate.opsForZSet().remove(key, keyword);
+        keywordsCache.invalidate(userId);
     }
 
     // 최근 검색어 전체 삭제
@@ -84,5 +110,15 @@ public class RecentSearchService {
         }
         String key = recentSearchPolicy.getKeyPrefix() + userId;
         redisTemplate.delete(key);
+        keywordsCache.invalidate(userId);
+    }
+
+    private List<String> loadKeywords(Long userId) {
+        String key = recentSearchPolicy.getKeyPrefix() + userId;
+        int maxKeywords = recentSearchPolicy.getMaxKeywords();
+
+        // Score 역순(최신순) 조회
+        Set<String> keywords = redisTemplate.opsForZSet().reverseRange(key, 0, maxKeywords - 1);
+        return keywords != null ? List.copyOf(keywords) : Collections.emptyList();
     }
 }
@@ -2,6 +2,7 @@ package com.fourtune.auction.boundedContext.search.application.service;
 
 import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
 import com.fourtune.auction.boundedContext.search.domain.SearchCondition;
+import com.fourtune.auction.boundedContext.search.domain.SearchFacets;
 import com.fourtune.auction.boundedContext.search.domain.SearchResultPage;
 import com.fourtune.shared.search.event.SearchAuctionItemEvent;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +25,8 @@ public class SearchFacade {
         SearchResultPage<SearchAuctionItemView> result = queryUseCase.search(condition);
 
         // 2. 검색 로그 저장 및 이벤트 발행 (비동기 고려 가능하지만, Phase 0에서는 동기 처리하고 추후 리팩토링 하기로)
-        if (StringUtils.hasText(condition.keyword())) {
+        // 커서로 이어서 조회하는 다음 페이지는 같은 검색이므로 다시 기록하지 않음
+        if (StringUtils.hasText(condition.keyword()) && !condition.hasCursor()) {
             // 최근 검색어 저장 (Async)
             if (userId != null) {
                 recentSearchService.addKeyword(userId, condition.keyword());
@@ -35,6 +37,11 @@ public class SearchFacade {
         return result;
     }
 
+    // 필터별 건수만 조회 (검색 로그/최근 검색어에 기록하지 않음)
+    public SearchFacets facets(SearchCondition condition) {
+        return queryUseCase.facets(condition);
+    }
+
     private void publishSearchEvent(Long userId, SearchCondition condition, SearchResultPage<SearchAuctionItemView> result) {
         eventPublisher.publishEvent(new SearchAuctionItemEvent(
                 userId,
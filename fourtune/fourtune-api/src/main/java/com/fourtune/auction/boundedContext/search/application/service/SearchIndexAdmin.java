@@ -0,0 +1,27 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+
+import java.util.List;
+
+public interface SearchIndexAdmin {
+    // 다음 버전 인덱스 이름 (auction_items_v{N+1})
+    String nextVersionIndexName();
+
+    boolean exists(String indexName);
+
+    // 대량 적재용 설정(refresh 끔, replica 0)으로 인덱스 생성
+    void createForBulkLoad(String indexName);
+
+    // 검증 스크립트 없이 문서 그대로 적재 (적재 중인 새 인덱스에는 다른 쓰기가 없음), 적재한 문서 수 반환
+    int bulkLoad(String indexName, List<SearchAuctionItemView> views);
+
+    // 운영 설정(refresh, replica) 복구 후 refresh
+    void finishBulkLoad(String indexName);
+
+    // 검색 별칭을 새 인덱스로 원자적으로 전환, 이전 인덱스 이름 반환 (없으면 빈 목록)
+    List<String> switchAlias(String indexName);
+
+    // 지정한 인덱스에만 반영하는 핸들러 (적재 중 들어온 이벤트 재반영용)
+    AuctionItemIndexingHandler indexingHandlerFor(String indexName);
+}
@@ -0,0 +1,108 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchKeywordCount;
+import com.fourtune.auction.boundedContext.search.port.out.SearchLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기 검색어 접두어 캐시 (인스턴스 로컬)
+ * - 주기적으로 검색 로그에서 최근 window-days 동안 결과가 있었던 키워드를 검색 횟수순으로 읽어
+ *   접두어(최대 max-prefix-length자) → 상위 top-k 키워드 맵을 새로 만들고 참조만 교체
+ * - 조회는 맵 조회 1회 (DB/Redis 접근 없음), 갱신 전까지는 이전 맵을 그대로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchKeywordPrefixCache {
+
+    private final SearchLogRepository searchLogRepository;
+
+    @Value("${search.suggest.keyword-window-days:7}")
+    private int windowDays;
+
+    @Value("${search.suggest.keyword-limit:5000}")
+    private int keywordLimit;
+
+    @Value("${search.suggest.max-prefix-length:10}")
+    private int maxPrefixLength;
+
+    @Value("${search.suggest.top-k:10}")
+    private int topK;
+
+    private volatile Map<String, List<String>> prefixIndex = Map.of();
+
+    @Scheduled(fixedDelayString = "${search.suggest.keyword-refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            List<SearchKeywordCount> keywords = searchLogRepository.findTopKeywords(
+                    LocalDateTime.now().minusDays(windowDays), keywordLimit);
+            prefixIndex = build(keywords);
+            log.info("[SEARCH][SUGGEST] 인기 검색어 접두어 캐시 갱신: keywords={}, prefixes={}",
+                    keywords.size(), prefixIndex.size());
+        } catch (Exception e) {
+            log.warn("[SEARCH][SUGGEST] 인기 검색어 접두어 캐시 갱신 실패, 이전 캐시 유지: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 인기 검색어 (검색 횟수순, 최대 size개)
+     */
+    public List<String> lookup(String prefix, int size) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        if (normalized.length() <= maxPrefixLength) {
+            List<String> keywords = prefixIndex.getOrDefault(normalized, List.of());
+            return keywords.size() > size ? keywords.subList(0, size) : keywords;
+        }
+        // 저장한 최대 길이보다 긴 접두어는 그 길이까지의 목록에서 다시 거름
+        List<String> result = new ArrayList<>();
+        for (String keyword : prefixIndex.getOrDefault(normalized.substring(0, maxPrefixLength), List.of())) {
+            if (normalize(keyword).startsWith(normalized)) {
+                result.add(keyword);
+                if (result.size() >= size) break;
+            }
+        }
+        return result;
+    }
+
+    // 키워드는 검색 횟수 내림차순으로 들어오므로 접두어별로 앞에서부터 top-k개만 담음
+    Map<String, List<String>> build(List<SearchKeywordCount> keywords) {
+        Map<String, List<String>> index = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (SearchKeywordCount keywordCount : keywords) {
+            String keyword = keywordCount.keyword() != null ? keywordCount.keyword().trim().replaceAll("\\s+", " ") : "";
+            String normalized = normalize(keyword);
+            if (normalized.isEmpty() || !seen.add(normalized)) {
+                continue;
+            }
+            int length = Math.min(normalized.length(), maxPrefixLength);
+            for (int i = 1; i <= length; i++) {
+                List<String> bucket = index.computeIfAbsent(normalized.substring(0, i), k -> new ArrayList<>(topK));
+                if (bucket.size() < topK) {
+                    bucket.add(keyword);
+                }
+            }
+        }
+        index.replaceAll((prefix, bucket) -> List.copyOf(bucket));
+        return index;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
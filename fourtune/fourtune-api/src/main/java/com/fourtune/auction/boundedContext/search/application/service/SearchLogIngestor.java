@@ -0,0 +1,202 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.api.infrastructure.kafka.search.SearchKafkaProducer;
+import com.fourtune.auction.boundedContext.search.domain.SearchLog;
+import com.fourtune.auction.boundedContext.search.port.out.SearchLogRepository;
+import com.fourtune.shared.search.event.SearchAuctionItemEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 검색 로그 적재 파이프라인
+ * - 검색 요청 스레드는 링 버퍼에 넣기만 하고 바로 반환 (공용 taskExecutor를 쓰지 않음)
+ * - 전용 스레드 하나가 batch-size개가 모이거나 flush-interval-ms가 지나면 꺼내서
+ *   DB는 JDBC batch INSERT 1회, Kafka는 같은 스레드에서 연달아 send (프로듀서가 linger/batch.size 단위로 묶어 전송)
+ * - 검색 로그는 유실을 허용하므로 버퍼가 가득 차면 버리고(dropped), DB 저장 실패 시 해당 묶음은 버림
+ * - 종료 시 남은 로그를 마지막으로 한 번 더 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchLogIngestor {
+
+    private final SearchLogRepository searchLogRepository;
+    private final ObjectProvider<SearchKafkaProducer> searchKafkaProducerProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.log-ingest.capacity:8192}")
+    private int capacity;
+
+    @Value("${search.log-ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${search.log-ingest.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    private SearchLogRingBuffer<SearchAuctionItemEvent> buffer;
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private volatile boolean running;
+    private Thread flusher;
+
+    private Counter acceptedCounter;
+    private Counter droppedCounter;
+    private Counter flushedCounter;
+    private Counter failedCounter;
+    private DistributionSummary flushSize;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void start() {
+        buffer = new SearchLogRingBuffer<>(capacity);
+        acceptedCounter = ingestCounter("accepted");
+        droppedCounter = ingestCounter("dropped");
+        flushedCounter = Counter.builder("search.log.ingest.flushed")
+                .description("DB에 저장한 검색 로그 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("search.log.ingest.failed")
+                .description("DB 저장 실패로 버린 검색 로그 수")
+                .register(meterRegistry);
+        flushSize = DistributionSummary.builder("search.log.ingest.flush.size")
+                .description("flush 1회당 검색 로그 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("search.log.ingest.flush.duration")
+                .description("검색 로그 batch 저장 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("search.log.ingest.buffer.size", this, ingestor -> ingestor.buffer.size())
+                .description("저장 대기 중인 검색 로그 수")
+                .register(meterRegistry);
+
+        running = true;
+        flusher = Thread.ofPlatform().name("search-log-ingestor").daemon(true).start(this::runFlushLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * 검색 로그 등록 (대기 없음), 버퍼가 가득 차면 버리고 false
+     */
+    public boolean offer(SearchAuctionItemEvent event) {
+        if (!buffer.offer(event)) {
+            droppedCounter.increment();
+            return false;
+        }
+        acceptedCounter.increment();
+        if (buffer.size() >= batchSize && flusher != null) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    /**
+     * 버퍼에 쌓인 로그를 batch-size 단위로 모두 저장, 저장한 수 반환
+     * 동시에 한 스레드만 꺼내도록 보장 (링 버퍼 소비자는 1개)
+     */
+    public int flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return 0;
+        }
+        int total = 0;
+        try {
+            List<SearchAuctionItemEvent> batch = new ArrayList<>(batchSize);
+            while (buffer.drain(batch, batchSize) > 0) {
+                write(batch);
+                total += batch.size();
+                batch.clear();
+            }
+        } finally {
+            flushing.set(false);
+        }
+        return total;
+    }
+
+    private void runFlushLoop() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (running) {
+            // batch-size만큼 모이면 offer가 깨우고, 아니면 주기마다 깨어남
+            if (buffer.size() < batchSize) {
+                LockSupport.parkNanos(this, intervalNanos);
+            }
+            try {
+                flush();
+            } catch (Exception e) {
+                log.error("[SEARCH][LOG] 검색 로그 flush 실패", e);
+            }
+        }
+    }
+
+    private void write(List<SearchAuctionItemEvent> events) {
+        long startedAt = System.nanoTime();
+        try {
+            searchLogRepository.saveAll(events.stream().map(this::toSearchLog).toList());
+            flushedCounter.increment(events.size());
+        } catch (Exception e) {
+            failedCounter.increment(events.size());
+            log.warn("[SEARCH][LOG] 검색 로그 batch 저장 실패, 버림: size={}, error={}", events.size(), e.getMessage());
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            flushSize.record(events.size());
+        }
+
+        SearchKafkaProducer producer = searchKafkaProducerProvider.getIfAvailable();
+        if (producer == null) {
+            return;
+        }
+        for (SearchAuctionItemEvent event : events) {
+            try {
+                producer.send(event);
+            } catch (Exception e) {
+                log.error("[SEARCH][LOG] Kafka 이벤트 발행 실패 - keyword: {}", event.keyword(), e);
+            }
+        }
+    }
+
+    private SearchLog toSearchLog(SearchAuctionItemEvent event) {
+        return SearchLog.builder()
+                .userId(event.userId())
+                .keyword(event.keyword())
+                .categories(event.categories() != null ? event.categories() : new ArrayList<>())
+                .minPrice(event.minPrice() != null ? event.minPrice() : BigDecimal.ZERO)
+                .maxPrice(event.maxPrice())
+                .status(event.status() != null ? event.status() : new ArrayList<>())
+                .resultCount(event.resultCount())
+                .isSuccess(event.isSuccess())
+                .createdAt(event.searchedAt())
+                .build();
+    }
+
+    private Counter ingestCounter(String result) {
+        return Counter.builder("search.log.ingest")
+                .description("검색 로그 적재 요청 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 검색 로그 적재용 고정 크기 링 버퍼 (생산자 여러 개, 소비자 1개, 락 없음)
+ * - offer: 쓰기 위치를 CAS로 확보한 뒤 슬롯에 기록, 가득 차면 기다리지 않고 false
+ * - drain: 소비자 스레드 하나만 호출, 기록이 끝난 슬롯까지만 꺼내고 비움
+ */
+final class SearchLogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong(); // 다음 쓰기 위치 (생산자 공유)
+    private volatile long head; // 다음 읽기 위치 (소비자 전용)
+
+    SearchLogRingBuffer(int requestedCapacity) {
+        int size = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.capacity = size;
+        this.mask = size - 1;
+    }
+
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            if (position - head >= capacity) {
+                return false;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                slots.lazySet((int) (position & mask), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 최대 max개를 꺼내 out에 담고 꺼낸 수 반환
+     * 위치만 확보하고 아직 기록하지 않은 슬롯을 만나면 거기서 멈춤 (다음 drain에서 이어서 꺼냄)
+     */
+    int drain(List<E> out, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            out.add(element);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -20,7 +20,23 @@ public class SearchProperties {
     @Value("${search.max-from:10000}")
     private int maxFrom;
 
+    // 전체 건수 집계 상한 (넘으면 정확한 건수 대신 상한값 반환, 0 이하면 항상 정확히 집계)
+    @Value("${search.track-total-hits-up-to:10000}")
+    private int trackTotalHitsUpTo;
+
+    // 커서 조회 시 point-in-time 유지 시간(초), 다음 페이지 요청마다 연장됨
+    @Value("${search.cursor.keep-alive-seconds:60}")
+    private int cursorKeepAliveSeconds;
+
+    // 가격대 집계 구간 경계 (원), 경계 n개 → 구간 n+1개
+    @Value("${search.facets.price-ranges:10000,50000,100000,500000,1000000}")
+    private long[] facetPriceRanges;
+
     // 검색 키워드 최대 길이 (기본: 100)
     @Value("${search.max-keyword-length:100}")
     private int maxKeywordLength;
+
+    // 입찰 델타 ES 반영 실패 시 최대 시도 횟수 (기본: 3)
+    @Value("${search.bid-delta.max-attempts:3}")
+    private int bidDeltaMaxAttempts;
 }
@@ -2,6 +2,7 @@ package com.fourtune.auction.boundedContext.search.application.service;
 
 import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
 import com.fourtune.auction.boundedContext.search.domain.SearchCondition;
+import com.fourtune.auction.boundedContext.search.domain.SearchFacets;
 import com.fourtune.auction.boundedContext.search.domain.SearchPriceRange;
 import com.fourtune.auction.boundedContext.search.domain.SearchResultPage;
 import com.fourtune.core.error.ErrorCode;
@@ -18,7 +19,16 @@ public class SearchQueryUseCase {
     private final AuctionItemSearchEngine searchEngine;
 
     public SearchResultPage<SearchAuctionItemView> search(SearchCondition condition) {
+        validatePriceRange(condition);
+        return searchEngine.search(condition);
+    }
+
+    public SearchFacets facets(SearchCondition condition) {
+        validatePriceRange(condition);
+        return searchEngine.facets(condition);
+    }
 
+    private void validatePriceRange(SearchCondition condition) {
         // 가격 범위 가드
         SearchPriceRange pr = condition.searchPriceRange();
         if (pr != null && !pr.isEmpty()) {
@@ -28,7 +38,5 @@ public class SearchQueryUseCase {
                 throw new BusinessException(ErrorCode.SEARCH_INVALID_CONDITION);
             }
         }
-
-        return searchEngine.search(condition);
     }
 }
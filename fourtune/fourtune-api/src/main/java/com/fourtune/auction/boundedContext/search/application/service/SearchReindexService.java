@@ -0,0 +1,240 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemSnapshotPage;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchReindexCheckpoint;
+import com.fourtune.auction.boundedContext.search.domain.SearchReindexCheckpoint.Phase;
+import com.fourtune.auction.boundedContext.search.port.out.SearchReindexCheckpointRepository;
+import com.fourtune.auction.boundedContext.search.port.out.SearchReindexLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 무중단 검색 재색인
+ * 1. 새 버전 인덱스(auction_items_vN)를 refresh 끔/replica 0으로 만들고 auction-service 스냅샷을 id keyset 페이지로 적재
+ *    (다음 페이지 조회와 현재 페이지 bulk 적재를 겹쳐 실행, 페이지는 bulk-concurrency개로 나눠 병렬 적재)
+ * 2. 운영 설정 복구 후 적재 중 발행된 경매 이벤트를 새 인덱스에 재반영
+ * 3. 별칭(auction_items)을 새 인덱스로 원자적 전환, 재반영 시작 이후 이벤트를 한 번 더 반영
+ * - 검색/실시간 색인은 계속 별칭을 사용하므로 전환 전까지 이전 인덱스로 동작
+ * - 페이지마다 체크포인트를 저장하고, 중단 후 다시 실행하면 같은 새 인덱스에 마지막 위치부터 이어서 진행
+ * - 재반영은 문서 버전 비교를 거치므로 구간이 겹쳐도(replay-margin) 결과가 같음
+ * - 인스턴스 간에는 Redis 락(TTL)으로 한 곳에서만 실행하고, 체크포인트를 저장할 때마다 락을 연장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchReindexService {
+
+    private final AuctionItemSnapshotSource snapshotSource;
+    private final SearchIndexAdmin indexAdmin;
+    private final SearchReindexCheckpointRepository checkpointRepository;
+    private final SearchReindexLock reindexLock;
+    private final ObjectProvider<AuctionEventReplayer> eventReplayerProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.reindex.chunk-size:2000}")
+    private int chunkSize;
+
+    @Value("${search.reindex.bulk-concurrency:4}")
+    private int bulkConcurrency;
+
+    // 이벤트 발행 시각과 체크포인트 시각 차이를 감안해 재반영 시작을 앞당기는 여유
+    @Value("${search.reindex.replay-margin-ms:60000}")
+    private long replayMarginMs;
+
+    // 실행 인스턴스가 죽었을 때 다른 인스턴스가 이어받기까지의 시간 (페이지 1개 적재보다 충분히 길게)
+    @Value("${search.reindex.lock-ttl-ms:300000}")
+    private long lockTtlMs;
+
+    private final String lockOwner = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean lockHeld;
+    private volatile SearchReindexCheckpoint current;
+
+    private Counter indexedCounter;
+    private Counter replayedCounter;
+    private Timer chunkTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        indexedCounter = Counter.builder("search.reindex.documents")
+                .description("재색인으로 새 인덱스에 적재한 문서 수")
+                .register(meterRegistry);
+        replayedCounter = Counter.builder("search.reindex.replayed")
+                .description("재색인 중 새 인덱스에 다시 반영한 이벤트 수")
+                .register(meterRegistry);
+        chunkTimer = Timer.builder("search.reindex.chunk.duration")
+                .description("스냅샷 페이지 1개 적재 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 백그라운드(가상 스레드)로 재색인 시작, 이 인스턴스나 다른 인스턴스에서 이미 실행 중이면 false
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        if (!reindexLock.tryAcquire(lockOwner, lockTtl())) {
+            running.set(false);
+            log.info("[SEARCH][REINDEX] 다른 인스턴스에서 재색인 실행 중");
+            return false;
+        }
+        lockHeld = true;
+        Thread.ofVirtual().name("search-reindex").start(() -> {
+            try {
+                reindex();
+            } catch (Exception e) {
+                log.error("[SEARCH][REINDEX] 재색인 실패, 다시 실행하면 체크포인트부터 이어서 진행: checkpoint={}", current, e);
+            } finally {
+                lockHeld = false;
+                reindexLock.release(lockOwner);
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public ReindexStatus status() {
+        SearchReindexCheckpoint checkpoint = current != null ? current : checkpointRepository.find().orElse(null);
+        return new ReindexStatus(running.get(), checkpoint);
+    }
+
+    /**
+     * 재색인 실행 (체크포인트가 있으면 그 단계부터)
+     */
+    public void reindex() {
+        SearchReindexCheckpoint checkpoint = checkpointRepository.find()
+                .filter(saved -> indexAdmin.exists(saved.targetIndex()))
+                .orElseGet(this::begin);
+        current = checkpoint;
+        AuctionItemIndexingHandler target = indexAdmin.indexingHandlerFor(checkpoint.targetIndex());
+
+        if (checkpoint.phase() == Phase.BUILDING) {
+            checkpoint = build(checkpoint);
+            indexAdmin.finishBulkLoad(checkpoint.targetIndex());
+            checkpoint = save(checkpoint.moveTo(Phase.REPLAYING, checkpoint.replayFromMillis()));
+        }
+        if (checkpoint.phase() == Phase.REPLAYING) {
+            long replayStartedAt = System.currentTimeMillis();
+            replay(checkpoint.replayFromMillis(), target);
+            List<String> previous = indexAdmin.switchAlias(checkpoint.targetIndex());
+            log.info("[SEARCH][REINDEX] 이전 인덱스는 롤백용으로 남겨둠: {}", previous);
+            checkpoint = save(checkpoint.moveTo(Phase.SWAPPED, replayStartedAt));
+        }
+        // 전환 직전까지 이전 인덱스에만 반영된 이벤트
+        replay(checkpoint.replayFromMillis(), target);
+
+        checkpointRepository.delete();
+        current = checkpoint;
+        log.info("[SEARCH][REINDEX] 재색인 완료: index={}, documents={}", checkpoint.targetIndex(), checkpoint.indexed());
+    }
+
+    private SearchReindexCheckpoint begin() {
+        String targetIndex = indexAdmin.nextVersionIndexName();
+        indexAdmin.createForBulkLoad(targetIndex);
+        return save(SearchReindexCheckpoint.start(targetIndex, System.currentTimeMillis()));
+    }
+
+    private SearchReindexCheckpoint build(SearchReindexCheckpoint checkpoint) {
+        long startedAt = System.nanoTime();
+        long indexedBefore = checkpoint.indexed();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long firstLastId = checkpoint.lastId();
+            CompletableFuture<SearchAuctionItemSnapshotPage> next =
+                    CompletableFuture.supplyAsync(() -> snapshotSource.fetch(firstLastId, chunkSize), executor);
+            while (next != null) {
+                SearchAuctionItemSnapshotPage page = join(next);
+                // 현재 페이지를 적재하는 동안 다음 페이지 조회
+                next = page.hasNext()
+                        ? CompletableFuture.supplyAsync(() -> snapshotSource.fetch(page.lastId(), chunkSize), executor)
+                        : null;
+
+                long chunkStartedAt = System.nanoTime();
+                int indexed = load(checkpoint.targetIndex(), page.items(), executor);
+                chunkTimer.record(System.nanoTime() - chunkStartedAt, TimeUnit.NANOSECONDS);
+                indexedCounter.increment(indexed);
+
+                checkpoint = save(checkpoint.advance(page.lastId() != null ? page.lastId() : checkpoint.lastId(), indexed));
+            }
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long loaded = checkpoint.indexed() - indexedBefore;
+        log.info("[SEARCH][REINDEX] 스냅샷 적재 완료: index={}, documents={}, elapsedMs={}, docsPerSec={}",
+                checkpoint.targetIndex(), loaded, elapsedMs, loaded * 1000 / elapsedMs);
+        return checkpoint;
+    }
+
+    // 페이지를 bulk-concurrency개 조각으로 나눠 병렬 적재
+    private int load(String targetIndex, List<SearchAuctionItemView> items, ExecutorService executor) {
+        if (items.isEmpty()) return 0;
+        int sliceSize = Math.max(1, (items.size() + bulkConcurrency - 1) / Math.max(1, bulkConcurrency));
+        List<CompletableFuture<Integer>> slices = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += sliceSize) {
+            List<SearchAuctionItemView> slice = items.subList(from, Math.min(from + sliceSize, items.size()));
+            slices.add(CompletableFuture.supplyAsync(() -> indexAdmin.bulkLoad(targetIndex, slice), executor));
+        }
+        int indexed = 0;
+        for (CompletableFuture<Integer> slice : slices) {
+            indexed += join(slice);
+        }
+        return indexed;
+    }
+
+    private void replay(long replayFromMillis, AuctionItemIndexingHandler target) {
+        AuctionEventReplayer replayer = eventReplayerProvider.getIfAvailable();
+        if (replayer == null) {
+            log.warn("[SEARCH][REINDEX] 경매 이벤트 구독이 꺼져 있어 적재 중 변경 재반영을 건너뜀");
+            return;
+        }
+        long replayed = replayer.replay(replayFromMillis - replayMarginMs, target);
+        replayedCounter.increment(replayed);
+        log.info("[SEARCH][REINDEX] 이벤트 재반영: from={}, replayed={}", replayFromMillis - replayMarginMs, replayed);
+    }
+
+    private SearchReindexCheckpoint save(SearchReindexCheckpoint checkpoint) {
+        // 락이 만료되어 다른 인스턴스가 이어받았으면 같은 체크포인트를 덮어쓰지 않고 중단
+        if (lockHeld && !reindexLock.renew(lockOwner, lockTtl())) {
+            throw new IllegalStateException("재색인 락을 잃어 중단: checkpoint=" + checkpoint);
+        }
+        checkpointRepository.save(checkpoint);
+        current = checkpoint;
+        return checkpoint;
+    }
+
+    private Duration lockTtl() {
+        return Duration.ofMillis(lockTtlMs);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public record ReindexStatus(boolean running, SearchReindexCheckpoint checkpoint) {
+    }
+}
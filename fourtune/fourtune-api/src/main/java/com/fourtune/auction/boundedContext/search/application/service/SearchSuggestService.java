@@ -0,0 +1,124 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchSuggestions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 검색어 자동완성
+ * - 인기 검색어 접두어 캐시(SearchKeywordPrefixCache)로 먼저 채우고, 부족할 때만 ES 제목 자동완성 조회
+ * - ES 결과도 접두어별로 짧게(title-cache-ttl-ms) 로컬 캐시해 같은 접두어 연속 입력 시 ES를 다시 호출하지 않음
+ * - 본 검색(SearchFacade)과 분리: 검색 로그/최근 검색어/검색 결과 캐시에 영향 없음
+ * - ES 조회 실패 시 인기 검색어만 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchSuggestService {
+
+    private final SearchKeywordPrefixCache keywordPrefixCache;
+    private final AuctionItemSuggestEngine suggestEngine;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.suggest.max-size:10}")
+    private int maxSize;
+
+    @Value("${search.suggest.max-prefix-chars:30}")
+    private int maxPrefixChars;
+
+    @Value("${search.suggest.title-cache-ttl-ms:30000}")
+    private long titleCacheTtlMs;
+
+    @Value("${search.suggest.title-cache-max-size:10000}")
+    private long titleCacheMaxSize;
+
+    private Cache<String, List<String>> titleCache;
+    private Timer suggestTimer;
+    private Counter keywordOnlyCounter;
+    private Counter titleCacheHitCounter;
+    private Counter searchEngineCallCounter;
+
+    @PostConstruct
+    public void init() {
+        titleCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(titleCacheTtlMs))
+                .maximumSize(titleCacheMaxSize)
+                .build();
+        suggestTimer = Timer.builder("search.suggest.duration")
+                .description("자동완성 응답 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        keywordOnlyCounter = sourceCounter("keyword");
+        titleCacheHitCounter = sourceCounter("title-cache");
+        searchEngineCallCounter = sourceCounter("es");
+    }
+
+    public SearchSuggestions suggest(String prefix, Integer size) {
+        if (prefix == null || prefix.isBlank()) {
+            return SearchSuggestions.empty();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            String normalized = prefix.trim().replaceAll("\\s+", " ");
+            if (normalized.length() > maxPrefixChars) {
+                normalized = normalized.substring(0, maxPrefixChars);
+            }
+            int limit = Math.max(1, Math.min(size != null ? size : maxSize, maxSize));
+
+            List<String> keywords = keywordPrefixCache.lookup(normalized, limit);
+            if (keywords.size() >= limit) {
+                keywordOnlyCounter.increment();
+                return new SearchSuggestions(keywords, List.of());
+            }
+
+            Set<String> seen = keywords.stream().map(k -> k.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+            List<String> titles = titles(normalized, limit).stream()
+                    .filter(title -> !seen.contains(title.toLowerCase(Locale.ROOT)))
+                    .limit(limit - keywords.size())
+                    .toList();
+            return new SearchSuggestions(keywords, titles);
+        } finally {
+            suggestTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<String> titles(String prefix, int limit) {
+        String key = prefix.toLowerCase(Locale.ROOT) + "|" + limit;
+        List<String> cached = titleCache.getIfPresent(key);
+        if (cached != null) {
+            titleCacheHitCounter.increment();
+            return cached;
+        }
+        try {
+            searchEngineCallCounter.increment();
+            List<String> titles = List.copyOf(suggestEngine.suggestTitles(prefix, limit));
+            titleCache.put(key, titles);
+            return titles;
+        } catch (Exception e) {
+            log.warn("[SEARCH][SUGGEST] 제목 자동완성 조회 실패, 인기 검색어만 반환: prefix={}, error={}", prefix, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private Counter sourceCounter(String source) {
+        return Counter.builder("search.suggest.requests")
+                .description("자동완성 요청을 채운 출처")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.fourtune.auction.boundedContext.search.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 입찰로 바뀌는 검색 문서 필드 (부분 업데이트용)
+ * - 입찰 중에는 현재가/입찰 수/종료 시간(자동 연장)이 줄어들지 않으므로 bidCount가 큰 쪽이 최신
+ */
+public record SearchAuctionBidDelta(
+        Long auctionItemId,
+        BigDecimal currentPrice,
+        int bidCount,
+        LocalDateTime endAt
+) {
+
+    /**
+     * 같은 경매의 델타 병합 (도착 순서와 무관하게 최신 값 유지)
+     */
+    public SearchAuctionBidDelta merge(SearchAuctionBidDelta other) {
+        if (other == null) {
+            return this;
+        }
+        SearchAuctionBidDelta latest = other.bidCount > this.bidCount ? other : this;
+        return new SearchAuctionBidDelta(
+                auctionItemId,
+                latest.currentPrice,
+                latest.bidCount,
+                laterOf(this.endAt, other.endAt));
+    }
+
+    private static LocalDateTime laterOf(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+}
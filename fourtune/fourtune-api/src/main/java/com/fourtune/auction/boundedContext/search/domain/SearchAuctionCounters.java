@@ -0,0 +1,16 @@
+package com.fourtune.auction.boundedContext.search.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 문서 카운터(조회수/관심 수) 부분 업데이트
+ * - null인 카운터는 변경하지 않음
+ * - changedAt이 늦은 쪽이 최신 (문서에 저장된 카운터 버전보다 이르면 무시)
+ */
+public record SearchAuctionCounters(
+        Long auctionItemId,
+        Long viewCount,
+        Integer watchlistCount,
+        LocalDateTime changedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.fourtune.auction.boundedContext.search.domain;
+
+import java.util.List;
+
+/**
+ * 재색인용 경매 스냅샷 한 페이지 (id 오름차순 keyset)
+ * - lastId: 다음 페이지 조회 시 넘길 마지막 경매 ID
+ */
+public record SearchAuctionItemSnapshotPage(List<SearchAuctionItemView> items, Long lastId, boolean hasNext) {
+}
@@ -0,0 +1,14 @@
+package com.fourtune.auction.boundedContext.search.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 문서 상태 부분 업데이트
+ * - changedAt이 늦은 쪽이 최신 (문서에 저장된 상태 버전보다 이르면 무시)
+ */
+public record SearchAuctionStatusChange(
+        Long auctionItemId,
+        String status,       // enum name
+        LocalDateTime changedAt
+) {
+}
@@ -11,15 +11,31 @@ public record SearchCondition(
         Set<String> statuses, // "SCHEDULED", "ACTIVE", "ENDED" 등
         SearchSort sort,
         int page, // 1부터 받을 예정
-        Integer size // 페이징 사이즈를 직접 지정할 경우 (null이면 기본 프로퍼티 사용)
+        Integer size, // 페이징 사이즈를 직접 지정할 경우 (null이면 기본 프로퍼티 사용)
+        String cursor, // 이전 응답의 nextCursor (있으면 page 대신 search_after로 이어서 조회)
+        boolean facets // true면 카테고리/상태/가격대 건수를 같은 요청에서 함께 집계
 ) {
     // 하위 호환성 (테스트 등에 사용됨)
     public SearchCondition(String keyword, Set<String> categories, SearchPriceRange searchPriceRange,
             Set<String> statuses, SearchSort sort, int page) {
-        this(keyword, categories, searchPriceRange, statuses, sort, page, null);
+        this(keyword, categories, searchPriceRange, statuses, sort, page, null, null, false);
+    }
+
+    public SearchCondition(String keyword, Set<String> categories, SearchPriceRange searchPriceRange,
+            Set<String> statuses, SearchSort sort, int page, Integer size) {
+        this(keyword, categories, searchPriceRange, statuses, sort, page, size, null, false);
+    }
+
+    public SearchCondition(String keyword, Set<String> categories, SearchPriceRange searchPriceRange,
+            Set<String> statuses, SearchSort sort, int page, Integer size, String cursor) {
+        this(keyword, categories, searchPriceRange, statuses, sort, page, size, cursor, false);
     }
 
     public int safePage() {
         return Math.max(1, page);
     }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
 }
@@ -0,0 +1,22 @@
+package com.fourtune.auction.boundedContext.search.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 결과 옆에 보여줄 필터별 건수
+ * - 각 항목은 자기 필터를 뺀 나머지 조건(키워드 + 다른 필터) 기준 건수
+ *   (카테고리를 하나 골라도 다른 카테고리 건수가 그대로 보이도록)
+ * - categories/statuses: 값 → 건수 (건수 내림차순)
+ * - prices: 현재가 구간별 건수 (from 이상 to 미만, null이면 열린 구간)
+ */
+public record SearchFacets(
+        Map<String, Long> categories,
+        Map<String, Long> statuses,
+        List<PriceBucket> prices
+) {
+
+    public record PriceBucket(BigDecimal from, BigDecimal to, long count) {
+    }
+}
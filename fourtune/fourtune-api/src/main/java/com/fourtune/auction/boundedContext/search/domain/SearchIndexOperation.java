@@ -0,0 +1,38 @@
+package com.fourtune.auction.boundedContext.search.domain;
+
+/**
+ * 검색 인덱스 반영 작업 (view가 null이면 삭제)
+ */
+public record SearchIndexOperation(Long auctionItemId, SearchAuctionItemView view) {
+
+    public static SearchIndexOperation upsert(SearchAuctionItemView view) {
+        return new SearchIndexOperation(view.auctionItemId(), view);
+    }
+
+    public static SearchIndexOperation delete(Long auctionItemId) {
+        return new SearchIndexOperation(auctionItemId, null);
+    }
+
+    public boolean isDelete() {
+        return view == null;
+    }
+
+    /**
+     * 같은 경매에 대한 이전 작업(this)과 이후 작업(next) 중 반영할 작업
+     * - 삭제는 이후 upsert보다 우선 (삭제된 경매에 늦게 온 수정이 문서를 되살리지 않도록)
+     * - upsert끼리는 updatedAt이 늦은 쪽, 같거나 비교할 수 없으면 나중에 온 쪽
+     */
+    public SearchIndexOperation latest(SearchIndexOperation next) {
+        if (isDelete()) {
+            return this;
+        }
+        if (next.isDelete()) {
+            return next;
+        }
+        if (view.updatedAt() != null && next.view().updatedAt() != null
+                && view.updatedAt().isAfter(next.view().updatedAt())) {
+            return this;
+        }
+        return next;
+    }
+}
@@ -0,0 +1,7 @@
+package com.fourtune.auction.boundedContext.search.domain;
+
+/**
+ * 검색 로그 키워드별 검색 횟수 (자동완성 인기 키워드 집계)
+ */
+public record SearchKeywordCount(String keyword, long count) {
+}
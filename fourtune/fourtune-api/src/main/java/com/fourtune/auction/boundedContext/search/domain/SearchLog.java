@@ -56,7 +56,7 @@ public class SearchLog {
 
     @Builder
     public SearchLog(Long userId, String keyword, List<String> categories, BigDecimal minPrice, BigDecimal maxPrice,
-            List<String> status, Integer resultCount, Boolean isSuccess) {
+            List<String> status, Integer resultCount, Boolean isSuccess, LocalDateTime createdAt) {
         this.userId = userId;
         this.keyword = keyword;
         this.categories = categories;
@@ -65,5 +65,6 @@ public class SearchLog {
         this.status = status;
         this.resultCount = resultCount;
         this.isSuccess = isSuccess;
+        this.createdAt = createdAt; // JPA 저장 시에는 @CreatedDate가 채움, 배치 INSERT 시 검색 시각
     }
 }
@@ -0,0 +1,35 @@
+package com.fourtune.auction.boundedContext.search.domain;
+
+/**
+ * 재색인 진행 상태 (중단 후 이어서 실행하기 위한 체크포인트)
+ * - targetIndex: 만들고 있는 새 버전 인덱스 (auction_items_vN)
+ * - lastId: 여기까지 적재 완료한 경매 ID
+ * - replayFromMillis: 이 시각 이후 이벤트는 아직 새 인덱스에 반영되지 않았을 수 있음 (적재 시작 → 재반영 시작 시각으로 전진)
+ */
+public record SearchReindexCheckpoint(
+        String targetIndex,
+        Long lastId,
+        long indexed,
+        long replayFromMillis,
+        Phase phase
+) {
+
+    public enum Phase {
+        BUILDING,   // 스냅샷 적재 중
+        REPLAYING,  // 적재 완료, 적재 중 들어온 이벤트 재반영 중
+        SWAPPED     // 별칭 전환 완료, 전환 직전 이벤트 재반영만 남음
+    }
+
+    public static SearchReindexCheckpoint start(String targetIndex, long startedAtMillis) {
+        return new SearchReindexCheckpoint(targetIndex, 0L, 0L, startedAtMillis, Phase.BUILDING);
+    }
+
+    public SearchReindexCheckpoint advance(Long lastId, int indexedCount) {
+        return new SearchReindexCheckpoint(targetIndex, lastId, indexed + indexedCount, replayFromMillis, phase);
+    }
+
+    // replayedFromMillis 이전 이벤트는 재반영을 마치고 다음 단계로 이동
+    public SearchReindexCheckpoint moveTo(Phase next, long replayedFromMillis) {
+        return new SearchReindexCheckpoint(targetIndex, lastId, indexed, replayedFromMillis, next);
+    }
+}
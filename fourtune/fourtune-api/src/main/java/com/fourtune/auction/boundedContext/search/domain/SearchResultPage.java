@@ -7,5 +7,17 @@ public record SearchResultPage<T>(
         long totalElements,
         int page,
         int size,
-        boolean hasNext
-) {}
+        boolean hasNext,
+        boolean totalExact, // false면 totalElements는 집계 상한(하한값)
+        String nextCursor, // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+        SearchFacets facets // 요청한 경우에만 (없으면 null)
+) {
+    public SearchResultPage(List<T> items, long totalElements, int page, int size, boolean hasNext) {
+        this(items, totalElements, page, size, hasNext, true, null, null);
+    }
+
+    public SearchResultPage(List<T> items, long totalElements, int page, int size, boolean hasNext,
+            boolean totalExact, String nextCursor) {
+        this(items, totalElements, page, size, hasNext, totalExact, nextCursor, null);
+    }
+}
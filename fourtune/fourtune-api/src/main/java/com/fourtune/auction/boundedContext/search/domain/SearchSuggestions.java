@@ -0,0 +1,15 @@
+package com.fourtune.auction.boundedContext.search.domain;
+
+import java.util.List;
+
+/**
+ * 자동완성 결과
+ * - keywords: 접두어로 시작하는 인기 검색어 (검색 로그 기준)
+ * - titles: 인기 검색어가 부족할 때 채우는 진행/예정 경매 제목
+ */
+public record SearchSuggestions(List<String> keywords, List<String> titles) {
+
+    public static SearchSuggestions empty() {
+        return new SearchSuggestions(List.of(), List.of());
+    }
+}
@@ -0,0 +1,36 @@
+package com.fourtune.auction.boundedContext.search.domain.policy;
+
+/**
+ * 인기순 정렬 점수 공식 (신선도 가중)
+ * - 최종 점수 = 활동 점수 / 신선도 감가
+ * - 활동 점수 = log10(조회수 + 1) * 1.0 + 관심 수 * 3.0 + 입찰 수 * 5.0
+ * - 신선도 감가 = sqrt(등록 후 경과 시간(h) + 2)
+ * 검색 문서의 popularityScore 필드에 미리 계산해 저장하며,
+ * ES 스크립트(ElasticsearchAuctionItemIndexingHandler)에도 같은 공식을 사용하므로 함께 수정할 것
+ */
+public final class PopularityScorePolicy {
+
+    public static final double VIEW_WEIGHT = 1.0;
+    public static final double WATCHLIST_WEIGHT = 3.0;
+    public static final double BID_WEIGHT = 5.0;
+    public static final double DECAY_OFFSET_HOURS = 2.0;
+    public static final double DECAY_EXPONENT = 0.5;
+
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    private PopularityScorePolicy() {
+    }
+
+    /**
+     * @param createdAtMillis 등록 시각 (epoch ms, 없으면 nowMillis와 같게 취급)
+     * @param nowMillis       점수 계산 기준 시각 (epoch ms)
+     */
+    public static double score(long viewCount, int watchlistCount, int bidCount, Long createdAtMillis, long nowMillis) {
+        long createdAt = createdAtMillis != null ? createdAtMillis : nowMillis;
+        double hoursOld = Math.max(0, (nowMillis - createdAt) / MILLIS_PER_HOUR);
+        double baseScore = Math.log10(viewCount + 1) * VIEW_WEIGHT
+                + watchlistCount * WATCHLIST_WEIGHT
+                + bidCount * BID_WEIGHT;
+        return baseScore / Math.pow(hoursOld + DECAY_OFFSET_HOURS, DECAY_EXPONENT);
+    }
+}
@@ -0,0 +1,71 @@
+package com.fourtune.auction.boundedContext.search.mapper;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionBidDelta;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
+import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
+import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
+
+/**
+ * 경매 이벤트 → 검색 도메인 변환
+ * - 실시간/배치 리스너, 재처리, 스냅샷 조회가 모두 이 변환을 공유
+ */
+public class SearchAuctionEventMapper {
+
+    // AuctionItemCreatedEvent를 SearchAuctionItemView로 변환
+    public static SearchAuctionItemView toView(AuctionItemCreatedEvent event) {
+        return new SearchAuctionItemView(
+                event.auctionItemId(),
+                event.title(),
+                event.description(),
+                event.category(),
+                event.status(),
+                event.startPrice(),
+                event.currentPrice(),
+                event.buyNowPrice(),
+                event.buyNowEnabled(),
+                event.startAt(),
+                event.endAt(),
+                event.thumbnailUrl(),
+                event.createdAt(),
+                event.updatedAt(),
+                event.viewCount(),
+                event.watchlistCount(),
+                event.bidCount(),
+                event.sellerId(),
+                event.sellerName());
+    }
+
+    // AuctionItemUpdatedEvent를 SearchAuctionItemView로 변환
+    public static SearchAuctionItemView toView(AuctionItemUpdatedEvent event) {
+        return new SearchAuctionItemView(
+                event.auctionItemId(),
+                event.title(),
+                event.description(),
+                event.category(),
+                event.status(),
+                event.startPrice(),
+                event.currentPrice(),
+                event.buyNowPrice(),
+                event.buyNowEnabled(),
+                event.startAt(),
+                event.endAt(),
+                event.thumbnailUrl(),
+                event.createdAt(),
+                event.updatedAt(),
+                event.viewCount(),
+                event.watchlistCount(),
+                event.bidCount(),
+                event.sellerId(),
+                event.sellerName());
+    }
+
+    // AuctionBidDeltaEvent를 SearchAuctionBidDelta로 변환
+    public static SearchAuctionBidDelta toDelta(AuctionBidDeltaEvent event) {
+        return new SearchAuctionBidDelta(
+                event.auctionItemId(),
+                event.currentPrice(),
+                event.bidCount() != null ? event.bidCount() : 0,
+                event.endAt());
+    }
+}
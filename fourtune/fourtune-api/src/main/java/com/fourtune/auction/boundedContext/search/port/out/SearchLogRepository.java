@@ -1,7 +1,17 @@
 package com.fourtune.auction.boundedContext.search.port.out;
 
+import com.fourtune.auction.boundedContext.search.domain.SearchKeywordCount;
 import com.fourtune.auction.boundedContext.search.domain.SearchLog;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface SearchLogRepository {
     void save(SearchLog searchLog);
+
+    // 여러 건을 JDBC batch INSERT로 저장
+    void saveAll(List<SearchLog> searchLogs);
+
+    // since 이후 결과가 있었던 검색의 키워드를 검색 횟수 내림차순으로 최대 limit개
+    List<SearchKeywordCount> findTopKeywords(LocalDateTime since, int limit);
 }
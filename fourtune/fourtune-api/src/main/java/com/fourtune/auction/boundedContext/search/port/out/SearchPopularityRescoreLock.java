@@ -0,0 +1,8 @@
+package com.fourtune.auction.boundedContext.search.port.out;
+
+import java.time.Duration;
+
+public interface SearchPopularityRescoreLock {
+    // 이번 주기를 다른 인스턴스가 이미 잡았으면 false (해제하지 않고 ttl 동안 유지)
+    boolean tryAcquire(String owner, Duration ttl);
+}
@@ -0,0 +1,11 @@
+package com.fourtune.auction.boundedContext.search.port.out;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchReindexCheckpoint;
+
+import java.util.Optional;
+
+public interface SearchReindexCheckpointRepository {
+    Optional<SearchReindexCheckpoint> find();
+    void save(SearchReindexCheckpoint checkpoint);
+    void delete();
+}
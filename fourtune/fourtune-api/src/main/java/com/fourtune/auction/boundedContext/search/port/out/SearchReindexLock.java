@@ -0,0 +1,14 @@
+package com.fourtune.auction.boundedContext.search.port.out;
+
+import java.time.Duration;
+
+public interface SearchReindexLock {
+    // 다른 인스턴스가 잡고 있으면 false
+    boolean tryAcquire(String owner, Duration ttl);
+
+    // 소유자일 때만 만료 연장, 이미 만료되어 다른 인스턴스가 잡았으면 false
+    boolean renew(String owner, Duration ttl);
+
+    // 소유자일 때만 해제
+    void release(String owner);
+}
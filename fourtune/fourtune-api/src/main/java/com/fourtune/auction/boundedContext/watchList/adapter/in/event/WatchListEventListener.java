@@ -4,6 +4,7 @@ import com.fourtune.auction.boundedContext.watchList.application.service.WatchLi
 import com.fourtune.core.config.EventPublishingConfig;
 import com.fourtune.shared.auction.event.AuctionClosedEvent;
 import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
 import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
 import com.fourtune.shared.auction.event.AuctionStartedEvent;
 import com.fourtune.shared.user.event.UserDeletedEvent;
@@ -70,6 +71,15 @@ public class WatchListEventListener {
         watchListService.syncAuctionItem(event.auctionItemId(), event.title(), event.currentPrice(), event.thumbnailUrl(), event.category());
     }
 
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAuctionBidDeltaEvent(AuctionBidDeltaEvent event){
+        if (eventPublishingConfig.isAuctionEventsKafkaEnabled()) {
+            return;
+        }
+        watchListService.syncCurrentPrice(event.auctionItemId(), event.currentPrice());
+    }
+
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleWatchListItemStartedEvent(AuctionStartedEvent event){
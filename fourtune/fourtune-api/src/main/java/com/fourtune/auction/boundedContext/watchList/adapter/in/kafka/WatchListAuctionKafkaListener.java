@@ -5,6 +5,7 @@ import com.fourtune.auction.boundedContext.watchList.application.service.WatchLi
 import com.fourtune.kafka.KafkaTopicConfig;
 import com.fourtune.shared.auction.event.AuctionClosedEvent;
 import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
 import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
 import com.fourtune.shared.auction.event.AuctionStartedEvent;
 import com.fourtune.shared.auction.event.AuctionEndingSoonEvent;
@@ -53,6 +54,12 @@ public class WatchListAuctionKafkaListener {
                             event.auctionItemId(), event.title(), event.currentPrice(), event.thumbnailUrl(), event.category());
                     log.debug("[WatchList] AuctionItemUpdated 처리 완료: auctionItemId={}", event.auctionItemId());
                 }
+                case AUCTION_BID_DELTA -> {
+                    AuctionBidDeltaEvent event = objectMapper.readValue(
+                            payload, AuctionBidDeltaEvent.class);
+                    watchListService.syncCurrentPrice(event.auctionItemId(), event.currentPrice());
+                    log.debug("[WatchList] AuctionBidDelta 처리 완료: auctionItemId={}", event.auctionItemId());
+                }
                 case AUCTION_STARTING_SOON -> {
                     AuctionStartingSoonEvent event = objectMapper.readValue(
                             payload, AuctionStartingSoonEvent.class);
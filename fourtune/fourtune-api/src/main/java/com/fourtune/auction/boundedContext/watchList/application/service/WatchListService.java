@@ -67,6 +67,10 @@ public class WatchListService {
         watchListSyncAuctionItemUseCase.syncAuctionItem(auctionItemId, title, currentPrice, thumbnailUrl, category);
     }
 
+    public void syncCurrentPrice(Long auctionItemId, BigDecimal currentPrice){
+        watchListSyncAuctionItemUseCase.syncCurrentPrice(auctionItemId, currentPrice);
+    }
+
     public void processAuctionStart(Long auctionItemId, String auctionTitle){
         watchListRedisSetService.processAuctionStart(auctionItemId, auctionTitle);
     }
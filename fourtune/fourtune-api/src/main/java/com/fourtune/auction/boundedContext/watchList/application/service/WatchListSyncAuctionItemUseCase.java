@@ -46,4 +46,16 @@ public class WatchListSyncAuctionItemUseCase {
                         }
                 );
     }
+
+    /**
+     * 입찰로 바뀐 현재가만 반영 (Replica가 없으면 무시, 생성은 경매 생성/수정 이벤트에서)
+     */
+    @Transactional
+    public void syncCurrentPrice(Long auctionItemId, BigDecimal currentPrice) {
+        if (currentPrice == null) {
+            return;
+        }
+        watchListSupport.findOptionalByAuctionItemId(auctionItemId)
+                .ifPresent(existingItem -> existingItem.updateCurrentPrice(currentPrice));
+    }
 }
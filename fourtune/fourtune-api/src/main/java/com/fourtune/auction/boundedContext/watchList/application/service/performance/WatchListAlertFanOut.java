@@ -0,0 +1,97 @@
+package com.fourtune.auction.boundedContext.watchList.application.service.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.api.infrastructure.kafka.watchList.WatchListEventType;
+import com.fourtune.api.infrastructure.kafka.watchList.WatchListKafkaProducer;
+import com.fourtune.core.config.EventPublishingConfig;
+import com.fourtune.core.eventPublisher.EventPublisher;
+import com.fourtune.shared.watchList.event.WatchListAuctionEndedEvent;
+import com.fourtune.shared.watchList.event.WatchListAuctionStartedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 관심상품 경매 시작/종료 알림 fan-out
+ * - 관심 유저를 chunk-size명씩 끊어 chunk마다 이벤트 1건 발행 (유저 목록 전체를 한 메시지에 담지 않음)
+ * - Kafka 키는 auctionItemId:chunkIndex → 한 경매의 chunk가 여러 파티션에 나뉘어 병렬 소비
+ * - 메시지마다 fanOutId/chunkIndex를 담아 소비 측이 chunk 단위로 완료를 기록, 재시도 시 실패한 chunk만 다시 처리
+ * - 유저 목록은 Iterator로 받아 chunk 하나 분량만 메모리에 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WatchListAlertFanOut {
+
+    private final EventPublisher eventPublisher;
+    private final EventPublishingConfig eventPublishingConfig;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<WatchListKafkaProducer> watchListKafkaProducerProvider;
+
+    @Value("${watchlist.alert.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * users를 끝까지 읽으며 chunk 단위로 발행
+     */
+    public FanOutResult fanOut(Long auctionItemId, String auctionTitle, WatchListEventType type, Iterator<Long> users) {
+        String fanOutId = UUID.randomUUID().toString();
+        List<Long> chunk = new ArrayList<>(chunkSize);
+        int chunkIndex = 0;
+        int userCount = 0;
+        while (users.hasNext()) {
+            chunk.add(users.next());
+            if (chunk.size() >= chunkSize) {
+                publishChunk(fanOutId, chunkIndex++, chunk, auctionItemId, auctionTitle, type);
+                userCount += chunk.size();
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            publishChunk(fanOutId, chunkIndex++, chunk, auctionItemId, auctionTitle, type);
+            userCount += chunk.size();
+        }
+        if (chunkIndex > 0) {
+            log.debug("[WATCHLIST] 알림 fan-out 발행: auction={}, type={}, fanOutId={}, users={}, chunks={}",
+                    auctionItemId, type, fanOutId, userCount, chunkIndex);
+        }
+        return new FanOutResult(fanOutId, userCount, chunkIndex);
+    }
+
+    private void publishChunk(String fanOutId, int chunkIndex, List<Long> users, Long auctionItemId,
+                              String auctionTitle, WatchListEventType type) {
+        if (eventPublishingConfig.isWatchlistEventsKafkaEnabled()) {
+            try {
+                Map<String, Object> payload = new LinkedHashMap<>();
+                payload.put("fanOutId", fanOutId);
+                payload.put("chunkIndex", chunkIndex);
+                payload.put("auctionItemId", auctionItemId);
+                payload.put("auctionTitle", auctionTitle);
+                payload.put("users", users);
+                String json = objectMapper.writeValueAsString(payload);
+                watchListKafkaProducerProvider.ifAvailable(producer ->
+                        producer.send(auctionItemId + ":" + chunkIndex, json, type.name()));
+            } catch (Exception e) {
+                log.error("[WATCHLIST] 알림 chunk 발행 실패: auctionItemId={}, chunkIndex={}", auctionItemId, chunkIndex, e);
+            }
+        } else {
+            if (type == WatchListEventType.WATCHLIST_AUCTION_STARTED) {
+                eventPublisher.publish(new WatchListAuctionStartedEvent(users, auctionItemId, auctionTitle));
+            } else {
+                eventPublisher.publish(new WatchListAuctionEndedEvent(users, auctionItemId, auctionTitle));
+            }
+        }
+    }
+
+    public record FanOutResult(String fanOutId, int userCount, int chunkCount) {
+    }
+}
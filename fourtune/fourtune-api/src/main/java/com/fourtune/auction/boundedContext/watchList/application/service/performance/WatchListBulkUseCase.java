@@ -1,21 +1,13 @@
 package com.fourtune.auction.boundedContext.watchList.application.service.performance;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fourtune.auction.boundedContext.watchList.port.out.WatchListRepository;
-import com.fourtune.core.config.EventPublishingConfig;
-import com.fourtune.core.eventPublisher.EventPublisher;
-import com.fourtune.shared.watchList.event.WatchListAuctionStartedEvent;
-import com.fourtune.shared.watchList.event.WatchListAuctionEndedEvent;
 import com.fourtune.api.infrastructure.kafka.watchList.WatchListEventType;
-import com.fourtune.api.infrastructure.kafka.watchList.WatchListKafkaProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * DB Bulk 방식 WatchList 서비스
@@ -31,10 +23,7 @@ import java.util.Map;
 public class WatchListBulkUseCase {
 
     private final WatchListRepository watchListRepository;
-    private final EventPublisher eventPublisher;
-    private final EventPublishingConfig eventPublishingConfig;
-    private final ObjectMapper objectMapper;
-    private final ObjectProvider<WatchListKafkaProducer> watchListKafkaProducerProvider;
+    private final WatchListAlertFanOut alertFanOut;
 
     /**
      * 경매 시작 알림 처리 (Bulk 방식)
@@ -52,7 +41,7 @@ public class WatchListBulkUseCase {
         }
 
         // 이벤트 발행
-        publishWatchListEvent(userIds, auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_STARTED);
+        alertFanOut.fanOut(auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_STARTED, userIds.iterator());
 
         // 1회 Bulk UPDATE: 알림 발송 완료 마킹
         int updatedCount = watchListRepository.bulkMarkStartAlertSent(auctionItemId);
@@ -76,7 +65,7 @@ public class WatchListBulkUseCase {
             return new ProcessResult(0, 0, 0);
         }
 
-        publishWatchListEvent(userIds, auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_ENDED);
+        alertFanOut.fanOut(auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_ENDED, userIds.iterator());
         int updatedCount = watchListRepository.bulkMarkEndAlertSent(auctionItemId);
 
         long duration = System.currentTimeMillis() - startTime;
@@ -85,25 +74,6 @@ public class WatchListBulkUseCase {
         return new ProcessResult(userIds.size(), 2, duration);
     }
 
-    private void publishWatchListEvent(List<Long> users, Long auctionItemId, String auctionTitle, WatchListEventType type) {
-        if (eventPublishingConfig.isWatchlistEventsKafkaEnabled()) {
-            try {
-                String payload = objectMapper
-                        .writeValueAsString(Map.of("users", users, "auctionItemId", auctionItemId, "auctionTitle", auctionTitle));
-                watchListKafkaProducerProvider
-                        .ifAvailable(producer -> producer.send(String.valueOf(auctionItemId), payload, type.name()));
-            } catch (Exception e) {
-                log.error("[BULK] WatchList Kafka 이벤트 발행 실패: auctionItemId={}", auctionItemId, e);
-            }
-        } else {
-            if (type == WatchListEventType.WATCHLIST_AUCTION_STARTED) {
-                eventPublisher.publish(new WatchListAuctionStartedEvent(users, auctionItemId, auctionTitle));
-            } else {
-                eventPublisher.publish(new WatchListAuctionEndedEvent(users, auctionItemId, auctionTitle));
-            }
-        }
-    }
-
     /**
      * 처리 결과 DTO
      */
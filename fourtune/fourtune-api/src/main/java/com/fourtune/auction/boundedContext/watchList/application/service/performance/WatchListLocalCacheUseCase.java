@@ -1,23 +1,15 @@
 package com.fourtune.auction.boundedContext.watchList.application.service.performance;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fourtune.core.config.EventPublishingConfig;
-import com.fourtune.core.eventPublisher.EventPublisher;
-import com.fourtune.shared.watchList.event.WatchListAuctionStartedEvent;
-import com.fourtune.shared.watchList.event.WatchListAuctionEndedEvent;
 import com.fourtune.api.infrastructure.kafka.watchList.WatchListEventType;
-import com.fourtune.api.infrastructure.kafka.watchList.WatchListKafkaProducer;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.ObjectProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -44,10 +36,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class WatchListLocalCacheUseCase {
 
-    private final EventPublisher eventPublisher;
-    private final EventPublishingConfig eventPublishingConfig;
-    private final ObjectMapper objectMapper;
-    private final ObjectProvider<WatchListKafkaProducer> watchListKafkaProducerProvider;
+    private final WatchListAlertFanOut alertFanOut;
 
     // 관심등록 캐시: auctionItemId -> Set<userId>
     private Cache<Long, Set<Long>> auctionToUsersCache;
@@ -124,7 +113,7 @@ public class WatchListLocalCacheUseCase {
         }
 
         // 이벤트 발행
-        publishWatchListEvent(userIds.stream().toList(), auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_STARTED);
+        alertFanOut.fanOut(auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_STARTED, userIds.iterator());
 
         // 알림 발송 완료 마킹 (메모리)
         startAlertSentCache.asMap()
@@ -149,7 +138,7 @@ public class WatchListLocalCacheUseCase {
             return new WatchListBulkUseCase.ProcessResult(0, 0, 0);
         }
 
-        publishWatchListEvent(userIds.stream().toList(), auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_ENDED);
+        alertFanOut.fanOut(auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_ENDED, userIds.iterator());
 
         endAlertSentCache.asMap()
                 .computeIfAbsent(auctionItemId, k -> ConcurrentHashMap.newKeySet())
@@ -161,25 +150,6 @@ public class WatchListLocalCacheUseCase {
         return new WatchListBulkUseCase.ProcessResult(userIds.size(), 0, duration);
     }
 
-    private void publishWatchListEvent(List<Long> users, Long auctionItemId, String auctionTitle, WatchListEventType type) {
-        if (eventPublishingConfig.isWatchlistEventsKafkaEnabled()) {
-            try {
-                String payload = objectMapper
-                        .writeValueAsString(Map.of("users", users, "auctionItemId", auctionItemId, "auctionTitle", auctionTitle));
-                watchListKafkaProducerProvider
-                        .ifAvailable(producer -> producer.send(String.valueOf(auctionItemId), payload, type.name()));
-            } catch (Exception e) {
-                log.error("[LOCAL] WatchList Kafka 이벤트 발행 실패: auctionItemId={}", auctionItemId, e);
-            }
-        } else {
-            if (type == WatchListEventType.WATCHLIST_AUCTION_STARTED) {
-                eventPublisher.publish(new WatchListAuctionStartedEvent(users, auctionItemId, auctionTitle));
-            } else {
-                eventPublisher.publish(new WatchListAuctionEndedEvent(users, auctionItemId, auctionTitle));
-            }
-        }
-    }
-
     /**
      * 테스트용: 캐시 초기화
      */
@@ -1,21 +1,17 @@
 package com.fourtune.auction.boundedContext.watchList.application.service.performance;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fourtune.core.config.EventPublishingConfig;
-import com.fourtune.core.eventPublisher.EventPublisher;
-import com.fourtune.shared.watchList.event.WatchListAuctionStartedEvent;
-import com.fourtune.shared.watchList.event.WatchListAuctionEndedEvent;
 import com.fourtune.api.infrastructure.kafka.watchList.WatchListEventType;
-import com.fourtune.api.infrastructure.kafka.watchList.WatchListKafkaProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,7 +19,7 @@ import java.util.stream.Collectors;
  * Redis Set 방식 WatchList 서비스
  *
  * 특징:
- * - 조회: O(N) SMEMBERS (Redis, DB 접근 없음)
+ * - 조회: SSCAN으로 나눠 읽으며 chunk 단위 발행 (Redis, DB 접근 없음)
  * - 업데이트: O(N) SADD (Redis, DB 접근 없음)
  * - DB 쿼리 0회, 모든 처리가 Redis에서 완료
  *
@@ -38,10 +34,11 @@ import java.util.stream.Collectors;
 public class WatchListRedisSetUseCase {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final EventPublisher eventPublisher;
-    private final EventPublishingConfig eventPublishingConfig;
-    private final ObjectMapper objectMapper;
-    private final ObjectProvider<WatchListKafkaProducer> watchListKafkaProducerProvider;
+    private final WatchListAlertFanOut alertFanOut;
+
+    // SSCAN 1회에 읽을 개수 힌트
+    @Value("${watchlist.alert.scan-count:1000}")
+    private int scanCount;
 
     private static final String AUCTION_USERS_KEY = "watchlist:auction:";   // auction→users
     private static final String USER_AUCTIONS_KEY = "watchlist:user:";       // user→auctions (역방향)
@@ -106,27 +103,7 @@ public class WatchListRedisSetUseCase {
      * SETNX로 중복 방지 + 발송 마킹을 원자적으로 처리
      */
     public WatchListBulkUseCase.ProcessResult processAuctionStart(Long auctionItemId, String auctionTitle) {
-        long startTime = System.currentTimeMillis();
-
-        // SETNX: 키가 없을 때만 set → true면 최초 처리, false면 이미 발송됨
-        Boolean isNew = redisTemplate.opsForValue().setIfAbsent(ALERT_START_SENT_KEY + auctionItemId, "1");
-        if (Boolean.FALSE.equals(isNew)) {
-            log.debug("[REDIS] 경매 {} 시작 알림 이미 발송됨, SKIP", auctionItemId);
-            return new WatchListBulkUseCase.ProcessResult(0, 0, 0);
-        }
-
-        Set<Long> userIds = getInterestedUsers(auctionItemId);
-
-        if (userIds.isEmpty()) {
-            return new WatchListBulkUseCase.ProcessResult(0, 0, 0);
-        }
-
-        publishWatchListEvent(userIds.stream().toList(), auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_STARTED);
-
-        long duration = System.currentTimeMillis() - startTime;
-        log.info("[REDIS] 경매 {} 시작 알림 처리 완료: {}명, {}ms", auctionItemId, userIds.size(), duration);
-
-        return new WatchListBulkUseCase.ProcessResult(userIds.size(), 0, duration);
+        return processAlert(auctionItemId, auctionTitle, ALERT_START_SENT_KEY, WatchListEventType.WATCHLIST_AUCTION_STARTED, "시작");
     }
 
     /**
@@ -134,46 +111,41 @@ public class WatchListRedisSetUseCase {
      * SETNX로 중복 방지 + 발송 마킹을 원자적으로 처리
      */
     public WatchListBulkUseCase.ProcessResult processAuctionEnd(Long auctionItemId, String auctionTitle) {
+        return processAlert(auctionItemId, auctionTitle, ALERT_END_SENT_KEY, WatchListEventType.WATCHLIST_AUCTION_ENDED, "종료");
+    }
+
+    /**
+     * 관심 유저를 SSCAN으로 나눠 읽으며 chunk 단위로 발행
+     * (SMEMBERS 한 번으로 전체를 읽으면 관심 유저가 많을 때 Redis를 오래 막고 메모리에 전부 올림)
+     * SSCAN은 진행 중 Set이 재해시되면 같은 유저를 두 번 돌려줄 수 있음 (알림 중복 허용)
+     */
+    private WatchListBulkUseCase.ProcessResult processAlert(Long auctionItemId, String auctionTitle, String sentKeyPrefix,
+                                                            WatchListEventType type, String label) {
         long startTime = System.currentTimeMillis();
 
         // SETNX: 키가 없을 때만 set → true면 최초 처리, false면 이미 발송됨
-        Boolean isNew = redisTemplate.opsForValue().setIfAbsent(ALERT_END_SENT_KEY + auctionItemId, "1");
+        Boolean isNew = redisTemplate.opsForValue().setIfAbsent(sentKeyPrefix + auctionItemId, "1");
         if (Boolean.FALSE.equals(isNew)) {
-            log.debug("[REDIS] 경매 {} 종료 알림 이미 발송됨, SKIP", auctionItemId);
+            log.debug("[REDIS] 경매 {} {} 알림 이미 발송됨, SKIP", auctionItemId, label);
             return new WatchListBulkUseCase.ProcessResult(0, 0, 0);
         }
 
-        Set<Long> userIds = getInterestedUsers(auctionItemId);
+        ScanOptions options = ScanOptions.scanOptions().count(scanCount).build();
+        WatchListAlertFanOut.FanOutResult result;
+        try (Cursor<Object> cursor = redisTemplate.opsForSet().scan(AUCTION_USERS_KEY + auctionItemId, options)) {
+            Iterator<Long> users = cursor.stream().map(o -> ((Number) o).longValue()).iterator();
+            result = alertFanOut.fanOut(auctionItemId, auctionTitle, type, users);
+        }
 
-        if (userIds.isEmpty()) {
+        if (result.userCount() == 0) {
             return new WatchListBulkUseCase.ProcessResult(0, 0, 0);
         }
 
-        publishWatchListEvent(userIds.stream().toList(), auctionItemId, auctionTitle, WatchListEventType.WATCHLIST_AUCTION_ENDED);
-
         long duration = System.currentTimeMillis() - startTime;
-        log.info("[REDIS] 경매 {} 종료 알림 처리 완료: {}명, {}ms", auctionItemId, userIds.size(), duration);
+        log.info("[REDIS] 경매 {} {} 알림 처리 완료: {}명, {}개 chunk, {}ms",
+                auctionItemId, label, result.userCount(), result.chunkCount(), duration);
 
-        return new WatchListBulkUseCase.ProcessResult(userIds.size(), 0, duration);
-    }
-
-    private void publishWatchListEvent(List<Long> users, Long auctionItemId, String auctionTitle, WatchListEventType type) {
-        if (eventPublishingConfig.isWatchlistEventsKafkaEnabled()) {
-            try {
-                String payload = objectMapper
-                        .writeValueAsString(Map.of("users", users, "auctionItemId", auctionItemId, "auctionTitle", auctionTitle));
-                watchListKafkaProducerProvider
-                        .ifAvailable(producer -> producer.send(String.valueOf(auctionItemId), payload, type.name()));
-            } catch (Exception e) {
-                log.error("[REDIS] WatchList Kafka 이벤트 발행 실패: auctionItemId={}", auctionItemId, e);
-            }
-        } else {
-            if (type == WatchListEventType.WATCHLIST_AUCTION_STARTED) {
-                eventPublisher.publish(new WatchListAuctionStartedEvent(users, auctionItemId, auctionTitle));
-            } else {
-                eventPublisher.publish(new WatchListAuctionEndedEvent(users, auctionItemId, auctionTitle));
-            }
-        }
+        return new WatchListBulkUseCase.ProcessResult(result.userCount(), 0, duration);
     }
 
     /**
@@ -47,8 +47,10 @@ public class ApiSecurityConfig {
                                                                 "/firebase-messaging-sw.js")
                                                 .permitAll()
                                                 .requestMatchers("/api/auth/**", "/api/users/signup").permitAll()
-                                                .requestMatchers("/api/v1/search/auction-items").permitAll()
+                                                .requestMatchers("/api/v1/search/auction-items", "/api/v1/search/auction-items/facets").permitAll()
                                                 .requestMatchers("/api/v1/search/recent").permitAll()
+                                                .requestMatchers("/api/v1/search/suggestions").permitAll()
+                                                .requestMatchers("/api/v1/realtime/stream").permitAll() // 비로그인은 경매 방만 구독
                                                 .requestMatchers("/tosspay.html").permitAll()
                                                 .requestMatchers("/", "/index.html", "/oauth2/**", "/login-success")
                                                 .permitAll()
@@ -0,0 +1,42 @@
+package com.fourtune.auction.boundedContext.fcmToken.adapter.in;
+
+import com.fourtune.auction.boundedContext.fcmToken.application.FcmService;
+import com.fourtune.auction.boundedContext.fcmToken.application.FcmTargetCache;
+import com.fourtune.core.config.EventPublishingConfig;
+import com.fourtune.shared.notification.event.NotificationSettingsChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class FcmTokenEventListenerTest {
+
+    @Mock
+    private FcmService fcmService;
+
+    @Mock
+    private FcmTargetCache fcmTargetCache;
+
+    @Mock
+    private EventPublishingConfig eventPublishingConfig;
+
+    @InjectMocks
+    private FcmTokenEventListener sut;
+
+    @Test
+    @DisplayName("알림 설정 변경 이벤트를 받으면 해당 유저의 푸시 대상 캐시를 무효화한다")
+    void handleNotificationSettingsChangedEvent_InvalidatesCache() {
+        // when
+        sut.handleNotificationSettingsChangedEvent(new NotificationSettingsChangedEvent(1L));
+
+        // then
+        verify(fcmTargetCache).invalidate(1L);
+        verifyNoInteractions(fcmService);
+    }
+}
@@ -0,0 +1,147 @@
+package com.fourtune.auction.boundedContext.fcmToken.application;
+
+import com.fourtune.auction.boundedContext.fcmToken.adapter.out.StubFcmClient;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmPush;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmToken;
+import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmTokenRepository;
+import com.fourtune.auction.boundedContext.notification.port.out.NotificationSettingsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 그룹 알림 FCM 전송 부하 테스트 (로컬 스텁 클라이언트)
+ * - 관심 유저 10만 명에게 같은 경매 시작 알림을 Kafka poll 단위(500건)로 나눠 전달
+ * - 유저당 토큰 1개, 1%는 UNREGISTERED로 응답하는 만료 토큰
+ * - 배치마다 대상 조회가 1회로 끝나는지, 멀티캐스트로 묶여 요청 수가 줄어드는지, 만료 토큰이 모두 삭제되는지 검증
+ * - 처리량 수치는 환경에 따라 달라 로그로만 남김
+ * - 기본 test 태스크에서는 제외 (load 태그)
+ */
+@Tag("load")
+@DisplayName("FCM 그룹 알림 부하 테스트")
+class FcmPushLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FcmPushLoadTest.class);
+
+    private static final int USERS = 100_000;
+    private static final int POLL_SIZE = 500;
+    private static final int EXPIRED_EVERY = 100;
+    private static final long STUB_LATENCY_MS = 50;
+    private static final int MAX_CONCURRENCY = 16;
+
+    private final AtomicInteger settingsQueries = new AtomicInteger();
+    private final AtomicInteger tokenQueries = new AtomicInteger();
+    private final AtomicLong pruned = new AtomicLong();
+
+    private StubFcmClient fcmClient;
+    private FcmSender fcmSender;
+    private FcmService fcmService;
+
+    @BeforeEach
+    void setUp() {
+        NotificationSettingsRepository settingsRepository = mock(NotificationSettingsRepository.class);
+        when(settingsRepository.findAllByUserIdIn(anyCollection())).thenAnswer(invocation -> {
+            settingsQueries.incrementAndGet();
+            return List.of();
+        });
+        FcmTokenRepository tokenRepository = mock(FcmTokenRepository.class);
+        when(tokenRepository.findAllByUserIdIn(anyCollection())).thenAnswer(invocation -> {
+            tokenQueries.incrementAndGet();
+            Collection<Long> userIds = invocation.getArgument(0);
+            return userIds.stream().map(userId -> new FcmToken(userId, token(userId))).toList();
+        });
+        when(tokenRepository.findAllByTokenIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> tokens = invocation.getArgument(0);
+            return tokens.stream()
+                    .map(token -> new FcmToken(Long.parseLong(token.substring(token.lastIndexOf('-') + 1)), token))
+                    .toList();
+        });
+        doAnswer(invocation -> {
+            Collection<FcmToken> tokens = invocation.getArgument(0);
+            pruned.addAndGet(tokens.size());
+            return null;
+        }).when(tokenRepository).deleteAllInBatch(anyCollection());
+
+        FcmTargetCache targetCache = new FcmTargetCache(settingsRepository, tokenRepository);
+        ReflectionTestUtils.setField(targetCache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(targetCache, "maxSize", (long) USERS);
+        targetCache.init();
+
+        fcmClient = new StubFcmClient();
+        ReflectionTestUtils.setField(fcmClient, "latencyMs", STUB_LATENCY_MS);
+        ReflectionTestUtils.setField(fcmClient, "unregisteredPrefix", "unregistered-");
+
+        fcmSender = new FcmSender(fcmClient, tokenRepository, targetCache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(fcmSender, "maxConcurrency", MAX_CONCURRENCY);
+        ReflectionTestUtils.setField(fcmSender, "ratePerSecond", 0);
+        ReflectionTestUtils.setField(fcmSender, "shutdownTimeoutMs", 10_000L);
+        fcmSender.start();
+
+        fcmService = new FcmService(targetCache, fcmSender, tokenRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fcmSender.stop();
+    }
+
+    @Test
+    @DisplayName("10만 명 그룹 알림을 poll 단위로 묶어 멀티캐스트하고 만료 토큰을 정리한다")
+    void sendGroupAlertToOneHundredThousandUsers() throws Exception {
+        // given
+        List<List<FcmPush>> polls = new ArrayList<>();
+        for (long from = 1; from <= USERS; from += POLL_SIZE) {
+            List<FcmPush> poll = new ArrayList<>(POLL_SIZE);
+            for (long userId = from; userId < from + POLL_SIZE && userId <= USERS; userId++) {
+                poll.add(new FcmPush(userId, "WATCHLIST_START", "관심 경매 시작", "관심 등록한 경매가 시작되었습니다."));
+            }
+            polls.add(poll);
+        }
+
+        // when: Kafka 컨슈머 스레드처럼 poll 단위로 순서대로 처리
+        long startedAt = System.nanoTime();
+        for (List<FcmPush> poll : polls) {
+            fcmService.sendAll(poll);
+        }
+        long dispatchedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        boolean idle = fcmSender.awaitIdle(Duration.ofSeconds(60));
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+
+        // then
+        log.info("[FCM-PUSH-LOAD] users={}, polls={}, multicast={} (per-user would be {}), dispatch={} ms, "
+                        + "elapsed={} ms, delivered={} ({} tokens/s), pruned={}, settingsQueries={}, tokenQueries={}",
+                USERS, polls.size(), fcmClient.requests(), USERS, dispatchedMs, elapsedMs,
+                fcmClient.delivered(), fcmClient.delivered() * 1000 / elapsedMs, pruned.get(),
+                settingsQueries.get(), tokenQueries.get());
+
+        assertThat(idle).isTrue();
+        assertThat(fcmClient.requests()).isEqualTo(polls.size());
+        assertThat(fcmClient.delivered()).isEqualTo(USERS - USERS / EXPIRED_EVERY);
+        assertThat(pruned.get()).isEqualTo(USERS / EXPIRED_EVERY);
+        assertThat(settingsQueries.get()).isEqualTo(polls.size());
+        assertThat(tokenQueries.get()).isEqualTo(polls.size());
+    }
+
+    private static String token(long userId) {
+        return (userId % EXPIRED_EVERY == 0 ? "unregistered-" : "device-") + userId;
+    }
+}
@@ -0,0 +1,160 @@
+package com.fourtune.auction.boundedContext.fcmToken.application;
+
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmMulticastResult;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmToken;
+import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmClient;
+import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * FcmSender 단위 테스트.
+ * - 토큰을 500개씩 나눠 보내는지, 동시 요청 수/초당 요청 수 제한을 지키는지
+ * - UNREGISTERED 토큰을 삭제하고 소유 유저의 캐시를 무효화하는지
+ */
+@ExtendWith(MockitoExtension.class)
+class FcmSenderTest {
+
+    @Mock
+    private FcmClient fcmClient;
+
+    @Mock
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Mock
+    private FcmTargetCache fcmTargetCache;
+
+    @Captor
+    private ArgumentCaptor<Collection<Long>> ownersCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FcmSender sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new FcmSender(fcmClient, fcmTokenRepository, fcmTargetCache, meterRegistry);
+        ReflectionTestUtils.setField(sut, "maxConcurrency", 2);
+        ReflectionTestUtils.setField(sut, "ratePerSecond", 0);
+        ReflectionTestUtils.setField(sut, "shutdownTimeoutMs", 1_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.stop();
+    }
+
+    @Test
+    @DisplayName("토큰은 멀티캐스트 1회당 최대 500개로 나눠 보낸다")
+    void sendMulticast_SplitsIntoChunksOf500() throws Exception {
+        // given
+        sut.start();
+        List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+        given(fcmClient.sendMulticast(anyList(), anyString(), anyString())).willAnswer(invocation -> {
+            List<String> tokens = invocation.getArgument(0);
+            chunkSizes.add(tokens.size());
+            return new FcmMulticastResult(tokens.size(), 0, List.of());
+        });
+
+        // when
+        sut.sendMulticast(tokens("token-", 1_200), "관심 경매 시작", "경매가 시작되었습니다.");
+
+        // then
+        assertThat(sut.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(chunkSizes).containsExactlyInAnyOrder(500, 500, 200);
+        assertThat(meterRegistry.counter("fcm.send.requests").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("fcm.send.tokens", "result", "success").count()).isEqualTo(1_200);
+    }
+
+    @Test
+    @DisplayName("동시 요청은 max-concurrency개를 넘지 않고, 요청 시작 간격은 rate-per-second를 지킨다")
+    void sendMulticast_BoundsConcurrencyAndRate() throws Exception {
+        // given
+        ReflectionTestUtils.setField(sut, "ratePerSecond", 20);
+        sut.start();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(fcmClient.sendMulticast(anyList(), anyString(), anyString())).willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(100);
+            running.decrementAndGet();
+            List<String> tokens = invocation.getArgument(0);
+            return new FcmMulticastResult(tokens.size(), 0, List.of());
+        });
+
+        // when: 요청 5건 (20건/초 → 시작 간격 50ms)
+        long startedAt = System.nanoTime();
+        sut.sendMulticast(tokens("token-", 2_500), "상위 입찰 발생", "다른 입찰자가 있습니다.");
+        assertThat(sut.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(200);
+        assertThat(meterRegistry.counter("fcm.send.requests").count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("UNREGISTERED로 응답한 토큰은 삭제하고 소유 유저의 대상 캐시를 무효화한다")
+    void sendMulticast_PrunesUnregisteredTokens() throws Exception {
+        // given
+        sut.start();
+        List<FcmToken> expired = List.of(new FcmToken(1L, "expired-1"), new FcmToken(2L, "expired-2"));
+        given(fcmClient.sendMulticast(anyList(), anyString(), anyString()))
+                .willReturn(new FcmMulticastResult(1, 2, List.of("expired-1", "expired-2")));
+        given(fcmTokenRepository.findAllByTokenIn(List.of("expired-1", "expired-2"))).willReturn(expired);
+
+        // when
+        sut.sendMulticast(List.of("valid", "expired-1", "expired-2"), "결제 완료", "결제가 완료되었습니다.");
+
+        // then
+        assertThat(sut.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        verify(fcmTokenRepository).deleteAllInBatch(expired);
+        verify(fcmTargetCache).invalidateAll(ownersCaptor.capture());
+        assertThat(ownersCaptor.getValue()).containsExactly(1L, 2L);
+        assertThat(meterRegistry.counter("fcm.send.pruned").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송 중 예외가 나도 동시 요청 허가를 반납하고 실패 토큰 수를 기록한다")
+    void sendMulticast_ReleasesPermitOnFailure() throws Exception {
+        // given
+        sut.start();
+        given(fcmClient.sendMulticast(any(), any(), any())).willThrow(new IllegalStateException("FCM 장애"));
+
+        // when
+        sut.sendMulticast(tokens("token-", 1_000), "관심 경매 종료", "경매가 종료되었습니다.");
+
+        // then
+        assertThat(sut.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(meterRegistry.counter("fcm.send.tokens", "result", "failure").count()).isEqualTo(1_000);
+    }
+
+    private List<String> tokens(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i).toList();
+    }
+}
@@ -3,6 +3,7 @@ package com.fourtune.auction.boundedContext.notification.adapter.in.kafka;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fourtune.auction.boundedContext.notification.application.NotificationFacade;
+import com.fourtune.auction.boundedContext.notification.application.NotificationFanOutTracker;
 import com.fourtune.auction.boundedContext.notification.domain.constant.NotificationType;
 import com.fourtune.api.infrastructure.kafka.watchList.WatchListEventType;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +28,9 @@ class NotificationWatchListKafkaListenerTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private NotificationFanOutTracker fanOutTracker;
+
     @InjectMocks
     private NotificationWatchListKafkaListener listener;
 
@@ -74,6 +78,62 @@ class NotificationWatchListKafkaListenerTest {
                 eq("종료 상품"));
     }
 
+    @Test
+    @DisplayName("fan-out chunk 메시지를 처리하면 chunk 완료를 기록")
+    void consume_FanOutChunk_MarksChunkDone() throws Exception {
+        // Given
+        String payload = "{\"fanOutId\":\"f-1\",\"chunkIndex\":3,\"auctionItemId\":1,\"users\":[10,20],\"auctionTitle\":\"테스트 상품\"}";
+        String eventType = WatchListEventType.WATCHLIST_AUCTION_STARTED.name();
+        JsonNode node = new ObjectMapper().readTree(payload);
+
+        when(objectMapper.readTree(payload)).thenReturn(node);
+        when(fanOutTracker.isDone("f-1", 3)).thenReturn(false);
+
+        // When
+        listener.consume(payload, eventType);
+
+        // Then
+        verify(notificationFacade).createGroupNotification(
+                eq(List.of(10L, 20L)), eq(1L), eq(NotificationType.WATCHLIST_START), eq("테스트 상품"));
+        verify(fanOutTracker).markDone("f-1", 3);
+    }
+
+    @Test
+    @DisplayName("이미 완료한 fan-out chunk가 재전달되면 알림을 다시 만들지 않음")
+    void consume_FanOutChunkAlreadyDone_Skips() throws Exception {
+        // Given
+        String payload = "{\"fanOutId\":\"f-1\",\"chunkIndex\":0,\"auctionItemId\":1,\"users\":[10],\"auctionTitle\":\"테스트 상품\"}";
+        String eventType = WatchListEventType.WATCHLIST_AUCTION_ENDED.name();
+        JsonNode node = new ObjectMapper().readTree(payload);
+
+        when(objectMapper.readTree(payload)).thenReturn(node);
+        when(fanOutTracker.isDone("f-1", 0)).thenReturn(true);
+
+        // When
+        listener.consume(payload, eventType);
+
+        // Then
+        verifyNoInteractions(notificationFacade);
+        verify(fanOutTracker, never()).markDone(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("chunk 처리가 실패하면 완료를 기록하지 않고 예외를 전파해 그 chunk만 재시도")
+    void consume_FanOutChunkFails_DoesNotMarkDone() throws Exception {
+        // Given
+        String payload = "{\"fanOutId\":\"f-1\",\"chunkIndex\":1,\"auctionItemId\":1,\"users\":[10],\"auctionTitle\":\"테스트 상품\"}";
+        String eventType = WatchListEventType.WATCHLIST_AUCTION_STARTED.name();
+        JsonNode node = new ObjectMapper().readTree(payload);
+
+        when(objectMapper.readTree(payload)).thenReturn(node);
+        doThrow(new IllegalStateException("db down")).when(notificationFacade)
+                .createGroupNotification(anyList(), anyLong(), any(), any());
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> listener.consume(payload, eventType));
+        verify(fanOutTracker, never()).markDone(anyString(), anyInt());
+    }
+
     @Test
     @DisplayName("eventType이 null이면 아무 처리도 하지 않음")
     void consume_NullEventType_DoesNothing() {
@@ -0,0 +1,154 @@
+package com.fourtune.auction.boundedContext.notification.adapter.out.persistence;
+
+import com.fourtune.auction.boundedContext.notification.domain.constant.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 그룹 알림 저장 처리량 비교 (PostgreSQL 컨테이너)
+ * - 기존: 수신자마다 유저 조회 1회 + INSERT 1회 (IDENTITY 키 반환)
+ * - 변경: bulk-size(1,000)명씩 유저 존재 조회 1회 + JDBC batch INSERT (reWriteBatchedInserts)
+ * - 수신자 1만/10만 명 기준 notifications/sec 로그 기록, 기존 방식은 1만 명만 측정
+ * - 기본 test 태스크에서는 제외 (load 태그)
+ */
+@Tag("load")
+@Testcontainers
+@DisplayName("그룹 알림 일괄 저장 벤치마크")
+class NotificationJdbcBulkRepositoryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationJdbcBulkRepositoryBenchmarkTest.class);
+
+    private static final int BULK_SIZE = 1_000;
+    private static final int MAX_RECIPIENTS = 100_000;
+    private static final String TITLE = "관심상품 시작 5분 전";
+    private static final String CONTENT = "'벤치마크 상품' 상품 경매 시작 5분 전입니다.";
+    private static final String RELATED_URL = "/auctions/1";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private NotificationJdbcBulkRepository bulkRepository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                postgres.getJdbcUrl() + "&reWriteBatchedInserts=true", postgres.getUsername(), postgres.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS notifications");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS notification_users");
+        jdbcTemplate.execute("CREATE TABLE notification_users (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("""
+                CREATE TABLE notifications (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    user_id BIGINT NOT NULL REFERENCES notification_users (id),
+                    type VARCHAR(255) NOT NULL,
+                    title VARCHAR(255) NOT NULL,
+                    content VARCHAR(255) NOT NULL,
+                    related_url VARCHAR(255),
+                    is_read BOOLEAN NOT NULL,
+                    send_at TIMESTAMP NOT NULL,
+                    read_at TIMESTAMP)
+                """);
+        jdbcTemplate.update("INSERT INTO notification_users (id) SELECT generate_series(1, ?)", MAX_RECIPIENTS);
+        bulkRepository = new NotificationJdbcBulkRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("수신자 1만/10만 명 그룹 알림을 건별 저장과 일괄 저장으로 각각 실행해 처리량을 비교한다")
+    void compareRowByRowAndBulkInsertThroughput() {
+        // given: 워밍업
+        bulk(userIds(1_000));
+        rowByRow(userIds(1_000));
+        jdbcTemplate.execute("TRUNCATE notifications");
+
+        // when & then
+        long rowByRowNanos = measure(() -> rowByRow(userIds(10_000)));
+        report("rowByRow", 10_000, rowByRowNanos);
+        jdbcTemplate.execute("TRUNCATE notifications");
+
+        for (int recipients : new int[]{10_000, MAX_RECIPIENTS}) {
+            List<Long> userIds = userIds(recipients);
+            long bulkNanos = measure(() -> bulk(userIds));
+            report("bulk", recipients, bulkNanos);
+
+            Long saved = jdbcTemplate.queryForObject("SELECT count(*) FROM notifications", Long.class);
+            assertThat(saved).isEqualTo(recipients);
+            jdbcTemplate.execute("TRUNCATE notifications");
+        }
+    }
+
+    // NotificationCreateUseCase.createGroupNotification과 같은 단위로 조회/저장
+    private void bulk(List<Long> userIds) {
+        LocalDateTime sendAt = LocalDateTime.now();
+        for (int from = 0; from < userIds.size(); from += BULK_SIZE) {
+            List<Long> slice = userIds.subList(from, Math.min(from + BULK_SIZE, userIds.size()));
+            List<Long> existing = jdbcTemplate.queryForList(
+                    "SELECT id FROM notification_users WHERE id = ANY (?)", Long.class,
+                    (Object) slice.toArray(Long[]::new));
+            bulkRepository.insertAll(existing, NotificationType.WATCHLIST_START, TITLE, CONTENT, RELATED_URL, sendAt);
+        }
+    }
+
+    // 변경 전: findByUserId + save(IDENTITY라 INSERT 즉시 실행 후 키 반환)
+    private void rowByRow(List<Long> userIds) {
+        Timestamp sendAt = Timestamp.valueOf(LocalDateTime.now());
+        for (Long userId : userIds) {
+            jdbcTemplate.queryForObject("SELECT id FROM notification_users WHERE id = ?", Long.class, userId);
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement("""
+                        INSERT INTO notifications (user_id, type, title, content, related_url, is_read, send_at)
+                        VALUES (?, ?, ?, ?, ?, false, ?)
+                        """, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, userId);
+                ps.setString(2, NotificationType.WATCHLIST_START.name());
+                ps.setString(3, TITLE);
+                ps.setString(4, CONTENT);
+                ps.setString(5, RELATED_URL);
+                ps.setTimestamp(6, sendAt);
+                return ps;
+            }, new GeneratedKeyHolder());
+        }
+    }
+
+    private long measure(Runnable action) {
+        long startedAt = System.nanoTime();
+        action.run();
+        return System.nanoTime() - startedAt;
+    }
+
+    private void report(String mode, int recipients, long elapsedNanos) {
+        log.info("[NOTIFICATION-BULK-BENCH] mode={}, recipients={}, {} notifications/s ({} ms)",
+                mode, recipients, String.format("%.1f", recipients / (elapsedNanos / 1_000_000_000.0)), elapsedNanos / 1_000_000);
+    }
+
+    private List<Long> userIds(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+}
@@ -0,0 +1,102 @@
+package com.fourtune.auction.boundedContext.notification.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.api.infrastructure.kafka.notification.NotificationEventType;
+import com.fourtune.api.infrastructure.kafka.notification.NotificationKafkaProducer;
+import com.fourtune.auction.boundedContext.notification.domain.constant.NotificationType;
+import com.fourtune.core.config.EventPublishingConfig;
+import com.fourtune.core.eventPublisher.EventPublisher;
+import com.fourtune.shared.notification.event.NotificationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCreateUseCaseTest {
+
+    @Mock
+    private NotificationSupport notificationSupport;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private EventPublishingConfig eventPublishingConfig;
+
+    @Mock
+    private ObjectProvider<NotificationKafkaProducer> notificationKafkaProducerProvider;
+
+    @Mock
+    private NotificationKafkaProducer notificationKafkaProducer;
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    private NotificationCreateUseCase notificationCreateUseCase;
+
+    @BeforeEach
+    void setUp() {
+        notificationCreateUseCase = new NotificationCreateUseCase(notificationSupport, eventPublisher,
+                eventPublishingConfig, new ObjectMapper(), notificationKafkaProducerProvider, unreadCounter);
+        ReflectionTestUtils.setField(notificationCreateUseCase, "bulkSize", 2);
+    }
+
+    @Test
+    @DisplayName("그룹 알림은 bulk-size명씩 존재하는 유저를 조회해 일괄 INSERT 한다")
+    void createGroupNotification_InsertsInSlices() {
+        // given
+        when(eventPublishingConfig.isNotificationEventsKafkaEnabled()).thenReturn(false);
+        when(notificationSupport.findExistingUserIds(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(notificationSupport.findExistingUserIds(List.of(3L))).thenReturn(List.of(3L));
+
+        // when
+        notificationCreateUseCase.createGroupNotification(List.of(1L, 2L, 3L, 1L), 7L,
+                NotificationType.WATCHLIST_START, "테스트 상품");
+
+        // then
+        String content = "'테스트 상품' 상품 경매 시작 5분 전입니다.";
+        verify(notificationSupport).insertAll(eq(List.of(1L, 2L)), eq(NotificationType.WATCHLIST_START),
+                eq("관심상품 시작 5분 전"), eq(content), eq("/auctions/7"), any());
+        verify(notificationSupport).insertAll(eq(List.of(3L)), eq(NotificationType.WATCHLIST_START),
+                eq("관심상품 시작 5분 전"), eq(content), eq("/auctions/7"), any());
+        verify(notificationSupport, never()).save(any());
+        verify(unreadCounter).incrementAfterCommit(List.of(1L, 2L, 3L));
+        verify(eventPublisher, times(3)).publish(any(NotificationEvent.class));
+    }
+
+    @Test
+    @DisplayName("없는 유저는 건너뛰고 나머지 유저에게만 알림을 만들고 Kafka로 발행한다")
+    @SuppressWarnings("unchecked")
+    void createGroupNotification_SkipsMissingUsersAndPublishesToKafka() {
+        // given
+        when(eventPublishingConfig.isNotificationEventsKafkaEnabled()).thenReturn(true);
+        when(notificationSupport.findExistingUserIds(List.of(1L, 2L))).thenReturn(List.of(1L));
+        doAnswer(invocation -> {
+            invocation.<Consumer<NotificationKafkaProducer>>getArgument(0).accept(notificationKafkaProducer);
+            return null;
+        }).when(notificationKafkaProducerProvider).ifAvailable(any(Consumer.class));
+
+        // when
+        notificationCreateUseCase.createGroupNotification(List.of(1L, 2L), 7L,
+                NotificationType.WATCHLIST_END, "테스트 상품");
+
+        // then
+        verify(notificationSupport).insertAll(eq(List.of(1L)), eq(NotificationType.WATCHLIST_END),
+                anyString(), anyString(), eq("/auctions/7"), any());
+        verify(notificationKafkaProducer).send(eq("1"), contains("\"receiverId\":1"),
+                eq(NotificationEventType.NOTIFICATION_CREATED.name()));
+        verifyNoMoreInteractions(notificationKafkaProducer);
+        verifyNoInteractions(eventPublisher);
+    }
+}
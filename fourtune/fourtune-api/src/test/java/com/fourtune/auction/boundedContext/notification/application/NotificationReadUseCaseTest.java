@@ -0,0 +1,169 @@
+package com.fourtune.auction.boundedContext.notification.application;
+
+import com.fourtune.auction.boundedContext.notification.domain.Notification;
+import com.fourtune.auction.boundedContext.notification.domain.NotificationCursor;
+import com.fourtune.auction.boundedContext.notification.domain.NotificationUser;
+import com.fourtune.auction.boundedContext.notification.domain.constant.NotificationType;
+import com.fourtune.core.error.exception.BusinessException;
+import com.fourtune.shared.notification.dto.NotificationPageResponse;
+import com.fourtune.shared.notification.dto.NotificationResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationReadUseCaseTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private NotificationSupport notificationSupport;
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    private NotificationReadUseCase notificationReadUseCase;
+
+    @BeforeEach
+    void setUp() {
+        notificationReadUseCase = new NotificationReadUseCase(notificationSupport, unreadCounter);
+        ReflectionTestUtils.setField(notificationReadUseCase, "maxPageSize", 100);
+    }
+
+    @Test
+    @DisplayName("size+1건을 조회해 다음 페이지가 있으면 마지막 알림의 (sendAt, id)를 커서로 돌려준다")
+    void readNotifications_FirstPage_ReturnsNextCursor() {
+        // given
+        List<Notification> fetched = List.of(
+                notification(30L, BASE, false),
+                notification(20L, BASE, true),
+                notification(10L, BASE.minusMinutes(1), false));
+        when(notificationSupport.findPage(USER_ID, null, 3)).thenReturn(fetched);
+        when(unreadCounter.get(eq(USER_ID), any())).thenReturn(7L);
+
+        // when
+        NotificationPageResponse response = notificationReadUseCase.readNotifications(USER_ID, null, 2);
+
+        // then
+        assertThat(response.items()).extracting(NotificationResponseDto::id).containsExactly(30L, 20L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.unreadCount()).isEqualTo(7L);
+        assertThat(NotificationCursor.decode(response.nextCursor())).isEqualTo(new NotificationCursor(BASE, 20L));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 그 이후부터 조회하고, 마지막 페이지면 nextCursor가 없다")
+    void readNotifications_WithCursor_LastPage() {
+        // given
+        NotificationCursor cursor = new NotificationCursor(BASE, 20L);
+        when(notificationSupport.findPage(USER_ID, cursor, 3))
+                .thenReturn(List.of(notification(10L, BASE.minusMinutes(1), false)));
+
+        // when
+        NotificationPageResponse response = notificationReadUseCase.readNotifications(USER_ID, cursor.encode(), 2);
+
+        // then
+        assertThat(response.items()).extracting(NotificationResponseDto::id).containsExactly(10L);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외를 던진다")
+    void readNotifications_InvalidCursor_Throws() {
+        assertThatThrownBy(() -> notificationReadUseCase.readNotifications(USER_ID, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(notificationSupport);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수는 캐시가 없을 때 DB count로 채운다")
+    void countUnread_UsesDbCountAsLoader() {
+        // given
+        when(notificationSupport.countUnread(USER_ID)).thenReturn(4L);
+        when(unreadCounter.get(eq(USER_ID), any()))
+                .thenAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong());
+
+        // when
+        long count = notificationReadUseCase.countUnread(USER_ID);
+
+        // then
+        assertThat(count).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE로 읽음 처리한 요청만 개수를 1 줄이고, 이미 읽혔거나 동시 요청에 진 경우는 줄이지 않는다")
+    void isReadIsTrue_DecrementsOnlyWhenUpdated() {
+        // given: 같은 알림을 동시에 읽어 두 요청 모두 읽지 않은 상태로 조회했지만 UPDATE는 한 건만 반영
+        Notification notification = notification(10L, BASE, false);
+        when(notificationSupport.findById(10L)).thenReturn(notification);
+        when(notificationSupport.markAsRead(eq(10L), any())).thenReturn(1, 0);
+
+        // when
+        notificationReadUseCase.isReadIsTrue(USER_ID, 10L);
+        notificationReadUseCase.isReadIsTrue(USER_ID, 10L);
+
+        // then
+        verify(notificationSupport, times(2)).markAsRead(eq(10L), any());
+        verify(unreadCounter, times(1)).decrementAfterCommit(USER_ID);
+    }
+
+    @Test
+    @DisplayName("다른 유저의 알림은 읽음 처리하지 않는다")
+    void isReadIsTrue_NotOwner_Throws() {
+        // given
+        when(notificationSupport.findById(10L)).thenReturn(notification(10L, BASE, false));
+
+        // when & then
+        assertThatThrownBy(() -> notificationReadUseCase.isReadIsTrue(2L, 10L))
+                .isInstanceOf(BusinessException.class);
+        verify(notificationSupport, never()).markAsRead(any(), any());
+        verifyNoInteractions(unreadCounter);
+    }
+
+    @Test
+    @DisplayName("모두 읽음은 UPDATE 1회로 처리하고 캐시된 개수를 비운다")
+    void markAllAsRead_SingleUpdateAndEvict() {
+        // given
+        when(notificationSupport.markAllAsRead(eq(USER_ID), any())).thenReturn(5);
+
+        // when
+        int updated = notificationReadUseCase.markAllAsRead(USER_ID);
+
+        // then
+        assertThat(updated).isEqualTo(5);
+        verify(notificationSupport, times(1)).markAllAsRead(eq(USER_ID), any());
+        verify(notificationSupport, never()).findPage(any(), any(), anyInt());
+        verify(unreadCounter).evictAfterCommit(USER_ID);
+    }
+
+    private Notification notification(Long id, LocalDateTime sendAt, boolean read) {
+        NotificationUser user = NotificationUser.builder().id(USER_ID).build();
+        Notification notification = Notification.builder()
+                .user(user)
+                .type(NotificationType.WATCHLIST_START)
+                .title("제목")
+                .content("내용")
+                .relatedUrl("/auctions/1")
+                .build();
+        ReflectionTestUtils.setField(notification, "id", id);
+        ReflectionTestUtils.setField(notification, "sendAt", sendAt);
+        ReflectionTestUtils.setField(notification, "isRead", read);
+        return notification;
+    }
+}
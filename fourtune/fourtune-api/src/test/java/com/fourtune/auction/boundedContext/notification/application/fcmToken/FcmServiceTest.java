@@ -2,9 +2,10 @@ package com.fourtune.auction.boundedContext.notification.application.fcmToken;
 
 import com.fourtune.auction.boundedContext.fcmToken.application.FcmSender;
 import com.fourtune.auction.boundedContext.fcmToken.application.FcmService;
+import com.fourtune.auction.boundedContext.fcmToken.application.FcmTargetCache;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmPush;
+import com.fourtune.auction.boundedContext.fcmToken.domain.FcmPushTarget;
 import com.fourtune.auction.boundedContext.fcmToken.port.out.FcmTokenRepository;
-import com.fourtune.auction.boundedContext.notification.domain.NotificationSettings;
-import com.fourtune.auction.boundedContext.notification.port.out.NotificationSettingsRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +14,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,7 +31,7 @@ class FcmServiceTest {
     private FcmService fcmService;
 
     @Mock
-    private NotificationSettingsRepository notificationSettingsRepository;
+    private FcmTargetCache fcmTargetCache;
 
     @Mock
     private FcmSender fcmSender;
@@ -41,20 +46,11 @@ class FcmServiceTest {
         Long fakeUserId = 1L;
         String fakeToken = "fake-device-token-123";
 
-        NotificationSettings mockSettings = NotificationSettings.builder()
-                //.user(mockUser)
-                .build();
-
-        // [Stubbing 1] 설정 조회 시 리턴값
-        given(notificationSettingsRepository.findByUserId(fakeUserId))
-                .willReturn(Optional.of(mockSettings));
-
-        // [Stubbing 2] 토큰 조회 시 리턴값 (List<String> 반환해야 함!)
-        given(fcmTokenRepository.findAllTokensByUserId(fakeUserId))
-                .willReturn(List.of(fakeToken));
+        // [Stubbing] 설정/토큰 조회 시 리턴값 (설정 기본값: 모두 허용)
+        given(fcmTargetCache.getAll(anyCollection()))
+                .willReturn(Map.of(fakeUserId, FcmPushTarget.allowAll(List.of(fakeToken))));
 
         // 2. When (실행)
-        // (saveToken은 테스트 대상 아님, 바로 send 호출)
         fcmService.sendNotification(
                 fakeUserId,
                 "OUTBID", // isAllowed에서 BID_RECEIVED나 OUTBID 등 케이스에 맞아야 함
@@ -63,7 +59,57 @@ class FcmServiceTest {
         );
 
         // 3. Then (검증)
-        // "FcmService야, 너 fcmSender한테 'sendMulticast' 하라고 시켰니?"
-        verify(fcmSender).sendMulticast(any(), any(), any());
+        verify(fcmSender).sendMulticast(List.of(fakeToken), "⚡ 상위 입찰 발생!", "메시지 내용");
+    }
+
+    @Test
+    @DisplayName("제목/내용이 같은 푸시는 유저를 묶어 멀티캐스트 1회로 보내고, 설정으로 끈 유저는 뺀다")
+    void sendAll_GroupsSameMessageAcrossUsers() {
+        // given
+        given(fcmTargetCache.getAll(anyCollection())).willReturn(Map.of(
+                1L, FcmPushTarget.allowAll(List.of("token-1a", "token-1b")),
+                2L, FcmPushTarget.allowAll(List.of("token-2")),
+                3L, new FcmPushTarget(true, true, false, List.of("token-3")),
+                4L, FcmPushTarget.allowAll(List.of())));
+
+        // when
+        fcmService.sendAll(List.of(
+                new FcmPush(1L, "WATCHLIST_START", "관심 경매 시작", "경매가 시작되었습니다."),
+                new FcmPush(2L, "WATCHLIST_START", "관심 경매 시작", "경매가 시작되었습니다."),
+                new FcmPush(3L, "WATCHLIST_START", "관심 경매 시작", "경매가 시작되었습니다."),
+                new FcmPush(4L, "WATCHLIST_START", "관심 경매 시작", "경매가 시작되었습니다."),
+                new FcmPush(2L, "OUTBID", "상위 입찰 발생", "다른 입찰자가 있습니다.")));
+
+        // then
+        verify(fcmSender).sendMulticast(List.of("token-1a", "token-1b", "token-2"), "관심 경매 시작", "경매가 시작되었습니다.");
+        verify(fcmSender).sendMulticast(List.of("token-2"), "상위 입찰 발생", "다른 입찰자가 있습니다.");
+    }
+
+    @Test
+    @DisplayName("해당 알림 타입을 끈 유저에게는 보내지 않는다")
+    void sendNotification_BlockedBySettings() {
+        // given
+        given(fcmTargetCache.getAll(anyCollection()))
+                .willReturn(Map.of(1L, new FcmPushTarget(false, true, true, List.of("token-1"))));
+
+        // when
+        fcmService.sendNotification(1L, "OUTBID", "상위 입찰 발생", "다른 입찰자가 있습니다.");
+
+        // then
+        verify(fcmSender, never()).sendMulticast(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰을 저장하면 해당 유저의 대상 캐시를 무효화한다")
+    void saveToken_InvalidatesTargetCache() {
+        // given
+        given(fcmTokenRepository.findByToken("new-token")).willReturn(Optional.empty());
+
+        // when
+        fcmService.saveToken(1L, "new-token");
+
+        // then
+        verify(fcmTokenRepository).save(any());
+        verify(fcmTargetCache).invalidate(eq(1L));
     }
 }
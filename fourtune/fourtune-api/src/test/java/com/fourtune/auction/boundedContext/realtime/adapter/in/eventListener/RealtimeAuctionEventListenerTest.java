@@ -0,0 +1,83 @@
+package com.fourtune.auction.boundedContext.realtime.adapter.in.eventListener;
+
+import com.fourtune.auction.boundedContext.realtime.application.RealtimeEventRelay;
+import com.fourtune.core.config.EventPublishingConfig;
+import com.fourtune.shared.auction.event.AuctionClosedEvent;
+import com.fourtune.shared.auction.event.AuctionExtendedEvent;
+import com.fourtune.shared.auction.event.BidPlacedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 실시간 푸시 Spring 이벤트 리스너 단위 테스트
+ * - Kafka 미사용 시 입찰/연장/종료 이벤트를 바로 전달
+ * - Kafka 사용 시 Kafka 리스너가 전달하므로 중복 전달하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+class RealtimeAuctionEventListenerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private RealtimeEventRelay eventRelay;
+
+    @Mock
+    private EventPublishingConfig eventPublishingConfig;
+
+    private RealtimeAuctionEventListener sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new RealtimeAuctionEventListener(eventRelay, eventPublishingConfig);
+    }
+
+    @Test
+    @DisplayName("Kafka를 쓰지 않으면 입찰/연장/종료 이벤트를 실시간 푸시로 전달한다")
+    void kafkaDisabled_RelaysEvents() {
+        // given
+        given(eventPublishingConfig.isAuctionEventsKafkaEnabled()).willReturn(false);
+        BidPlacedEvent bidPlaced = bidPlacedEvent();
+        AuctionExtendedEvent extended = new AuctionExtendedEvent(1L, NOW.plusMinutes(5));
+        AuctionClosedEvent closed = new AuctionClosedEvent(1L, "경매 1", 1L, 2L, BigDecimal.valueOf(11000), "ORDER-1");
+
+        // when
+        sut.handleBidPlacedEvent(bidPlaced);
+        sut.handleAuctionExtendedEvent(extended);
+        sut.handleAuctionClosedEvent(closed);
+
+        // then
+        verify(eventRelay).bidPlaced(bidPlaced);
+        verify(eventRelay).auctionExtended(extended);
+        verify(eventRelay).auctionClosed(closed);
+    }
+
+    @Test
+    @DisplayName("Kafka를 쓰면 Kafka 리스너가 전달하므로 이벤트를 전달하지 않는다")
+    void kafkaEnabled_Skips() {
+        // given
+        given(eventPublishingConfig.isAuctionEventsKafkaEnabled()).willReturn(true);
+
+        // when
+        sut.handleBidPlacedEvent(bidPlacedEvent());
+        sut.handleAuctionExtendedEvent(new AuctionExtendedEvent(1L, NOW.plusMinutes(5)));
+        sut.handleAuctionClosedEvent(new AuctionClosedEvent(1L, "경매 1", 1L, 2L, BigDecimal.valueOf(11000), "ORDER-1"));
+
+        // then
+        verifyNoInteractions(eventRelay);
+    }
+
+    private BidPlacedEvent bidPlacedEvent() {
+        return new BidPlacedEvent(1L, 1L, "경매 1", 1L, 2L, null, BigDecimal.valueOf(11000), NOW, "BOOKS");
+    }
+}
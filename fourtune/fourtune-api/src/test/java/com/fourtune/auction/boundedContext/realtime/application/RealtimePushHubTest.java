@@ -0,0 +1,158 @@
+package com.fourtune.auction.boundedContext.realtime.application;
+
+import com.fourtune.auction.boundedContext.realtime.domain.RealtimeMessage;
+import com.fourtune.core.error.ErrorCode;
+import com.fourtune.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RealtimePushHub 단위 테스트.
+ * - 입찰가는 경매별 마지막 값만 전달하고, 연장/종료 전에 남은 입찰가를 먼저 전달하는지
+ * - 대기열이 넘친 연결만 끊고 다른 연결에는 계속 전달하는지
+ */
+class RealtimePushHubTest {
+
+    private static final Long AUCTION_ID = 1L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RealtimePushHub sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new RealtimePushHub(meterRegistry);
+        ReflectionTestUtils.setField(sut, "maxConnections", 3);
+        ReflectionTestUtils.setField(sut, "maxAuctionsPerConnection", 2);
+        ReflectionTestUtils.setField(sut, "bufferSize", 4);
+        // 테스트 중에는 병합기가 돌지 않도록 길게 두고 flushPendingPrices를 직접 호출
+        ReflectionTestUtils.setField(sut, "coalesceWindowMs", 60_000L);
+        sut.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.stop();
+    }
+
+    @Test
+    @DisplayName("같은 경매의 입찰가 갱신은 병합 구간 동안 마지막 값만 전달한다")
+    void publishBidPlaced_CoalescesToLatest() throws Exception {
+        // given
+        RealtimeSubscriber subscriber = sut.connect(null, Set.of(AUCTION_ID));
+
+        // when
+        sut.publishBidPlaced(AUCTION_ID, bid(1_000));
+        sut.publishBidPlaced(AUCTION_ID, bid(2_000));
+        sut.publishBidPlaced(AUCTION_ID, bid(3_000));
+        sut.flushPendingPrices();
+
+        // then
+        assertThat(drain(subscriber)).containsExactly(bid(3_000));
+        assertThat(meterRegistry.counter("realtime.push.coalesced").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료 이벤트는 남은 입찰가를 먼저 전달한 뒤 바로 전달한다")
+    void publishToAuction_FlushesPendingPriceFirst() throws Exception {
+        // given
+        RealtimeSubscriber subscriber = sut.connect(null, Set.of(AUCTION_ID));
+        RealtimeMessage closed = new RealtimeMessage("AUCTION_CLOSED", "{\"auctionId\":1}");
+
+        // when
+        sut.publishBidPlaced(AUCTION_ID, bid(5_000));
+        sut.publishToAuction(AUCTION_ID, closed);
+        sut.flushPendingPrices();
+
+        // then
+        assertThat(drain(subscriber)).containsExactly(bid(5_000), closed);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 느린 연결은 끊고 나머지 연결에는 계속 전달한다")
+    void fanOut_EvictsSlowSubscriber() throws Exception {
+        // given
+        RealtimeSubscriber slow = sut.connect(null, Set.of(AUCTION_ID));
+        RealtimeSubscriber fast = sut.connect(7L, Set.of(AUCTION_ID));
+        RealtimeMessage extended = new RealtimeMessage("AUCTION_EXTENDED", "{\"auctionId\":1}");
+
+        // when: fast만 매번 읽고 slow는 읽지 않음
+        List<RealtimeMessage> received = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            sut.publishToAuction(AUCTION_ID, extended);
+            received.addAll(drain(fast));
+        }
+
+        // then
+        assertThat(slow.isClosed()).isTrue();
+        assertThat(fast.isClosed()).isFalse();
+        assertThat(received).hasSize(6);
+        assertThat(sut.connections()).isEqualTo(1);
+        assertThat(meterRegistry.counter("realtime.push.evicted").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림은 해당 유저의 연결에만 전달한다")
+    void publishToUser_RoutesByUserId() throws Exception {
+        // given
+        RealtimeSubscriber mine = sut.connect(7L, Set.of());
+        RealtimeSubscriber other = sut.connect(8L, Set.of());
+        RealtimeMessage notification = new RealtimeMessage("NOTIFICATION_CREATED", "{\"title\":\"상위 입찰\"}");
+
+        // when
+        sut.publishToUser(7L, notification);
+
+        // then
+        assertThat(drain(mine)).containsExactly(notification);
+        assertThat(drain(other)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 연결 수나 연결당 경매 수를 넘으면 연결을 거절하고, 끊긴 연결은 다시 셈에서 뺀다")
+    void connect_RejectsOverLimit() {
+        // given
+        RealtimeSubscriber first = sut.connect(null, Set.of(1L));
+        sut.connect(null, Set.of(2L));
+        sut.connect(null, Set.of(3L));
+
+        // when & then
+        assertThatThrownBy(() -> sut.connect(null, Set.of(4L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.REALTIME_CONNECTION_LIMIT_EXCEEDED);
+        assertThatThrownBy(() -> sut.connect(null, Set.of(1L, 2L, 3L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.REALTIME_TOO_MANY_AUCTIONS);
+
+        sut.disconnect(first);
+        sut.disconnect(first);
+        assertThat(sut.connections()).isEqualTo(2);
+        assertThat(sut.connect(null, Set.of(4L))).isNotNull();
+    }
+
+    private RealtimeMessage bid(long price) {
+        return new RealtimeMessage("BID_PLACED", "{\"auctionId\":1,\"currentPrice\":" + price + "}");
+    }
+
+    private List<RealtimeMessage> drain(RealtimeSubscriber subscriber) throws InterruptedException {
+        List<RealtimeMessage> messages = new ArrayList<>();
+        RealtimeMessage message;
+        while ((message = subscriber.poll(Duration.ZERO)) != null) {
+            messages.add(message);
+        }
+        return messages;
+    }
+}
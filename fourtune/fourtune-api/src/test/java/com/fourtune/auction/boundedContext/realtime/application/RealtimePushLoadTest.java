@@ -0,0 +1,179 @@
+package com.fourtune.auction.boundedContext.realtime.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.realtime.domain.RealtimeMessage;
+import com.fourtune.shared.auction.event.AuctionClosedEvent;
+import com.fourtune.shared.auction.event.AuctionExtendedEvent;
+import com.fourtune.shared.auction.event.BidPlacedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실시간 푸시 10만 연결 부하 테스트 (로컬 클라이언트 시뮬레이터)
+ * - 연결마다 가상 스레드 1개가 SSE writer처럼 대기열을 꺼내 읽음, 1%는 전혀 읽지 않는 느린 클라이언트
+ * - 경매 방 1,000개에 입찰가 갱신과 연장 이벤트를 쏟아 넣은 뒤 종료 이벤트를 보냄
+ * - 빠른 클라이언트는 끊기지 않고 마지막 입찰가 → 종료 순으로 받는지, 느린 클라이언트만 끊기는지 검증
+ * - 처리량 수치는 환경에 따라 달라 로그로만 남김
+ * - 기본 test 태스크에서는 제외 (load 태그)
+ */
+@Tag("load")
+@DisplayName("실시간 푸시 부하 테스트")
+class RealtimePushLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RealtimePushLoadTest.class);
+
+    private static final int CLIENTS = 100_000;
+    private static final int ROOMS = 1_000;
+    private static final int SLOW_EVERY = 100;
+    private static final int ROUNDS = 40;
+    private static final int BIDS_PER_ROUND = 10;
+    private static final long ROUND_PAUSE_MS = 50;
+    private static final int BUFFER_SIZE = 32;
+    private static final long COALESCE_WINDOW_MS = 100;
+    private static final long START_PRICE = 1_000;
+    private static final long PRICE_STEP = 100;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RealtimePushHub pushHub;
+    private RealtimeEventRelay eventRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pushHub = new RealtimePushHub(meterRegistry);
+        ReflectionTestUtils.setField(pushHub, "maxConnections", CLIENTS);
+        ReflectionTestUtils.setField(pushHub, "maxAuctionsPerConnection", 1);
+        ReflectionTestUtils.setField(pushHub, "bufferSize", BUFFER_SIZE);
+        ReflectionTestUtils.setField(pushHub, "coalesceWindowMs", COALESCE_WINDOW_MS);
+        pushHub.start();
+        eventRelay = new RealtimeEventRelay(pushHub, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pushHub.stop();
+    }
+
+    @Test
+    @DisplayName("10만 연결에 입찰가/연장/종료를 fan-out하고, 읽지 않는 연결만 끊는다")
+    void fanOutToOneHundredThousandConnections() throws Exception {
+        // given
+        List<SimulatedClient> fastClients = new ArrayList<>();
+        List<RealtimeSubscriber> slowClients = new ArrayList<>();
+        CountDownLatch finished = new CountDownLatch(CLIENTS - CLIENTS / SLOW_EVERY);
+        for (int i = 0; i < CLIENTS; i++) {
+            long auctionId = i % ROOMS + 1;
+            RealtimeSubscriber subscriber = pushHub.connect(i % 3 == 0 ? (long) i : null, Set.of(auctionId));
+            if (i % SLOW_EVERY == 0) {
+                slowClients.add(subscriber);
+                continue;
+            }
+            SimulatedClient client = new SimulatedClient(subscriber, finished);
+            fastClients.add(client);
+            Thread.ofVirtual().name("simulated-client").start(client);
+        }
+        assertThat(pushHub.connections()).isEqualTo(CLIENTS);
+
+        // when: Kafka 리스너 스레드처럼 이벤트를 한 스레드에서 순서대로 발행
+        LocalDateTime now = LocalDateTime.now();
+        long bidEvents = 0;
+        long startedAt = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (long auctionId = 1; auctionId <= ROOMS; auctionId++) {
+                for (int b = 0; b < BIDS_PER_ROUND; b++) {
+                    long price = START_PRICE + (round * BIDS_PER_ROUND + b) * PRICE_STEP;
+                    eventRelay.bidPlaced(new BidPlacedEvent(bidEvents++, auctionId, "경매 " + auctionId, 1L, 2L, null,
+                            BigDecimal.valueOf(price), now, "BOOKS"));
+                }
+                eventRelay.auctionExtended(new AuctionExtendedEvent(auctionId, now.plusMinutes(round + 1)));
+            }
+            Thread.sleep(ROUND_PAUSE_MS);
+        }
+        long finalPrice = START_PRICE + (ROUNDS * BIDS_PER_ROUND - 1) * PRICE_STEP;
+        for (long auctionId = 1; auctionId <= ROOMS; auctionId++) {
+            eventRelay.auctionClosed(new AuctionClosedEvent(auctionId, "경매 " + auctionId, 1L, 2L,
+                    BigDecimal.valueOf(finalPrice), "ORDER-" + auctionId));
+        }
+        boolean completed = finished.await(60, TimeUnit.SECONDS);
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+
+        // then
+        long delivered = fastClients.stream().mapToLong(client -> client.received).sum();
+        log.info("[REALTIME-PUSH-LOAD] clients={}, rooms={}, bidEvents={}, elapsed={} ms, delivered={} ({} msg/s), "
+                        + "coalesced={}, evicted={}",
+                CLIENTS, ROOMS, bidEvents, elapsedMs, delivered, delivered * 1000 / elapsedMs,
+                String.format("%.0f", meterRegistry.counter("realtime.push.coalesced").count()),
+                String.format("%.0f", meterRegistry.counter("realtime.push.evicted").count()));
+
+        assertThat(completed).isTrue();
+        String expectedPrice = "\"currentPrice\":" + finalPrice + ",";
+        assertThat(fastClients).allSatisfy(client -> {
+            assertThat(client.closedReceived).isTrue();
+            assertThat(client.lastPrice).contains(expectedPrice);
+            assertThat(client.subscriber.isClosed()).isFalse();
+        });
+        assertThat(slowClients).allMatch(RealtimeSubscriber::isClosed);
+        assertThat(pushHub.connections()).isEqualTo(fastClients.size());
+        assertThat(meterRegistry.counter("realtime.push.evicted").count()).isEqualTo(slowClients.size());
+        // 입찰 이벤트보다 전달한 입찰가 메시지가 훨씬 적어야 함
+        assertThat(meterRegistry.counter("realtime.push.coalesced").count()).isPositive();
+    }
+
+    /**
+     * SSE writer와 같은 방식으로 대기열을 꺼내 읽는 클라이언트, 종료 이벤트를 받으면 끝남
+     */
+    private static final class SimulatedClient implements Runnable {
+
+        private final RealtimeSubscriber subscriber;
+        private final CountDownLatch finished;
+        private volatile String lastPrice = "";
+        private volatile boolean closedReceived;
+        private volatile long received;
+
+        private SimulatedClient(RealtimeSubscriber subscriber, CountDownLatch finished) {
+            this.subscriber = subscriber;
+            this.finished = finished;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!subscriber.isClosed()) {
+                    RealtimeMessage message = subscriber.poll(Duration.ofMillis(200));
+                    if (message == null) {
+                        continue;
+                    }
+                    received++;
+                    if (RealtimeEventRelay.BID_PLACED.equals(message.event())) {
+                        lastPrice = message.data();
+                    } else if (RealtimeEventRelay.AUCTION_CLOSED.equals(message.event())) {
+                        closedReceived = true;
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                finished.countDown();
+            }
+        }
+    }
+}
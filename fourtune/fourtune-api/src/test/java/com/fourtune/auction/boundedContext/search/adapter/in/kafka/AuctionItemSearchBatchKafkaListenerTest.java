@@ -0,0 +1,186 @@
+package com.fourtune.auction.boundedContext.search.adapter.in.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionBidDeltaCoalescer;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemBulkIndexer;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemBulkIndexer.BulkIndexResult;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemIndexingHandler;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionBidDelta;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionStatusChange;
+import com.fourtune.auction.boundedContext.search.domain.SearchIndexOperation;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
+import com.fourtune.shared.auction.event.AuctionItemDeletedEvent;
+import com.fourtune.shared.auction.event.AuctionItemStatusChangedEvent;
+import com.fourtune.shared.kafka.auction.AuctionEventType;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionItemSearchBatchKafkaListenerTest {
+
+    @Mock
+    private AuctionItemBulkIndexer bulkIndexer;
+
+    @Mock
+    private AuctionItemIndexingHandler indexingHandler;
+
+    @Mock
+    private AuctionBidDeltaCoalescer bidDeltaCoalescer;
+
+    @Mock
+    private DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private AuctionItemSearchBatchKafkaListener listener;
+
+    @Test
+    @DisplayName("배치의 이벤트를 인덱스 작업으로 모아 bulk 1회로 반영한다")
+    void consume_collectsOperationsIntoOneBulk() throws Exception {
+        // given
+        ConsumerRecord<String, String> first = record(0, "{\"auctionItemId\":1}", AuctionEventType.AUCTION_ITEM_DELETED);
+        ConsumerRecord<String, String> second = record(1, "{\"auctionItemId\":2}", AuctionEventType.AUCTION_ITEM_DELETED);
+        when(objectMapper.readValue("{\"auctionItemId\":1}", AuctionItemDeletedEvent.class)).thenReturn(new AuctionItemDeletedEvent(1L));
+        when(objectMapper.readValue("{\"auctionItemId\":2}", AuctionItemDeletedEvent.class)).thenReturn(new AuctionItemDeletedEvent(2L));
+        when(bulkIndexer.index(anyList())).thenReturn(new BulkIndexResult(List.of(), List.of(), Map.of()));
+
+        // when
+        listener.consume(List.of(first, second));
+
+        // then
+        ArgumentCaptor<List<SearchIndexOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkIndexer, times(1)).index(captor.capture());
+        assertThat(captor.getValue()).extracting(SearchIndexOperation::auctionItemId).containsExactly(1L, 2L);
+        verifyNoInteractions(deadLetterPublishingRecoverer);
+    }
+
+    @Test
+    @DisplayName("bulk에서 실패한 문서의 레코드만 DLQ로 보낸다")
+    void consume_routesFailedItemToDlq() throws Exception {
+        // given
+        ConsumerRecord<String, String> ok = record(0, "{\"auctionItemId\":1}", AuctionEventType.AUCTION_ITEM_DELETED);
+        ConsumerRecord<String, String> failing = record(1, "{\"auctionItemId\":2}", AuctionEventType.AUCTION_ITEM_DELETED);
+        when(objectMapper.readValue("{\"auctionItemId\":1}", AuctionItemDeletedEvent.class)).thenReturn(new AuctionItemDeletedEvent(1L));
+        when(objectMapper.readValue("{\"auctionItemId\":2}", AuctionItemDeletedEvent.class)).thenReturn(new AuctionItemDeletedEvent(2L));
+        when(bulkIndexer.index(anyList())).thenAnswer(invocation -> {
+            List<SearchIndexOperation> operations = invocation.getArgument(0);
+            return new BulkIndexResult(operations, List.of(operations.get(1)), Map.of(2L, "error"));
+        });
+
+        // when
+        listener.consume(List.of(ok, failing));
+
+        // then
+        verify(deadLetterPublishingRecoverer).accept(eq(failing), any(Exception.class));
+        verify(deadLetterPublishingRecoverer, never()).accept(eq(ok), any(Exception.class));
+    }
+
+    @Test
+    @DisplayName("역직렬화에 실패한 레코드는 DLQ로 보내고 나머지는 bulk로 반영한다")
+    void consume_routesMalformedRecordToDlq() throws Exception {
+        // given
+        ConsumerRecord<String, String> malformed = record(0, "not-json", AuctionEventType.AUCTION_ITEM_DELETED);
+        ConsumerRecord<String, String> ok = record(1, "{\"auctionItemId\":2}", AuctionEventType.AUCTION_ITEM_DELETED);
+        when(objectMapper.readValue("not-json", AuctionItemDeletedEvent.class)).thenThrow(new RuntimeException("parse error"));
+        when(objectMapper.readValue("{\"auctionItemId\":2}", AuctionItemDeletedEvent.class)).thenReturn(new AuctionItemDeletedEvent(2L));
+        when(bulkIndexer.index(anyList())).thenReturn(new BulkIndexResult(List.of(), List.of(), Map.of()));
+
+        // when
+        listener.consume(List.of(malformed, ok));
+
+        // then
+        verify(deadLetterPublishingRecoverer).accept(eq(malformed), any(Exception.class));
+        ArgumentCaptor<List<SearchIndexOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkIndexer).index(captor.capture());
+        assertThat(captor.getValue()).extracting(SearchIndexOperation::auctionItemId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("상태 변경은 bulk에 넣지 않고 bulk 반영 후 부분 업데이트하며, 실패하면 해당 레코드만 DLQ로 보낸다")
+    void consume_appliesPartialUpdateAfterBulk() throws Exception {
+        // given
+        LocalDateTime changedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        ConsumerRecord<String, String> deleted = record(0, "{\"auctionItemId\":1}", AuctionEventType.AUCTION_ITEM_DELETED);
+        ConsumerRecord<String, String> started = record(1, "{\"auctionItemId\":2}", AuctionEventType.AUCTION_ITEM_STATUS_CHANGED);
+        ConsumerRecord<String, String> failing = record(2, "{\"auctionItemId\":3}", AuctionEventType.AUCTION_ITEM_STATUS_CHANGED);
+        when(objectMapper.readValue("{\"auctionItemId\":1}", AuctionItemDeletedEvent.class)).thenReturn(new AuctionItemDeletedEvent(1L));
+        when(objectMapper.readValue("{\"auctionItemId\":2}", AuctionItemStatusChangedEvent.class))
+                .thenReturn(new AuctionItemStatusChangedEvent(2L, "ACTIVE", changedAt));
+        when(objectMapper.readValue("{\"auctionItemId\":3}", AuctionItemStatusChangedEvent.class))
+                .thenReturn(new AuctionItemStatusChangedEvent(3L, "ACTIVE", changedAt));
+        when(bulkIndexer.index(anyList())).thenReturn(new BulkIndexResult(List.of(), List.of(), Map.of()));
+        doThrow(new RuntimeException("document_missing_exception"))
+                .when(indexingHandler).updateStatus(new SearchAuctionStatusChange(3L, "ACTIVE", changedAt));
+
+        // when
+        listener.consume(List.of(deleted, started, failing));
+
+        // then
+        ArgumentCaptor<List<SearchIndexOperation>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(bulkIndexer, indexingHandler);
+        inOrder.verify(bulkIndexer).index(captor.capture());
+        inOrder.verify(indexingHandler).updateStatus(new SearchAuctionStatusChange(2L, "ACTIVE", changedAt));
+        assertThat(captor.getValue()).extracting(SearchIndexOperation::auctionItemId).containsExactly(1L);
+        verify(deadLetterPublishingRecoverer).accept(eq(failing), any(Exception.class));
+        verify(deadLetterPublishingRecoverer, never()).accept(eq(started), any(Exception.class));
+    }
+
+    @Test
+    @DisplayName("입찰 델타는 경매별로 병합해 배치가 끝나기 전에 반영하고, 실패한 경매는 마지막 델타 레코드를 DLQ로 보낸다")
+    void consume_flushesBidDeltasBeforeAck() throws Exception {
+        // given
+        LocalDateTime endAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        ConsumerRecord<String, String> first = record(0, "{\"bid\":1}", AuctionEventType.AUCTION_BID_DELTA);
+        ConsumerRecord<String, String> second = record(1, "{\"bid\":2}", AuctionEventType.AUCTION_BID_DELTA);
+        ConsumerRecord<String, String> other = record(2, "{\"bid\":3}", AuctionEventType.AUCTION_BID_DELTA);
+        when(objectMapper.readValue("{\"bid\":1}", AuctionBidDeltaEvent.class))
+                .thenReturn(new AuctionBidDeltaEvent(1L, BigDecimal.valueOf(11_000), 1, endAt));
+        when(objectMapper.readValue("{\"bid\":2}", AuctionBidDeltaEvent.class))
+                .thenReturn(new AuctionBidDeltaEvent(1L, BigDecimal.valueOf(12_000), 2, endAt));
+        when(objectMapper.readValue("{\"bid\":3}", AuctionBidDeltaEvent.class))
+                .thenReturn(new AuctionBidDeltaEvent(2L, BigDecimal.valueOf(5_000), 1, endAt));
+        when(bulkIndexer.index(anyList())).thenReturn(new BulkIndexResult(List.of(), List.of(), Map.of()));
+        RuntimeException failure = new RuntimeException("es down");
+        when(bidDeltaCoalescer.flushNow(any())).thenReturn(Map.of(1L, failure));
+
+        // when
+        listener.consume(List.of(first, second, other));
+
+        // then
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(bidDeltaCoalescer, times(3)).submit(any(SearchAuctionBidDelta.class));
+        verify(bidDeltaCoalescer).flushNow(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        verify(deadLetterPublishingRecoverer).accept(second, failure);
+        verify(deadLetterPublishingRecoverer, never()).accept(eq(first), any(Exception.class));
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String payload, AuctionEventType eventType) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("auction-events", 0, offset, "key", payload);
+        record.headers().add("X-Event-Type", eventType.name().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
@@ -1,19 +1,31 @@
 package com.fourtune.auction.boundedContext.search.adapter.in.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionBidDeltaCoalescer;
 import com.fourtune.auction.boundedContext.search.application.service.AuctionItemIndexingHandler;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionBidDelta;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionCounters;
 import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionStatusChange;
+import com.fourtune.shared.auction.event.AuctionBidDeltaEvent;
+import com.fourtune.shared.auction.event.AuctionItemCountersChangedEvent;
 import com.fourtune.shared.auction.event.AuctionItemCreatedEvent;
 import com.fourtune.shared.auction.event.AuctionItemDeletedEvent;
+import com.fourtune.shared.auction.event.AuctionItemStatusChangedEvent;
 import com.fourtune.shared.auction.event.AuctionItemUpdatedEvent;
 import com.fourtune.shared.kafka.auction.AuctionEventType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 
 import static org.mockito.Mockito.*;
@@ -24,6 +36,9 @@ class AuctionItemSearchKafkaListenerTest {
     @Mock
     private AuctionItemIndexingHandler indexingHandler;
 
+    @Mock
+    private AuctionBidDeltaCoalescer bidDeltaCoalescer;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -84,6 +99,66 @@ class AuctionItemSearchKafkaListenerTest {
         verify(indexingHandler).delete(1L);
     }
 
+    @Test
+    @DisplayName("입찰 델타 이벤트(AUCTION_BID_DELTA) 수신 시 ES 직접 호출 없이 디바운서에 등록")
+    void consume_BidDeltaEvent() throws Exception {
+        // Given
+        String payload = "{\"auctionItemId\": 1, \"bidCount\": 3}";
+        String eventType = AuctionEventType.AUCTION_BID_DELTA.name();
+        AuctionBidDeltaEvent event = new AuctionBidDeltaEvent(
+                1L, BigDecimal.valueOf(13000), 3, LocalDateTime.of(2026, 1, 1, 12, 0));
+
+        when(objectMapper.readValue(payload, AuctionBidDeltaEvent.class)).thenReturn(event);
+
+        // When
+        listener.consume(payload, eventType);
+
+        // Then
+        ArgumentCaptor<SearchAuctionBidDelta> captor = ArgumentCaptor.forClass(SearchAuctionBidDelta.class);
+        verify(bidDeltaCoalescer).submit(captor.capture());
+        assertThat(captor.getValue().auctionItemId()).isEqualTo(1L);
+        assertThat(captor.getValue().bidCount()).isEqualTo(3);
+        verifyNoInteractions(indexingHandler);
+    }
+
+    @Test
+    @DisplayName("상태 변경 이벤트(AUCTION_ITEM_STATUS_CHANGED) 수신 시 전체 upsert 없이 상태만 부분 업데이트")
+    void consume_StatusChangedEvent() throws Exception {
+        // Given
+        String payload = "{\"auctionItemId\": 1, \"status\": \"ACTIVE\"}";
+        String eventType = AuctionEventType.AUCTION_ITEM_STATUS_CHANGED.name();
+        LocalDateTime changedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        AuctionItemStatusChangedEvent event = new AuctionItemStatusChangedEvent(1L, "ACTIVE", changedAt);
+
+        when(objectMapper.readValue(payload, AuctionItemStatusChangedEvent.class)).thenReturn(event);
+
+        // When
+        listener.consume(payload, eventType);
+
+        // Then
+        verify(indexingHandler).updateStatus(new SearchAuctionStatusChange(1L, "ACTIVE", changedAt));
+        verify(indexingHandler, never()).upsert(any());
+    }
+
+    @Test
+    @DisplayName("카운터 변경 이벤트(AUCTION_ITEM_COUNTERS_CHANGED) 수신 시 카운터만 부분 업데이트")
+    void consume_CountersChangedEvent() throws Exception {
+        // Given
+        String payload = "{\"auctionItemId\": 1, \"watchlistCount\": 7}";
+        String eventType = AuctionEventType.AUCTION_ITEM_COUNTERS_CHANGED.name();
+        LocalDateTime changedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        AuctionItemCountersChangedEvent event = new AuctionItemCountersChangedEvent(1L, null, 7, changedAt);
+
+        when(objectMapper.readValue(payload, AuctionItemCountersChangedEvent.class)).thenReturn(event);
+
+        // When
+        listener.consume(payload, eventType);
+
+        // Then
+        verify(indexingHandler).updateCounters(new SearchAuctionCounters(1L, null, 7, changedAt));
+        verify(indexingHandler, never()).upsert(any());
+    }
+
     @Test
     @DisplayName("알 수 없는 이벤트 타입은 무시")
     void consume_UnknownEvent() {
@@ -0,0 +1,213 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fourtune.auction.boundedContext.search.application.service.SearchProperties;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchCondition;
+import com.fourtune.auction.boundedContext.search.domain.SearchFacets;
+import com.fourtune.auction.boundedContext.search.domain.SearchPriceRange;
+import com.fourtune.auction.boundedContext.search.domain.SearchResultPage;
+import com.fourtune.auction.boundedContext.search.domain.constant.SearchSort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CachedAuctionItemSearchEngine 단위 테스트.
+ * - 정규화한 조건이 같으면 ES(delegate)를 다시 호출하지 않는지
+ * - 동시에 들어온 같은 조건의 미스는 ES 호출 1회로 합쳐지는지
+ * - 커서 조회는 캐시를 거치지 않는지, Redis(L2) 적중 시 ES를 호출하지 않는지
+ */
+@ExtendWith(MockitoExtension.class)
+class CachedAuctionItemSearchEngineTest {
+
+    @Mock ElasticsearchAuctionItemSearchEngine delegate;
+    @Mock SearchProperties props;
+    @Mock StringRedisTemplate redisTemplate;
+    @Mock ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private SimpleMeterRegistry meterRegistry;
+    private CachedAuctionItemSearchEngine sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new CachedAuctionItemSearchEngine(delegate, props, redisTemplate, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(sut, "localTtlMs", 60_000L);
+        ReflectionTestUtils.setField(sut, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(sut, "redisEnabled", false);
+        ReflectionTestUtils.setField(sut, "redisTtlMs", 60_000L);
+        ReflectionTestUtils.setField(sut, "ttlJitterRatio", 0.2);
+        ReflectionTestUtils.setField(sut, "maxPage", 3);
+        ReflectionTestUtils.setField(sut, "facetTtlMs", 60_000L);
+        sut.init();
+        lenient().when(props.getPageSize()).thenReturn(20);
+    }
+
+    @Test
+    @DisplayName("카테고리 순서/대소문자, 가격 표기만 다른 조건은 같은 캐시 항목을 사용한다")
+    void search_NormalizedSameCondition_CallsDelegateOnce() {
+        // given
+        SearchCondition first = new SearchCondition(null, orderedSet("BOOKS", "ELECTRONICS"),
+                new SearchPriceRange(new BigDecimal("1000"), null), Set.of("ACTIVE"), SearchSort.POPULAR, 1);
+        SearchCondition second = new SearchCondition(" ", orderedSet("electronics", "books"),
+                new SearchPriceRange(new BigDecimal("1000.00"), null), Set.of("active"), SearchSort.POPULAR, 1, 20);
+        when(delegate.search(first)).thenReturn(page(1L));
+
+        // when
+        SearchResultPage<SearchAuctionItemView> firstResult = sut.search(first);
+        SearchResultPage<SearchAuctionItemView> secondResult = sut.search(second);
+
+        // then
+        assertThat(secondResult).isSameAs(firstResult);
+        verify(delegate, times(1)).search(any());
+        assertThat(meterRegistry.counter("search.result.cache", "level", "local", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("search.result.cache.es.saved").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("search.result.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("같은 조건의 동시 미스는 ES 호출 1회로 합쳐진다")
+    void search_ConcurrentMisses_AreCoalesced() throws Exception {
+        // given
+        SearchCondition condition = new SearchCondition(null, Set.of("BOOKS"), null, null, SearchSort.LATEST, 1);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.search(any())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return page(1L);
+        });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SearchResultPage<SearchAuctionItemView>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> sut.search(condition)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> sut.search(condition)));
+            }
+            // 나머지 요청이 로딩 결과를 기다리기 시작할 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.counter("search.result.cache.coalesced").count() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            // then
+            for (Future<SearchResultPage<SearchAuctionItemView>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).items()).hasSize(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).search(any());
+        assertThat(meterRegistry.counter("search.result.cache.coalesced").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("커서 조회와 max-page를 넘는 페이지는 캐시하지 않는다")
+    void search_CursorOrDeepPage_BypassesCache() {
+        // given
+        SearchCondition cursor = new SearchCondition(null, null, null, null, SearchSort.LATEST, 1, null, "cursor");
+        SearchCondition deepPage = new SearchCondition(null, null, null, null, SearchSort.LATEST, 4);
+        when(delegate.search(any())).thenReturn(page(1L));
+
+        // when
+        sut.search(cursor);
+        sut.search(cursor);
+        sut.search(deepPage);
+        sut.search(deepPage);
+
+        // then
+        verify(delegate, times(4)).search(any());
+        assertThat(meterRegistry.counter("search.result.cache.es.calls").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis(L2)에 결과가 있으면 ES를 호출하지 않고, 없으면 ES 결과를 TTL과 함께 저장한다")
+    void search_RedisEnabled_UsesSharedCache() throws Exception {
+        // given
+        ReflectionTestUtils.setField(sut, "redisEnabled", true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        SearchCondition stored = new SearchCondition(null, Set.of("BOOKS"), null, null, SearchSort.LATEST, 1);
+        SearchCondition missing = new SearchCondition(null, Set.of("ETC"), null, null, SearchSort.LATEST, 1);
+        when(valueOperations.get(CachedAuctionItemSearchEngine.KEY_PREFIX + CachedAuctionItemSearchEngine.cacheKey(stored, 20)))
+                .thenReturn(objectMapper.writeValueAsString(page(7L)));
+        when(delegate.search(missing)).thenReturn(page(8L));
+
+        // when
+        SearchResultPage<SearchAuctionItemView> fromRedis = sut.search(stored);
+        SearchResultPage<SearchAuctionItemView> fromEs = sut.search(missing);
+
+        // then
+        assertThat(fromRedis.items()).extracting(SearchAuctionItemView::auctionItemId).containsExactly(7L);
+        assertThat(fromEs.items()).extracting(SearchAuctionItemView::auctionItemId).containsExactly(8L);
+        verify(delegate, never()).search(stored);
+        verify(valueOperations).set(eq(CachedAuctionItemSearchEngine.KEY_PREFIX + CachedAuctionItemSearchEngine.cacheKey(missing, 20)),
+                anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("건수만 조회는 정렬/페이지가 달라도 같은 필터면 캐시를 사용하고, 필터가 다르면 다시 집계한다")
+    void facets_SameFilters_CallsDelegateOnce() {
+        // given
+        SearchCondition first = new SearchCondition("맥북", Set.of("ELECTRONICS"), null, null, SearchSort.LATEST, 1);
+        SearchCondition otherSortAndPage = new SearchCondition("맥북 ", Set.of("electronics"), null, null, SearchSort.POPULAR, 3);
+        SearchCondition otherFilter = new SearchCondition("맥북", Set.of("BOOKS"), null, null, SearchSort.LATEST, 1);
+        SearchFacets facets = new SearchFacets(Map.of("ELECTRONICS", 3L), Map.of("ACTIVE", 3L), List.of());
+        when(delegate.facets(any())).thenReturn(facets);
+
+        // when
+        SearchFacets firstResult = sut.facets(first);
+        SearchFacets secondResult = sut.facets(otherSortAndPage);
+        sut.facets(otherFilter);
+
+        // then
+        assertThat(secondResult).isSameAs(firstResult);
+        verify(delegate, times(2)).facets(any());
+        assertThat(meterRegistry.counter("search.result.cache", "level", "facet", "result", "hit").count()).isEqualTo(1);
+    }
+
+    private Set<String> orderedSet(String... values) {
+        return new LinkedHashSet<>(List.of(values));
+    }
+
+    private SearchResultPage<SearchAuctionItemView> page(Long auctionItemId) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        SearchAuctionItemView view = new SearchAuctionItemView(auctionItemId, "경매 " + auctionItemId, "설명", "BOOKS",
+                "ACTIVE", BigDecimal.valueOf(1000), BigDecimal.valueOf(1000), null, false, now, now.plusDays(1), null,
+                now, now, 0L, 0, 0, 1L, "판매자");
+        return new SearchResultPage<>(List.of(view), 1, 1, 20, false);
+    }
+}
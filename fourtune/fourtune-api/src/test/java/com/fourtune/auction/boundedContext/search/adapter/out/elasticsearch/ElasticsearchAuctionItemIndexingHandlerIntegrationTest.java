@@ -0,0 +1,192 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch;
+
+import com.fourtune.api.infrastructure.kafka.notification.NotificationKafkaProducer;
+import com.fourtune.api.infrastructure.kafka.search.SearchKafkaProducer;
+import com.fourtune.api.infrastructure.kafka.watchList.WatchListKafkaProducer;
+import com.fourtune.auction.boundedContext.search.adapter.in.event.AuctionItemIndexEventListener;
+import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.document.SearchAuctionItemDocument;
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemSnapshotSource;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionBidDelta;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionCounters;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionStatusChange;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ES 색인 핸들러 통합 테스트
+ * - 싱글턴 ElasticsearchTestContainer 사용
+ * - 늦게 도착한 스냅샷/부분 업데이트는 더 최신 값을 덮어쓰지 않음
+ * - 부분 업데이트 대상 문서가 없으면 정본 스냅샷으로 전체 색인, 정본에도 없으면 문서를 만들지 않음
+ */
+@SpringBootTest
+@DisplayName("ElasticSearch 색인 핸들러 통합 테스트")
+class ElasticsearchAuctionItemIndexingHandlerIntegrationTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    static ElasticsearchContainer elasticsearch = ElasticsearchTestContainer.getInstance();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.elasticsearch.uris", elasticsearch::getHttpHostAddress);
+    }
+
+    @MockitoBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockitoBean
+    private AuctionItemIndexEventListener auctionItemIndexEventListener;
+
+    @MockitoBean
+    private WatchListKafkaProducer watchListKafkaProducer;
+
+    @MockitoBean
+    private NotificationKafkaProducer notificationKafkaProducer;
+
+    @MockitoBean
+    private SearchKafkaProducer searchKafkaProducer;
+
+    @MockitoBean
+    private AuctionItemSnapshotSource snapshotSource;
+
+    @Autowired
+    private ElasticsearchAuctionItemIndexingHandler indexingHandler;
+
+    @Autowired
+    private ElasticsearchOperations operations;
+
+    @BeforeEach
+    void setUp() {
+        IndexOperations indexOps = operations.indexOps(SearchAuctionItemDocument.class);
+        if (indexOps.exists()) {
+            indexOps.delete();
+        }
+        indexOps.create();
+        indexOps.putMapping();
+        indexOps.refresh();
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 스냅샷/부분 업데이트는 더 최신 값을 덮어쓰지 않는다")
+    void outOfOrderEvents_doNotRegressDocument() {
+        // given: 최신 상태/카운터가 먼저 반영됨
+        indexingHandler.upsert(view(1L, "ACTIVE", 0, BASE_TIME));
+        LocalDateTime newer = BASE_TIME.plusMinutes(10);
+        indexingHandler.updateStatus(new SearchAuctionStatusChange(1L, "ENDED", newer));
+        indexingHandler.updateCounters(new SearchAuctionCounters(1L, 42L, 9, newer));
+
+        // when: 그보다 오래된 부분 업데이트와 이미 반영된 스냅샷보다 오래된 스냅샷이 뒤늦게 도착
+        LocalDateTime older = BASE_TIME.plusMinutes(5);
+        indexingHandler.updateStatus(new SearchAuctionStatusChange(1L, "ACTIVE", older));
+        indexingHandler.updateCounters(new SearchAuctionCounters(1L, 1L, 1, older));
+        indexingHandler.upsert(withTitle(view(1L, "SCHEDULED", 0, BASE_TIME.minusMinutes(1)), "오래된 제목"));
+
+        // then: 모두 무시되고 최신 값 유지
+        refresh();
+        SearchAuctionItemDocument doc = find(1L);
+        assertThat(doc.getTitle()).isEqualTo("경매 1");
+        assertThat(doc.getStatus()).isEqualTo("ENDED");
+        assertThat(doc.getViewCount()).isEqualTo(42L);
+        assertThat(doc.getWatchlistCount()).isEqualTo(9);
+
+        // when: 더 새 스냅샷은 문서 전체를 그대로 덮어씀
+        indexingHandler.upsert(withTitle(view(1L, "ENDED", 9, BASE_TIME.plusMinutes(20)), "수정된 제목"));
+
+        // then
+        refresh();
+        assertThat(find(1L).getTitle()).isEqualTo("수정된 제목");
+        assertThat(find(1L).getStatus()).isEqualTo("ENDED");
+    }
+
+    @Test
+    @DisplayName("상태/입찰/카운터 부분 업데이트 대상 문서가 없으면 정본 스냅샷으로 전체 색인한다")
+    void partialUpdate_documentMissing_reindexesFromSource() {
+        // given: 생성 이벤트가 유실되어 문서가 없고, 정본에는 최신 상태가 있음
+        LocalDateTime changedAt = BASE_TIME.plusMinutes(1);
+        given(snapshotSource.fetchOne(2L)).willReturn(Optional.of(view(2L, "ENDED", 3, changedAt)));
+        given(snapshotSource.fetchOne(3L)).willReturn(Optional.of(view(3L, "ACTIVE", 5, changedAt)));
+        given(snapshotSource.fetchOne(4L)).willReturn(Optional.of(view(4L, "ACTIVE", 7, changedAt)));
+
+        // when
+        indexingHandler.updateStatus(new SearchAuctionStatusChange(2L, "ENDED", changedAt));
+        indexingHandler.updatePrice(new SearchAuctionBidDelta(3L, BigDecimal.valueOf(12_000), 2, null));
+        indexingHandler.updateCounters(new SearchAuctionCounters(4L, 10L, 7, changedAt));
+
+        // then
+        refresh();
+        assertThat(find(2L).getStatus()).isEqualTo("ENDED");
+        assertThat(find(2L).getTitle()).isEqualTo("경매 2");
+        assertThat(find(3L).getWatchlistCount()).isEqualTo(5);
+        assertThat(find(4L).getWatchlistCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("정본에도 없는(삭제된) 경매의 부분 업데이트는 문서를 만들지 않는다")
+    void partialUpdate_documentMissingInSource_skips() {
+        // given
+        given(snapshotSource.fetchOne(5L)).willReturn(Optional.empty());
+
+        // when
+        indexingHandler.updateStatus(new SearchAuctionStatusChange(5L, "ENDED", BASE_TIME));
+
+        // then
+        refresh();
+        assertThat(find(5L)).isNull();
+    }
+
+    private void refresh() {
+        operations.indexOps(SearchAuctionItemDocument.class).refresh();
+    }
+
+    private SearchAuctionItemDocument find(long id) {
+        return operations.get(String.valueOf(id), SearchAuctionItemDocument.class);
+    }
+
+    private static SearchAuctionItemView withTitle(SearchAuctionItemView v, String title) {
+        return new SearchAuctionItemView(
+                v.auctionItemId(), title, v.description(), v.category(), v.status(), v.startPrice(), v.currentPrice(),
+                v.buyNowPrice(), v.buyNowEnabled(), v.startAt(), v.endAt(), v.thumbnailUrl(), v.createdAt(),
+                v.updatedAt(), v.viewCount(), v.watchlistCount(), v.bidCount(), v.sellerId(), v.sellerName());
+    }
+
+    private SearchAuctionItemView view(long id, String status, int watchlistCount, LocalDateTime updatedAt) {
+        return new SearchAuctionItemView(
+                id,
+                "경매 " + id,
+                "설명",
+                "ELECTRONICS",
+                status,
+                BigDecimal.valueOf(10_000),
+                BigDecimal.valueOf(10_000),
+                null,
+                false,
+                BASE_TIME.minusDays(1),
+                BASE_TIME.plusDays(7),
+                null,
+                BASE_TIME.minusDays(2),
+                updatedAt,
+                0L,
+                watchlistCount,
+                0,
+                1L,
+                "판매자");
+    }
+}
@@ -0,0 +1,166 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch;
+
+import com.fourtune.api.infrastructure.kafka.notification.NotificationKafkaProducer;
+import com.fourtune.api.infrastructure.kafka.search.SearchKafkaProducer;
+import com.fourtune.api.infrastructure.kafka.watchList.WatchListKafkaProducer;
+import com.fourtune.auction.boundedContext.search.adapter.in.event.AuctionItemIndexEventListener;
+import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.document.SearchAuctionItemDocument;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionCounters;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchIndexOperation;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 upsert vs 부분 업데이트 인덱싱 처리량 비교
+ * - 싱글턴 ElasticsearchTestContainer 사용
+ * - 카운터만 바뀌는 변경을 같은 건수만큼 전체 문서(title/description Nori 재분석 포함)와 부분 업데이트로 반영해 처리량 기록
+ * - 처리량 수치는 환경에 따라 달라 로그로만 남기고, 최종 문서 값만 검증
+ * - 기본 test 태스크에서는 제외 (load 태그)
+ */
+@Tag("load")
+@SpringBootTest
+@DisplayName("ElasticSearch 부분 업데이트 벤치마크")
+class ElasticsearchAuctionItemPartialUpdateBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ElasticsearchAuctionItemPartialUpdateBenchmarkTest.class);
+
+    private static final int DOCUMENT_COUNT = 300;
+    private static final int ROUNDS = 3;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    static ElasticsearchContainer elasticsearch = ElasticsearchTestContainer.getInstance();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.elasticsearch.uris", elasticsearch::getHttpHostAddress);
+    }
+
+    @MockitoBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockitoBean
+    private AuctionItemIndexEventListener auctionItemIndexEventListener;
+
+    @MockitoBean
+    private WatchListKafkaProducer watchListKafkaProducer;
+
+    @MockitoBean
+    private NotificationKafkaProducer notificationKafkaProducer;
+
+    @MockitoBean
+    private SearchKafkaProducer searchKafkaProducer;
+
+    @Autowired
+    private ElasticsearchAuctionItemIndexingHandler indexingHandler;
+
+    @Autowired
+    private ElasticsearchOperations operations;
+
+    @BeforeEach
+    void setUp() {
+        IndexOperations indexOps = operations.indexOps(SearchAuctionItemDocument.class);
+        if (indexOps.exists()) {
+            indexOps.delete();
+        }
+        indexOps.create();
+        indexOps.putMapping();
+
+        List<SearchIndexOperation> seed = new ArrayList<>(DOCUMENT_COUNT);
+        for (long id = 1; id <= DOCUMENT_COUNT; id++) {
+            seed.add(SearchIndexOperation.upsert(view(id, "ACTIVE", 0, BASE_TIME)));
+        }
+        assertThat(indexingHandler.bulk(seed)).isEmpty();
+        indexOps.refresh();
+    }
+
+    @Test
+    @DisplayName("카운터 변경을 전체 upsert와 부분 업데이트로 각각 반영해 처리량을 비교한다")
+    void compareFullUpsertAndPartialUpdateThroughput() {
+        // given: 워밍업 (스크립트 컴파일/커넥션 준비)
+        indexingHandler.upsert(view(1L, "ACTIVE", 0, BASE_TIME.plusSeconds(1)));
+        indexingHandler.updateCounters(new SearchAuctionCounters(1L, null, 0, BASE_TIME.plusSeconds(1)));
+
+        // when: 같은 변경(관심 수 증가)을 전체 문서로 반영
+        long fullStartedAt = System.nanoTime();
+        for (int round = 1; round <= ROUNDS; round++) {
+            LocalDateTime changedAt = BASE_TIME.plusMinutes(round);
+            for (long id = 1; id <= DOCUMENT_COUNT; id++) {
+                indexingHandler.upsert(view(id, "ACTIVE", round, changedAt));
+            }
+        }
+        long fullElapsedNanos = System.nanoTime() - fullStartedAt;
+
+        // when: 같은 변경을 카운터 부분 업데이트로 반영
+        long partialStartedAt = System.nanoTime();
+        for (int round = 1; round <= ROUNDS; round++) {
+            LocalDateTime changedAt = BASE_TIME.plusHours(1).plusMinutes(round);
+            for (long id = 1; id <= DOCUMENT_COUNT; id++) {
+                indexingHandler.updateCounters(new SearchAuctionCounters(id, null, ROUNDS + round, changedAt));
+            }
+        }
+        long partialElapsedNanos = System.nanoTime() - partialStartedAt;
+
+        // then
+        int operationsPerMode = DOCUMENT_COUNT * ROUNDS;
+        double fullPerSec = operationsPerMode / (fullElapsedNanos / 1_000_000_000.0);
+        double partialPerSec = operationsPerMode / (partialElapsedNanos / 1_000_000_000.0);
+        log.info("[SEARCH-INDEX-BENCH] operations={}, fullUpsert={} ops/s ({} ms), partialUpdate={} ops/s ({} ms), ratio={}x",
+                operationsPerMode,
+                String.format("%.1f", fullPerSec), fullElapsedNanos / 1_000_000,
+                String.format("%.1f", partialPerSec), partialElapsedNanos / 1_000_000,
+                String.format("%.2f", partialPerSec / fullPerSec));
+
+        operations.indexOps(SearchAuctionItemDocument.class).refresh();
+        SearchAuctionItemDocument doc = find(DOCUMENT_COUNT);
+        assertThat(doc.getWatchlistCount()).isEqualTo(ROUNDS * 2);
+        assertThat(doc.getTitle()).isEqualTo("벤치마크 경매 " + DOCUMENT_COUNT);
+    }
+
+    private SearchAuctionItemDocument find(long id) {
+        return operations.get(String.valueOf(id), SearchAuctionItemDocument.class);
+    }
+
+    private SearchAuctionItemView view(long id, String status, int watchlistCount, LocalDateTime updatedAt) {
+        return new SearchAuctionItemView(
+                id,
+                "벤치마크 경매 " + id,
+                "형태소 분석 비용을 확인하기 위한 설명 문장입니다. 맥북 프로 아이패드 갤럭시 노트북 태블릿 ".repeat(5),
+                "ELECTRONICS",
+                status,
+                BigDecimal.valueOf(10_000),
+                BigDecimal.valueOf(10_000),
+                null,
+                false,
+                BASE_TIME.minusDays(1),
+                BASE_TIME.plusDays(7),
+                null,
+                BASE_TIME.minusDays(2),
+                updatedAt,
+                0L,
+                watchlistCount,
+                0,
+                1L,
+                "판매자");
+    }
+}
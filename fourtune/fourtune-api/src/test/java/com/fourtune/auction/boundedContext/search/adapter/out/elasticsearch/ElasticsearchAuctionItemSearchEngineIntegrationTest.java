@@ -8,6 +8,8 @@ import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.docu
 import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.repository.SearchAuctionItemCrudRepository;
 import com.fourtune.auction.boundedContext.search.domain.*;
 import com.fourtune.auction.boundedContext.search.domain.constant.SearchSort;
+import com.fourtune.auction.boundedContext.search.domain.policy.PopularityScorePolicy;
+import com.fourtune.core.error.exception.BusinessException;
 import com.google.firebase.messaging.FirebaseMessaging;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,15 +19,22 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.elasticsearch.ElasticsearchContainer;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * ElasticSearch 검색 엔진 통합 테스트
@@ -61,6 +70,9 @@ class ElasticsearchAuctionItemSearchEngineIntegrationTest {
     @Autowired
     private ElasticsearchAuctionItemSearchEngine searchEngine;
 
+    @Autowired
+    private ElasticsearchAuctionItemIndexingHandler indexingHandler;
+
     @Autowired
     private SearchAuctionItemCrudRepository repository;
 
@@ -231,6 +243,42 @@ class ElasticsearchAuctionItemSearchEngineIntegrationTest {
                 .containsExactlyInAnyOrder("ACTIVE", "SCHEDULED");
     }
 
+    @Test
+    @DisplayName("facets 요청 시 필터별 건수를 자기 필터만 뺀 조건으로 같은 요청에서 집계해야 한다")
+    void search_WithFacets_ShouldReturnDisjunctiveCounts() {
+        // given
+        saveTestDocument("노트북", "설명", "ELECTRONICS", "ACTIVE", 10000, 0L);
+        saveTestDocument("종료된 노트북", "설명", "ELECTRONICS", "ENDED", 60000, 0L);
+        saveTestDocument("청바지", "설명", "CLOTHING", "ACTIVE", 30000, 0L);
+        refreshIndex();
+
+        SearchCondition condition = new SearchCondition(
+                null, Set.of("ELECTRONICS"), null, Set.of("ACTIVE"), SearchSort.LATEST, 1, null, null, true);
+
+        // when
+        SearchResultPage<SearchAuctionItemView> result = searchEngine.search(condition);
+        SearchFacets facetsOnly = searchEngine.facets(condition);
+
+        // then
+        assertThat(result.items()).extracting(SearchAuctionItemView::title).containsExactly("노트북");
+        assertThat(result.totalElements()).isEqualTo(1);
+
+        SearchFacets facets = result.facets();
+        // 카테고리 건수는 상태 필터만 적용 (다른 카테고리 건수도 보임)
+        assertThat(facets.categories()).containsEntry("ELECTRONICS", 1L).containsEntry("CLOTHING", 1L);
+        // 상태 건수는 카테고리 필터만 적용
+        assertThat(facets.statuses()).containsEntry("ACTIVE", 1L).containsEntry("ENDED", 1L);
+        // 가격대 건수는 카테고리 + 상태 필터 적용
+        assertThat(facets.prices())
+                .filteredOn(bucket -> bucket.count() > 0)
+                .singleElement()
+                .satisfies(bucket -> {
+                    assertThat(bucket.from()).isEqualByComparingTo(BigDecimal.valueOf(10000));
+                    assertThat(bucket.to()).isEqualByComparingTo(BigDecimal.valueOf(50000));
+                });
+        assertThat(facetsOnly).isEqualTo(facets);
+    }
+
     @Test
     @DisplayName("복합 조건(키워드+카테고리+가격+상태) 검색이 정확히 동작해야 한다")
     void search_WithMultipleConditions_ShouldReturnMatchingItems() {
@@ -350,6 +398,74 @@ class ElasticsearchAuctionItemSearchEngineIntegrationTest {
         assertThat(result.items().get(1).title()).isEqualTo("인기있지만 오래됨");
     }
 
+    @Test
+    @DisplayName("주기적 재계산 후 경과 시간 감가가 반영되어 인기순 순위가 바뀌고, 종료된 경매는 다시 쓰지 않는다")
+    void refreshPopularityScores_AppliesDecayOverTime() {
+        // given: 저장 시점에는 새 상품(~0.73)이 오래된 인기상품(~0.58)보다 상위, 종료 경매는 재계산 대상 아님
+        LocalDateTime now = LocalDateTime.now();
+        saveTestDocument("인기있지만 오래됨", "오래된 상품", "ELECTRONICS", "ACTIVE", 10000, 1000L, now.minusHours(24));
+        saveTestDocument("일반적인 새 상품", "새 상품", "ELECTRONICS", "SCHEDULED", 10000, 10L, now);
+        saveTestDocument("종료된 상품", "종료 상품", "ELECTRONICS", "ENDED", 10000, 1000L, now.minusHours(24));
+        refreshIndex();
+
+        // when: 24시간 뒤 기준으로 재계산
+        // 오래된 인기상품 ~= log10(1001) / sqrt(48 + 2) ~= 0.42
+        // 새 상품 ~= log10(11) / sqrt(24 + 2) ~= 0.20
+        long updated = indexingHandler.refreshPopularityScores(System.currentTimeMillis() + 24 * 3_600_000L, 0.01);
+        refreshIndex();
+
+        // then
+        SearchCondition condition = new SearchCondition(null, null, null, Set.of("ACTIVE", "SCHEDULED"), SearchSort.POPULAR, 1);
+        SearchResultPage<SearchAuctionItemView> result = searchEngine.search(condition);
+        assertThat(updated).isEqualTo(2);
+        assertThat(result.items()).extracting(SearchAuctionItemView::title)
+                .containsExactly("인기있지만 오래됨", "일반적인 새 상품");
+
+        // when: 바로 다시 재계산하면 변화율이 기준 이하라 갱신하지 않음
+        long updatedAgain = indexingHandler.refreshPopularityScores(System.currentTimeMillis() + 24 * 3_600_000L, 0.01);
+
+        // then
+        assertThat(updatedAgain).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("popularityScore 매핑이 없는 기존 인덱스에서도 인기순 검색이 실패하지 않고, 매핑 동기화 후 double로 반영된다")
+    void search_SortByPopularity_WithoutScoreMapping_ShouldNotFail() {
+        // given: popularityScore 필드 추가 전에 만들어진 인덱스와 점수 없는 문서
+        IndexOperations indexOps = operations.indexOps(SearchAuctionItemDocument.class);
+        Document mapping = indexOps.createMapping();
+        ((Map<String, Object>) mapping.get("properties")).remove("popularityScore");
+        indexOps.delete();
+        indexOps.create(indexOps.createSettings(), mapping);
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
+        repository.save(SearchAuctionItemDocument.builder()
+                .auctionItemId(1L)
+                .title("점수 없는 상품")
+                .category("ELECTRONICS")
+                .status("ACTIVE")
+                .startPrice(BigDecimal.valueOf(10000))
+                .currentPrice(BigDecimal.valueOf(10000))
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build());
+        refreshIndex();
+
+        // when
+        SearchCondition condition = new SearchCondition(null, null, null, null, SearchSort.POPULAR, 1);
+        SearchResultPage<SearchAuctionItemView> result = searchEngine.search(condition);
+
+        // then
+        assertThat(result.items()).extracting(SearchAuctionItemView::title).containsExactly("점수 없는 상품");
+
+        // when: 기동 시 매핑 동기화
+        indexingHandler.syncMappingOnStartup();
+
+        // then
+        Map<String, Object> properties = (Map<String, Object>) indexOps.getMapping().get("properties");
+        assertThat((Map<String, Object>) properties.get("popularityScore")).containsEntry("type", "double");
+    }
+
     @Test
     @DisplayName("페이징 처리가 정확해야 한다 (2페이지 조회)")
     void search_WithPaging_ShouldReturnCorrectPage() {
@@ -379,6 +495,58 @@ class ElasticsearchAuctionItemSearchEngineIntegrationTest {
         assertThat(result.hasNext()).isFalse(); // 마지막 페이지이므로 false
     }
 
+    @Test
+    @DisplayName("커서(search_after + PIT)로 이어서 조회하면 정렬 값이 같아도 누락/중복 없이 끝까지 조회된다")
+    void search_WithCursor_ShouldWalkAllItemsWithoutDuplicates() {
+        // given: 등록 시각이 모두 같은 25개 (auctionItemId 타이브레이커로 순서 고정)
+        LocalDateTime createdAt = LocalDateTime.now();
+        for (int i = 1; i <= 25; i++) {
+            saveTestDocument("상품 " + i, "설명", "ELECTRONICS", "ACTIVE", 10000, (long) i, createdAt);
+        }
+        refreshIndex();
+
+        // when: 1페이지는 기존 page 방식, 이후는 응답의 nextCursor로 이어서 조회
+        List<SearchResultPage<SearchAuctionItemView>> pages = new ArrayList<>();
+        SearchResultPage<SearchAuctionItemView> result = searchEngine.search(
+                new SearchCondition(null, null, null, null, SearchSort.LATEST, 1, 10));
+        pages.add(result);
+        while (result.hasNext()) {
+            result = searchEngine.search(
+                    new SearchCondition(null, null, null, null, SearchSort.LATEST, 1, 10, result.nextCursor()));
+            pages.add(result);
+        }
+
+        // then
+        assertThat(pages).extracting(SearchResultPage::page).containsExactly(1, 2, 3);
+        assertThat(pages).allSatisfy(page -> assertThat(page.totalElements()).isEqualTo(25));
+        assertThat(pages.get(2).nextCursor()).isNull();
+        List<Long> ids = pages.stream()
+                .flatMap(page -> page.items().stream())
+                .map(SearchAuctionItemView::auctionItemId)
+                .toList();
+        assertThat(ids).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("정렬이 다른 커서나 형식이 잘못된 커서는 거부한다")
+    void search_WithMismatchedCursor_ShouldThrow() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            saveTestDocument("상품 " + i, "설명", "ELECTRONICS", "ACTIVE", 10000, (long) i);
+        }
+        refreshIndex();
+        String cursor = searchEngine.search(
+                new SearchCondition(null, null, null, null, SearchSort.LATEST, 1, 1)).nextCursor();
+
+        // when & then
+        assertThatThrownBy(() -> searchEngine.search(
+                new SearchCondition(null, null, null, null, SearchSort.POPULAR, 1, 1, cursor)))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> searchEngine.search(
+                new SearchCondition(null, null, null, null, SearchSort.LATEST, 1, 1, "not-a-cursor")))
+                .isInstanceOf(BusinessException.class);
+    }
+
     private void saveTestDocument(String title, String description, String category,
             String status, int price, Long viewCount) {
         saveTestDocument(title, description, category, status, price, viewCount, LocalDateTime.now());
@@ -402,6 +570,10 @@ class ElasticsearchAuctionItemSearchEngineIntegrationTest {
                 .viewCount(viewCount)
                 .watchlistCount(0)
                 .bidCount(0)
+                // 색인 핸들러와 같이 저장 시점 기준 인기 점수를 함께 기록
+                .popularityScore(PopularityScorePolicy.score(viewCount, 0, 0,
+                        createdAt.atZone(java.time.ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli(),
+                        System.currentTimeMillis()))
                 .build();
 
         repository.save(doc);
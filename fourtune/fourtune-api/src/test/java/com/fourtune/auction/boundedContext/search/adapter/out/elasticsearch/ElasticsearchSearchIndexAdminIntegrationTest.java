@@ -0,0 +1,164 @@
+package com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.fourtune.api.infrastructure.kafka.notification.NotificationKafkaProducer;
+import com.fourtune.api.infrastructure.kafka.search.SearchKafkaProducer;
+import com.fourtune.api.infrastructure.kafka.watchList.WatchListKafkaProducer;
+import com.fourtune.auction.boundedContext.search.adapter.in.event.AuctionItemIndexEventListener;
+import com.fourtune.auction.boundedContext.search.adapter.out.elasticsearch.document.SearchAuctionItemDocument;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 검색 인덱스 관리(별칭 전환) 통합 테스트
+ * - 싱글턴 ElasticsearchTestContainer 사용
+ * - 별칭 도입 전 실제 인덱스(auction_items)는 지우지 않고 복제본만 남긴 채 전환을 중단
+ * - 별칭이 있으면 새 버전 인덱스로 원자적으로 옮기고 이전 인덱스 이름을 반환
+ */
+@SpringBootTest
+@DisplayName("검색 인덱스 별칭 전환 통합 테스트")
+class ElasticsearchSearchIndexAdminIntegrationTest {
+
+    private static final String ALIAS = "auction_items";
+    private static final List<String> VERSION_INDICES = List.of(ALIAS + "_v0", ALIAS + "_v1", ALIAS + "_v2");
+
+    static ElasticsearchContainer elasticsearch = ElasticsearchTestContainer.getInstance();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.elasticsearch.uris", elasticsearch::getHttpHostAddress);
+    }
+
+    @MockitoBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockitoBean
+    private AuctionItemIndexEventListener auctionItemIndexEventListener;
+
+    @MockitoBean
+    private WatchListKafkaProducer watchListKafkaProducer;
+
+    @MockitoBean
+    private NotificationKafkaProducer notificationKafkaProducer;
+
+    @MockitoBean
+    private SearchKafkaProducer searchKafkaProducer;
+
+    @Autowired
+    private ElasticsearchSearchIndexAdmin indexAdmin;
+
+    @Autowired
+    private ElasticsearchOperations operations;
+
+    @Autowired
+    private ElasticsearchClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        deleteVersionIndices();
+        IndexOperations indexOps = operations.indexOps(SearchAuctionItemDocument.class);
+        if (indexOps.exists()) {
+            indexOps.delete();
+        }
+        // 별칭 도입 전처럼 auction_items를 실제 인덱스로 생성
+        indexOps.createWithMapping();
+        operations.save(document(1L));
+        indexOps.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        // 별칭이 가리키는 인덱스를 지우면 별칭도 함께 사라져 다른 테스트가 실제 인덱스를 다시 만들 수 있음
+        deleteVersionIndices();
+    }
+
+    @Test
+    @DisplayName("별칭 도입 전 실제 인덱스가 있으면 지우지 않고 v0로 복제한 뒤 전환을 중단한다")
+    void switchAlias_LegacyConcreteIndex_PreservesAndFails() throws IOException {
+        // given
+        indexAdmin.createForBulkLoad(ALIAS + "_v1");
+
+        // when & then
+        assertThatThrownBy(() -> indexAdmin.switchAlias(ALIAS + "_v1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(ALIAS + "_v0")
+                .hasMessageContaining("remove_index");
+
+        // then: 원본은 실제 인덱스로 남아 계속 쓸 수 있고, 복제본에 같은 문서가 있음
+        assertThat(client.indices().existsAlias(e -> e.name(ALIAS)).value()).isFalse();
+        assertThat(indexAdmin.exists(ALIAS + "_v0")).isTrue();
+        assertThat(count(ALIAS + "_v0")).isEqualTo(1);
+        operations.save(document(2L));
+        operations.indexOps(SearchAuctionItemDocument.class).refresh();
+        assertThat(count(ALIAS)).isEqualTo(2);
+
+        // when: 다시 전환해도 복제본을 새로 만들지 않고 같은 안내로 중단
+        assertThatThrownBy(() -> indexAdmin.switchAlias(ALIAS + "_v1"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(count(ALIAS + "_v0")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("별칭이 있으면 새 버전 인덱스로 옮기고 이전 인덱스는 지우지 않고 이름만 반환한다")
+    void switchAlias_ExistingAlias_MovesToNewIndex() throws IOException {
+        // given: 운영자가 안내대로 실제 인덱스를 별칭으로 바꾼 상태
+        indexAdmin.createForBulkLoad(ALIAS + "_v1");
+        client.indices().updateAliases(u -> u.actions(List.of(
+                Action.of(a -> a.removeIndex(r -> r.index(ALIAS))),
+                Action.of(a -> a.add(ad -> ad.index(ALIAS + "_v1").alias(ALIAS))))));
+        indexAdmin.createForBulkLoad(ALIAS + "_v2");
+
+        // when
+        List<String> previous = indexAdmin.switchAlias(ALIAS + "_v2");
+
+        // then
+        assertThat(previous).containsExactly(ALIAS + "_v1");
+        assertThat(client.indices().getAlias(a -> a.name(ALIAS)).result().keySet()).containsExactly(ALIAS + "_v2");
+        assertThat(indexAdmin.exists(ALIAS + "_v1")).isTrue();
+    }
+
+    private long count(String indexName) {
+        return operations.count(Query.findAll(), SearchAuctionItemDocument.class, IndexCoordinates.of(indexName));
+    }
+
+    private void deleteVersionIndices() throws IOException {
+        client.indices().delete(d -> d.index(VERSION_INDICES).ignoreUnavailable(true));
+    }
+
+    private SearchAuctionItemDocument document(long id) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
+        return SearchAuctionItemDocument.builder()
+                .auctionItemId(id)
+                .title("경매 " + id)
+                .category("ELECTRONICS")
+                .status("ACTIVE")
+                .startPrice(BigDecimal.valueOf(10000))
+                .currentPrice(BigDecimal.valueOf(10000))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionBidDelta;
+import com.fourtune.core.config.EventPublishingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionBidDeltaCoalescerTest {
+
+    private static final LocalDateTime END_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private AuctionItemIndexingHandler indexingHandler;
+
+    @Mock
+    private SearchProperties searchProperties;
+
+    @Mock
+    private EventPublishingConfig eventPublishingConfig;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionBidDeltaCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new AuctionBidDeltaCoalescer(indexingHandler, searchProperties, eventPublishingConfig, meterRegistry);
+        coalescer.initMetrics();
+    }
+
+    @Test
+    @DisplayName("같은 경매의 델타는 주기당 ES 부분 업데이트 1회로 병합되고 가장 최신 값이 반영된다")
+    void flush_mergesDeltasPerAuction() {
+        // given
+        coalescer.submit(new SearchAuctionBidDelta(1L, BigDecimal.valueOf(11000), 1, END_AT));
+        coalescer.submit(new SearchAuctionBidDelta(1L, BigDecimal.valueOf(13000), 3, END_AT.plusMinutes(3)));
+        coalescer.submit(new SearchAuctionBidDelta(1L, BigDecimal.valueOf(12000), 2, END_AT));
+        coalescer.submit(new SearchAuctionBidDelta(2L, BigDecimal.valueOf(5000), 1, END_AT));
+
+        // when
+        coalescer.flush();
+
+        // then
+        ArgumentCaptor<SearchAuctionBidDelta> captor = ArgumentCaptor.forClass(SearchAuctionBidDelta.class);
+        verify(indexingHandler, times(2)).updatePrice(captor.capture());
+        SearchAuctionBidDelta auction1 = captor.getAllValues().stream()
+                .filter(delta -> delta.auctionItemId().equals(1L))
+                .findFirst().orElseThrow();
+        assertThat(auction1.currentPrice()).isEqualByComparingTo("13000");
+        assertThat(auction1.bidCount()).isEqualTo(3);
+        assertThat(auction1.endAt()).isEqualTo(END_AT.plusMinutes(3));
+
+        assertThat(meterRegistry.counter("search.bid.delta.received").count()).isEqualTo(4);
+        assertThat(meterRegistry.counter("search.bid.delta.es.writes", "result", "success").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ES 반영 실패 시 다음 주기에 재시도하고 최대 시도 횟수를 넘으면 폐기한다")
+    void flush_retriesThenDrops() {
+        // given
+        when(searchProperties.getBidDeltaMaxAttempts()).thenReturn(2);
+        doThrow(new RuntimeException("es down")).when(indexingHandler).updatePrice(any());
+        coalescer.submit(new SearchAuctionBidDelta(1L, BigDecimal.valueOf(11000), 1, END_AT));
+
+        // when
+        coalescer.flush();
+        coalescer.flush();
+        coalescer.flush();
+
+        // then
+        verify(indexingHandler, times(2)).updatePrice(any());
+        assertThat(meterRegistry.counter("search.bid.delta.es.writes", "result", "failed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("search.bid.delta.es.writes", "result", "dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flushNow는 지정한 경매의 델타만 즉시 반영하고, 실패한 델타는 다시 쌓지 않고 돌려준다")
+    void flushNow_writesGivenAuctionsAndReturnsFailures() {
+        // given
+        RuntimeException failure = new RuntimeException("es down");
+        doThrow(failure).when(indexingHandler).updatePrice(argThat(delta -> delta.auctionItemId().equals(2L)));
+        coalescer.submit(new SearchAuctionBidDelta(1L, BigDecimal.valueOf(11000), 1, END_AT));
+        coalescer.submit(new SearchAuctionBidDelta(2L, BigDecimal.valueOf(5000), 1, END_AT));
+        coalescer.submit(new SearchAuctionBidDelta(3L, BigDecimal.valueOf(7000), 1, END_AT));
+
+        // when
+        Map<Long, Exception> failures = coalescer.flushNow(List.of(1L, 2L));
+
+        // then
+        assertThat(failures).containsOnlyKeys(2L);
+        assertThat(failures.get(2L)).isSameAs(failure);
+        verify(indexingHandler, times(2)).updatePrice(any());
+
+        // 실패한 2번은 재적재되지 않고, 지정하지 않은 3번만 주기 flush로 반영
+        reset(indexingHandler);
+        coalescer.flush();
+        verify(indexingHandler).updatePrice(new SearchAuctionBidDelta(3L, BigDecimal.valueOf(7000), 1, END_AT));
+        verifyNoMoreInteractions(indexingHandler);
+    }
+
+    @Test
+    @DisplayName("Kafka 모드에서는 주기 flush가 델타를 가져가지 않고 리스너의 flushNow가 반영한다")
+    void flush_KafkaEnabled_LeavesDeltasToListener() {
+        // given
+        when(eventPublishingConfig.isAuctionEventsKafkaEnabled()).thenReturn(true);
+        coalescer.submit(new SearchAuctionBidDelta(1L, BigDecimal.valueOf(11000), 1, END_AT));
+
+        // when
+        coalescer.flush();
+
+        // then
+        verifyNoInteractions(indexingHandler);
+        assertThat(coalescer.flushNow(List.of(1L))).isEmpty();
+        verify(indexingHandler).updatePrice(new SearchAuctionBidDelta(1L, BigDecimal.valueOf(11000), 1, END_AT));
+    }
+}
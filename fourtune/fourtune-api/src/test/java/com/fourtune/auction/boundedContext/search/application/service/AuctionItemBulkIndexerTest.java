@@ -0,0 +1,116 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.application.service.AuctionItemBulkIndexer.BulkIndexResult;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchIndexOperation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionItemBulkIndexerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private AuctionItemIndexingHandler indexingHandler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionItemBulkIndexer bulkIndexer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkIndexer = new AuctionItemBulkIndexer(indexingHandler, meterRegistry);
+        bulkIndexer.initMetrics();
+    }
+
+    @Test
+    @DisplayName("같은 경매의 upsert는 updatedAt이 가장 늦은 것만 bulk 1회로 반영된다")
+    void index_keepsLatestUpdatePerAuction() {
+        // given
+        SearchIndexOperation newest = SearchIndexOperation.upsert(view(1L, BASE.plusSeconds(2)));
+        List<SearchIndexOperation> operations = List.of(
+                SearchIndexOperation.upsert(view(1L, BASE)),
+                newest,
+                SearchIndexOperation.upsert(view(1L, BASE.plusSeconds(1))),
+                SearchIndexOperation.upsert(view(2L, BASE)));
+        when(indexingHandler.bulk(anyList())).thenReturn(Map.of());
+
+        // when
+        BulkIndexResult result = bulkIndexer.index(operations);
+
+        // then
+        ArgumentCaptor<List<SearchIndexOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(indexingHandler, times(1)).bulk(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(captor.getValue().get(0)).isSameAs(newest);
+        assertThat(result.failed()).isEmpty();
+        assertThat(meterRegistry.get("search.index.bulk.dedup.ratio").summary().mean()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("삭제 이후에 도착한 upsert는 무시되고 삭제가 반영된다")
+    void index_deleteWinsOverLaterUpsert() {
+        // given
+        List<SearchIndexOperation> operations = List.of(
+                SearchIndexOperation.upsert(view(1L, BASE)),
+                SearchIndexOperation.delete(1L),
+                SearchIndexOperation.upsert(view(1L, BASE.plusSeconds(5))));
+        when(indexingHandler.bulk(anyList())).thenReturn(Map.of());
+
+        // when
+        BulkIndexResult result = bulkIndexer.index(operations);
+
+        // then
+        assertThat(result.applied()).hasSize(1);
+        assertThat(result.applied().get(0).isDelete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("문서별 실패는 실패한 작업과 사유로 반환된다")
+    void index_returnsPerItemFailures() {
+        // given
+        SearchIndexOperation failing = SearchIndexOperation.upsert(view(2L, BASE));
+        when(indexingHandler.bulk(anyList())).thenReturn(Map.of(2L, "mapper_parsing_exception: bad field"));
+
+        // when
+        BulkIndexResult result = bulkIndexer.index(List.of(SearchIndexOperation.upsert(view(1L, BASE)), failing));
+
+        // then
+        assertThat(result.failed()).containsExactly(failing);
+        assertThat(result.reasons()).containsEntry(2L, "mapper_parsing_exception: bad field");
+        assertThat(meterRegistry.get("search.index.bulk.items").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업이 없으면 bulk 요청을 보내지 않는다")
+    void index_emptyDoesNothing() {
+        // when
+        BulkIndexResult result = bulkIndexer.index(List.of());
+
+        // then
+        verifyNoInteractions(indexingHandler);
+        assertThat(result.applied()).isEmpty();
+    }
+
+    private SearchAuctionItemView view(Long id, LocalDateTime updatedAt) {
+        return new SearchAuctionItemView(id, "제목", "설명", "ETC", "ACTIVE",
+                BigDecimal.valueOf(10000), BigDecimal.valueOf(10000), null, false,
+                BASE, BASE.plusDays(1), null, BASE, updatedAt, 0L, 0, 0, 1L, "판매자");
+    }
+}
@@ -0,0 +1,77 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.port.out.SearchPopularityRescoreLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 인기 점수 재계산 단위 테스트
+ * - 재계산 주기 락을 잡은 인스턴스만 재계산
+ */
+@ExtendWith(MockitoExtension.class)
+class AuctionPopularityRescorerTest {
+
+    @Mock
+    private AuctionItemIndexingHandler indexingHandler;
+
+    @Mock
+    private SearchPopularityRescoreLock rescoreLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionPopularityRescorer sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new AuctionPopularityRescorer(indexingHandler, rescoreLock, meterRegistry);
+        ReflectionTestUtils.setField(sut, "rescoreIntervalMs", 600_000L);
+        ReflectionTestUtils.setField(sut, "minChange", 0.01);
+        sut.initMetrics();
+    }
+
+    @Test
+    @DisplayName("재계산 주기 락을 잡으면 재계산하고 갱신 문서 수를 기록한다")
+    void rescore_LockAcquired_Refreshes() {
+        // given
+        given(rescoreLock.tryAcquire(anyString(), eq(Duration.ofMillis(600_000L)))).willReturn(true);
+        given(indexingHandler.refreshPopularityScores(anyLong(), anyDouble())).willReturn(3L);
+
+        // when
+        sut.rescore();
+
+        // then
+        verify(indexingHandler).refreshPopularityScores(anyLong(), eq(0.01));
+        assertThat(meterRegistry.counter("search.popularity.rescore.updated").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 이번 주기 락을 잡았으면 재계산하지 않는다")
+    void rescore_LockHeldElsewhere_Skips() {
+        // given
+        given(rescoreLock.tryAcquire(anyString(), eq(Duration.ofMillis(600_000L)))).willReturn(false);
+
+        // when
+        sut.rescore();
+
+        // then
+        verifyNoInteractions(indexingHandler);
+        assertThat(meterRegistry.timer("search.popularity.rescore.duration").count()).isZero();
+    }
+}
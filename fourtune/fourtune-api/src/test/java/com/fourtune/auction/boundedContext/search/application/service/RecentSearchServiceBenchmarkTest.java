@@ -0,0 +1,161 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.policy.RecentSearchPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 검색어 저장/조회 처리량 비교 (로컬 Redis 컨테이너)
+ * - 저장: 기존 명령 4개(ZADD, ZCARD, ZREMRANGEBYRANK, EXPIRE) 순차 호출 vs Lua 스크립트 1회
+ * - 조회: 매번 ZREVRANGE vs 로컬 캐시
+ * - 처리량 수치는 환경에 따라 달라 로그로만 남기고, 최대 개수/TTL 유지만 검증
+ * - 기본 test 태스크에서는 제외 (load 태그), 최대 개수/TTL 동작은 RecentSearchServiceIntegrationTest에서 검증
+ */
+@Tag("load")
+@Testcontainers
+@DisplayName("최근 검색어 Redis 왕복 벤치마크")
+class RecentSearchServiceBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecentSearchServiceBenchmarkTest.class);
+
+    private static final int USER_COUNT = 100;
+    private static final int KEYWORDS_PER_USER = 30;
+    private static final int READS_PER_USER = 20;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:alpine"))
+            .withExposedPorts(6379);
+
+    private final RecentSearchPolicy policy = new RecentSearchPolicy();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RecentSearchService recentSearchService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.delete(redisTemplate.keys(policy.getKeyPrefix() + "*"));
+
+        recentSearchService = new RecentSearchService(redisTemplate, policy);
+        ReflectionTestUtils.setField(recentSearchService, "localCacheTtlMs", 60_000L);
+        ReflectionTestUtils.setField(recentSearchService, "localCacheMaxSize", 10_000L);
+        recentSearchService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("최근 검색어 저장을 명령 4개 순차 호출과 Lua 스크립트 1회로 각각 실행해 처리량을 비교한다")
+    void compareSequentialCommandsAndScript() {
+        // given: 워밍업 (커넥션 준비/스크립트 캐시)
+        addWithCommands(0L, "warmup");
+        recentSearchService.addKeyword(0L, "warmup");
+
+        // when: 기존 방식
+        long commandsStartedAt = System.nanoTime();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            for (int i = 0; i < KEYWORDS_PER_USER; i++) {
+                addWithCommands(userId, "keyword" + i);
+            }
+        }
+        long commandsElapsedNanos = System.nanoTime() - commandsStartedAt;
+
+        // when: Lua 스크립트 (다른 사용자 키 사용)
+        long scriptStartedAt = System.nanoTime();
+        for (long userId = USER_COUNT + 1; userId <= USER_COUNT * 2; userId++) {
+            for (int i = 0; i < KEYWORDS_PER_USER; i++) {
+                recentSearchService.addKeyword(userId, "keyword" + i);
+            }
+        }
+        long scriptElapsedNanos = System.nanoTime() - scriptStartedAt;
+
+        // then
+        int operations = USER_COUNT * KEYWORDS_PER_USER;
+        double commandsPerSec = operations / (commandsElapsedNanos / 1_000_000_000.0);
+        double scriptPerSec = operations / (scriptElapsedNanos / 1_000_000_000.0);
+        log.info("[RECENT-SEARCH-BENCH] writes={}, commands={} ops/s ({} ms), script={} ops/s ({} ms), ratio={}x",
+                operations,
+                String.format("%.1f", commandsPerSec), commandsElapsedNanos / 1_000_000,
+                String.format("%.1f", scriptPerSec), scriptElapsedNanos / 1_000_000,
+                String.format("%.2f", scriptPerSec / commandsPerSec));
+
+        String key = policy.getKeyPrefix() + (USER_COUNT * 2);
+        assertThat(redisTemplate.opsForZSet().zCard(key)).isEqualTo(policy.getMaxKeywords());
+        assertThat(redisTemplate.getExpire(key)).isPositive();
+        assertThat(recentSearchService.getKeywords((long) USER_COUNT * 2)).hasSize(policy.getMaxKeywords());
+    }
+
+    @Test
+    @DisplayName("최근 검색어 조회를 매번 Redis 조회와 로컬 캐시로 각각 실행해 처리량을 비교한다")
+    void compareRedisReadsAndLocalCache() {
+        // given
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            recentSearchService.addKeyword(userId, "keyword");
+        }
+        int maxKeywords = policy.getMaxKeywords();
+
+        // when: 매번 Redis 조회
+        long redisStartedAt = System.nanoTime();
+        for (int round = 0; round < READS_PER_USER; round++) {
+            for (long userId = 1; userId <= USER_COUNT; userId++) {
+                redisTemplate.opsForZSet().reverseRange(policy.getKeyPrefix() + userId, 0, maxKeywords - 1);
+            }
+        }
+        long redisElapsedNanos = System.nanoTime() - redisStartedAt;
+
+        // when: 로컬 캐시 (사용자당 첫 조회만 Redis)
+        long cacheStartedAt = System.nanoTime();
+        for (int round = 0; round < READS_PER_USER; round++) {
+            for (long userId = 1; userId <= USER_COUNT; userId++) {
+                recentSearchService.getKeywords(userId);
+            }
+        }
+        long cacheElapsedNanos = System.nanoTime() - cacheStartedAt;
+
+        // then
+        int operations = USER_COUNT * READS_PER_USER;
+        double redisPerSec = operations / (redisElapsedNanos / 1_000_000_000.0);
+        double cachePerSec = operations / (cacheElapsedNanos / 1_000_000_000.0);
+        log.info("[RECENT-SEARCH-BENCH] reads={}, redis={} ops/s ({} ms), localCache={} ops/s ({} ms), ratio={}x",
+                operations,
+                String.format("%.1f", redisPerSec), redisElapsedNanos / 1_000_000,
+                String.format("%.1f", cachePerSec), cacheElapsedNanos / 1_000_000,
+                String.format("%.2f", cachePerSec / redisPerSec));
+
+        assertThat(recentSearchService.getKeywords(1L)).containsExactly("keyword");
+    }
+
+    // 변경 전 RecentSearchService.addKeyword와 같은 명령 순서
+    private void addWithCommands(Long userId, String keyword) {
+        String key = policy.getKeyPrefix() + userId;
+        ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
+        zSetOps.add(key, keyword, System.currentTimeMillis());
+        Long count = zSetOps.zCard(key);
+        int maxKeywords = policy.getMaxKeywords();
+        if (count != null && count > maxKeywords) {
+            zSetOps.removeRange(key, 0, count - maxKeywords - 1);
+        }
+        redisTemplate.expire(key, policy.getTtl());
+    }
+}
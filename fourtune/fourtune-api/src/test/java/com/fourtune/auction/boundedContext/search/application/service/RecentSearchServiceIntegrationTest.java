@@ -0,0 +1,85 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.policy.RecentSearchPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 검색어 Lua 스크립트 통합 테스트 (로컬 Redis 컨테이너)
+ * - 최대 개수를 넘으면 가장 오래된 검색어부터 삭제, 중복 검색어는 최신으로 갱신
+ * - 저장할 때마다 TTL 갱신
+ */
+@Testcontainers
+@DisplayName("최근 검색어 저장")
+class RecentSearchServiceIntegrationTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:alpine"))
+            .withExposedPorts(6379);
+
+    private final RecentSearchPolicy policy = new RecentSearchPolicy();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RecentSearchService sut;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        sut = new RecentSearchService(redisTemplate, policy);
+        ReflectionTestUtils.setField(sut, "localCacheTtlMs", 60_000L);
+        ReflectionTestUtils.setField(sut, "localCacheMaxSize", 100L);
+        sut.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘게 저장하면 가장 오래된 검색어부터 삭제하고 TTL을 유지한다")
+    void addKeyword_TrimsOldestBeyondMax() throws InterruptedException {
+        // given
+        int max = policy.getMaxKeywords();
+        for (int i = 0; i < max + 2; i++) {
+            sut.addKeyword(USER_ID, "keyword" + i);
+            Thread.sleep(2); // 점수(저장 시각)가 겹치지 않도록
+        }
+
+        // when: 가장 오래 남은 검색어를 다시 검색하면 최신으로 갱신되어 개수는 그대로
+        sut.addKeyword(USER_ID, "keyword2");
+
+        // then
+        String key = policy.getKeyPrefix() + USER_ID;
+        assertThat(redisTemplate.opsForZSet().zCard(key)).isEqualTo(max);
+        assertThat(sut.getKeywords(USER_ID))
+                .hasSize(max)
+                .startsWith("keyword2", "keyword" + (max + 1))
+                .doesNotContain("keyword0", "keyword1");
+        assertThat(redisTemplate.getExpire(key, TimeUnit.DAYS)).isGreaterThanOrEqualTo(policy.getTtl().toDays() - 1);
+    }
+}
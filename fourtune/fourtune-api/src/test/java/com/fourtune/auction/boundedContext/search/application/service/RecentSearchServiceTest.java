@@ -1,6 +1,7 @@
 package com.fourtune.auction.boundedContext.search.application.service;
 
 import com.fourtune.auction.boundedContext.search.domain.policy.RecentSearchPolicy;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,7 +18,8 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +43,11 @@ class RecentSearchServiceTest {
     private static final int TEST_MAX_KEYWORDS = 10;
     private static final Duration TEST_TTL = Duration.ofDays(30);
 
+    @BeforeEach
+    void setUp() {
+        recentSearchService.init();
+    }
+
     @Test
     @DisplayName("최근 검색어를 저장한다.")
     void addKeyword() {
@@ -50,38 +57,57 @@ class RecentSearchServiceTest {
         given(recentSearchPolicy.getMaxKeywords()).willReturn(TEST_MAX_KEYWORDS);
         given(recentSearchPolicy.getTtl()).willReturn(TEST_TTL);
 
-        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
-        
         // when
         recentSearchService.addKeyword(TEST_USER_ID, TEST_KEYWORD);
 
-        // then: Redis ZSet에 키워드가 추가되었는지 검증
-        verify(zSetOperations).add(eq(TEST_KEY), eq(TEST_KEYWORD), anyDouble());
-        // then: TTL 설정 검증 (Policy에서 반환한 값과 일치하는지 확인)
-        verify(redisTemplate).expire(eq(TEST_KEY), eq(TEST_TTL));
+        // then: 추가/초과분 삭제/TTL 갱신을 Lua 스크립트 1회로 실행하는지 검증
+        verify(redisTemplate).execute(eq(RecentSearchService.ADD_KEYWORD), eq(List.of(TEST_KEY)),
+                eq(TEST_KEYWORD), anyString(), eq(String.valueOf(TEST_MAX_KEYWORDS)),
+                eq(String.valueOf(TEST_TTL.toMillis())));
+        verify(redisTemplate, never()).opsForZSet();
     }
 
     @Test
     @DisplayName("검색어가 최대 개수를 초과하면 가장 오래된 검색어를 삭제한다.")
     void addKeyword_WithMaxLimit() {
         // given
-        String newKeyword = "new_keyword";
-
-        // Policy Mocking
         given(recentSearchPolicy.getKeyPrefix()).willReturn("recent_search:");
         given(recentSearchPolicy.getMaxKeywords()).willReturn(TEST_MAX_KEYWORDS);
         given(recentSearchPolicy.getTtl()).willReturn(TEST_TTL);
 
+        // when
+        recentSearchService.addKeyword(TEST_USER_ID, "new_keyword");
+
+        // then: 정책의 최대 개수를 넘긴 만큼 점수(저장 시각)가 낮은 순으로 삭제 (ZREMRANGEBYRANK 0 ~ 초과분-1)
+        verify(redisTemplate).execute(eq(RecentSearchService.ADD_KEYWORD), eq(List.of(TEST_KEY)),
+                eq("new_keyword"), anyString(), eq(String.valueOf(TEST_MAX_KEYWORDS)), anyString());
+        assertThat(RecentSearchService.ADD_KEYWORD.getScriptAsString())
+                .contains("redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[3])")
+                .contains("redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)");
+    }
+
+    @Test
+    @DisplayName("최근 검색어 목록은 로컬 캐시로 재사용하고, 저장 후에는 Redis에서 다시 조회한다.")
+    void getKeywords_CachedUntilAdded() {
+        // given
+        given(recentSearchPolicy.getKeyPrefix()).willReturn("recent_search:");
+        given(recentSearchPolicy.getMaxKeywords()).willReturn(TEST_MAX_KEYWORDS);
+        given(recentSearchPolicy.getTtl()).willReturn(TEST_TTL);
         given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
-        // 저장된 개수가 MAX + 1개라고 가정
-        given(zSetOperations.zCard(TEST_KEY)).willReturn((long) (TEST_MAX_KEYWORDS + 1)); 
+        given(zSetOperations.reverseRange(TEST_KEY, 0, TEST_MAX_KEYWORDS - 1))
+                .willReturn(Set.of("keyword1"), Set.of(TEST_KEYWORD));
 
         // when
-        recentSearchService.addKeyword(TEST_USER_ID, newKeyword);
+        List<String> first = recentSearchService.getKeywords(TEST_USER_ID);
+        List<String> cached = recentSearchService.getKeywords(TEST_USER_ID);
+        recentSearchService.addKeyword(TEST_USER_ID, TEST_KEYWORD);
+        List<String> afterAdd = recentSearchService.getKeywords(TEST_USER_ID);
 
-        // then: 가장 오래된 1개 삭제 로직 호출 검증 (removeRange(0, 0))
-        // count(MAX+1) - MAX - 1 = 0
-        verify(zSetOperations).removeRange(TEST_KEY, 0, 0);
+        // then
+        assertThat(first).containsExactly("keyword1");
+        assertThat(cached).containsExactly("keyword1");
+        assertThat(afterAdd).containsExactly(TEST_KEYWORD);
+        verify(zSetOperations, times(2)).reverseRange(TEST_KEY, 0, TEST_MAX_KEYWORDS - 1);
     }
 
     @Test
@@ -111,4 +111,24 @@ class SearchFacadeTest {
         // 유스케이스가 해당 정렬 조건(ENDS_SOON)을 포함한 condition으로 호출되었는지 검증
         verify(searchQueryUseCase, times(1)).search(eq(condition));
     }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하는 다음 페이지는 검색 이벤트를 다시 발행하지 않는다.")
+    void search_WithCursor_ShouldNotPublishEventAgain() {
+        // given
+        Long userId = 1L;
+        SearchCondition condition = new SearchCondition("test", Collections.emptySet(), null, Collections.emptySet(),
+                null, 1, null, "next-cursor");
+
+        SearchResultPage<SearchAuctionItemView> emptyResult = new SearchResultPage<>(Collections.emptyList(), 0, 2, 10, false);
+        org.mockito.BDDMockito.given(searchQueryUseCase.search(condition)).willReturn(emptyResult);
+
+        // when
+        searchFacade.search(userId, condition);
+
+        // then
+        verify(searchQueryUseCase, times(1)).search(condition);
+        verify(eventPublisher, times(0)).publishEvent(any());
+        verify(recentSearchService, times(0)).addKeyword(any(), any());
+    }
 }
@@ -0,0 +1,120 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.api.infrastructure.kafka.search.SearchKafkaProducer;
+import com.fourtune.auction.boundedContext.search.domain.SearchLog;
+import com.fourtune.auction.boundedContext.search.port.out.SearchLogRepository;
+import com.fourtune.shared.search.event.SearchAuctionItemEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * SearchLogIngestor 단위 테스트.
+ * - 버퍼가 가득 차면 기다리지 않고 버리는지
+ * - 쌓인 로그를 batch-size 단위 saveAll로 저장하고 Kafka로 발행하는지
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchLogIngestorTest {
+
+    @Mock SearchLogRepository searchLogRepository;
+    @Mock ObjectProvider<SearchKafkaProducer> searchKafkaProducerProvider;
+    @Mock SearchKafkaProducer searchKafkaProducer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchLogIngestor sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new SearchLogIngestor(searchLogRepository, searchKafkaProducerProvider, meterRegistry);
+        ReflectionTestUtils.setField(sut, "capacity", 4);
+        ReflectionTestUtils.setField(sut, "flushIntervalMs", 60_000L);
+        lenient().when(searchKafkaProducerProvider.getIfAvailable()).thenReturn(searchKafkaProducer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.stop();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 검색 로그를 버리고 dropped로 집계한다")
+    void offer_BufferFull_DropsAndCounts() {
+        // given
+        ReflectionTestUtils.setField(sut, "batchSize", 100);
+        sut.start();
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            sut.offer(event("검색어" + i));
+        }
+
+        // then
+        assertThat(meterRegistry.counter("search.log.ingest", "result", "accepted").count()).isEqualTo(4);
+        assertThat(meterRegistry.counter("search.log.ingest", "result", "dropped").count()).isEqualTo(2);
+        assertThat(sut.flush()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("쌓인 검색 로그를 batch-size 단위로 saveAll 저장하고 Kafka로 발행한다")
+    @SuppressWarnings("unchecked")
+    void stop_FlushesInBatches() {
+        // given
+        ReflectionTestUtils.setField(sut, "batchSize", 2);
+        sut.start();
+        for (int i = 0; i < 4; i++) {
+            sut.offer(event("검색어" + i));
+        }
+
+        // when
+        sut.stop();
+
+        // then
+        ArgumentCaptor<List<SearchLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(searchLogRepository, atLeast(2)).saveAll(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(captor.getAllValues().stream().flatMap(List::stream).map(SearchLog::getKeyword))
+                .containsExactly("검색어0", "검색어1", "검색어2", "검색어3");
+        assertThat(captor.getValue().getFirst().getCreatedAt()).isNotNull();
+        verify(searchKafkaProducer, times(4)).send(any(SearchAuctionItemEvent.class));
+        assertThat(meterRegistry.counter("search.log.ingest.flushed").count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("DB 저장이 실패해도 Kafka 발행은 계속하고 실패 건수를 집계한다")
+    void flush_SaveFails_CountsFailedAndStillPublishes() {
+        // given
+        ReflectionTestUtils.setField(sut, "batchSize", 100);
+        sut.start();
+        doThrow(new RuntimeException("db down")).when(searchLogRepository).saveAll(anyList());
+        sut.offer(event("검색어"));
+
+        // when
+        int flushed = sut.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(meterRegistry.counter("search.log.ingest.failed").count()).isEqualTo(1);
+        verify(searchKafkaProducer).send(any(SearchAuctionItemEvent.class));
+    }
+
+    private SearchAuctionItemEvent event(String keyword) {
+        return new SearchAuctionItemEvent(1L, keyword, null, null, null, null, 3, true,
+                LocalDateTime.of(2026, 1, 1, 12, 0));
+    }
+}
@@ -0,0 +1,187 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemSnapshotPage;
+import com.fourtune.auction.boundedContext.search.domain.SearchAuctionItemView;
+import com.fourtune.auction.boundedContext.search.domain.SearchReindexCheckpoint;
+import com.fourtune.auction.boundedContext.search.domain.SearchReindexCheckpoint.Phase;
+import com.fourtune.auction.boundedContext.search.port.out.SearchReindexCheckpointRepository;
+import com.fourtune.auction.boundedContext.search.port.out.SearchReindexLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * SearchReindexService 단위 테스트.
+ * - 새 인덱스 생성 → 페이지 적재 → 설정 복구 → 이벤트 재반영 → 별칭 전환 → 재반영 순서로 진행하는지
+ * - 체크포인트가 있으면 인덱스를 새로 만들지 않고 마지막 위치부터 이어서 적재하는지
+ * - 다른 인스턴스가 락을 잡고 있으면 시작하지 않고, 락을 잃으면 체크포인트를 덮어쓰지 않는지
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchReindexServiceTest {
+
+    private static final String TARGET = "auction_items_v2";
+
+    @Mock AuctionItemSnapshotSource snapshotSource;
+    @Mock SearchIndexAdmin indexAdmin;
+    @Mock SearchReindexCheckpointRepository checkpointRepository;
+    @Mock SearchReindexLock reindexLock;
+    @Mock ObjectProvider<AuctionEventReplayer> eventReplayerProvider;
+    @Mock AuctionEventReplayer eventReplayer;
+    @Mock AuctionItemIndexingHandler targetHandler;
+
+    private SearchReindexService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SearchReindexService(snapshotSource, indexAdmin, checkpointRepository, reindexLock, eventReplayerProvider,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(sut, "chunkSize", 3);
+        ReflectionTestUtils.setField(sut, "bulkConcurrency", 2);
+        ReflectionTestUtils.setField(sut, "replayMarginMs", 1_000L);
+        ReflectionTestUtils.setField(sut, "lockTtlMs", 60_000L);
+        sut.initMetrics();
+        lenient().when(eventReplayerProvider.getIfAvailable()).thenReturn(eventReplayer);
+        lenient().when(indexAdmin.indexingHandlerFor(TARGET)).thenReturn(targetHandler);
+        lenient().when(indexAdmin.bulkLoad(eq(TARGET), anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(1).size());
+    }
+
+    @Test
+    @DisplayName("체크포인트가 없으면 새 버전 인덱스에 전체 스냅샷을 적재하고 재반영 후 별칭을 전환한다")
+    void reindex_FromScratch_BuildsReplaysAndSwaps() {
+        // given
+        when(checkpointRepository.find()).thenReturn(Optional.empty());
+        when(indexAdmin.nextVersionIndexName()).thenReturn(TARGET);
+        when(snapshotSource.fetch(0L, 3)).thenReturn(page(1, 3, true));
+        when(snapshotSource.fetch(3L, 3)).thenReturn(page(4, 5, false));
+
+        // when
+        sut.reindex();
+
+        // then
+        InOrder inOrder = inOrder(indexAdmin, eventReplayer, checkpointRepository);
+        inOrder.verify(indexAdmin).createForBulkLoad(TARGET);
+        inOrder.verify(indexAdmin).finishBulkLoad(TARGET);
+        inOrder.verify(eventReplayer).replay(anyLong(), eq(targetHandler));
+        inOrder.verify(indexAdmin).switchAlias(TARGET);
+        inOrder.verify(eventReplayer).replay(anyLong(), eq(targetHandler));
+        inOrder.verify(checkpointRepository).delete();
+
+        ArgumentCaptor<SearchReindexCheckpoint> saved = ArgumentCaptor.forClass(SearchReindexCheckpoint.class);
+        verify(checkpointRepository, atLeastOnce()).save(saved.capture());
+        SearchReindexCheckpoint last = saved.getValue();
+        assertThat(last.phase()).isEqualTo(Phase.SWAPPED);
+        assertThat(last.lastId()).isEqualTo(5L);
+        assertThat(last.indexed()).isEqualTo(5L);
+        assertThat(sut.status().running()).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재 중 중단된 체크포인트가 있으면 같은 인덱스에 마지막 위치부터 이어서 적재한다")
+    void reindex_WithCheckpoint_ResumesFromLastId() {
+        // given
+        SearchReindexCheckpoint checkpoint = new SearchReindexCheckpoint(TARGET, 3L, 3L, 1_000L, Phase.BUILDING);
+        when(checkpointRepository.find()).thenReturn(Optional.of(checkpoint));
+        when(indexAdmin.exists(TARGET)).thenReturn(true);
+        when(snapshotSource.fetch(3L, 3)).thenReturn(page(4, 5, false));
+
+        // when
+        sut.reindex();
+
+        // then
+        verify(indexAdmin, never()).createForBulkLoad(anyString());
+        verify(snapshotSource, never()).fetch(eq(0L), anyInt());
+        // 적재 시작 시각(체크포인트)에서 여유만큼 앞선 시점부터 재반영
+        verify(eventReplayer).replay(0L, targetHandler);
+        verify(indexAdmin).switchAlias(TARGET);
+    }
+
+    @Test
+    @DisplayName("별칭 전환까지 끝난 체크포인트는 적재/전환 없이 남은 이벤트만 재반영한다")
+    void reindex_SwappedCheckpoint_OnlyCatchesUp() {
+        // given
+        SearchReindexCheckpoint checkpoint = new SearchReindexCheckpoint(TARGET, 5L, 5L, 5_000L, Phase.SWAPPED);
+        when(checkpointRepository.find()).thenReturn(Optional.of(checkpoint));
+        when(indexAdmin.exists(TARGET)).thenReturn(true);
+
+        // when
+        sut.reindex();
+
+        // then
+        verifyNoInteractions(snapshotSource);
+        verify(indexAdmin, never()).switchAlias(any());
+        verify(eventReplayer).replay(4_000L, targetHandler);
+        verify(checkpointRepository).delete();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 재색인 락을 잡고 있으면 시작하지 않는다")
+    void start_LockHeldElsewhere_ReturnsFalse() {
+        // given
+        when(reindexLock.tryAcquire(anyString(), eq(Duration.ofMillis(60_000L)))).thenReturn(false);
+
+        // when
+        boolean started = sut.start();
+
+        // then
+        assertThat(started).isFalse();
+        assertThat(sut.status().running()).isFalse();
+        verifyNoInteractions(indexAdmin, snapshotSource);
+        verify(reindexLock, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("락을 잡고 시작한 재색인은 체크포인트마다 락을 연장하고, 락을 잃으면 체크포인트를 덮어쓰지 않고 중단한 뒤 락을 해제한다")
+    void start_LockLost_StopsWithoutOverwritingCheckpoint() {
+        // given
+        when(reindexLock.tryAcquire(anyString(), any())).thenReturn(true);
+        when(reindexLock.renew(anyString(), any())).thenReturn(false);
+        when(checkpointRepository.find()).thenReturn(Optional.empty());
+        when(indexAdmin.nextVersionIndexName()).thenReturn(TARGET);
+
+        // when
+        boolean started = sut.start();
+
+        // then
+        assertThat(started).isTrue();
+        verify(reindexLock, timeout(5_000)).release(anyString());
+        verify(checkpointRepository, never()).save(any());
+        verifyNoInteractions(snapshotSource);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !sut.status().running());
+    }
+
+    private SearchAuctionItemSnapshotPage page(long fromId, long toId, boolean hasNext) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<SearchAuctionItemView> items = LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new SearchAuctionItemView(id, "경매 " + id, "설명", "BOOKS", "ACTIVE",
+                        BigDecimal.valueOf(1000), BigDecimal.valueOf(1000), null, false, now, now.plusDays(1), null,
+                        now, now, 0L, 0, 0, 1L, "판매자"))
+                .toList();
+        return new SearchAuctionItemSnapshotPage(items, toId, hasNext);
+    }
+}
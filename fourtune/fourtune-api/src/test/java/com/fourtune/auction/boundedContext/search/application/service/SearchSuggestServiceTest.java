@@ -0,0 +1,122 @@
+package com.fourtune.auction.boundedContext.search.application.service;
+
+import com.fourtune.auction.boundedContext.search.domain.SearchKeywordCount;
+import com.fourtune.auction.boundedContext.search.domain.SearchSuggestions;
+import com.fourtune.auction.boundedContext.search.port.out.SearchLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * SearchSuggestService 단위 테스트.
+ * - 인기 검색어 접두어 캐시만으로 채워지면 ES를 호출하지 않는지
+ * - 부족한 만큼만 ES 제목으로 채우고, 같은 접두어 재요청은 로컬 캐시를 쓰는지
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchSuggestServiceTest {
+
+    @Mock SearchLogRepository searchLogRepository;
+    @Mock AuctionItemSuggestEngine suggestEngine;
+
+    private SearchKeywordPrefixCache keywordPrefixCache;
+    private SimpleMeterRegistry meterRegistry;
+    private SearchSuggestService sut;
+
+    @BeforeEach
+    void setUp() {
+        keywordPrefixCache = new SearchKeywordPrefixCache(searchLogRepository);
+        ReflectionTestUtils.setField(keywordPrefixCache, "windowDays", 7);
+        ReflectionTestUtils.setField(keywordPrefixCache, "keywordLimit", 100);
+        ReflectionTestUtils.setField(keywordPrefixCache, "maxPrefixLength", 3);
+        ReflectionTestUtils.setField(keywordPrefixCache, "topK", 2);
+
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new SearchSuggestService(keywordPrefixCache, suggestEngine, meterRegistry);
+        ReflectionTestUtils.setField(sut, "maxSize", 2);
+        ReflectionTestUtils.setField(sut, "maxPrefixChars", 30);
+        ReflectionTestUtils.setField(sut, "titleCacheTtlMs", 60_000L);
+        ReflectionTestUtils.setField(sut, "titleCacheMaxSize", 100L);
+        sut.init();
+    }
+
+    @Test
+    @DisplayName("인기 검색어가 충분하면 검색 횟수순으로 반환하고 ES는 호출하지 않는다")
+    void suggest_EnoughKeywords_SkipsSearchEngine() {
+        // given
+        when(searchLogRepository.findTopKeywords(any(), anyInt())).thenReturn(List.of(
+                new SearchKeywordCount("아이폰 15", 30),
+                new SearchKeywordCount("아이패드", 20),
+                new SearchKeywordCount("아이폰 케이스", 10)));
+        keywordPrefixCache.refresh();
+
+        // when
+        SearchSuggestions result = sut.suggest(" 아이 ", 5);
+
+        // then
+        assertThat(result.keywords()).containsExactly("아이폰 15", "아이패드");
+        assertThat(result.titles()).isEmpty();
+        verifyNoInteractions(suggestEngine);
+    }
+
+    @Test
+    @DisplayName("캐시 키보다 긴 접두어는 저장된 목록을 다시 걸러서 반환한다")
+    void suggest_LongerThanCachedPrefix_FiltersBucket() {
+        // given
+        when(searchLogRepository.findTopKeywords(any(), anyInt())).thenReturn(List.of(
+                new SearchKeywordCount("맥북 프로", 30),
+                new SearchKeywordCount("맥북 에어", 20)));
+        keywordPrefixCache.refresh();
+        when(suggestEngine.suggestTitles(anyString(), anyInt())).thenReturn(List.of());
+
+        // when
+        SearchSuggestions result = sut.suggest("맥북 에", 2);
+
+        // then
+        assertThat(result.keywords()).containsExactly("맥북 에어");
+    }
+
+    @Test
+    @DisplayName("인기 검색어가 부족하면 중복을 뺀 경매 제목으로 채우고, 같은 접두어 재요청은 ES를 다시 호출하지 않는다")
+    void suggest_NotEnoughKeywords_FillsWithTitles() {
+        // given
+        when(searchLogRepository.findTopKeywords(any(), anyInt())).thenReturn(List.of(
+                new SearchKeywordCount("캠핑 의자", 5)));
+        keywordPrefixCache.refresh();
+        when(suggestEngine.suggestTitles("캠핑", 2)).thenReturn(List.of("캠핑 의자", "캠핑 테이블 세트"));
+
+        // when
+        SearchSuggestions first = sut.suggest("캠핑", null);
+        SearchSuggestions second = sut.suggest("캠핑", null);
+
+        // then
+        assertThat(first.keywords()).containsExactly("캠핑 의자");
+        assertThat(first.titles()).containsExactly("캠핑 테이블 세트");
+        assertThat(second).isEqualTo(first);
+        verify(suggestEngine, times(1)).suggestTitles(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("빈 접두어는 조회 없이 빈 결과를 반환한다")
+    void suggest_BlankPrefix_ReturnsEmpty() {
+        // when
+        SearchSuggestions result = sut.suggest("  ", 5);
+
+        // then
+        assertThat(result.keywords()).isEmpty();
+        assertThat(result.titles()).isEmpty();
+        verifyNoInteractions(suggestEngine);
+    }
+}
@@ -5,6 +5,7 @@ import com.fourtune.auction.boundedContext.notification.application.Notification
 import com.fourtune.auction.boundedContext.settlement.application.service.SettlementFacade;
 import com.fourtune.auction.boundedContext.watchList.application.service.WatchListService;
 import com.fourtune.jwt.JwtTokenProvider;
+import com.fourtune.shared.notification.dto.NotificationPageResponse;
 import com.fourtune.shared.user.dto.UserResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +23,8 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -104,7 +107,8 @@ class JwtSecurityTest {
                 .build();
 
         // 서비스 기본 stub
-        when(notificationFacade.getMyNotifications(anyLong())).thenReturn(List.of());
+        when(notificationFacade.getMyNotifications(anyLong(), any(), anyInt()))
+                .thenReturn(new NotificationPageResponse(List.of(), null, false, 0));
         when(watchListService.getMyWatchLists(anyLong())).thenReturn(List.of());
         when(settlementFacade.findLatestSettlementByUserId(anyLong())).thenReturn(null);
     }
@@ -0,0 +1,173 @@
+package com.fourtune.auction.boundedContext.watchList.application.service.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourtune.api.infrastructure.kafka.watchList.WatchListEventType;
+import com.fourtune.api.infrastructure.kafka.watchList.WatchListKafkaProducer;
+import com.fourtune.core.config.EventPublishingConfig;
+import com.fourtune.core.eventPublisher.EventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관심 유저 100만 명 경매 알림 fan-out 부하 테스트 (로컬 Redis 컨테이너)
+ * - SSCAN으로 나눠 읽어 1,000명 chunk 메시지로 발행하는지, 유저 누락이 없는지 검증
+ * - 기존 방식(SMEMBERS 1회 + 메시지 1건)의 조회 시간/메시지 크기를 함께 출력해 비교
+ * - 수치는 환경에 따라 달라 로그로만 남김
+ * - 기본 test 태스크에서는 제외 (load 태그)
+ */
+@Tag("load")
+@Testcontainers
+@DisplayName("관심상품 알림 fan-out 부하 테스트")
+class WatchListAlertFanOutLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchListAlertFanOutLoadTest.class);
+
+    private static final long AUCTION_ITEM_ID = 1L;
+    private static final int WATCHER_COUNT = 1_000_000;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int SEED_BATCH = 10_000;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:alpine"))
+            .withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private WatchListRedisSetUseCase redisSetUseCase;
+
+    private final BitSet receivedUsers = new BitSet(WATCHER_COUNT + 1);
+    private final Set<String> messageKeys = new HashSet<>();
+    private int messageCount;
+    private int maxChunkUsers;
+    private long maxPayloadBytes;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getFirstMappedPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        // RedisConfig와 같은 직렬화 설정
+        redisTemplate = new RedisTemplate<>();
+        GenericJacksonJsonRedisSerializer jsonSerializer = GenericJacksonJsonRedisSerializer.builder().build();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(jsonSerializer);
+        redisTemplate.afterPropertiesSet();
+
+        EventPublishingConfig eventPublishingConfig = mock(EventPublishingConfig.class);
+        when(eventPublishingConfig.isWatchlistEventsKafkaEnabled()).thenReturn(true);
+
+        WatchListKafkaProducer producer = mock(WatchListKafkaProducer.class);
+        doAnswer(invocation -> {
+            receive(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(producer).send(anyString(), anyString(), anyString());
+        ObjectProvider<WatchListKafkaProducer> producerProvider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<WatchListKafkaProducer>>getArgument(0).accept(producer);
+            return null;
+        }).when(producerProvider).ifAvailable(any());
+
+        WatchListAlertFanOut alertFanOut = new WatchListAlertFanOut(
+                mock(EventPublisher.class), eventPublishingConfig, objectMapper, producerProvider);
+        ReflectionTestUtils.setField(alertFanOut, "chunkSize", CHUNK_SIZE);
+
+        redisSetUseCase = new WatchListRedisSetUseCase(redisTemplate, alertFanOut);
+        ReflectionTestUtils.setField(redisSetUseCase, "scanCount", CHUNK_SIZE);
+        redisSetUseCase.clearAuctionData(AUCTION_ITEM_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisSetUseCase.clearAuctionData(AUCTION_ITEM_ID);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("관심 유저 100만 명 경매의 시작 알림을 1,000명 chunk로 나눠 누락 없이 발행한다")
+    void fanOutOneMillionWatchers() throws Exception {
+        // given
+        for (long from = 1; from <= WATCHER_COUNT; from += SEED_BATCH) {
+            List<Long> batch = new ArrayList<>(SEED_BATCH);
+            for (long userId = from; userId < from + SEED_BATCH && userId <= WATCHER_COUNT; userId++) {
+                batch.add(userId);
+            }
+            redisSetUseCase.bulkAddInterest(AUCTION_ITEM_ID, batch);
+        }
+
+        // 기존 방식 비교: SMEMBERS 1회 + 전체 유저를 담은 메시지 1건
+        long smembersStartedAt = System.nanoTime();
+        Set<Long> allUsers = redisSetUseCase.getInterestedUsers(AUCTION_ITEM_ID);
+        long smembersElapsedMs = (System.nanoTime() - smembersStartedAt) / 1_000_000;
+        long singlePayloadBytes = objectMapper.writeValueAsBytes(allUsers).length;
+        allUsers = null;
+
+        // when
+        long startedAt = System.nanoTime();
+        WatchListBulkUseCase.ProcessResult result = redisSetUseCase.processAuctionStart(AUCTION_ITEM_ID, "인기 경매");
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        log.info("[WATCHLIST-FANOUT-LOAD] watchers={}, smembers={} ms (single message {} KB), "
+                        + "sscanFanOut={} ms, messages={}, maxChunkUsers={}, maxMessage={} KB",
+                WATCHER_COUNT, smembersElapsedMs, singlePayloadBytes / 1024,
+                elapsedMs, messageCount, maxChunkUsers, maxPayloadBytes / 1024);
+
+        assertThat(receivedUsers.cardinality()).isEqualTo(WATCHER_COUNT);
+        assertThat(result.userCount()).isGreaterThanOrEqualTo(WATCHER_COUNT);
+        assertThat(maxChunkUsers).isLessThanOrEqualTo(CHUNK_SIZE);
+        assertThat(messageKeys).hasSize(messageCount);
+
+        // 같은 경매 알림은 다시 발행하지 않음
+        int before = messageCount;
+        redisSetUseCase.processAuctionStart(AUCTION_ITEM_ID, "인기 경매");
+        assertThat(messageCount).isEqualTo(before);
+    }
+
+    private void receive(String key, String payload) {
+        try {
+            JsonNode node = objectMapper.readTree(payload);
+            JsonNode users = node.get("users");
+            users.forEach(user -> receivedUsers.set((int) user.asLong()));
+            messageKeys.add(key);
+            messageCount++;
+            maxChunkUsers = Math.max(maxChunkUsers, users.size());
+            maxPayloadBytes = Math.max(maxPayloadBytes, payload.getBytes(StandardCharsets.UTF_8).length);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}